@@ -321,6 +321,28 @@ public class CoreMessages extends NLS {
 	public static String pref_page_query_manager_label_days_to_store_log;
 	public static String pref_page_query_manager_label_entries_per_page;
 	public static String pref_page_query_manager_log_file_hint;
+	public static String pref_page_query_manager_group_statistics;
+	public static String pref_page_query_manager_checkbox_statistics_enabled;
+	public static String pref_page_query_manager_checkbox_statistics_enabled_tip;
+	public static String pref_page_query_manager_label_slow_query_threshold;
+	public static String pref_page_query_manager_label_slow_query_threshold_tip;
+	public static String view_query_statistics_column_connection;
+	public static String view_query_statistics_column_query;
+	public static String view_query_statistics_column_executions;
+	public static String view_query_statistics_column_exec_p50;
+	public static String view_query_statistics_column_exec_p95;
+	public static String view_query_statistics_column_exec_p99;
+	public static String view_query_statistics_column_exec_max;
+	public static String view_query_statistics_column_fetch_p95;
+	public static String view_query_statistics_column_rows_p95;
+	public static String view_query_statistics_column_errors;
+	public static String view_query_statistics_column_time;
+	public static String view_query_statistics_column_duration;
+	public static String view_query_statistics_column_rows;
+	public static String view_query_statistics_column_parameters;
+	public static String view_query_statistics_column_error;
+	public static String view_query_statistics_action_refresh;
+	public static String view_query_statistics_action_clear;
 
 	public static String pref_page_ui_general_checkbox_automatic_updates;
     public static String pref_page_ui_general_group_browser;
@@ -61,6 +61,8 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
     private Text textEntriesPerPage;
     private Button checkStoreLog;
     private Text textOutputFolder;
+    private Button checkStatisticsEnabled;
+    private Text textSlowQueryThreshold;
 
 
     @Override
@@ -97,6 +99,20 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
             textEntriesPerPage = UIUtils.createLabelText(viewSettings, CoreMessages.pref_page_query_manager_label_entries_per_page, "", SWT.BORDER, new GridData(50, SWT.DEFAULT)); //$NON-NLS-2$
         }
 
+        {
+            Group statisticsSettings = UIUtils.createControlGroup(composite, CoreMessages.pref_page_query_manager_group_statistics, 2, GridData.FILL_HORIZONTAL | GridData.VERTICAL_ALIGN_BEGINNING, 0);
+            checkStatisticsEnabled = UIUtils.createCheckbox(statisticsSettings, CoreMessages.pref_page_query_manager_checkbox_statistics_enabled, CoreMessages.pref_page_query_manager_checkbox_statistics_enabled_tip, false, 2);
+            checkStatisticsEnabled.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e)
+                {
+                    UIUtils.enableWithChildren(textSlowQueryThreshold, checkStatisticsEnabled.getSelection());
+                }
+            });
+            textSlowQueryThreshold = UIUtils.createLabelText(statisticsSettings, CoreMessages.pref_page_query_manager_label_slow_query_threshold, "", SWT.BORDER, new GridData(50, SWT.DEFAULT)); //$NON-NLS-2$
+            textSlowQueryThreshold.setToolTipText(CoreMessages.pref_page_query_manager_label_slow_query_threshold_tip);
+        }
+
         {
             Group storageSettings = UIUtils.createControlGroup(composite, CoreMessages.pref_page_query_manager_group_storage, 2, GridData.FILL_HORIZONTAL | GridData.VERTICAL_ALIGN_BEGINNING, 0);
             checkStoreLog = UIUtils.createCheckbox(storageSettings, CoreMessages.pref_page_query_manager_checkbox_store_log_file, false);
@@ -148,6 +164,10 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
         UIUtils.enableWithChildren(textOutputFolder.getParent(), checkStoreLog.getSelection());
         UIUtils.enableWithChildren(textHistoryDays, checkStoreLog.getSelection());
 
+        checkStatisticsEnabled.setSelection(store.getBoolean(QMConstants.PROP_STATISTICS_ENABLED));
+        textSlowQueryThreshold.setText(store.getString(QMConstants.PROP_SLOW_QUERY_THRESHOLD));
+        UIUtils.enableWithChildren(textSlowQueryThreshold, checkStatisticsEnabled.getSelection());
+
         super.performDefaults();
     }
 
@@ -169,6 +189,7 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
 
         Integer historyDays = UIUtils.getTextInteger(textHistoryDays);
         Integer entriesPerPage = UIUtils.getTextInteger(textEntriesPerPage);
+        Integer slowQueryThreshold = UIUtils.getTextInteger(textSlowQueryThreshold);
 
         DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
         store.setValue(QMConstants.PROP_OBJECT_TYPES, QMObjectType.toString(objectTypes));
@@ -181,6 +202,10 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
         }
         store.setValue(QMConstants.PROP_STORE_LOG_FILE, checkStoreLog.getSelection());
         store.setValue(QMConstants.PROP_LOG_DIRECTORY, textOutputFolder.getText());
+        store.setValue(QMConstants.PROP_STATISTICS_ENABLED, checkStatisticsEnabled.getSelection());
+        if (slowQueryThreshold != null) {
+            store.setValue(QMConstants.PROP_SLOW_QUERY_THRESHOLD, Math.max(0, slowQueryThreshold));
+        }
         PrefUtils.savePreferenceStore(store);
 
         return super.performOk();
@@ -0,0 +1,230 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.views.qm;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.SashForm;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.ui.part.ViewPart;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.core.CoreMessages;
+import org.jkiss.dbeaver.model.qm.QMMetaEvent;
+import org.jkiss.dbeaver.model.qm.QMMetaListener;
+import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.qm.meta.QMMStatementExecuteInfo;
+import org.jkiss.dbeaver.model.qm.stats.QMQueryStatistics;
+import org.jkiss.dbeaver.model.qm.stats.QMSlowQuery;
+import org.jkiss.dbeaver.model.qm.stats.QMStatistics;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.ui.DBeaverIcons;
+import org.jkiss.dbeaver.ui.UIIcon;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Query execution statistics view.
+ * Shows latency percentiles of queries grouped by fingerprint and captured slow queries.
+ */
+public class QueryStatisticsView extends ViewPart implements QMMetaListener
+{
+    public static final String VIEW_ID = "org.jkiss.dbeaver.core.queryStatistics";
+
+    // Minimal interval between automatic refreshes
+    private static final long REFRESH_PERIOD = 1000;
+    private static final int MAX_QUERY_TEXT_LENGTH = 200;
+
+    private TableViewer queriesViewer;
+    private TableViewer slowQueriesViewer;
+    private volatile boolean refreshScheduled;
+
+    @Override
+    public void createPartControl(Composite parent)
+    {
+        Composite group = UIUtils.createPlaceholder(parent, 1);
+        SashForm sash = new SashForm(group, SWT.VERTICAL | SWT.SMOOTH);
+        sash.setLayoutData(new GridData(GridData.FILL_BOTH));
+
+        queriesViewer = createViewer(sash);
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_connection, 120, SWT.LEFT,
+            QMQueryStatistics.class, QMQueryStatistics::getDataSourceName);
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_query, 300, SWT.LEFT,
+            QMQueryStatistics.class, s -> formatQuery(s.getQueryText()));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_executions, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getExecuteTime().getTotalCount()));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_exec_p50, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getExecuteTime().getValueAtPercentile(50)));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_exec_p95, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getExecuteTime().getValueAtPercentile(95)));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_exec_p99, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getExecuteTime().getValueAtPercentile(99)));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_exec_max, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getExecuteTime().getMaxValue()));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_fetch_p95, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getFetchTime().getValueAtPercentile(95)));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_rows_p95, 70, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getRows().getValueAtPercentile(95)));
+        createColumn(queriesViewer, CoreMessages.view_query_statistics_column_errors, 60, SWT.RIGHT,
+            QMQueryStatistics.class, s -> String.valueOf(s.getErrorCount()));
+
+        SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"); //$NON-NLS-1$
+        slowQueriesViewer = createViewer(sash);
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_time, 130, SWT.LEFT,
+            QMSlowQuery.class, q -> timeFormat.format(new Date(q.getTime())));
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_connection, 120, SWT.LEFT,
+            QMSlowQuery.class, QMSlowQuery::getDataSourceName);
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_duration, 70, SWT.RIGHT,
+            QMSlowQuery.class, q -> String.valueOf(q.getDuration()));
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_rows, 70, SWT.RIGHT,
+            QMSlowQuery.class, q -> String.valueOf(q.getRows()));
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_query, 300, SWT.LEFT,
+            QMSlowQuery.class, q -> formatQuery(q.getQueryText()));
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_parameters, 200, SWT.LEFT,
+            QMSlowQuery.class, q -> formatParameters(q.getParameters()));
+        createColumn(slowQueriesViewer, CoreMessages.view_query_statistics_column_error, 150, SWT.LEFT,
+            QMSlowQuery.class, q -> CommonUtils.notEmpty(q.getErrorMessage()));
+
+        sash.setWeights(600, 400);
+
+        IToolBarManager toolBar = getViewSite().getActionBars().getToolBarManager();
+        toolBar.add(new Action(CoreMessages.view_query_statistics_action_refresh, DBeaverIcons.getImageDescriptor(UIIcon.REFRESH)) {
+            @Override
+            public void run() {
+                refreshStatistics();
+            }
+        });
+        toolBar.add(new Action(CoreMessages.view_query_statistics_action_clear, DBeaverIcons.getImageDescriptor(UIIcon.ERASE)) {
+            @Override
+            public void run() {
+                QMStatistics statistics = QMUtils.getStatistics();
+                if (statistics != null) {
+                    statistics.clear();
+                }
+                refreshStatistics();
+            }
+        });
+
+        refreshStatistics();
+        QMUtils.registerMetaListener(this);
+    }
+
+    @Override
+    public void dispose()
+    {
+        QMUtils.unregisterMetaListener(this);
+        super.dispose();
+    }
+
+    @Override
+    public void setFocus()
+    {
+        queriesViewer.getControl().setFocus();
+    }
+
+    @Override
+    public void metaInfoChanged(@NotNull DBRProgressMonitor monitor, @NotNull List<QMMetaEvent> events)
+    {
+        if (refreshScheduled) {
+            return;
+        }
+        for (QMMetaEvent event : events) {
+            if (event.getObject() instanceof QMMStatementExecuteInfo) {
+                refreshScheduled = true;
+                UIUtils.asyncExec(() -> UIUtils.timerExec((int) REFRESH_PERIOD, this::refreshStatistics));
+                break;
+            }
+        }
+    }
+
+    public void refreshStatistics()
+    {
+        refreshScheduled = false;
+        if (queriesViewer == null || queriesViewer.getControl().isDisposed()) {
+            return;
+        }
+        QMStatistics statistics = QMUtils.getStatistics();
+        if (statistics == null) {
+            return;
+        }
+        List<QMQueryStatistics> queries = statistics.getQueryStatistics(null);
+        // Queries which took most of the time go first
+        queries.sort(Comparator.comparingDouble(
+            (QMQueryStatistics s) -> s.getExecuteTime().getMean() * s.getExecuteTime().getTotalCount()).reversed());
+        queriesViewer.setInput(queries);
+        slowQueriesViewer.setInput(statistics.getSlowQueries());
+    }
+
+    @NotNull
+    private static TableViewer createViewer(@NotNull Composite parent)
+    {
+        TableViewer viewer = new TableViewer(parent, SWT.FULL_SELECTION | SWT.MULTI);
+        viewer.getTable().setHeaderVisible(true);
+        viewer.getTable().setLinesVisible(true);
+        viewer.setContentProvider(new ArrayContentProvider());
+        return viewer;
+    }
+
+    private static <T> void createColumn(
+        @NotNull TableViewer viewer,
+        @NotNull String title,
+        int width,
+        int style,
+        @NotNull Class<T> elementType,
+        @NotNull Function<T, String> valueReader)
+    {
+        TableViewerColumn column = new TableViewerColumn(viewer, style);
+        column.getColumn().setText(title);
+        column.getColumn().setWidth(width);
+        column.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element) {
+                return elementType.isInstance(element) ? valueReader.apply(elementType.cast(element)) : "";
+            }
+        });
+    }
+
+    @NotNull
+    private static String formatQuery(String queryText)
+    {
+        String text = CommonUtils.compactWhiteSpaces(CommonUtils.notEmpty(queryText));
+        return CommonUtils.truncateString(text, MAX_QUERY_TEXT_LENGTH);
+    }
+
+    @NotNull
+    private static String formatParameters(@NotNull Map<Object, String> parameters)
+    {
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<Object, String> param : parameters.entrySet()) {
+            if (result.length() > 0) {
+                result.append(", ");
+            }
+            result.append(param.getKey()).append('=').append(param.getValue());
+        }
+        return result.toString();
+    }
+
+}
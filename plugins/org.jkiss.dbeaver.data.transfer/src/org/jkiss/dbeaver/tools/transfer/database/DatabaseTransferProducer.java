@@ -37,6 +37,7 @@ import org.jkiss.dbeaver.model.sql.SQLScriptContext;
 import org.jkiss.dbeaver.model.sql.SQLScriptElement;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataRowCountEstimator;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTaskUtils;
@@ -232,7 +233,13 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                         if (settings.isQueryRowCount() && dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_COUNT)) {
                             monitor.beginTask(DTMessages.data_transfer_wizard_job_task_retrieve, 1);
                             try {
-                                totalRows = dataContainer.countData(transferSource, session, dataFilter, readFlags);
+                                long estimatedRows = -1;
+                                if (dataContainer instanceof DBSDataRowCountEstimator && (readFlags & DBSDataContainer.FLAG_USE_SELECTED_ROWS) == 0) {
+                                    // Estimate is enough for progress. It is much faster than count on big tables.
+                                    estimatedRows = ((DBSDataRowCountEstimator) dataContainer).estimateRowCount(session, dataFilter);
+                                }
+                                totalRows = estimatedRows >= 0 ?
+                                    estimatedRows : dataContainer.countData(transferSource, session, dataFilter, readFlags);
                             } catch (Throwable e) {
                                 log.warn("Can't retrieve row count from '" + dataContainer.getName() + "'", e);
                                 try {
@@ -39,6 +39,9 @@ public class DiagramObjectCollector {
 
     private static final Log log = Log.getLog(DiagramObjectCollector.class);
 
+    // Bulk loading reads metadata of the whole container, so it is used only if diagram contains many of its entities
+    public static final int MIN_BULK_LOAD_ENTITIES = 10;
+
     private final ERDDiagram diagram;
     private final List<ERDEntity> erdEntities = new ArrayList<>();
     private boolean showViews;
@@ -147,11 +150,16 @@ public class DiagramObjectCollector {
         throws DBException
     {
         Collection<DBSEntity> tables = collectTables(monitor, roots, settings, showViews);
+        List<DBSEntity> visibleTables = new ArrayList<>(tables.size());
         for (DBSEntity table : tables) {
             if (DBUtils.isHiddenObject(table)) {
                 // Skip hidden tables
                 continue;
             }
+            visibleTables.add(table);
+        }
+        loadEntityGraphs(monitor, visibleTables);
+        for (DBSEntity table : visibleTables) {
             addDiagramEntity(monitor, table);
         }
 
@@ -161,6 +169,43 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Reads attributes and keys of diagram entities in bulk, container by container.
+     * Otherwise metadata of each entity is read by separate queries.
+     * A few entities (e.g. a single table dropped on diagram) are always read separately.
+     */
+    public static void loadEntityGraphs(DBRProgressMonitor monitor, Collection<DBSEntity> tables)
+    {
+        Map<DBSObjectContainer, List<DBSEntity>> containerTables = new LinkedHashMap<>();
+        for (DBSEntity table : tables) {
+            if (table.getParentObject() instanceof DBSObjectContainer) {
+                containerTables.computeIfAbsent((DBSObjectContainer) table.getParentObject(), c -> new ArrayList<>()).add(table);
+            }
+        }
+        for (Map.Entry<DBSObjectContainer, List<DBSEntity>> entry : containerTables.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (entry.getValue().size() < MIN_BULK_LOAD_ENTITIES) {
+                continue;
+            }
+            DBSObjectContainer container = entry.getKey();
+            DBSEntityGraphLoader graphLoader = DBUtils.getAdapter(DBSEntityGraphLoader.class, container);
+            try {
+                if (graphLoader != null) {
+                    monitor.subTask("Load '" + container.getName() + "' entities metadata");
+                    graphLoader.loadEntityGraph(monitor, entry.getValue());
+                } else {
+                    monitor.subTask("Load '" + container.getName() + "' entities metadata");
+                    container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ATTRIBUTES | DBSObjectContainer.STRUCT_ASSOCIATIONS);
+                }
+            } catch (DBException e) {
+                // Not fatal, entities will read their metadata separately
+                log.debug("Error loading '" + container.getName() + "' entities metadata", e);
+            }
+        }
+    }
+
     private void addDiagramEntity(DBRProgressMonitor monitor, DBSEntity table)
     {
         if (diagram.containsTable(table) && !diagram.getContentProvider().allowEntityDuplicates()) {
@@ -0,0 +1,788 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.model.layout;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.erd.model.ERDAssociation;
+import org.jkiss.dbeaver.erd.model.ERDElement;
+
+import java.util.*;
+
+/**
+ * Automatic layout of diagram elements.
+ * Works on the diagram model only, so it may be used by the diagram editor as well as by headless diagram export.
+ * <p>
+ * Diagram is split into connected components. Components are laid out independently (in parallel)
+ * and then packed into rows, biggest first. Isolated elements are packed as single-element components.
+ */
+public class ERDLayoutEngine {
+
+    public enum Algorithm {
+        // Elements are placed in columns. Associations are directed from left (FK) to right (PK).
+        LAYERED,
+        // Multilevel force-directed placement. Better for densely connected schemas.
+        FORCE_DIRECTED
+    }
+
+    public interface SizeProvider {
+
+        int getWidth(@NotNull ERDElement<?> element);
+
+        int getHeight(@NotNull ERDElement<?> element);
+    }
+
+    public static class NodeBounds {
+        public final int x;
+        public final int y;
+        public final int width;
+        public final int height;
+
+        NodeBounds(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + x + "," + y + " " + width + "x" + height + "]";
+        }
+    }
+
+    private static final int MARGIN = 20;
+    private static final double DIAGRAM_ASPECT_RATIO = 1.6;
+    private static final int ORDERING_SWEEPS = 8;
+    private static final int COARSEST_GRAPH_SIZE = 30;
+    private static final int COARSEST_ITERATIONS = 300;
+    private static final int REFINE_ITERATIONS = 60;
+    private static final int OVERLAP_REMOVAL_PASSES = 1000;
+    // Expansion of the whole layout on each overlap removal pass
+    private static final double OVERLAP_EXPANSION = 1.003;
+    // Layout must be the same for the same diagram
+    private static final long RANDOM_SEED = 20040713L;
+
+    private static class Component {
+        private final int[] nodes;
+        private final int[] widths;
+        private final int[] heights;
+        // Directed associations. Self links and duplicates are excluded.
+        private final int[][] successors;
+        private int[][] neighbors;
+        private double[] x;
+        private double[] y;
+        private int width;
+        private int height;
+
+        Component(int[] nodes, int[] widths, int[] heights, int[][] successors) {
+            this.nodes = nodes;
+            this.widths = widths;
+            this.heights = heights;
+            this.successors = successors;
+        }
+
+        int size() {
+            return nodes.length;
+        }
+    }
+
+    /**
+     * Graph level of multilevel force-directed layout
+     */
+    private static class Level {
+        private final double[] masses;
+        private final int[][] neighbors;
+        private final double[][] weights;
+        // Maps nodes of the finer level to nodes of this level
+        private int[] fineToCoarse;
+
+        Level(double[] masses, int[][] neighbors, double[][] weights) {
+            this.masses = masses;
+            this.neighbors = neighbors;
+            this.weights = weights;
+        }
+
+        int size() {
+            return masses.length;
+        }
+    }
+
+    private final Algorithm algorithm;
+    private int horizontalSpacing = 80;
+    private int verticalSpacing = 30;
+
+    public ERDLayoutEngine(@NotNull Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public void setHorizontalSpacing(int horizontalSpacing) {
+        this.horizontalSpacing = horizontalSpacing;
+    }
+
+    public void setVerticalSpacing(int verticalSpacing) {
+        this.verticalSpacing = verticalSpacing;
+    }
+
+    /**
+     * Calculates bounds of diagram elements.
+     * Associations with elements which are not in the list are ignored.
+     *
+     * @return element bounds in the order of elements list
+     */
+    @NotNull
+    public Map<ERDElement<?>, NodeBounds> layout(@NotNull List<? extends ERDElement<?>> elements, @NotNull SizeProvider sizeProvider) {
+        int count = elements.size();
+        Map<ERDElement<?>, Integer> indexes = new IdentityHashMap<>();
+        int[] widths = new int[count];
+        int[] heights = new int[count];
+        for (int i = 0; i < count; i++) {
+            ERDElement<?> element = elements.get(i);
+            indexes.put(element, i);
+            widths[i] = Math.max(sizeProvider.getWidth(element), 1);
+            heights[i] = Math.max(sizeProvider.getHeight(element), 1);
+        }
+
+        List<Set<Integer>> successors = new ArrayList<>(count);
+        int[] roots = new int[count];
+        for (int i = 0; i < count; i++) {
+            successors.add(new LinkedHashSet<>());
+            roots[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            for (ERDAssociation association : elements.get(i).getAssociations()) {
+                Integer target = indexes.get(association.getTargetEntity());
+                if (target != null && target != i) {
+                    successors.get(i).add(target);
+                    roots[findRoot(roots, i)] = findRoot(roots, target);
+                }
+            }
+        }
+
+        // Group nodes by connected components
+        Map<Integer, List<Integer>> componentNodes = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            componentNodes.computeIfAbsent(findRoot(roots, i), r -> new ArrayList<>()).add(i);
+        }
+        int[] localIndexes = new int[count];
+        List<Component> components = new ArrayList<>(componentNodes.size());
+        for (List<Integer> nodeList : componentNodes.values()) {
+            int size = nodeList.size();
+            int[] nodes = new int[size];
+            int[] componentWidths = new int[size];
+            int[] componentHeights = new int[size];
+            for (int i = 0; i < size; i++) {
+                nodes[i] = nodeList.get(i);
+                localIndexes[nodes[i]] = i;
+                componentWidths[i] = widths[nodes[i]];
+                componentHeights[i] = heights[nodes[i]];
+            }
+            int[][] componentSuccessors = new int[size][];
+            for (int i = 0; i < size; i++) {
+                componentSuccessors[i] = successors.get(nodes[i]).stream().mapToInt(n -> localIndexes[n]).toArray();
+            }
+            components.add(new Component(nodes, componentWidths, componentHeights, componentSuccessors));
+        }
+
+        components.parallelStream().forEach(this::layoutComponent);
+
+        return packComponents(elements, components);
+    }
+
+    private static int findRoot(int[] roots, int node) {
+        while (roots[node] != node) {
+            roots[node] = roots[roots[node]];
+            node = roots[node];
+        }
+        return node;
+    }
+
+    private void layoutComponent(@NotNull Component component) {
+        component.x = new double[component.size()];
+        component.y = new double[component.size()];
+        if (component.size() > 1) {
+            component.neighbors = makeNeighbors(component.successors);
+            if (algorithm == Algorithm.FORCE_DIRECTED) {
+                layoutForceDirected(component);
+            } else {
+                layoutLayered(component);
+            }
+        }
+        normalizeComponent(component);
+    }
+
+    @NotNull
+    private static int[][] makeNeighbors(@NotNull int[][] successors) {
+        List<Set<Integer>> neighbors = new ArrayList<>(successors.length);
+        for (int i = 0; i < successors.length; i++) {
+            neighbors.add(new LinkedHashSet<>());
+        }
+        for (int i = 0; i < successors.length; i++) {
+            for (int successor : successors[i]) {
+                neighbors.get(i).add(successor);
+                neighbors.get(successor).add(i);
+            }
+        }
+        int[][] result = new int[successors.length][];
+        for (int i = 0; i < successors.length; i++) {
+            result[i] = neighbors.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    //////////////////////////////////////////////////////////
+    // Layered layout
+
+    private void layoutLayered(@NotNull Component component) {
+        int size = component.size();
+        int[] order = getDepthFirstOrder(component.successors);
+        int[] rank = new int[size];
+        for (int i = 0; i < size; i++) {
+            rank[order[i]] = i;
+        }
+
+        // Cycles are broken by reversing associations which go backwards in DFS order
+        List<List<Integer>> predecessors = new ArrayList<>(size);
+        List<List<Integer>> successors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            predecessors.add(new ArrayList<>());
+            successors.add(new ArrayList<>());
+        }
+        for (int node = 0; node < size; node++) {
+            for (int successor : component.successors[node]) {
+                int from = rank[node] < rank[successor] ? node : successor;
+                int to = from == node ? successor : node;
+                successors.get(from).add(to);
+                predecessors.get(to).add(from);
+            }
+        }
+
+        // Longest path layering
+        int[] layers = new int[size];
+        for (int node : order) {
+            for (int successor : successors.get(node)) {
+                layers[successor] = Math.max(layers[successor], layers[node] + 1);
+            }
+        }
+        // Move source nodes right next to their successors
+        for (int i = size - 1; i >= 0; i--) {
+            int node = order[i];
+            if (predecessors.get(node).isEmpty() && !successors.get(node).isEmpty()) {
+                int minLayer = Integer.MAX_VALUE;
+                for (int successor : successors.get(node)) {
+                    minLayer = Math.min(minLayer, layers[successor]);
+                }
+                layers[node] = minLayer - 1;
+            }
+        }
+        int layerCount = 0;
+        for (int layer : layers) {
+            layerCount = Math.max(layerCount, layer + 1);
+        }
+        List<List<Integer>> layerNodes = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            layerNodes.add(new ArrayList<>());
+        }
+        for (int node : order) {
+            layerNodes.get(layers[node]).add(node);
+        }
+
+        orderLayers(layerNodes, predecessors, successors, size);
+
+        // Tall layers are wrapped into several columns
+        long area = 0;
+        int maxNodeHeight = 0;
+        for (int i = 0; i < size; i++) {
+            area += (long) (component.widths[i] + horizontalSpacing) * (component.heights[i] + verticalSpacing);
+            maxNodeHeight = Math.max(maxNodeHeight, component.heights[i]);
+        }
+        int maxColumnHeight = Math.max(maxNodeHeight, (int) Math.sqrt(area / DIAGRAM_ASPECT_RATIO));
+
+        List<List<Integer>> columns = new ArrayList<>();
+        for (List<Integer> layer : layerNodes) {
+            List<Integer> column = new ArrayList<>();
+            int columnHeight = 0;
+            for (int node : layer) {
+                if (!column.isEmpty() && columnHeight + component.heights[node] > maxColumnHeight) {
+                    columns.add(column);
+                    column = new ArrayList<>();
+                    columnHeight = 0;
+                }
+                column.add(node);
+                columnHeight += component.heights[node] + verticalSpacing;
+            }
+            if (!column.isEmpty()) {
+                columns.add(column);
+            }
+        }
+        int[] columnHeights = new int[columns.size()];
+        int maxHeight = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            for (int node : columns.get(i)) {
+                columnHeights[i] += component.heights[node] + verticalSpacing;
+            }
+            maxHeight = Math.max(maxHeight, columnHeights[i]);
+        }
+        int x = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            int columnWidth = 0;
+            int y = (maxHeight - columnHeights[i]) / 2;
+            for (int node : columns.get(i)) {
+                component.x[node] = x;
+                component.y[node] = y;
+                y += component.heights[node] + verticalSpacing;
+                columnWidth = Math.max(columnWidth, component.widths[node]);
+            }
+            x += columnWidth + horizontalSpacing;
+        }
+    }
+
+    /**
+     * Returns nodes in reverse post-order of depth-first search
+     */
+    @NotNull
+    private static int[] getDepthFirstOrder(@NotNull int[][] successors) {
+        int size = successors.length;
+        int[] result = new int[size];
+        int resultPos = size;
+        boolean[] visited = new boolean[size];
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+        for (int root = 0; root < size; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            int depth = 0;
+            stack[depth] = root;
+            visited[root] = true;
+            while (depth >= 0) {
+                int node = stack[depth];
+                if (nextChild[node] < successors[node].length) {
+                    int child = successors[node][nextChild[node]++];
+                    if (!visited[child]) {
+                        visited[child] = true;
+                        stack[++depth] = child;
+                    }
+                } else {
+                    result[--resultPos] = node;
+                    depth--;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reduces associations crossings with barycenter heuristic
+     */
+    private static void orderLayers(
+        @NotNull List<List<Integer>> layerNodes,
+        @NotNull List<List<Integer>> predecessors,
+        @NotNull List<List<Integer>> successors,
+        int size)
+    {
+        double[] positions = new double[size];
+        for (List<Integer> layer : layerNodes) {
+            updatePositions(layer, positions);
+        }
+        double[] barycenters = new double[size];
+        for (int sweep = 0; sweep < ORDERING_SWEEPS; sweep++) {
+            boolean down = sweep % 2 == 0;
+            for (int i = 0; i < layerNodes.size(); i++) {
+                List<Integer> layer = layerNodes.get(down ? i : layerNodes.size() - 1 - i);
+                for (int node : layer) {
+                    List<Integer> adjacent = down ? predecessors.get(node) : successors.get(node);
+                    if (adjacent.isEmpty()) {
+                        barycenters[node] = positions[node];
+                    } else {
+                        double sum = 0;
+                        for (int adjacentNode : adjacent) {
+                            sum += positions[adjacentNode];
+                        }
+                        barycenters[node] = sum / adjacent.size();
+                    }
+                }
+                layer.sort(Comparator.comparingDouble(node -> barycenters[node]));
+                updatePositions(layer, positions);
+            }
+        }
+    }
+
+    private static void updatePositions(@NotNull List<Integer> layer, @NotNull double[] positions) {
+        // Positions are relative, so layers of different size are comparable
+        for (int i = 0; i < layer.size(); i++) {
+            positions[layer.get(i)] = (i + 0.5) / layer.size();
+        }
+    }
+
+    //////////////////////////////////////////////////////////
+    // Force-directed layout
+
+    private void layoutForceDirected(@NotNull Component component) {
+        int size = component.size();
+        Random random = new Random(RANDOM_SEED);
+
+        double averageSize = 0;
+        for (int i = 0; i < size; i++) {
+            averageSize += Math.hypot(component.widths[i], component.heights[i]);
+        }
+        // Ideal association length
+        double idealLength = averageSize / size + horizontalSpacing;
+
+        double[] masses = new double[size];
+        Arrays.fill(masses, 1);
+        double[][] weights = new double[size][];
+        for (int i = 0; i < size; i++) {
+            weights[i] = new double[component.neighbors[i].length];
+            Arrays.fill(weights[i], 1);
+        }
+        List<Level> levels = new ArrayList<>();
+        levels.add(new Level(masses, component.neighbors, weights));
+        while (levels.get(levels.size() - 1).size() > COARSEST_GRAPH_SIZE) {
+            Level fine = levels.get(levels.size() - 1);
+            Level coarse = coarsen(fine, random);
+            if (coarse.size() > fine.size() * 0.9) {
+                break;
+            }
+            levels.add(coarse);
+        }
+
+        Level coarsest = levels.get(levels.size() - 1);
+        double side = idealLength * Math.sqrt(coarsest.size());
+        double[] x = new double[coarsest.size()];
+        double[] y = new double[coarsest.size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextDouble() * side;
+            y[i] = random.nextDouble() * side;
+        }
+        applyForces(coarsest, x, y, idealLength, COARSEST_ITERATIONS, side / 2, random);
+
+        for (int levelIndex = levels.size() - 2; levelIndex >= 0; levelIndex--) {
+            Level fine = levels.get(levelIndex);
+            int[] fineToCoarse = levels.get(levelIndex + 1).fineToCoarse;
+            double[] fineX = new double[fine.size()];
+            double[] fineY = new double[fine.size()];
+            for (int i = 0; i < fine.size(); i++) {
+                fineX[i] = x[fineToCoarse[i]] + (random.nextDouble() - 0.5) * idealLength / 2;
+                fineY[i] = y[fineToCoarse[i]] + (random.nextDouble() - 0.5) * idealLength / 2;
+            }
+            x = fineX;
+            y = fineY;
+            applyForces(fine, x, y, idealLength, REFINE_ITERATIONS, idealLength, random);
+        }
+
+        // Forces work with node centers
+        for (int i = 0; i < size; i++) {
+            component.x[i] = x[i] - component.widths[i] / 2.0;
+            component.y[i] = y[i] - component.heights[i] / 2.0;
+        }
+        removeOverlaps(component);
+    }
+
+    /**
+     * Merges pairs of adjacent nodes. Lightest neighbors are merged first to keep coarse nodes balanced.
+     */
+    @NotNull
+    private static Level coarsen(@NotNull Level fine, @NotNull Random random) {
+        int size = fine.size();
+        List<Integer> visitOrder = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            visitOrder.add(i);
+        }
+        Collections.shuffle(visitOrder, random);
+        int[] fineToCoarse = new int[size];
+        Arrays.fill(fineToCoarse, -1);
+        int coarseSize = 0;
+        for (int node : visitOrder) {
+            if (fineToCoarse[node] >= 0) {
+                continue;
+            }
+            int match = -1;
+            for (int neighbor : fine.neighbors[node]) {
+                if (fineToCoarse[neighbor] < 0 && (match < 0 || fine.masses[neighbor] < fine.masses[match])) {
+                    match = neighbor;
+                }
+            }
+            fineToCoarse[node] = coarseSize;
+            if (match >= 0) {
+                fineToCoarse[match] = coarseSize;
+            }
+            coarseSize++;
+        }
+
+        double[] masses = new double[coarseSize];
+        List<Map<Integer, Double>> coarseWeights = new ArrayList<>(coarseSize);
+        for (int i = 0; i < coarseSize; i++) {
+            coarseWeights.add(new LinkedHashMap<>());
+        }
+        for (int node = 0; node < size; node++) {
+            int coarseNode = fineToCoarse[node];
+            masses[coarseNode] += fine.masses[node];
+            for (int i = 0; i < fine.neighbors[node].length; i++) {
+                int coarseNeighbor = fineToCoarse[fine.neighbors[node][i]];
+                if (coarseNeighbor != coarseNode) {
+                    coarseWeights.get(coarseNode).merge(coarseNeighbor, fine.weights[node][i], Double::sum);
+                }
+            }
+        }
+        int[][] neighbors = new int[coarseSize][];
+        double[][] weights = new double[coarseSize][];
+        for (int i = 0; i < coarseSize; i++) {
+            Map<Integer, Double> nodeWeights = coarseWeights.get(i);
+            neighbors[i] = new int[nodeWeights.size()];
+            weights[i] = new double[nodeWeights.size()];
+            int pos = 0;
+            for (Map.Entry<Integer, Double> entry : nodeWeights.entrySet()) {
+                neighbors[i][pos] = entry.getKey();
+                weights[i][pos] = entry.getValue();
+                pos++;
+            }
+        }
+        Level coarse = new Level(masses, neighbors, weights);
+        coarse.fineToCoarse = fineToCoarse;
+        return coarse;
+    }
+
+    /**
+     * Fruchterman-Reingold iterations. Repulsion is calculated only for nodes in neighbor grid cells.
+     */
+    private static void applyForces(
+        @NotNull Level level,
+        @NotNull double[] x,
+        @NotNull double[] y,
+        double idealLength,
+        int iterations,
+        double initialTemperature,
+        @NotNull Random random)
+    {
+        int size = level.size();
+        double maxMass = 1;
+        for (double mass : level.masses) {
+            maxMass = Math.max(maxMass, mass);
+        }
+        double cutoff = 2 * idealLength * Math.sqrt(maxMass);
+        double[] dx = new double[size];
+        double[] dy = new double[size];
+        Map<Long, List<Integer>> grid = new HashMap<>();
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            Arrays.fill(dx, 0);
+            Arrays.fill(dy, 0);
+            grid.clear();
+            for (int i = 0; i < size; i++) {
+                grid.computeIfAbsent(makeCellKey(toCell(x[i], cutoff), toCell(y[i], cutoff)), k -> new ArrayList<>()).add(i);
+            }
+            for (int i = 0; i < size; i++) {
+                long column = toCell(x[i], cutoff);
+                long row = toCell(y[i], cutoff);
+                for (long c = column - 1; c <= column + 1; c++) {
+                    for (long r = row - 1; r <= row + 1; r++) {
+                        List<Integer> cell = grid.get(makeCellKey(c, r));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int other : cell) {
+                            if (other == i) {
+                                continue;
+                            }
+                            double deltaX = x[i] - x[other];
+                            double deltaY = y[i] - y[other];
+                            double distance = Math.hypot(deltaX, deltaY);
+                            if (distance < 0.01) {
+                                // Nodes at the same point are pushed in random direction
+                                deltaX = random.nextDouble() - 0.5;
+                                deltaY = random.nextDouble() - 0.5;
+                                distance = Math.hypot(deltaX, deltaY);
+                            }
+                            if (distance < cutoff) {
+                                double force = idealLength * idealLength * level.masses[i] * level.masses[other] / distance;
+                                dx[i] += deltaX / distance * force;
+                                dy[i] += deltaY / distance * force;
+                            }
+                        }
+                    }
+                }
+                for (int n = 0; n < level.neighbors[i].length; n++) {
+                    int neighbor = level.neighbors[i][n];
+                    double deltaX = x[i] - x[neighbor];
+                    double deltaY = y[i] - y[neighbor];
+                    double distance = Math.hypot(deltaX, deltaY);
+                    if (distance < 0.01) {
+                        continue;
+                    }
+                    double force = distance * distance / idealLength * level.weights[i][n];
+                    dx[i] -= deltaX / distance * force;
+                    dy[i] -= deltaY / distance * force;
+                }
+            }
+            double temperature = initialTemperature * (1 - (double) iteration / iterations);
+            for (int i = 0; i < size; i++) {
+                double length = Math.hypot(dx[i], dy[i]) / level.masses[i];
+                if (length > 0) {
+                    double move = Math.min(length, temperature);
+                    x[i] += dx[i] / level.masses[i] / length * move;
+                    y[i] += dy[i] / level.masses[i] / length * move;
+                }
+            }
+        }
+    }
+
+    private static long toCell(double coordinate, double cellSize) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private static long makeCellKey(long column, long row) {
+        return (column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Pushes overlapping nodes apart along the axis of the smallest overlap
+     */
+    private void removeOverlaps(@NotNull Component component) {
+        int size = component.size();
+        double gapX = horizontalSpacing / 2.0;
+        double gapY = verticalSpacing;
+        double cellWidth = gapX;
+        double cellHeight = gapY;
+        for (int i = 0; i < size; i++) {
+            cellWidth = Math.max(cellWidth, component.widths[i] + gapX);
+            cellHeight = Math.max(cellHeight, component.heights[i] + gapY);
+        }
+        Map<Long, List<Integer>> grid = new HashMap<>();
+        for (int pass = 0; pass < OVERLAP_REMOVAL_PASSES; pass++) {
+            boolean moved = false;
+            grid.clear();
+            for (int i = 0; i < size; i++) {
+                long column = toCell(getCenterX(component, i), cellWidth);
+                long row = toCell(getCenterY(component, i), cellHeight);
+                grid.computeIfAbsent(makeCellKey(column, row), k -> new ArrayList<>()).add(i);
+            }
+            for (int i = 0; i < size; i++) {
+                long column = toCell(getCenterX(component, i), cellWidth);
+                long row = toCell(getCenterY(component, i), cellHeight);
+                for (long c = column - 1; c <= column + 1; c++) {
+                    for (long r = row - 1; r <= row + 1; r++) {
+                        List<Integer> cell = grid.get(makeCellKey(c, r));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int other : cell) {
+                            if (other <= i) {
+                                continue;
+                            }
+                            double deltaX = getCenterX(component, other) - getCenterX(component, i);
+                            double deltaY = getCenterY(component, other) - getCenterY(component, i);
+                            double overlapX = (component.widths[i] + component.widths[other]) / 2.0 + gapX - Math.abs(deltaX);
+                            double overlapY = (component.heights[i] + component.heights[other]) / 2.0 + gapY - Math.abs(deltaY);
+                            if (overlapX <= 0.5 || overlapY <= 0.5) {
+                                continue;
+                            }
+                            if (overlapX < overlapY) {
+                                double shift = (deltaX < 0 ? -overlapX : overlapX) / 2;
+                                component.x[i] -= shift;
+                                component.x[other] += shift;
+                            } else {
+                                double shift = (deltaY < 0 ? -overlapY : overlapY) / 2;
+                                component.y[i] -= shift;
+                                component.y[other] += shift;
+                            }
+                            moved = true;
+                        }
+                    }
+                }
+            }
+            if (!moved) {
+                break;
+            }
+            // Dense clusters can't be resolved by local moves only, so the whole layout is expanded a bit
+            for (int i = 0; i < size; i++) {
+                component.x[i] = getCenterX(component, i) * OVERLAP_EXPANSION - component.widths[i] / 2.0;
+                component.y[i] = getCenterY(component, i) * OVERLAP_EXPANSION - component.heights[i] / 2.0;
+            }
+        }
+    }
+
+    private static double getCenterX(@NotNull Component component, int node) {
+        return component.x[node] + component.widths[node] / 2.0;
+    }
+
+    private static double getCenterY(@NotNull Component component, int node) {
+        return component.y[node] + component.heights[node] / 2.0;
+    }
+
+    //////////////////////////////////////////////////////////
+    // Components packing
+
+    private static void normalizeComponent(@NotNull Component component) {
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        for (int i = 0; i < component.size(); i++) {
+            minX = Math.min(minX, component.x[i]);
+            minY = Math.min(minY, component.y[i]);
+        }
+        int width = 0;
+        int height = 0;
+        for (int i = 0; i < component.size(); i++) {
+            component.x[i] = Math.round(component.x[i] - minX);
+            component.y[i] = Math.round(component.y[i] - minY);
+            width = Math.max(width, (int) component.x[i] + component.widths[i]);
+            height = Math.max(height, (int) component.y[i] + component.heights[i]);
+        }
+        component.width = width;
+        component.height = height;
+    }
+
+    @NotNull
+    private Map<ERDElement<?>, NodeBounds> packComponents(@NotNull List<? extends ERDElement<?>> elements, @NotNull List<Component> components) {
+        long area = 0;
+        int maxWidth = 0;
+        for (Component component : components) {
+            area += (long) (component.width + horizontalSpacing) * (component.height + verticalSpacing);
+            maxWidth = Math.max(maxWidth, component.width);
+        }
+        int rowWidth = Math.max(maxWidth, (int) Math.sqrt(area * DIAGRAM_ASPECT_RATIO));
+
+        List<Component> sorted = new ArrayList<>(components);
+        sorted.sort(Comparator.comparingInt((Component c) -> c.height).reversed());
+
+        NodeBounds[] bounds = new NodeBounds[elements.size()];
+        int x = MARGIN;
+        int y = MARGIN;
+        int rowHeight = 0;
+        for (Component component : sorted) {
+            if (x > MARGIN && x - MARGIN + component.width > rowWidth) {
+                x = MARGIN;
+                y += rowHeight + verticalSpacing * 2;
+                rowHeight = 0;
+            }
+            for (int i = 0; i < component.size(); i++) {
+                bounds[component.nodes[i]] = new NodeBounds(
+                    x + (int) component.x[i],
+                    y + (int) component.y[i],
+                    component.widths[i],
+                    component.heights[i]);
+            }
+            x += component.width + horizontalSpacing;
+            rowHeight = Math.max(rowHeight, component.height);
+        }
+
+        Map<ERDElement<?>, NodeBounds> result = new LinkedHashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            result.put(elements.get(i), bounds[i]);
+        }
+        return result;
+    }
+
+}
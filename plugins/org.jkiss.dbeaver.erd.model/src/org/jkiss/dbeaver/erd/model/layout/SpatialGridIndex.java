@@ -0,0 +1,115 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.model.layout;
+
+import org.jkiss.code.NotNull;
+
+import java.util.*;
+
+/**
+ * Uniform grid index of diagram items (obstacles or routed segments).
+ * Each item is registered in all cells covered by its bounds, so area query visits only
+ * items located near the requested area instead of all diagram items.
+ * Index may be read concurrently while it is not modified.
+ */
+public class SpatialGridIndex<T> {
+
+    private final int cellSize;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+
+    // Range of cells which ever contained items. Used to limit unbounded queries.
+    private int minColumn = Integer.MAX_VALUE;
+    private int maxColumn = Integer.MIN_VALUE;
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+
+    public SpatialGridIndex(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds item. Bounds are inclusive.
+     */
+    public void add(int x1, int y1, int x2, int y2, @NotNull T item) {
+        int fromColumn = toCell(Math.min(x1, x2));
+        int toColumn = toCell(Math.max(x1, x2));
+        int fromRow = toCell(Math.min(y1, y2));
+        int toRow = toCell(Math.max(y1, y2));
+        for (int column = fromColumn; column <= toColumn; column++) {
+            for (int row = fromRow; row <= toRow; row++) {
+                cells.computeIfAbsent(makeKey(column, row), key -> new ArrayList<>()).add(item);
+            }
+        }
+        minColumn = Math.min(minColumn, fromColumn);
+        maxColumn = Math.max(maxColumn, toColumn);
+        minRow = Math.min(minRow, fromRow);
+        maxRow = Math.max(maxRow, toRow);
+    }
+
+    /**
+     * Removes item. Bounds must be the same as were used to add it.
+     */
+    public void remove(int x1, int y1, int x2, int y2, @NotNull T item) {
+        int fromColumn = toCell(Math.min(x1, x2));
+        int toColumn = toCell(Math.max(x1, x2));
+        int fromRow = toCell(Math.min(y1, y2));
+        int toRow = toCell(Math.max(y1, y2));
+        for (int column = fromColumn; column <= toColumn; column++) {
+            for (int row = fromRow; row <= toRow; row++) {
+                Long key = makeKey(column, row);
+                List<T> items = cells.get(key);
+                if (items != null && items.remove(item) && items.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns distinct items which cells intersect the specified area. Bounds are inclusive.
+     * Found items are candidates only, callers must check exact item bounds.
+     * Integer.MIN_VALUE/Integer.MAX_VALUE may be used for unbounded coordinates.
+     */
+    @NotNull
+    public Collection<T> find(int x1, int y1, int x2, int y2) {
+        if (cells.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int fromColumn = Math.max(toCell(x1), minColumn);
+        int toColumn = Math.min(toCell(x2), maxColumn);
+        int fromRow = Math.max(toCell(y1), minRow);
+        int toRow = Math.min(toCell(y2), maxRow);
+        Set<T> result = new LinkedHashSet<>();
+        for (int column = fromColumn; column <= toColumn; column++) {
+            for (int row = fromRow; row <= toRow; row++) {
+                List<T> items = cells.get(makeKey(column, row));
+                if (items != null) {
+                    result.addAll(items);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int toCell(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long makeKey(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.draw2dl.Animation;
 import org.eclipse.draw2dl.IFigure;
 import org.eclipse.draw2dl.geometry.Dimension;
 import org.eclipse.draw2dl.geometry.Rectangle;
+import org.jkiss.dbeaver.erd.model.layout.ERDLayoutEngine;
 import org.jkiss.dbeaver.erd.ui.layout.algorithm.direct.DirectedGraphLayoutVisitor;
 import org.jkiss.dbeaver.erd.ui.part.DiagramPart;
 
@@ -36,6 +37,8 @@ import java.util.List;
  */
 public class GraphLayoutAuto extends AbstractLayout
 {
+	// Directed graph layout becomes too slow on big diagrams
+	private static final int LARGE_DIAGRAM_SIZE = 200;
 
 	private DiagramPart diagram;
 
@@ -70,7 +73,11 @@ public class GraphLayoutAuto extends AbstractLayout
 */
 
         // TODO: REPLACE WITH ZEST!
-		new DirectedGraphLayoutVisitor(diagram.getDiagram().getDecorator()).layoutDiagram(diagram);
+		if (diagram.getChildren().size() > LARGE_DIAGRAM_SIZE) {
+			new ModelGraphLayoutVisitor(diagram.getDiagram().getDecorator(), ERDLayoutEngine.Algorithm.LAYERED).layoutDiagram(diagram);
+		} else {
+			new DirectedGraphLayoutVisitor(diagram.getDiagram().getDecorator()).layoutDiagram(diagram);
+		}
         diagram.setTableModelBounds();
         //new ZestGraphLayout().layoutDiagram(diagram);
 
@@ -0,0 +1,96 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout;
+
+import org.eclipse.draw2dl.IFigure;
+import org.eclipse.draw2dl.geometry.Dimension;
+import org.eclipse.draw2dl.geometry.Insets;
+import org.eclipse.draw2dl.geometry.Rectangle;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.erd.model.ERDElement;
+import org.jkiss.dbeaver.erd.model.layout.ERDLayoutEngine;
+import org.jkiss.dbeaver.erd.ui.model.ERDDecorator;
+import org.jkiss.dbeaver.erd.ui.part.DiagramPart;
+import org.jkiss.dbeaver.erd.ui.part.NodePart;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lays out diagram figures with the model layout engine.
+ * Unlike DirectedGraphLayoutVisitor it doesn't calculate connection bends, connections are left to the router.
+ */
+public class ModelGraphLayoutVisitor {
+
+    private final ERDDecorator decorator;
+    private final ERDLayoutEngine.Algorithm algorithm;
+
+    public ModelGraphLayoutVisitor(@NotNull ERDDecorator decorator, @NotNull ERDLayoutEngine.Algorithm algorithm) {
+        this.decorator = decorator;
+        this.algorithm = algorithm;
+    }
+
+    public void layoutDiagram(@NotNull DiagramPart diagram) {
+        GraphAnimation.recordInitialState(diagram.getFigure());
+
+        Map<ERDElement<?>, NodePart> elementParts = new IdentityHashMap<>();
+        List<ERDElement<?>> elements = new ArrayList<>();
+        for (Object child : diagram.getChildren()) {
+            if (child instanceof NodePart) {
+                NodePart part = (NodePart) child;
+                ERDElement<?> element = part.getElement();
+                elementParts.put(element, part);
+                elements.add(element);
+            }
+        }
+        if (elements.isEmpty()) {
+            return;
+        }
+
+        ERDLayoutEngine engine = new ERDLayoutEngine(algorithm);
+        Insets insets = decorator.getDefaultEntityInsets();
+        engine.setHorizontalSpacing(insets.getWidth());
+        engine.setVerticalSpacing(insets.getHeight());
+        Map<ERDElement<?>, ERDLayoutEngine.NodeBounds> layout = engine.layout(elements, new ERDLayoutEngine.SizeProvider() {
+            @Override
+            public int getWidth(@NotNull ERDElement<?> element) {
+                return elementParts.get(element).getFigure().getPreferredSize().width;
+            }
+
+            @Override
+            public int getHeight(@NotNull ERDElement<?> element) {
+                return elementParts.get(element).getFigure().getPreferredSize().height;
+            }
+        });
+
+        Dimension snapSize = decorator.getEntitySnapSize();
+        for (Map.Entry<ERDElement<?>, ERDLayoutEngine.NodeBounds> entry : layout.entrySet()) {
+            ERDLayoutEngine.NodeBounds nodeBounds = entry.getValue();
+            Rectangle bounds = new Rectangle(nodeBounds.x, nodeBounds.y, nodeBounds.width, nodeBounds.height);
+            if (snapSize != null) {
+                bounds.setLocation(
+                    bounds.x / snapSize.width * snapSize.width,
+                    bounds.y / snapSize.height * snapSize.height);
+            }
+            IFigure figure = elementParts.get(entry.getKey()).getFigure();
+            figure.setBounds(bounds);
+        }
+    }
+
+}
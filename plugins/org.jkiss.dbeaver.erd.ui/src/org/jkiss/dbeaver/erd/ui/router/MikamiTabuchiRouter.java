@@ -26,6 +26,7 @@ import org.eclipse.draw2dl.geometry.Rectangle;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.erd.model.layout.SpatialGridIndex;
 import org.jkiss.utils.Pair;
 
 import java.util.*;
@@ -47,9 +48,12 @@ public class MikamiTabuchiRouter {
     private static final int SOURCE_HORIZONTAL_LINES = 1;
     private static final int TARGET_VERTICAL_LINES = 2;
     private static final int TARGET_HORIZONTAL_LINES = 3;
+    // Size of spatial index cell. Close to the typical entity figure size.
+    private static final int INDEX_CELL_SIZE = 128;
 
     private int spacing = 15;
     private final Set<Rectangle> obstacles = new HashSet<>();
+    private final SpatialGridIndex<Rectangle> obstacleIndex = new SpatialGridIndex<>(INDEX_CELL_SIZE);
 
     private PrecisionPoint start;
     private PrecisionPoint finish;
@@ -59,6 +63,8 @@ public class MikamiTabuchiRouter {
     private final Map<OrthogonalPath, List<OrthogonalPath>> pathsToChildPaths = new HashMap<>();
 
     private final Map<OrthogonalPath, Map<Boolean, List<Pair<Point, Point>>>> resultMap = new HashMap<>();
+    private final SpatialGridIndex<Pair<Point, Point>> verticalSegmentIndex = new SpatialGridIndex<>(INDEX_CELL_SIZE);
+    private final SpatialGridIndex<Pair<Point, Point>> horizontalSegmentIndex = new SpatialGridIndex<>(INDEX_CELL_SIZE);
 
 
     private final Map<Integer, Map<Integer, List<TrialLine>>> linesMap = new ConcurrentHashMap<>();
@@ -140,10 +146,15 @@ public class MikamiTabuchiRouter {
 
     boolean lineLiesOnPreviouslyCreatedLine(Point point, Point secondPoint, boolean vertical) {
 
-        final List<Pair<Point, Point>> collect = new ArrayList<>();
-        for (Map<Boolean, List<Pair<Point, Point>>> it : resultMap.values()) {
-            List<Pair<Point, Point>> pairs = it.get(vertical);
-            collect.addAll(pairs);
+        final Collection<Pair<Point, Point>> collect;
+        if (vertical) {
+            collect = verticalSegmentIndex.find(
+                point.x - 5, Math.min(point.y, secondPoint.y),
+                point.x + spacing / 5, Math.max(point.y, secondPoint.y));
+        } else {
+            collect = horizontalSegmentIndex.find(
+                Math.min(point.x, secondPoint.x), point.y - spacing / 5,
+                Math.max(point.x, secondPoint.x), point.y + spacing / 5);
         }
         for (Pair<Point, Point> line : collect) {
             if (vertical) {
@@ -222,17 +233,61 @@ public class MikamiTabuchiRouter {
     }
 
     public boolean updateObstacle(Rectangle rectangle, Rectangle newBounds) {
-        obstacles.remove(rectangle);
-        obstacles.add(newBounds);
+        if (rectangle != null) {
+            removeObstacle(rectangle);
+        }
+        addObstacle(newBounds);
         return true;
     }
 
     public void addObstacle(Rectangle bounds) {
-        obstacles.add(bounds);
+        if (obstacles.add(bounds)) {
+            obstacleIndex.add(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height, bounds);
+        }
     }
 
     public boolean removeObstacle(Rectangle bounds) {
-        return obstacles.remove(bounds);
+        if (obstacles.remove(bounds)) {
+            obstacleIndex.remove(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height, bounds);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns obstacles which may lie on the axis of vertical or horizontal line drawn through the point
+     */
+    @NotNull
+    private Collection<Rectangle> findAxisObstacles(@NotNull PrecisionPoint point, boolean vertical) {
+        if (vertical) {
+            return obstacleIndex.find(point.x - spacing, Integer.MIN_VALUE, point.x + spacing, Integer.MAX_VALUE);
+        } else {
+            return obstacleIndex.find(Integer.MIN_VALUE, point.y - spacing, Integer.MAX_VALUE, point.y + spacing);
+        }
+    }
+
+    private void addResultSegment(boolean vertical, @NotNull Pair<Point, Point> segment) {
+        resultMap.get(activePath).get(vertical).add(segment);
+        getSegmentIndex(vertical).add(
+            segment.getFirst().x, segment.getFirst().y, segment.getSecond().x, segment.getSecond().y, segment);
+    }
+
+    private void removeResultSegments(@Nullable Map<Boolean, List<Pair<Point, Point>>> segments) {
+        if (segments == null) {
+            return;
+        }
+        for (Map.Entry<Boolean, List<Pair<Point, Point>>> entry : segments.entrySet()) {
+            SpatialGridIndex<Pair<Point, Point>> segmentIndex = getSegmentIndex(entry.getKey());
+            for (Pair<Point, Point> segment : entry.getValue()) {
+                segmentIndex.remove(
+                    segment.getFirst().x, segment.getFirst().y, segment.getSecond().x, segment.getSecond().y, segment);
+            }
+        }
+    }
+
+    @NotNull
+    private SpatialGridIndex<Pair<Point, Point>> getSegmentIndex(boolean vertical) {
+        return vertical ? verticalSegmentIndex : horizontalSegmentIndex;
     }
 
     private PointList traceback(Pair<TrialLine, TrialLine> res) {
@@ -261,7 +316,7 @@ public class MikamiTabuchiRouter {
         }
         boolean vertical = !previousLine.vertical;
         for (int i = 1; i < points.size() - 2; i++) {
-            resultMap.get(activePath).get(vertical).add(new Pair<>(points.getPoint(i), points.getPoint(i + 1)));
+            addResultSegment(vertical, new Pair<>(points.getPoint(i), points.getPoint(i + 1)));
             vertical = !vertical;
         }
         return points;
@@ -326,7 +381,7 @@ public class MikamiTabuchiRouter {
 
     private void init(OrthogonalPath path) {
         if (path.isDirty() || resultMap.get(path) == null) {
-            resultMap.put(path, new HashMap<>());
+            removeResultSegments(resultMap.put(path, new HashMap<>()));
             resultMap.get(path).put(false, new ArrayList<>());
             resultMap.get(path).put(true, new ArrayList<>());
         }
@@ -536,10 +591,10 @@ public class MikamiTabuchiRouter {
     public void removePath(OrthogonalPath path) {
         this.userPaths.remove(path);
         List<OrthogonalPath> orthogonalPaths = this.pathsToChildPaths.get(path);
-        resultMap.remove(path);
+        removeResultSegments(resultMap.remove(path));
         if (orthogonalPaths != null) {
             for (OrthogonalPath orthogonalPath : orthogonalPaths) {
-                resultMap.remove(orthogonalPath);
+                removeResultSegments(resultMap.remove(orthogonalPath));
             }
             this.userPaths.remove(path);
         }
@@ -576,7 +631,7 @@ public class MikamiTabuchiRouter {
          * Due to starting point lying inside the figure we need to limit range where trial lines can be created
          */
         private void calculateForbiddenRange() {
-            for (Rectangle it : obstacles) {
+            for (Rectangle it : obstacleIndex.find(from.x, from.y, from.x, from.y)) {
                 if (isInsideFigure(it)) {
                     if (vertical) {
                         creationForbiddenStart = it.getTop().y - spacing;
@@ -654,7 +709,7 @@ public class MikamiTabuchiRouter {
 
         private void cutByObstacles(boolean startingLine) {
             //Check if object is on axis with line, if it is, reduce line size
-            for (Rectangle it : obstacles) {
+            for (Rectangle it : findAxisObstacles(from, vertical)) {
                 if (isInsideFigure(it)) {
                     if (startingLine) {
                         continue;
@@ -73,6 +73,8 @@ public class GenericConstants {
     public static final String PARAM_SUPPORTS_MULTI_INSERT = "supports-multi-insert";
     public static final String PARAM_SUPPORTS_EMBEDDED_DATABASE_CREATION = "supports-embedded-database-creation";
     public static final String PARAM_IDENTIFIER_QUOTES = "identifier-quotes";
+    // Time to live (in seconds) of cached database metadata calls. Zero disables the cache.
+    public static final String PARAM_META_CACHE_TTL = "meta-cache-ttl";
 
     public static final String PARAM_NATIVE_FORMAT_TIMESTAMP = "native-format-timestamp";
     public static final String PARAM_NATIVE_FORMAT_TIME = "native-format-time";
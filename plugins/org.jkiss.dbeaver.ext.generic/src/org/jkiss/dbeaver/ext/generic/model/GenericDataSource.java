@@ -38,6 +38,7 @@ import org.jkiss.dbeaver.model.exec.plan.DBCQueryPlanner;
 import org.jkiss.dbeaver.model.impl.jdbc.*;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCBasicDataTypeCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCMetaDataCache;
 import org.jkiss.dbeaver.model.impl.jdbc.struct.JDBCDataType;
 import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.meta.ForTest;
@@ -76,6 +77,7 @@ public class GenericDataSource extends JDBCDataSource implements DBPTermProvider
     private boolean selectedEntityFromAPI;
     private boolean omitSingleCatalog;
     private String allObjectsPattern;
+    private JDBCMetaDataCache metaDataCache;
     private boolean supportsStructCache;
     private DBCQueryPlanner queryPlanner;
     private Format nativeFormatTimestamp, nativeFormatTime, nativeFormatDate;
@@ -100,6 +102,10 @@ public class GenericDataSource extends JDBCDataSource implements DBPTermProvider
         } else if ("null".equalsIgnoreCase(this.allObjectsPattern)) {
             this.allObjectsPattern = null;
         }
+        long metaCacheTTL = CommonUtils.toLong(driver.getDriverParameter(GenericConstants.PARAM_META_CACHE_TTL));
+        if (metaCacheTTL > 0) {
+            this.metaDataCache = new JDBCMetaDataCache(metaCacheTTL * 1000);
+        }
 
         // Init native formats
         nativeFormatTimestamp = makeNativeFormat(GenericConstants.PARAM_NATIVE_FORMAT_TIMESTAMP);
@@ -214,6 +220,24 @@ public class GenericDataSource extends JDBCDataSource implements DBPTermProvider
         return allObjectsPattern;
     }
 
+    @Nullable
+    @Override
+    public JDBCMetaDataCache getMetaDataCache() {
+        return metaDataCache;
+    }
+
+    /**
+     * Drops cached metadata of the object. Null table name means all objects of the container.
+     */
+    void invalidateMetaData(@NotNull GenericStructContainer container, @Nullable String tableName) {
+        if (metaDataCache != null) {
+            metaDataCache.invalidate(
+                container.getCatalog() == null ? null : container.getCatalog().getName(),
+                container.getSchema() == null ? null : container.getSchema().getName(),
+                tableName);
+        }
+    }
+
     @NotNull
     public GenericMetaModel getMetaModel() {
         return metaModel;
@@ -626,6 +650,9 @@ public class GenericDataSource extends JDBCDataSource implements DBPTermProvider
 
         this.structureContainer = null;
         this.tableTypeCache.clearCache();
+        if (this.metaDataCache != null) {
+            this.metaDataCache.invalidateAll();
+        }
         this.catalogs = null;
         this.schemas = null;
 
@@ -30,6 +30,8 @@ import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
 import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataType;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityGraphLoader;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.rdb.DBSProcedureType;
 import org.jkiss.utils.CommonUtils;
@@ -43,8 +45,10 @@ import java.util.List;
 /**
  * GenericEntityContainer
  */
-public abstract class GenericObjectContainer implements GenericStructContainer, DBPRefreshableObject {
+public abstract class GenericObjectContainer implements GenericStructContainer, DBPRefreshableObject, DBSEntityGraphLoader {
     private static final Log log = Log.getLog(GenericObjectContainer.class);
+    // Entity graph is read for all container tables. It doesn't pay off if only a small part of them is requested.
+    private static final int MAX_ENTITY_GRAPH_TABLES_RATIO = 20;
 
     @NotNull
     private final GenericDataSource dataSource;
@@ -258,19 +262,7 @@ public abstract class GenericObjectContainer implements GenericStructContainer,
         }
         // Cache associations
         if ((scope & STRUCT_ASSOCIATIONS) != 0 && dataSource.supportsStructCache()) {
-            // Try to read all PKs
-            // Try to read all FKs
-            try {
-                monitor.subTask("Cache primary keys");
-                Collection<GenericUniqueKey> objects = constraintKeysCache.getObjects(monitor, this, null);
-                if (CommonUtils.isEmpty(objects)) {
-                    // Nothing was read, Maybe driver doesn't support mass keys reading
-                    constraintKeysCache.clearCache();
-                }
-            } catch (Exception e) {
-                // Failed - seems to be unsupported feature
-                log.debug(e);
-            }
+            cacheConstraintKeys(monitor);
 
             if (dataSource.getInfo().supportsIndexes()) {
                 // Try to read all indexes
@@ -278,19 +270,58 @@ public abstract class GenericObjectContainer implements GenericStructContainer,
                 cacheIndexes(monitor, false);
             }
 
-            if (dataSource.getInfo().supportsReferentialIntegrity()) {
-                // Try to read all FKs
-                try {
-                    monitor.subTask("Cache foreign keys");
-                    Collection<GenericTableForeignKey> foreignKeys = foreignKeysCache.getObjects(monitor, this, null);
-                    if (CommonUtils.isEmpty(foreignKeys)) {
-                        // Nothing was read, Maybe driver doesn't support mass keys reading
-                        foreignKeysCache.clearCache();
-                    }
-                } catch (Exception e) {
-                    // Failed - seems to be unsupported feature
-                    log.debug(e);
+            cacheForeignKeys(monitor);
+        }
+    }
+
+    /**
+     * Reads columns, primary keys and foreign keys of all container tables in a few metadata queries.
+     * Does nothing if requested entities are a small part of already known container tables.
+     * Unlike {@link #cacheStructure} doesn't read indexes, they are not a part of the entity graph.
+     */
+    @Override
+    public void loadEntityGraph(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends DBSEntity> entities) throws DBException {
+        if (!dataSource.supportsStructCache()) {
+            // Driver can't read metadata of all tables at once
+            return;
+        }
+        if ((long) entities.size() * MAX_ENTITY_GRAPH_TABLES_RATIO < tableCache.getCachedObjects().size()) {
+            // Requested tables will read their metadata separately
+            return;
+        }
+        cacheStructure(monitor, STRUCT_ENTITIES | STRUCT_ATTRIBUTES);
+        cacheConstraintKeys(monitor);
+        cacheForeignKeys(monitor);
+    }
+
+    private void cacheConstraintKeys(@NotNull DBRProgressMonitor monitor) {
+        // Try to read all PKs
+        try {
+            monitor.subTask("Cache primary keys");
+            Collection<GenericUniqueKey> objects = constraintKeysCache.getObjects(monitor, this, null);
+            if (CommonUtils.isEmpty(objects)) {
+                // Nothing was read, Maybe driver doesn't support mass keys reading
+                constraintKeysCache.clearCache();
+            }
+        } catch (Exception e) {
+            // Failed - seems to be unsupported feature
+            log.debug(e);
+        }
+    }
+
+    private void cacheForeignKeys(@NotNull DBRProgressMonitor monitor) {
+        if (dataSource.getInfo().supportsReferentialIntegrity()) {
+            // Try to read all FKs
+            try {
+                monitor.subTask("Cache foreign keys");
+                Collection<GenericTableForeignKey> foreignKeys = foreignKeysCache.getObjects(monitor, this, null);
+                if (CommonUtils.isEmpty(foreignKeys)) {
+                    // Nothing was read, Maybe driver doesn't support mass keys reading
+                    foreignKeysCache.clearCache();
                 }
+            } catch (Exception e) {
+                // Failed - seems to be unsupported feature
+                log.debug(e);
             }
         }
     }
@@ -416,6 +447,7 @@ public abstract class GenericObjectContainer implements GenericStructContainer,
     public synchronized DBSObject refreshObject(@NotNull DBRProgressMonitor monitor) throws DBException {
         final boolean needsStructureCaching = !getTableCache().isEmpty();
 
+        getDataSource().invalidateMetaData(this, null);
         this.tableCache.clearCache();
         this.indexCache.clearCache();
         this.constraintKeysCache.clearCache();
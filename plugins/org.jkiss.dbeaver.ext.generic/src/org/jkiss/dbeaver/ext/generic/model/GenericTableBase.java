@@ -286,6 +286,7 @@ public abstract class GenericTableBase extends JDBCTable<GenericDataSource, Gene
         this.getContainer().getIndexCache().clearObjectCache(this);
         this.getContainer().getConstraintKeysCache().clearObjectCache(this);
         this.getContainer().getForeignKeysCache().clearObjectCache(this);
+        getDataSource().invalidateMetaData(getContainer(), getName());
         return this.getContainer().getTableCache().refreshObject(monitor, getContainer(), this);
     }
 
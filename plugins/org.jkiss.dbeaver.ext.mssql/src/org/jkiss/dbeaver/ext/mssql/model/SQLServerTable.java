@@ -22,7 +22,9 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.mssql.SQLServerUtils;
 import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -33,6 +35,7 @@ import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.preferences.DBPPropertySource;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataRowCountEstimator;
 import org.jkiss.dbeaver.model.struct.DBSEntityAssociation;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBStructUtils;
@@ -46,7 +49,7 @@ import java.util.*;
  * SQLServerTable
  */
 public class SQLServerTable extends SQLServerTableBase
-        implements DBPObjectStatistics, DBSCheckConstraintContainer, DBPReferentialIntegrityController {
+        implements DBPObjectStatistics, DBSCheckConstraintContainer, DBPReferentialIntegrityController, DBSDataRowCountEstimator {
     private static final Log log = Log.getLog(SQLServerTable.class);
 
     private static final String DISABLE_REFERENTIAL_INTEGRITY_STATEMENT = "ALTER TABLE ? NOCHECK CONSTRAINT ALL";
@@ -214,6 +217,41 @@ public class SQLServerTable extends SQLServerTableBase
         return totalBytes;
     }
 
+    @Override
+    public long getStatRowCount() {
+        Long rows = rowCount;
+        return hasStatistics() && rows != null ? rows : -1;
+    }
+
+    /**
+     * Sums rows of heap or clustered index partitions. Filtered row count can't be estimated.
+     */
+    @Override
+    public long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted() || (dataFilter != null && dataFilter.hasConditions()) ||
+            SQLServerUtils.isDriverBabelfish(getDataSource().getContainer().getDriver()))
+        {
+            return -1;
+        }
+        try (JDBCPreparedStatement dbStat = ((JDBCSession) session).prepareStatement(
+            "SELECT SUM(p.rows) FROM " + SQLServerUtils.getSystemTableFQN(getDataSource(), getDatabase(), "partitions", true) +
+                " p WHERE p.object_id=? AND p.index_id IN (0,1)"))
+        {
+            dbStat.setLong(1, getObjectId());
+            try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                if (dbResult.next()) {
+                    long rows = dbResult.getLong(1);
+                    if (!dbResult.wasNull()) {
+                        return rows;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+        return -1;
+    }
+
     @Nullable
     @Override
     public DBPPropertySource getStatProperties() {
@@ -23,6 +23,8 @@ import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.ext.mysql.MySQLConstants;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -53,6 +55,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -62,7 +65,7 @@ import java.util.Map;
 public class MySQLCatalog implements
     DBSCatalog, DBPSaveableObject, DBPRefreshableObject, DBPSystemObject,
     DBSProcedureContainer, DBPObjectStatisticsCollector, DBPObjectStatistics,
-    DBPScriptObject, DBPScriptObjectExt2
+    DBPScriptObject, DBPScriptObjectExt2, DBPScriptObjectBatchLoader
 {
 
     final TableCache tableCache = new TableCache();
@@ -473,6 +476,33 @@ public class MySQLCatalog implements
         return OPTION_INCLUDE_NESTED_OBJECTS.equals(option);
     }
 
+    /**
+     * Reads DDL of tables with the specified context. Several contexts may read DDL of the same catalog in parallel.
+     */
+    @NotNull
+    @Override
+    public Map<DBPScriptObject, String> loadObjectDefinitions(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext context,
+        @NotNull List<? extends DBPScriptObject> objects,
+        @NotNull Map<String, Object> options) throws DBException
+    {
+        Map<DBPScriptObject, String> result = new HashMap<>();
+        try (JDBCSession session = (JDBCSession) context.openSession(monitor, DBCExecutionPurpose.META, "Retrieve tables DDL")) {
+            for (DBPScriptObject object : objects) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                if (object instanceof MySQLTable && ((MySQLTable) object).isPersisted()) {
+                    result.put(object, ((MySQLTable) object).readDDL(session));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBException(e, getDataSource());
+        }
+        return result;
+    }
+
     @Override
     public String getObjectDefinitionText(DBRProgressMonitor monitor, Map<String, Object> options) throws DBException {
         if (databaseDDL == null) {
@@ -22,7 +22,9 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.mysql.MySQLConstants;
 import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.*;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCConstants;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
@@ -47,7 +49,7 @@ import java.util.*;
 /**
  * MySQLTable
  */
-public class MySQLTable extends MySQLTableBase implements DBPObjectStatistics, DBPReferentialIntegrityController {
+public class MySQLTable extends MySQLTableBase implements DBPObjectStatistics, DBPReferentialIntegrityController, DBSDataRowCountEstimator {
     private static final Log log = Log.getLog(MySQLTable.class);
 
     private static final String INNODB_COMMENT = "InnoDB free";
@@ -265,6 +267,40 @@ public class MySQLTable extends MySQLTableBase implements DBPObjectStatistics, D
         return additionalInfo.dataLength + additionalInfo.indexLength;
     }
 
+    @Override
+    public long getStatRowCount() {
+        return additionalInfo.loaded ? additionalInfo.rowCount : -1;
+    }
+
+    /**
+     * Reads TABLE_ROWS from information schema. It is exact for MyISAM and approximate for InnoDB.
+     * Filtered row count can't be estimated.
+     */
+    @Override
+    public long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted() || (dataFilter != null && dataFilter.hasConditions())) {
+            return -1;
+        }
+        try (JDBCPreparedStatement dbStat = ((JDBCSession) session).prepareStatement(
+            "SELECT " + MySQLConstants.COL_TABLE_ROWS + " FROM " + MySQLConstants.META_TABLE_TABLES +
+                " WHERE " + MySQLConstants.COL_TABLE_SCHEMA + "=? AND " + MySQLConstants.COL_TABLE_NAME + "=?"))
+        {
+            dbStat.setString(1, getContainer().getName());
+            dbStat.setString(2, getName());
+            try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                if (dbResult.next()) {
+                    long tableRows = dbResult.getLong(1);
+                    if (!dbResult.wasNull()) {
+                        return tableRows;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+        return -1;
+    }
+
     @Nullable
     @Override
     public DBPPropertySource getStatProperties() {
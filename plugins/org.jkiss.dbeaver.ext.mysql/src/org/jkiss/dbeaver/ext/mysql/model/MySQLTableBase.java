@@ -146,22 +146,27 @@ public abstract class MySQLTableBase extends JDBCTable<MySQLDataSource, MySQLCat
             return DBStructUtils.generateTableDDL(monitor, this, options, false);
         }
         try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Retrieve table DDL")) {
-            try (PreparedStatement dbStat = session.prepareStatement(
-                "SHOW CREATE " + (isView() ? "VIEW" : "TABLE") + " " + getFullyQualifiedName(DBPEvaluationContext.DDL))) {
-                try (ResultSet dbResult = dbStat.executeQuery()) {
-                    if (dbResult.next()) {
-                        if (isView()) {
-                            return dbResult.getString("Create View");
-                        } else {
-                            return dbResult.getString("Create Table");
-                        }
+            return readDDL(session);
+        } catch (SQLException ex) {
+            throw new DBException(ex, getDataSource());
+        }
+    }
+
+    String readDDL(JDBCSession session) throws SQLException
+    {
+        try (PreparedStatement dbStat = session.prepareStatement(
+            "SHOW CREATE " + (isView() ? "VIEW" : "TABLE") + " " + getFullyQualifiedName(DBPEvaluationContext.DDL))) {
+            try (ResultSet dbResult = dbStat.executeQuery()) {
+                if (dbResult.next()) {
+                    if (isView()) {
+                        return dbResult.getString("Create View");
                     } else {
-                        return "DDL is not available";
+                        return dbResult.getString("Create Table");
                     }
+                } else {
+                    return "DDL is not available";
                 }
             }
-        } catch (SQLException ex) {
-            throw new DBException(ex, getDataSource());
         }
     }
 
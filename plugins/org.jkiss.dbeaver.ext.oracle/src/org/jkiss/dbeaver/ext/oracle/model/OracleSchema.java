@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -57,7 +58,8 @@ public class OracleSchema extends OracleGlobalObject implements
     DBPSystemObject,
     DBSProcedureContainer,
     DBPObjectStatisticsCollector,
-    DBPScriptObject
+    DBPScriptObject,
+    DBPScriptObjectBatchLoader
 {
     private static final Log log = Log.getLog(OracleSchema.class);
 
@@ -518,6 +520,17 @@ public class OracleSchema extends OracleGlobalObject implements
         }
     }
 
+    @NotNull
+    @Override
+    public Map<DBPScriptObject, String> loadObjectDefinitions(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext context,
+        @NotNull List<? extends DBPScriptObject> objects,
+        @NotNull Map<String, Object> options) throws DBException
+    {
+        return OracleUtils.getTablesDDL(monitor, context, this, objects, OracleDDLFormat.getCurrentFormat(getDataSource()), options);
+    }
+
     @Override
     public String getObjectDefinitionText(DBRProgressMonitor monitor, Map<String, Object> options) throws DBException {
         StringBuilder sql = new StringBuilder();
@@ -198,6 +198,12 @@ public class OracleTable extends OracleTablePhysical implements DBPScriptObject,
         return tableSize == null ? 0 : tableSize;
     }
 
+    @Override
+    public long getStatRowCount() {
+        // Zero also means that statistics were never gathered
+        return getRowCount() > 0 ? getRowCount() : -1;
+    }
+
     @Nullable
     @Override
     public DBPPropertySource getStatProperties() {
@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
@@ -35,6 +36,7 @@ import org.jkiss.dbeaver.model.meta.*;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataRowCountEstimator;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectLazy;
 
@@ -47,7 +49,7 @@ import java.util.List;
 /**
  * Oracle physical table
  */
-public abstract class OracleTablePhysical extends OracleTableBase implements DBSObjectLazy<OracleDataSource>
+public abstract class OracleTablePhysical extends OracleTableBase implements DBSObjectLazy<OracleDataSource>, DBSDataRowCountEstimator
 {
     private static final Log log = Log.getLog(OracleTablePhysical.class);
 
@@ -107,6 +109,37 @@ public abstract class OracleTablePhysical extends OracleTableBase implements DBS
         return realRowCount;
     }
 
+    /**
+     * Reads NUM_ROWS gathered by the last statistics collection.
+     * Filtered row count can't be estimated.
+     */
+    @Override
+    public long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted() || (dataFilter != null && dataFilter.hasConditions())) {
+            return -1;
+        }
+        try (JDBCPreparedStatement dbStat = ((JDBCSession) session).prepareStatement(
+            "SELECT NUM_ROWS FROM " + OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), getDataSource(), "TABLES") +
+                " WHERE OWNER=? AND TABLE_NAME=?"))
+        {
+            dbStat.setString(1, getContainer().getName());
+            dbStat.setString(2, getName());
+            try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                if (dbResult.next()) {
+                    long numRows = dbResult.getLong(1);
+                    if (!dbResult.wasNull()) {
+                        rowCount = numRows;
+                        return numRows;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+        // Statistics were never gathered
+        return -1;
+    }
+
     @Override
     public Object getLazyReference(Object propertyId)
     {
@@ -25,6 +25,7 @@ import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -48,6 +49,8 @@ import java.io.StringWriter;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
@@ -92,25 +95,7 @@ public class OracleUtils {
             }
 
             if (dataSource.isAtLeastV9()) {
-                try {
-                    // Do not add semicolon in the end
-//                    JDBCUtils.executeProcedure(
-//                        session,
-//                        "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SQLTERMINATOR',true); end;");
-                    JDBCUtils.executeProcedure(
-                        session,
-                        "begin\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SQLTERMINATOR',true);\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'STORAGE'," + ddlFormat.isShowStorage() + ");\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'TABLESPACE'," + ddlFormat.isShowTablespace() + ");\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SEGMENT_ATTRIBUTES'," + ddlFormat.isShowSegments() + ");\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'EMIT_SCHEMA'," + CommonUtils.getOption(options, DBPScriptObject.OPTION_FULLY_QUALIFIED_NAMES, true) + ");\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM, 'CONSTRAINTS',true);\n" +
-                                "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM, 'REF_CONSTRAINTS'," + !CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_SEPARATE_FOREIGN_KEYS_STATEMENTS, true) + ");\n" +
-                            "end;");
-                } catch (SQLException e) {
-                    log.error("Can't apply DDL transform parameters", e);
-                }
+                setDDLTransformParameters(session, ddlFormat, options);
             }
 
             String ddl;
@@ -124,19 +109,7 @@ public class OracleUtils {
                 }
                 try (JDBCResultSet dbResult = dbStat.executeQuery()) {
                     if (dbResult.next()) {
-                        Object ddlValue = dbResult.getObject(1);
-                        if (ddlValue instanceof Clob) {
-                            StringWriter buf = new StringWriter();
-                            try (Reader clobReader = ((Clob) ddlValue).getCharacterStream()) {
-                                IOUtils.copyText(clobReader, buf);
-                            } catch (IOException e) {
-                                e.printStackTrace(new PrintWriter(buf, true));
-                            }
-                            ddl = buf.toString();
-
-                        } else {
-                            ddl = CommonUtils.toString(ddlValue);
-                        }
+                        ddl = readDDLValue(dbResult.getObject(1));
                     } else {
                         log.warn("No DDL for " + objectType + " '" + objectFullName + "'");
                         return "-- EMPTY DDL";
@@ -176,6 +149,128 @@ public class OracleUtils {
         }
     }
 
+    /**
+     * Reads DDL of many tables of the same schema at once.
+     * Table DDL and its dependent DDL (foreign keys, triggers, indexes) are read with a single query.
+     * Returns empty map if some objects are not plain tables or options require partial DDL.
+     */
+    public static Map<DBPScriptObject, String> getTablesDDL(
+        DBRProgressMonitor monitor,
+        DBCExecutionContext context,
+        OracleSchema schema,
+        List<? extends DBPScriptObject> objects,
+        OracleDDLFormat ddlFormat,
+        Map<String, Object> options) throws DBException
+    {
+        Map<DBPScriptObject, String> result = new HashMap<>();
+        if (!schema.getDataSource().isAtLeastV9() ||
+            CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_ONLY_FOREIGN_KEYS))
+        {
+            return result;
+        }
+        Map<String, OracleTable> tables = new LinkedHashMap<>();
+        for (DBPScriptObject object : objects) {
+            if (!(object instanceof OracleTable) || !((OracleTable) object).isPersisted()) {
+                return result;
+            }
+            tables.put(((OracleTable) object).getName(), (OracleTable) object);
+        }
+        boolean readForeignKeys = !CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_SKIP_FOREIGN_KEYS) &&
+            CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_SEPARATE_FOREIGN_KEYS_STATEMENTS);
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("SELECT t.TABLE_NAME,DBMS_METADATA.GET_DDL('TABLE',t.TABLE_NAME,t.OWNER) TXT,\n");
+        if (readForeignKeys) {
+            sql.append("CASE WHEN EXISTS (SELECT 1 FROM ALL_CONSTRAINTS c WHERE c.OWNER=t.OWNER AND c.TABLE_NAME=t.TABLE_NAME AND c.CONSTRAINT_TYPE='R')" +
+                " THEN DBMS_METADATA.GET_DEPENDENT_DDL('REF_CONSTRAINT',t.TABLE_NAME,t.OWNER) END FK_TXT,\n");
+        } else {
+            sql.append("NULL FK_TXT,\n");
+        }
+        sql.append("CASE WHEN EXISTS (SELECT 1 FROM ALL_TRIGGERS tr WHERE tr.TABLE_OWNER=t.OWNER AND tr.TABLE_NAME=t.TABLE_NAME AND tr.BASE_OBJECT_TYPE='TABLE')" +
+            " THEN DBMS_METADATA.GET_DEPENDENT_DDL('TRIGGER',t.TABLE_NAME,t.OWNER) END TRIGGER_TXT,\n");
+        sql.append("CASE WHEN EXISTS (SELECT 1 FROM ALL_INDEXES i WHERE i.TABLE_OWNER=t.OWNER AND i.TABLE_NAME=t.TABLE_NAME)" +
+            " THEN DBMS_METADATA.GET_DEPENDENT_DDL('INDEX',t.TABLE_NAME,t.OWNER) END INDEX_TXT\n");
+        sql.append("FROM ALL_TABLES t WHERE t.OWNER=? AND t.TABLE_NAME IN (");
+        for (int i = 0; i < tables.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(")");
+
+        monitor.subTask("Load sources of " + tables.size() + " tables of '" + schema.getName() + "'");
+        try (JDBCSession session = (JDBCSession) context.openSession(monitor, DBCExecutionPurpose.META, "Load tables source code")) {
+            setDDLTransformParameters(session, ddlFormat, options);
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString())) {
+                int index = 1;
+                dbStat.setString(index++, schema.getName());
+                for (String tableName : tables.keySet()) {
+                    dbStat.setString(index++, tableName);
+                }
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    while (dbResult.next()) {
+                        if (monitor.isCanceled()) {
+                            break;
+                        }
+                        OracleTable table = tables.get(dbResult.getString(1));
+                        if (table == null) {
+                            continue;
+                        }
+                        StringBuilder ddl = new StringBuilder(readDDLValue(dbResult.getObject(2)).trim());
+                        for (int i = 3; i <= 5; i++) {
+                            String dependentDDL = readDDLValue(dbResult.getObject(i)).trim();
+                            if (!dependentDDL.isEmpty()) {
+                                ddl.append("\n\n").append(dependentDDL);
+                            }
+                        }
+                        String tableDDL = ddl.toString();
+                        if (ddlFormat != OracleDDLFormat.COMPACT) {
+                            tableDDL = addCommentsToDDL(monitor, table, tableDDL);
+                        }
+                        result.put(table, tableDDL);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBException(e, schema.getDataSource());
+        }
+        return result;
+    }
+
+    private static void setDDLTransformParameters(JDBCSession session, OracleDDLFormat ddlFormat, Map<String, Object> options) {
+        try {
+            // Do not add semicolon in the end
+//            JDBCUtils.executeProcedure(
+//                session,
+//                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SQLTERMINATOR',true); end;");
+            JDBCUtils.executeProcedure(
+                session,
+                "begin\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SQLTERMINATOR',true);\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'STORAGE'," + ddlFormat.isShowStorage() + ");\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'TABLESPACE'," + ddlFormat.isShowTablespace() + ");\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SEGMENT_ATTRIBUTES'," + ddlFormat.isShowSegments() + ");\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'EMIT_SCHEMA'," + CommonUtils.getOption(options, DBPScriptObject.OPTION_FULLY_QUALIFIED_NAMES, true) + ");\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM, 'CONSTRAINTS',true);\n" +
+                        "DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM, 'REF_CONSTRAINTS'," + !CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_SEPARATE_FOREIGN_KEYS_STATEMENTS, true) + ");\n" +
+                    "end;");
+        } catch (SQLException e) {
+            log.error("Can't apply DDL transform parameters", e);
+        }
+    }
+
+    private static String readDDLValue(Object ddlValue) throws SQLException {
+        if (ddlValue instanceof Clob) {
+            StringWriter buf = new StringWriter();
+            try (Reader clobReader = ((Clob) ddlValue).getCharacterStream()) {
+                IOUtils.copyText(clobReader, buf);
+            } catch (IOException e) {
+                e.printStackTrace(new PrintWriter(buf, true));
+            }
+            return buf.toString();
+        } else {
+            return CommonUtils.notEmpty(CommonUtils.toString(ddlValue));
+        }
+    }
+
     private enum DBMSMetaDependentObjectType {
         INDEX,
         CONSTRAINT,
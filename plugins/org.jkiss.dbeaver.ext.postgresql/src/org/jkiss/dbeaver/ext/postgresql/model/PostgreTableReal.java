@@ -23,6 +23,8 @@ import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPObjectStatistics;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
@@ -37,7 +39,9 @@ import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.preferences.DBPPropertySource;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataRowCountEstimator;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectType;
 import org.jkiss.utils.ByteNumberFormat;
@@ -48,14 +52,18 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * PostgreTable base
  */
-public abstract class PostgreTableReal extends PostgreTableBase implements DBPObjectStatistics
+public abstract class PostgreTableReal extends PostgreTableBase implements DBPObjectStatistics, DBSDataRowCountEstimator
 {
     private static final Log log = Log.getLog(PostgreTableReal.class);
 
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("rows=([0-9]+)");
+
     protected long rowCountEstimate;
     protected transient volatile Long rowCount;
     protected transient volatile Long diskSpace;
@@ -149,12 +157,64 @@ public abstract class PostgreTableReal extends PostgreTableBase implements DBPOb
         return diskSpace == null ? 0 : diskSpace;
     }
 
+    @Override
+    public long getStatRowCount() {
+        return rowCountEstimate > 0 ? rowCountEstimate : -1;
+    }
+
     @Nullable
     @Override
     public DBPPropertySource getStatProperties() {
         return null;
     }
 
+    /**
+     * Reads reltuples from pg_class for the whole table.
+     * Filtered row count (and count of never analyzed tables) is taken from the plan estimate.
+     */
+    @Override
+    public long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted()) {
+            return -1;
+        }
+        JDBCSession jdbcSession = (JDBCSession) session;
+        try {
+            if (dataFilter == null || !dataFilter.hasConditions()) {
+                try (JDBCPreparedStatement dbStat = jdbcSession.prepareStatement(
+                    "SELECT c.reltuples FROM pg_catalog.pg_class c WHERE c.oid=?"))
+                {
+                    dbStat.setLong(1, getObjectId());
+                    try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                        if (dbResult.next()) {
+                            long reltuples = dbResult.getLong(1);
+                            if (reltuples > 0) {
+                                rowCountEstimate = reltuples;
+                                return reltuples;
+                            }
+                        }
+                    }
+                }
+            }
+            StringBuilder query = new StringBuilder("EXPLAIN SELECT 1 FROM ");
+            query.append(getTableName());
+            SQLUtils.appendQueryConditions(getDataSource(), query, null, dataFilter);
+            try (JDBCStatement dbStat = jdbcSession.createStatement()) {
+                try (JDBCResultSet dbResult = dbStat.executeQuery(query.toString())) {
+                    if (dbResult.next()) {
+                        // The first plan line is the top node, it contains the resulting rows estimate
+                        Matcher matcher = PLAN_ROWS_PATTERN.matcher(CommonUtils.notEmpty(dbResult.getString(1)));
+                        if (matcher.find()) {
+                            return Long.parseLong(matcher.group(1));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+        return -1;
+    }
+
     private void readTableStats(DBRProgressMonitor monitor) {
         if (diskSpace != null || !getDataSource().getServerType().supportsTableStatistics()) {
             return;
@@ -44,8 +44,15 @@ public class PostgreSession extends AbstractServerSession {
     private Date stateChange;
     private String state;
     private String appName;
-
-    public PostgreSession(ResultSet dbResult) {
+    private String waitEventType;
+    private String waitEvent;
+    private boolean waiting;
+    private Date sampleTime;
+
+    /**
+     * @param hasWaitEvents server has wait_event columns (9.6+). Older versions have boolean waiting flag instead.
+     */
+    public PostgreSession(ResultSet dbResult, boolean hasWaitEvents) {
         this.pid = JDBCUtils.safeGetInt(dbResult, "pid");
         this.user = JDBCUtils.safeGetString(dbResult, "usename");
         this.clientHost = JDBCUtils.safeGetString(dbResult, "client_hostname");
@@ -63,6 +70,14 @@ public class PostgreSession extends AbstractServerSession {
 
         this.state = JDBCUtils.safeGetString(dbResult, "state");
         this.appName = JDBCUtils.safeGetString(dbResult, "application_name");
+        // Don't read missing columns, each failed read throws and logs driver exception
+        if (hasWaitEvents) {
+            this.waitEventType = JDBCUtils.safeGetString(dbResult, "wait_event_type");
+            this.waitEvent = JDBCUtils.safeGetString(dbResult, "wait_event");
+        } else {
+            this.waiting = JDBCUtils.safeGetBoolean(dbResult, "waiting");
+        }
+        this.sampleTime = JDBCUtils.safeGetTimestamp(dbResult, "sample_time");
     }
 
     @Property(viewable = true, order = 1)
@@ -125,6 +140,31 @@ public class PostgreSession extends AbstractServerSession {
         return state;
     }
 
+    @Property(viewable = false, order = 8)
+    public String getWaitEventType() {
+        return waitEventType;
+    }
+
+    @Property(viewable = false, order = 9)
+    public String getWaitEvent() {
+        return waitEvent;
+    }
+
+    /**
+     * Server time when session was read
+     */
+    public Date getSampleTime() {
+        return sampleTime;
+    }
+
+    public boolean isWaiting() {
+        if (waiting) {
+            return true;
+        }
+        // Idle sessions wait for the client
+        return waitEventType != null && "active".equals(state);
+    }
+
     @Property(viewable = true, order = 100)
     public String getBriefQuery() {
         if (query != null && query.length() > 50) {
@@ -140,6 +180,24 @@ public class PostgreSession extends AbstractServerSession {
         return query;
     }
 
+    boolean isSameState(PostgreSession session) {
+        return pid == session.pid &&
+            waiting == session.waiting &&
+            Objects.equals(db, session.db) &&
+            Objects.equals(state, session.state) &&
+            Objects.equals(query, session.query) &&
+            Objects.equals(user, session.user) &&
+            Objects.equals(appName, session.appName) &&
+            Objects.equals(clientHost, session.clientHost) &&
+            Objects.equals(clientPort, session.clientPort) &&
+            Objects.equals(backendStart, session.backendStart) &&
+            Objects.equals(xactStart, session.xactStart) &&
+            Objects.equals(queryStart, session.queryStart) &&
+            Objects.equals(stateChange, session.stateChange) &&
+            Objects.equals(waitEventType, session.waitEventType) &&
+            Objects.equals(waitEvent, session.waitEvent);
+    }
+
     @Override
     public String toString()
     {
@@ -16,30 +16,41 @@
  */
 package org.jkiss.dbeaver.ext.postgresql.model.session;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.ext.postgresql.model.PostgreDataSource;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManager;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManagerSQL;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionTracker;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Postgre session manager
  */
-public class PostgreSessionManager implements DBAServerSessionManager<PostgreSession>, DBAServerSessionManagerSQL {
+public class PostgreSessionManager implements DBAServerSessionManager<PostgreSession>, DBAServerSessionManagerSQL, DBAServerSessionTracker<PostgreSession> {
 
     public static final String PROP_KILL_QUERY = "killQuery";
 
+    private static final String[] SESSION_METRICS = {
+        "State duration (s)",
+        "Query duration (s)",
+        "Transaction duration (s)",
+        "Waiting"
+    };
+
     private final PostgreDataSource dataSource;
 
     public PostgreSessionManager(PostgreDataSource dataSource)
@@ -59,9 +70,11 @@ public class PostgreSessionManager implements DBAServerSessionManager<PostgreSes
         try {
             try (JDBCPreparedStatement dbStat = ((JDBCSession) session).prepareStatement(generateSessionReadQuery(options))) {
                 try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    // Wait state columns depend on server version. Check them once, not for each session.
+                    boolean hasWaitEvents = hasColumn(dbResult.getMetaData(), "wait_event_type");
                     List<PostgreSession> sessions = new ArrayList<>();
                     while (dbResult.next()) {
-                        sessions.add(new PostgreSession(dbResult));
+                        sessions.add(new PostgreSession(dbResult, hasWaitEvents));
                     }
                     return sessions;
                 }
@@ -91,6 +104,49 @@ public class PostgreSessionManager implements DBAServerSessionManager<PostgreSes
 
     @Override
     public String generateSessionReadQuery(Map<String, Object> options) {
-        return "SELECT sa.* FROM pg_catalog.pg_stat_activity sa";
+        return "SELECT sa.*, pg_catalog.clock_timestamp() AS sample_time FROM pg_catalog.pg_stat_activity sa";
+    }
+
+    @Override
+    public long getSessionKey(@NotNull PostgreSession session) {
+        // Backend pid is unique within the cluster
+        return session.getPid();
+    }
+
+    @Override
+    public boolean isSessionChanged(@NotNull PostgreSession previous, @NotNull PostgreSession current) {
+        return !previous.isSameState(current);
+    }
+
+    @NotNull
+    @Override
+    public String[] getSessionMetricNames() {
+        return SESSION_METRICS;
+    }
+
+    @Override
+    public void collectSessionMetrics(@NotNull PostgreSession session, @NotNull double[] values) {
+        // Use server time to avoid clock skew between client and server
+        Date sampleTime = session.getSampleTime() != null ? session.getSampleTime() : new Date();
+        values[0] = getSecondsBetween(session.getStateChange(), sampleTime);
+        values[1] = "active".equals(session.getState()) ? getSecondsBetween(session.getQueryStart(), sampleTime) : 0;
+        values[2] = getSecondsBetween(session.getXactStart(), sampleTime);
+        values[3] = session.isWaiting() ? 1 : 0;
+    }
+
+    private static boolean hasColumn(@NotNull ResultSetMetaData metaData, @NotNull String columnName) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (columnName.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double getSecondsBetween(Date start, Date end) {
+        if (start == null) {
+            return 0;
+        }
+        return Math.max(end.getTime() - start.getTime(), 0) / 1000.0;
     }
 }
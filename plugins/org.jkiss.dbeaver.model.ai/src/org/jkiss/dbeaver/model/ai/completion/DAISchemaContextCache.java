@@ -0,0 +1,214 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.completion;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvent;
+import org.jkiss.dbeaver.model.DBPEventListener;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
+import org.jkiss.dbeaver.model.navigator.DBNUtils;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
+
+import java.util.*;
+
+/**
+ * Schema context indexes of completion root containers.
+ * Index is built on the first completion request. Then it is updated on metadata change events:
+ * changed entities are re-described, changed containers are re-read on the next request.
+ */
+public class DAISchemaContextCache implements DBPEventListener {
+
+    private static final Log log = Log.getLog(DAISchemaContextCache.class);
+
+    private static DAISchemaContextCache instance;
+
+    public interface EntityDescriber {
+        @NotNull
+        String describeEntity(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) throws DBException;
+    }
+
+    private static class IndexHolder {
+        private final DBSObjectContainer root;
+        private final DAISchemaContextIndex index = new DAISchemaContextIndex();
+        private boolean initialized;
+        private final Set<DBSEntity> changedEntities = new LinkedHashSet<>();
+
+        IndexHolder(@NotNull DBSObjectContainer root) {
+            this.root = root;
+        }
+    }
+
+    private final Map<List<Object>, IndexHolder> indexes = new HashMap<>();
+    private final Set<DBPDataSourceRegistry> registries = new HashSet<>();
+
+    @NotNull
+    public static synchronized DAISchemaContextCache getInstance() {
+        if (instance == null) {
+            instance = new DAISchemaContextCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns up-to-date index of the root container. Reads metadata only if it was changed since the last call.
+     *
+     * @param describerId identifies descriptions format. Different describers have separate indexes.
+     */
+    @NotNull
+    public DAISchemaContextIndex getIndex(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSObjectContainer root,
+        @NotNull String describerId,
+        @NotNull EntityDescriber describer
+    ) throws DBException {
+        IndexHolder holder;
+        synchronized (this) {
+            holder = indexes.computeIfAbsent(Arrays.asList(describerId, root), key -> new IndexHolder(root));
+            DBPDataSourceRegistry registry = getRegistry(root);
+            if (registry != null && registries.add(registry)) {
+                registry.addDataSourceListener(this);
+            }
+        }
+        synchronized (holder) {
+            if (!holder.initialized) {
+                monitor.subTask("Build schema context of " + root.getName());
+                addContainerObjects(monitor, holder.index, root, describer);
+                holder.initialized = !monitor.isCanceled();
+            } else {
+                List<DBSEntity> changedEntities;
+                synchronized (this) {
+                    changedEntities = new ArrayList<>(holder.changedEntities);
+                    holder.changedEntities.clear();
+                }
+                for (DBSEntity entity : changedEntities) {
+                    addObject(monitor, holder.index, entity, describer);
+                }
+            }
+        }
+        return holder.index;
+    }
+
+    /**
+     * Returns existing index. Never reads metadata.
+     */
+    @Nullable
+    public synchronized DAISchemaContextIndex findIndex(@NotNull DBSObjectContainer root, @NotNull String describerId) {
+        IndexHolder holder = indexes.get(Arrays.asList(describerId, root));
+        return holder == null ? null : holder.index;
+    }
+
+    @Override
+    public synchronized void handleDataSourceEvent(@NotNull DBPEvent event) {
+        DBSObject object = event.getObject();
+        if (object == null || indexes.isEmpty()) {
+            return;
+        }
+        for (Iterator<IndexHolder> iter = indexes.values().iterator(); iter.hasNext(); ) {
+            IndexHolder holder = iter.next();
+            DBPDataSourceContainer container = holder.root.getDataSource() == null ? null : holder.root.getDataSource().getContainer();
+            if (object instanceof DBPDataSourceContainer) {
+                if (object == container) {
+                    // Connect, disconnect or full refresh
+                    iter.remove();
+                }
+            } else if (object.getDataSource() == null || object.getDataSource().getContainer() != container) {
+                // Another data source
+            } else if (object instanceof DBSEntity) {
+                if (event.getAction() == DBPEvent.Action.OBJECT_REMOVE) {
+                    holder.changedEntities.remove(object);
+                    holder.index.removeObject(object);
+                } else if (holder.index.containsObject(object) || isChild(holder.root, object)) {
+                    holder.changedEntities.add((DBSEntity) object);
+                }
+            } else if (object instanceof DBSObjectContainer) {
+                if (object == holder.root || isChild(holder.root, object) || isChild(object, holder.root)) {
+                    // Re-read the whole context
+                    iter.remove();
+                }
+            }
+        }
+    }
+
+    private static void addContainerObjects(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DAISchemaContextIndex index,
+        @NotNull DBSObjectContainer container,
+        @NotNull EntityDescriber describer
+    ) throws DBException {
+        container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ENTITIES | DBSObjectContainer.STRUCT_ATTRIBUTES);
+        Collection<? extends DBSObject> children = container.getChildren(monitor);
+        if (children == null) {
+            return;
+        }
+        for (DBSObject child : children) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (DBUtils.isSystemObject(child) || DBUtils.isHiddenObject(child) || child instanceof DBSTablePartition) {
+                continue;
+            }
+            if (child instanceof DBSEntity) {
+                addObject(monitor, index, (DBSEntity) child, describer);
+            } else if (child instanceof DBSObjectContainer) {
+                addContainerObjects(monitor, index, (DBSObjectContainer) child, describer);
+            }
+        }
+    }
+
+    private static void addObject(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DAISchemaContextIndex index,
+        @NotNull DBSEntity entity,
+        @NotNull EntityDescriber describer
+    ) throws DBException {
+        if (DBNUtils.getNodeByObject(monitor, entity, false) == null) {
+            // Skip hidden objects
+            index.removeObject(entity);
+            return;
+        }
+        try {
+            index.putObject(entity, entity.getName(), describer.describeEntity(monitor, entity));
+        } catch (DBException e) {
+            log.debug("Can't describe '" + entity.getName() + "' for completion context: " + e.getMessage());
+            index.removeObject(entity);
+        }
+    }
+
+    private static boolean isChild(@NotNull DBSObject parent, @NotNull DBSObject object) {
+        for (DBSObject p = object.getParentObject(); p != null; p = p.getParentObject()) {
+            if (p == parent) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static DBPDataSourceRegistry getRegistry(@NotNull DBSObjectContainer root) {
+        return root.getDataSource() == null ? null : root.getDataSource().getContainer().getRegistry();
+    }
+
+}
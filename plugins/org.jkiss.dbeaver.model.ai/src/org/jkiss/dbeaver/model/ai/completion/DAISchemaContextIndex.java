@@ -0,0 +1,195 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.completion;
+
+import org.jkiss.code.NotNull;
+
+import java.util.*;
+
+/**
+ * Ranked index of schema objects descriptions.
+ * Descriptions are precomputed, so completion prompt is built without metadata reading.
+ * Objects are ranked with BM25 against the request text and (with lower weight) recent completions.
+ * Objects without matching terms keep their original order.
+ */
+public class DAISchemaContextIndex {
+
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    private static final double HISTORY_WEIGHT = 0.3;
+    private static final int MAX_HISTORY_SIZE = 10;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "get", "give", "how", "in", "is", "it",
+        "list", "me", "of", "on", "or", "select", "show", "that", "the", "their", "to", "what", "where", "which",
+        "with", "all", "each", "find", "many", "much");
+
+    private static class IndexEntry {
+        private final String description;
+        private final Map<String, Integer> termFrequencies;
+        private final int length;
+
+        IndexEntry(@NotNull String description, @NotNull List<String> terms) {
+            this.description = description;
+            this.termFrequencies = new HashMap<>();
+            for (String term : terms) {
+                termFrequencies.merge(term, 1, Integer::sum);
+            }
+            this.length = terms.size();
+        }
+    }
+
+    private final Map<Object, IndexEntry> entries = new LinkedHashMap<>();
+    private final Map<String, Integer> documentFrequencies = new HashMap<>();
+    private long totalLength;
+    private final Deque<String> history = new ArrayDeque<>();
+
+    /**
+     * Adds or replaces object description.
+     * Object name terms are counted twice, so name matches are ranked higher than attribute matches.
+     */
+    public synchronized void putObject(@NotNull Object key, @NotNull String name, @NotNull String description) {
+        removeObject(key);
+        List<String> terms = new ArrayList<>(tokenize(description));
+        terms.addAll(tokenize(name));
+        IndexEntry entry = new IndexEntry(description, terms);
+        entries.put(key, entry);
+        for (String term : entry.termFrequencies.keySet()) {
+            documentFrequencies.merge(term, 1, Integer::sum);
+        }
+        totalLength += entry.length;
+    }
+
+    public synchronized void removeObject(@NotNull Object key) {
+        IndexEntry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.termFrequencies.keySet()) {
+            documentFrequencies.computeIfPresent(term, (t, count) -> count > 1 ? count - 1 : null);
+        }
+        totalLength -= entry.length;
+    }
+
+    public synchronized boolean containsObject(@NotNull Object key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int getObjectCount() {
+        return entries.size();
+    }
+
+    /**
+     * Remembers request or generated query. Recent history affects ranking.
+     */
+    public synchronized void addHistory(@NotNull String text) {
+        history.addFirst(text);
+        while (history.size() > MAX_HISTORY_SIZE) {
+            history.removeLast();
+        }
+    }
+
+    /**
+     * Returns the most relevant descriptions which fit into the specified length.
+     */
+    @NotNull
+    public synchronized List<String> getDescriptions(@NotNull String requestText, int maxLength) {
+        Map<String, Double> queryTerms = new HashMap<>();
+        for (String historyText : history) {
+            for (String term : tokenize(historyText)) {
+                queryTerms.merge(term, HISTORY_WEIGHT, Double::sum);
+            }
+        }
+        for (String term : tokenize(requestText)) {
+            queryTerms.merge(term, 1.0, Double::sum);
+        }
+
+        List<IndexEntry> rankedEntries = new ArrayList<>(entries.values());
+        if (!queryTerms.isEmpty() && !entries.isEmpty()) {
+            Map<IndexEntry, Double> scores = new IdentityHashMap<>();
+            double avgLength = Math.max((double) totalLength / entries.size(), 1);
+            for (IndexEntry entry : rankedEntries) {
+                scores.put(entry, score(entry, queryTerms, avgLength));
+            }
+            // Stable sort keeps original order of objects with equal scores
+            rankedEntries.sort((e1, e2) -> Double.compare(scores.get(e2), scores.get(e1)));
+        }
+
+        List<String> result = new ArrayList<>();
+        int length = 0;
+        for (IndexEntry entry : rankedEntries) {
+            if (length + entry.description.length() > maxLength) {
+                // Smaller descriptions still may fit
+                continue;
+            }
+            result.add(entry.description);
+            length += entry.description.length();
+        }
+        return result;
+    }
+
+    private double score(@NotNull IndexEntry entry, @NotNull Map<String, Double> queryTerms, double avgLength) {
+        double score = 0;
+        for (Map.Entry<String, Double> queryTerm : queryTerms.entrySet()) {
+            Integer tf = entry.termFrequencies.get(queryTerm.getKey());
+            if (tf == null) {
+                continue;
+            }
+            int df = documentFrequencies.getOrDefault(queryTerm.getKey(), 0);
+            double idf = Math.log(1 + (entries.size() - df + 0.5) / (df + 0.5));
+            double norm = tf * (BM25_K1 + 1) / (tf + BM25_K1 * (1 - BM25_B + BM25_B * entry.length / avgLength));
+            score += queryTerm.getValue() * idf * norm;
+        }
+        return score;
+    }
+
+    /**
+     * Splits text into lower-case terms.
+     * Identifiers are split by underscores and camel case, plural forms are reduced to singular.
+     */
+    @NotNull
+    public static List<String> tokenize(@NotNull String text) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean wordBreak = !Character.isLetterOrDigit(c) ||
+                (Character.isUpperCase(c) && term.length() > 0 && Character.isLowerCase(term.charAt(term.length() - 1)));
+            if (wordBreak && term.length() > 0) {
+                addTerm(terms, term.toString().toLowerCase(Locale.ENGLISH));
+                term.setLength(0);
+            }
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(@NotNull List<String> terms, @NotNull String term) {
+        if (term.length() < 2 || STOP_WORDS.contains(term)) {
+            return;
+        }
+        if (term.length() > 4 && term.endsWith("ies")) {
+            term = term.substring(0, term.length() - 3) + "y";
+        } else if (term.length() > 3 && term.endsWith("s") && !term.endsWith("ss")) {
+            term = term.substring(0, term.length() - 1);
+        }
+        terms.add(term);
+    }
+
+}
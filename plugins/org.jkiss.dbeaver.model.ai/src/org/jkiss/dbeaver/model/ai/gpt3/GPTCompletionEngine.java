@@ -38,6 +38,8 @@ import org.jkiss.dbeaver.model.ai.completion.DAICompletionEngine;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionRequest;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionResponse;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionScope;
+import org.jkiss.dbeaver.model.ai.completion.DAISchemaContextCache;
+import org.jkiss.dbeaver.model.ai.completion.DAISchemaContextIndex;
 import org.jkiss.dbeaver.model.data.json.JSONUtils;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
@@ -225,6 +227,10 @@ public class GPTCompletionEngine implements DAICompletionEngine {
                 completionText = "SELECT " + completionText.trim() + ";";
 
                 completionText = postProcessGeneratedQuery(monitor, mainObject, executionContext, completionText);
+                DAISchemaContextIndex contextIndex = DAISchemaContextCache.getInstance().findIndex(mainObject, getClass().getName());
+                if (contextIndex != null) {
+                    contextIndex.addHistory(request.getPromptText() + "\n" + completionText);
+                }
                 if (DBWorkbench.getPlatform().getPreferenceStore().getBoolean(AICompletionConstants.AI_INCLUDE_SOURCE_TEXT_IN_QUERY_COMMENT)) {
                     String[] lines = request.getPromptText().split("\n");
                     for (String line : lines) {
@@ -375,7 +381,11 @@ public class GPTCompletionEngine implements DAICompletionEngine {
         int maxRequestLength = MAX_PROMPT_LENGTH - additionalMetadata.length() - tail.length() - 20;
 
         if (request.getScope() != DAICompletionScope.CUSTOM) {
-            additionalMetadata.append(generateObjectDescription(monitor, request, mainObject, maxRequestLength));
+            DAISchemaContextIndex contextIndex = DAISchemaContextCache.getInstance().getIndex(
+                monitor, mainObject, getClass().getName(), this::describeEntity);
+            for (String description : contextIndex.getDescriptions(request.getPromptText(), maxRequestLength)) {
+                additionalMetadata.append(description);
+            }
         } else {
             for (DBSEntity entity : request.getCustomEntities()) {
                 additionalMetadata.append(generateObjectDescription(monitor, request, entity, maxRequestLength));
@@ -400,12 +410,7 @@ public class GPTCompletionEngine implements DAICompletionEngine {
         }
         StringBuilder description = new StringBuilder();
         if (object instanceof DBSEntity) {
-            description.append("# ").append(DBUtils.getQuotedIdentifier(object));
-            description.append("(");
-            boolean firstAttr = addPromptAttributes(monitor, (DBSEntity) object, description, true);
-            addPromptExtra(monitor, (DBSEntity) object, description, firstAttr);
-
-            description.append(");\n");
+            description.append(describeEntity(monitor, (DBSEntity) object));
         } else if (object instanceof DBSObjectContainer) {
             monitor.subTask("Load cache of " + object.getName());
             ((DBSObjectContainer) object).cacheStructure(
@@ -428,6 +433,20 @@ public class GPTCompletionEngine implements DAICompletionEngine {
         return description.toString();
     }
 
+    /**
+     * Makes compact entity description for the prompt
+     */
+    @NotNull
+    protected String describeEntity(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) throws DBException {
+        StringBuilder description = new StringBuilder();
+        description.append("# ").append(DBUtils.getQuotedIdentifier(entity));
+        description.append("(");
+        boolean firstAttr = addPromptAttributes(monitor, entity, description, true);
+        addPromptExtra(monitor, entity, description, firstAttr);
+        description.append(");\n");
+        return description.toString();
+    }
+
     protected boolean addPromptAttributes(
         DBRProgressMonitor monitor,
         DBSEntity entity,
@@ -61,7 +61,7 @@ class LSMAnalysisImpl<T extends LSMElement, M extends AbstractSyntaxNode & LSMEl
     }
 
     @Nullable
-    Future<Tree> getTree(@Nullable ANTLRErrorListener errorListener) {
+    synchronized Future<Tree> getTree(@Nullable ANTLRErrorListener errorListener) {
         if (!this.tree.isDone()) {
             LSMParser parser = errorListener == null
                 ? analysisCase.createParser(source)
@@ -84,7 +84,12 @@ class LSMAnalysisImpl<T extends LSMElement, M extends AbstractSyntaxNode & LSMEl
             if (!this.model.isDone()) {
                 Future<Tree> futureTree = this.getTree(null);
                 if (futureTree != null) {
-                    SyntaxModelMappingResult<M> result = this.syntaxModel.map(futureTree.get(), analysisCase.getModelRootType());
+                    Tree tree = futureTree.get();
+                    SyntaxModelMappingResult<M> result;
+                    // Trees of repeated statements are shared, mapping rebinds models of the tree nodes
+                    synchronized (tree) {
+                        result = this.syntaxModel.map(tree, analysisCase.getModelRootType());
+                    }
 
                     @SuppressWarnings("unchecked")
                     T model = (T) result.getModel();
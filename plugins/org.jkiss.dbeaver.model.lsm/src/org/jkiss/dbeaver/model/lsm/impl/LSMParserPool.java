@@ -0,0 +1,187 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsm.impl;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Thread-safe pool of lexers and parsers of the same grammar.
+ * Text is parsed in SLL mode first, which is much faster and is enough for almost all statements.
+ * Only if SLL parsing fails, the text is parsed again in full LL mode with error reporting.
+ * Trees of successfully parsed texts are cached, so repeated statements are not parsed again.
+ */
+public class LSMParserPool<L extends Lexer, P extends Parser> {
+
+    private static final int MAX_IDLE_PARSERS = 4;
+    private static final int MAX_CACHED_TREES = 100;
+    private static final int MAX_CACHED_TEXT_LENGTH = 64 * 1024;
+
+    private final Function<CharStream, L> lexerFactory;
+    private final Function<TokenStream, P> parserFactory;
+    private final Function<P, ? extends ParserRuleContext> entryRule;
+
+    private final Deque<PooledParser> idleParsers = new ArrayDeque<>();
+    private final Map<String, ParserRuleContext> cachedTrees = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParserRuleContext> eldest) {
+            return size() > MAX_CACHED_TREES;
+        }
+    };
+
+    private static class LexerErrorCounter extends BaseErrorListener {
+        private int errorCount;
+
+        @Override
+        public void syntaxError(
+            Recognizer<?, ?> recognizer,
+            Object offendingSymbol,
+            int line,
+            int charPositionInLine,
+            String msg,
+            RecognitionException e
+        ) {
+            errorCount++;
+        }
+    }
+
+    private class PooledParser {
+        private final L lexer;
+        private final P parser;
+
+        PooledParser(@NotNull L lexer, @NotNull P parser) {
+            this.lexer = lexer;
+            this.parser = parser;
+        }
+    }
+
+    public LSMParserPool(
+        @NotNull Function<CharStream, L> lexerFactory,
+        @NotNull Function<TokenStream, P> parserFactory,
+        @NotNull Function<P, ? extends ParserRuleContext> entryRule
+    ) {
+        this.lexerFactory = lexerFactory;
+        this.parserFactory = parserFactory;
+        this.entryRule = entryRule;
+    }
+
+    /**
+     * Parses the whole input with the entry rule.
+     * Cached trees are shared, so they must not be modified by the caller.
+     * Syntax models bound to a shared tree are reset by the next mapping of this tree.
+     *
+     * @param errorListener receives syntax errors, they are reported to console if it is not specified
+     */
+    @Nullable
+    public ParserRuleContext parse(@NotNull CharStream input, @Nullable ANTLRErrorListener errorListener) {
+        String text = input.size() <= MAX_CACHED_TEXT_LENGTH ? input.getText(Interval.of(0, input.size() - 1)) : null;
+        if (text != null) {
+            synchronized (cachedTrees) {
+                ParserRuleContext tree = cachedTrees.get(text);
+                if (tree != null) {
+                    return tree;
+                }
+            }
+        }
+
+        PooledParser pooledParser = borrowParser();
+        try {
+            ANTLRErrorListener listener = errorListener == null ? ConsoleErrorListener.INSTANCE : errorListener;
+            L lexer = pooledParser.lexer;
+            P parser = pooledParser.parser;
+            input.seek(0);
+            lexer.setInputStream(input);
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(listener);
+            // Parser doesn't count lexer errors
+            LexerErrorCounter lexerErrors = new LexerErrorCounter();
+            lexer.addErrorListener(lexerErrors);
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+            parser.setTokenStream(tokens);
+
+            ParserRuleContext tree;
+            try {
+                // Bail out on the first error, errors are reported by the second stage
+                parser.removeErrorListeners();
+                parser.setErrorHandler(new BailErrorStrategy());
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                tree = entryRule.apply(parser);
+                if (parser.getCurrentToken().getType() != Token.EOF) {
+                    // Entry rule may not require EOF, so SLL could stop at the shorter alternative
+                    throw new ParseCancellationException("Input is not parsed completely");
+                }
+            } catch (ParseCancellationException e) {
+                tokens.seek(0);
+                parser.reset();
+                parser.addErrorListener(listener);
+                parser.setErrorHandler(new DefaultErrorStrategy());
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                tree = entryRule.apply(parser);
+            }
+            if (tree != null && text != null && parser.getNumberOfSyntaxErrors() == 0 && lexerErrors.errorCount == 0) {
+                synchronized (cachedTrees) {
+                    cachedTrees.put(text, tree);
+                }
+            }
+            return tree;
+        } finally {
+            releaseParser(pooledParser);
+        }
+    }
+
+    public void clearCache() {
+        synchronized (cachedTrees) {
+            cachedTrees.clear();
+        }
+    }
+
+    @NotNull
+    private PooledParser borrowParser() {
+        synchronized (idleParsers) {
+            PooledParser pooledParser = idleParsers.pollFirst();
+            if (pooledParser != null) {
+                return pooledParser;
+            }
+        }
+        L lexer = lexerFactory.apply(CharStreams.fromString(""));
+        P parser = parserFactory.apply(new CommonTokenStream(lexer));
+        return new PooledParser(lexer, parser);
+    }
+
+    private void releaseParser(@NotNull PooledParser pooledParser) {
+        // Do not keep references to the parsed text
+        pooledParser.lexer.setInputStream(null);
+        pooledParser.lexer.removeErrorListeners();
+        pooledParser.parser.setTokenStream(null);
+        pooledParser.parser.removeErrorListeners();
+        synchronized (idleParsers) {
+            if (idleParsers.size() < MAX_IDLE_PARSERS) {
+                idleParsers.addFirst(pooledParser);
+            }
+        }
+    }
+}
@@ -51,9 +51,18 @@ public class SyntaxModel {
     private final Map<Class<?>, LiteralTypeInfo> literalTypeByClass = new HashMap<>();
     
     private final XPath xpath;
+    private final boolean compilePaths;
     
     public SyntaxModel(@NotNull Parser parser) {
+        this(parser, true);
+    }
+
+    /**
+     * @param compilePaths evaluate simple subnode and term paths by direct tree navigation instead of XPath
+     */
+    public SyntaxModel(@NotNull Parser parser, boolean compilePaths) {
         this.parser = parser;
+        this.compilePaths = compilePaths;
 
         XPathFactory xf = XPathFactory.newInstance();
         this.xpath = xf.newXPath();
@@ -70,6 +79,9 @@ public class SyntaxModel {
         XTreeNodeBase rootNode = (XTreeNodeBase) root;
         if (rootNode.getIndex() < 0) {
             rootNode.fixup(parser, 0);
+        } else {
+            // Tree was already prepared and possibly mapped, mapping session reuses models bound to the nodes
+            rootNode.resetModels();
         }
         return rootNode;
     }
@@ -413,7 +425,7 @@ public class SyntaxModel {
                 List<SubnodeInfo> subnodeExprs = new ArrayList<>(field.subnodeSpecs.length);
                 for (var termSpec : field.termSpecs) {
                     try {
-                        termExprs.add(xpath.compile(termSpec.xpath())); // TODO collect raw string too
+                        termExprs.add(compilePath(termSpec.xpath())); // TODO collect raw string too
                         if (fieldType.isEnum()) {
                             if (processedTypes.add(fieldType)) {
                                 introduceEnum(fieldType, errors);
@@ -443,7 +455,7 @@ public class SyntaxModel {
                     
                     try {
                         XPathExpression scopeExpr = subnodeSpec.xpath() != null && subnodeSpec.xpath().length() > 0
-                            ? xpath.compile(subnodeSpec.xpath()) : null; // TODO collect raw string too
+                            ? compilePath(subnodeSpec.xpath()) : null; // TODO collect raw string too
                         subnodeExprs.add(new SubnodeInfo(scopeExpr, subnodeType, subnodeSpec.lookup()));
                         queue.add(new Pair<>(field.info, subnodeType));
                     } catch (XPathExpressionException ex) {
@@ -452,7 +464,13 @@ public class SyntaxModel {
                     }
                 }
                 
-                NodeFieldInfo fieldInfo = new NodeFieldInfo(kind, field.info, termExprs, subnodeExprs); 
+                NodeFieldInfo fieldInfo;
+                try {
+                    fieldInfo = new NodeFieldInfo(kind, field.info, termExprs, subnodeExprs);
+                } catch (IllegalArgumentException ex) {
+                    errors.add(ex, "Failed to bind field " + field.info.getName() + " of type " + type.getName());
+                    continue;
+                }
                 modelFields.put(field.info.getName(), fieldInfo);
                 fieldsToFixup.addLast(fieldInfo);
             }
@@ -466,7 +484,13 @@ public class SyntaxModel {
             }
 
             String ruleName = ruleAnnotation.name() != null && ruleAnnotation.name().length() > 0 ? ruleAnnotation.name() : type.getName();
-            NodeTypeInfo nodeTypeInfo = new NodeTypeInfo(ruleName, type, ctor, modelFields);
+            NodeTypeInfo nodeTypeInfo;
+            try {
+                nodeTypeInfo = new NodeTypeInfo(ruleName, type, ctor, modelFields);
+            } catch (IllegalArgumentException ex) {
+                errors.add(ex, "Failed to bind contructor of syntax model type " + type.getName());
+                continue;
+            }
             nodeTypeByRuleName.put(ruleName, nodeTypeInfo);
             nodeTypeByClass.put(type, nodeTypeInfo);
         }
@@ -479,6 +503,12 @@ public class SyntaxModel {
         return errors;
     }
 
+    @NotNull
+    private XPathExpression compilePath(@NotNull String path) throws XPathExpressionException {
+        XPathExpression expr = xpath.compile(path);
+        return compilePaths ? CompiledNodePath.compile(path, expr) : expr;
+    }
+
     public NodeTypeInfo findNodeTypeInfo(Class<?> type) {
         return this.nodeTypeByClass.get(type);
     }
@@ -82,11 +82,11 @@ public class SyntaxModelMappingSession {
     private AbstractSyntaxNode instantiateAndFill(@NotNull NodeTypeInfo typeInfo, @NotNull XTreeNodeBase nodeInfo) {
         try {
             if (nodeInfo.getModel() == null) {
-                AbstractSyntaxNode model = typeInfo.ctor.newInstance();
+                AbstractSyntaxNode model = typeInfo.instantiate();
                 model.setAstNode(nodeInfo);
                 nodeInfo.setModel(model);
             }
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+        } catch (IllegalArgumentException | InvocationTargetException ex) {
             errors.add(ex, "Failed to instantiate syntax model node of type " + typeInfo.type.getName());
             return null;
         }
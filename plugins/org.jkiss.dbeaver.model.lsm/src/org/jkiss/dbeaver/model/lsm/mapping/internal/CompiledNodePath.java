@@ -0,0 +1,256 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsm.mapping.internal;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.*;
+
+/**
+ * Location path compiled to the direct syntax tree navigation.
+ * Only relative paths of element name steps like {@code ./a/b//c} are supported, they cover almost all
+ * syntax model bindings. Evaluation of other kinds of items or results is delegated to the XPath expression.
+ */
+public class CompiledNodePath implements XPathExpression {
+
+    private static final Pattern STEP_PATTERN = Pattern.compile("(//?)([A-Za-z_][A-Za-z0-9_\\-]*)");
+
+    private final String path;
+    private final String[] names;
+    private final boolean[] descendant;
+    private final boolean needsOrdering;
+    private final XPathExpression fallbackExpr;
+
+    private CompiledNodePath(
+        @NotNull String path,
+        @NotNull String[] names,
+        @NotNull boolean[] descendant,
+        @NotNull XPathExpression fallbackExpr
+    ) {
+        this.path = path;
+        this.names = names;
+        this.descendant = descendant;
+        this.fallbackExpr = fallbackExpr;
+        // Descendants of several context nodes may overlap or interleave
+        boolean ordering = false;
+        for (int i = 0; i < descendant.length - 1; i++) {
+            ordering |= descendant[i];
+        }
+        this.needsOrdering = ordering;
+    }
+
+    /**
+     * Returns compiled path or the XPath expression itself if path is not supported
+     */
+    @NotNull
+    public static XPathExpression compile(@NotNull String path, @NotNull XPathExpression expr) {
+        String text = path.trim();
+        if (!text.startsWith("./")) {
+            return expr;
+        }
+        List<String> names = new ArrayList<>();
+        List<Boolean> descendant = new ArrayList<>();
+        Matcher matcher = STEP_PATTERN.matcher(text);
+        int position = 1;
+        while (position < text.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                return expr;
+            }
+            descendant.add(matcher.group(1).length() == 2);
+            names.add(matcher.group(2));
+            position = matcher.end();
+        }
+        boolean[] descendantFlags = new boolean[descendant.size()];
+        for (int i = 0; i < descendantFlags.length; i++) {
+            descendantFlags[i] = descendant.get(i);
+        }
+        return new CompiledNodePath(text, names.toArray(new String[0]), descendantFlags, expr);
+    }
+
+    @NotNull
+    public NodesList<XTreeNodeBase> evaluateNodes(@NotNull XTreeNodeBase contextNode) {
+        NodesList<XTreeNodeBase> contextNodes = new NodesList<>(1);
+        contextNodes.add(contextNode);
+        for (int i = 0; i < names.length && !contextNodes.isEmpty(); i++) {
+            NodesList<XTreeNodeBase> stepNodes = new NodesList<>();
+            for (XTreeNodeBase node : contextNodes) {
+                if (descendant[i]) {
+                    collectDescendants(node, names[i], stepNodes);
+                } else {
+                    for (XTreeNodeBase subnode : node.getSubnodes().getCollection()) {
+                        if (isElementNamed(subnode, names[i])) {
+                            stepNodes.add(subnode);
+                        }
+                    }
+                }
+            }
+            contextNodes = stepNodes;
+        }
+        if (needsOrdering && contextNodes.size() > 1) {
+            contextNodes = orderNodes(contextNodes);
+        }
+        return contextNodes;
+    }
+
+    private static boolean isElementNamed(@NotNull XTreeNodeBase node, @NotNull String name) {
+        return node.getNodeType() == Node.ELEMENT_NODE && name.equals(node.getLocalName());
+    }
+
+    private static void collectDescendants(@NotNull XTreeNodeBase node, @NotNull String name, @NotNull NodesList<XTreeNodeBase> result) {
+        for (XTreeNodeBase subnode : node.getSubnodes().getCollection()) {
+            if (isElementNamed(subnode, name)) {
+                result.add(subnode);
+            }
+            collectDescendants(subnode, name, result);
+        }
+    }
+
+    /**
+     * Removes duplicates and sorts nodes in the document order
+     */
+    @NotNull
+    private static NodesList<XTreeNodeBase> orderNodes(@NotNull NodesList<XTreeNodeBase> nodes) {
+        Map<XTreeNodeBase, int[]> positions = new IdentityHashMap<>(nodes.size());
+        for (XTreeNodeBase node : nodes) {
+            positions.computeIfAbsent(node, CompiledNodePath::getTreePosition);
+        }
+        NodesList<XTreeNodeBase> result = new NodesList<>(positions.size());
+        result.addAll(positions.keySet());
+        result.sort((a, b) -> Arrays.compare(positions.get(a), positions.get(b)));
+        return result;
+    }
+
+    @NotNull
+    private static int[] getTreePosition(@NotNull XTreeNodeBase node) {
+        int depth = 0;
+        for (XTreeNodeBase n = node; n != null; n = n.getParentXNode()) {
+            depth++;
+        }
+        int[] position = new int[depth];
+        for (XTreeNodeBase n = node; n != null; n = n.getParentXNode()) {
+            position[--depth] = n.getIndex();
+        }
+        return position;
+    }
+
+    @Override
+    public <T> T evaluateExpression(Object item, Class<T> type) throws XPathExpressionException {
+        if (!(item instanceof XTreeNodeBase)) {
+            return fallbackExpr.evaluateExpression(item, type);
+        }
+        NodesList<XTreeNodeBase> nodes = evaluateNodes((XTreeNodeBase) item);
+        Object result;
+        if (type == XPathEvaluationResult.class) {
+            result = new NodesResult(nodes);
+        } else if (type == XPathNodes.class) {
+            result = new NodesValue(nodes);
+        } else if (type == Node.class) {
+            result = nodes.getFirst();
+        } else if (type == String.class) {
+            result = nodes.isEmpty() ? "" : nodes.getFirst().getTextContent();
+        } else if (type == Boolean.class) {
+            result = !nodes.isEmpty();
+        } else {
+            return fallbackExpr.evaluateExpression(item, type);
+        }
+        return type.cast(result);
+    }
+
+    @Override
+    public XPathEvaluationResult<?> evaluateExpression(Object item) throws XPathExpressionException {
+        return evaluateExpression(item, XPathEvaluationResult.class);
+    }
+
+    @Override
+    public Object evaluate(Object item, QName returnType) throws XPathExpressionException {
+        return fallbackExpr.evaluate(item, returnType);
+    }
+
+    @Override
+    public String evaluate(Object item) throws XPathExpressionException {
+        return fallbackExpr.evaluate(item);
+    }
+
+    @Override
+    public Object evaluate(InputSource source, QName returnType) throws XPathExpressionException {
+        return fallbackExpr.evaluate(source, returnType);
+    }
+
+    @Override
+    public String evaluate(InputSource source) throws XPathExpressionException {
+        return fallbackExpr.evaluate(source);
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static class NodesResult implements XPathEvaluationResult<XPathNodes> {
+        private final NodesValue value;
+
+        NodesResult(@NotNull List<XTreeNodeBase> nodes) {
+            this.value = new NodesValue(nodes);
+        }
+
+        @Override
+        public XPathResultType type() {
+            return XPathResultType.NODESET;
+        }
+
+        @Override
+        public XPathNodes value() {
+            return value;
+        }
+    }
+
+    private static class NodesValue implements XPathNodes {
+        private final List<XTreeNodeBase> nodes;
+
+        NodesValue(@NotNull List<XTreeNodeBase> nodes) {
+            this.nodes = nodes;
+        }
+
+        @NotNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<Node> iterator() {
+            return (Iterator<Node>) (Iterator<?>) nodes.iterator();
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+
+        @Nullable
+        @Override
+        public Node get(int index) throws XPathException {
+            if (index < 0 || index >= nodes.size()) {
+                throw new XPathException("Index " + index + " is out of bounds");
+            }
+            return nodes.get(index);
+        }
+    }
+}
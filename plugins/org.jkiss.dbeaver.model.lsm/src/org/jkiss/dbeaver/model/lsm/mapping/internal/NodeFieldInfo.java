@@ -21,6 +21,9 @@ import org.jkiss.dbeaver.model.lsm.mapping.AbstractSyntaxNode;
 import org.jkiss.dbeaver.model.lsm.mapping.SyntaxModel;
 import org.jkiss.dbeaver.model.lsm.mapping.SyntaxSubnodeLookupMode;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
@@ -57,6 +60,9 @@ public class NodeFieldInfo {
     
     public final FieldTypeKind kind;
     private final Field info;
+    // Accessors are bound once, so binding doesn't perform reflective access checks for every node
+    private final MethodHandle getter;
+    private final MethodHandle setter;
     public final List<XPathExpression> termExprs;
     public final List<SubnodeInfo> subnodesInfo;
     
@@ -72,6 +78,13 @@ public class NodeFieldInfo {
         this.info = info;
         this.termExprs = Collections.unmodifiableList(termExprs);
         this.subnodesInfo = Collections.unmodifiableList(subnodesInfo);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.getter = lookup.unreflectGetter(info).asType(MethodType.methodType(Object.class, AbstractSyntaxNode.class));
+            this.setter = lookup.unreflectSetter(info).asType(MethodType.methodType(void.class, AbstractSyntaxNode.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Syntax model field " + info.getName() + " is not accessible", e);
+        }
     }
 
     @NotNull
@@ -105,10 +118,26 @@ public class NodeFieldInfo {
     }
 
     public Object getValue(AbstractSyntaxNode model) throws IllegalArgumentException, IllegalAccessException {
-        return this.info.get(model);
+        try {
+            return (Object) this.getter.invokeExact(model);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public void setValue(AbstractSyntaxNode model, Object value) throws IllegalArgumentException, IllegalAccessException {
-        this.info.set(model, value);
+        try {
+            this.setter.invokeExact(model, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Can't set " + value.getClass().getName() + " to field " + getFieldName(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -19,7 +19,11 @@ package org.jkiss.dbeaver.model.lsm.mapping.internal;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.model.lsm.mapping.AbstractSyntaxNode;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -30,6 +34,7 @@ public class NodeTypeInfo {
     public final Class<? extends AbstractSyntaxNode> type;
     public final Constructor<? extends AbstractSyntaxNode> ctor;
     public final Map<String, NodeFieldInfo> fields;
+    private final MethodHandle ctorHandle;
 
     public NodeTypeInfo(
         @NotNull String ruleName,
@@ -41,6 +46,21 @@ public class NodeTypeInfo {
         this.type = type;
         this.ctor = ctor;
         this.fields = Collections.unmodifiableMap(fields);
+        try {
+            this.ctorHandle = MethodHandles.publicLookup().unreflectConstructor(ctor)
+                .asType(MethodType.methodType(AbstractSyntaxNode.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Syntax model type " + type.getName() + " constructor is not accessible", e);
+        }
+    }
+
+    @NotNull
+    public AbstractSyntaxNode instantiate() throws InvocationTargetException {
+        try {
+            return (AbstractSyntaxNode) ctorHandle.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
     }
 
     @NotNull
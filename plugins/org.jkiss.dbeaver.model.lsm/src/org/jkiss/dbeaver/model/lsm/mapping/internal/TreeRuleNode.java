@@ -119,6 +119,14 @@ public class TreeRuleNode extends ParserRuleContext implements Element, XTreeEle
         return this.model;
     }
 
+    @Override
+    public void resetModels() {
+        this.model = null;
+        for (XTreeNodeBase subnode : getSubnodes().getCollection()) {
+            subnode.resetModels();
+        }
+    }
+
     @NotNull
     @Override
     public Interval getRealInterval() {
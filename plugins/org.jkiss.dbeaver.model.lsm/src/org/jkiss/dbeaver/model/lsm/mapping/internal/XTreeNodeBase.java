@@ -47,6 +47,13 @@ public interface XTreeNodeBase extends SyntaxTree, Node {
         throw new UnsupportedOperationException();
     }
 
+    /*
+     * Unbinds models of this node and its subnodes, so the tree could be mapped again
+     */
+    default void resetModels() {
+        // only rule nodes have models
+    }
+
     Map<String, Object> getUserDataMap(boolean createIfMissing);
     
     default XTreeNodeBase getParentXNode() {
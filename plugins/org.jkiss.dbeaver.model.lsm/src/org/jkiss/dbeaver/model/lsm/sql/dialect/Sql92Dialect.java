@@ -24,6 +24,7 @@ import org.jkiss.dbeaver.model.lsm.LSMParser;
 import org.jkiss.dbeaver.model.lsm.LSMSource;
 import org.jkiss.dbeaver.model.lsm.impl.LSMAnalysisCaseImpl;
 import org.jkiss.dbeaver.model.lsm.impl.LSMDialectImpl;
+import org.jkiss.dbeaver.model.lsm.impl.LSMParserPool;
 import org.jkiss.dbeaver.model.lsm.mapping.SyntaxModel;
 import org.jkiss.dbeaver.model.lsm.sql.LSMSelectStatement;
 import org.jkiss.dbeaver.model.lsm.sql.impl.SelectStatement;
@@ -44,6 +45,12 @@ import java.util.Map;
 
 public class Sql92Dialect {
     private static final Logger log = LoggerFactory.getLogger(Sql92Dialect.class);
+
+    private static final LSMParserPool<Sql92Lexer, Sql92Parser> parserPool = new LSMParserPool<>(
+        Sql92Lexer::new,
+        Sql92Parser::new,
+        Sql92Parser::sqlQuery
+    );
     
     private static final LSMDialect dialect = new LSMDialectImpl(
         Map.of(LSMSelectStatement.class, new LSMAnalysisCaseImpl<>(LSMSelectStatement.class, SelectStatement.class) {
@@ -59,7 +66,7 @@ public class Sql92Dialect {
             public LSMParser createParser(@NotNull LSMSource source, @Nullable ANTLRErrorListener errorListener) {
                 return () -> {
                     try {
-                        return prepareParser(source.getStream(), errorListener).sqlQuery();
+                        return parserPool.parse(source.getStream(), errorListener);
                     } catch (RecognitionException e) {
                         log.debug("Recognition exception occurred while trying to parse the query", e);
                         return null;
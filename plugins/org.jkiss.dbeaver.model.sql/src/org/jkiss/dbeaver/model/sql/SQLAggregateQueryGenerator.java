@@ -0,0 +1,145 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql;
+
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates query which calculates aggregate functions over the whole result of another query.
+ * Each function template is applied to each attribute. Result has a single row, columns go
+ * attribute by attribute (see {@link #getResultIndex(int, int)}).
+ */
+public class SQLAggregateQueryGenerator {
+
+    /**
+     * Placeholder for the quoted attribute name in function templates, e.g. {@code COUNT(DISTINCT {column})}
+     */
+    public static final String COLUMN_PLACEHOLDER = "{column}";
+
+    @NotNull
+    private final DBPDataSource dataSource;
+    @Nullable
+    private final DBSDataContainer container;
+    @NotNull
+    private final SQLSyntaxManager syntaxManager;
+    @NotNull
+    private final List<String> attributes;
+    @NotNull
+    private final List<String> functionTemplates;
+
+    public SQLAggregateQueryGenerator(
+        @NotNull DBPDataSource dataSource,
+        @Nullable DBSDataContainer container,
+        @NotNull SQLSyntaxManager syntaxManager,
+        @NotNull List<String> attributes,
+        @NotNull List<String> functionTemplates
+    ) {
+        this.dataSource = dataSource;
+        this.container = container;
+        this.syntaxManager = syntaxManager;
+        this.attributes = attributes;
+        this.functionTemplates = functionTemplates;
+    }
+
+    @NotNull
+    public String generateAggregateQuery(@Nullable String queryText) throws DBException {
+        if (queryText == null || queryText.isEmpty()) {
+            if (container != null) {
+                queryText = container.getName();
+            } else {
+                throw new DBException("Empty data container");
+            }
+        }
+        for (String delimiter : syntaxManager.getStatementDelimiters()) {
+            while (queryText.endsWith(delimiter)) {
+                queryText = queryText.substring(0, queryText.length() - delimiter.length());
+            }
+        }
+
+        List<String> expressions = new ArrayList<>();
+        for (String attribute : attributes) {
+            String columnName = DBUtils.getQuotedIdentifier(dataSource, attribute);
+            for (String template : functionTemplates) {
+                expressions.add(template.replace(COLUMN_PLACEHOLDER, columnName));
+            }
+        }
+        if (expressions.isEmpty()) {
+            throw new DBException("No aggregate functions");
+        }
+
+        if (!(container instanceof DBSEntity) && dataSource.getSQLDialect().supportsSubqueries()) {
+            StringBuilder sql = new StringBuilder();
+            sql.append("SELECT ");
+            for (int i = 0; i < expressions.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(expressions.get(i)).append(" AS ").append(makeAlias(i));
+            }
+            sql.append(" FROM (\n");
+            sql.append(queryText);
+            sql.append("\n) src");
+            return sql.toString();
+        }
+
+        // Replace select list of the original query
+        Statement statement = SQLSemanticProcessor.parseQuery(dataSource.getSQLDialect(), queryText);
+        if (!(statement instanceof Select) || !(((Select) statement).getSelectBody() instanceof PlainSelect)) {
+            throw new DBException("Can't calculate aggregates for a complex query");
+        }
+        PlainSelect select = (PlainSelect) ((Select) statement).getSelectBody();
+        if (select.getGroupBy() != null || select.getDistinct() != null || select.getLimit() != null) {
+            throw new DBException("Can't calculate aggregates for a grouped or limited query");
+        }
+        select.setOrderByElements(null);
+        List<SelectItem> selectItems = new ArrayList<>();
+        for (int i = 0; i < expressions.size(); i++) {
+            SelectExpressionItem item = new SelectExpressionItem(SQLSemanticProcessor.parseExpression(expressions.get(i)));
+            item.setAlias(new Alias(makeAlias(i)));
+            selectItems.add(item);
+        }
+        select.setSelectItems(selectItems);
+        return statement.toString();
+    }
+
+    /**
+     * Returns index of the result column for the specified attribute and function
+     */
+    public int getResultIndex(int attributeIndex, int functionIndex) {
+        return attributeIndex * functionTemplates.size() + functionIndex;
+    }
+
+    @NotNull
+    private static String makeAlias(int index) {
+        return "agg_" + index;
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.generator;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPScriptObject;
+import org.jkiss.dbeaver.model.DBPScriptObjectBatchLoader;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk DDL exporter.
+ * Objects are split into batches of objects of the same class and owner. Definitions of a batch are read
+ * with {@link DBPScriptObjectBatchLoader} of the owner (if owner supports it), the rest are read one by one.
+ * Owner structure is cached at once before reading definitions of many objects.
+ * Batches are processed by a bounded number of worker jobs. Workers except the first one open their own isolated
+ * contexts for batch loaders. Everything which works with default metadata contexts (structure caching, objects
+ * read one by one, batch loaders without isolated context) is executed by one worker at a time.
+ */
+public class SQLDDLExporter {
+
+    private static final Log log = Log.getLog(SQLDDLExporter.class);
+
+    static final int BATCH_SIZE = 200;
+    // Owner structure is cached if there are at least that many objects of this owner
+    static final int PREFETCH_THRESHOLD = 10;
+
+    public interface ScriptAppender {
+        /**
+         * Appends script of the object with the specified definition
+         */
+        void appendObjectScript(
+            @NotNull DBRProgressMonitor monitor,
+            @NotNull StringBuilder sql,
+            @NotNull DBPScriptObject object,
+            @NotNull String definition) throws DBException;
+    }
+
+    private interface BatchConsumer {
+        void consumeBatch(@NotNull Map<DBPScriptObject, String> definitions) throws DBException;
+    }
+
+    private static class Batch {
+        private final DBSObject owner;
+        private final List<DBPScriptObject> objects = new ArrayList<>();
+        private final CompletableFuture<Map<DBPScriptObject, String>> result = new CompletableFuture<>();
+
+        private Batch(@Nullable DBSObject owner) {
+            this.owner = owner;
+        }
+    }
+
+    private final Map<String, Object> options;
+    private final int maxThreads;
+    private final Set<DBSObjectContainer> prefetchContainers = new HashSet<>();
+    // Default metadata contexts are shared between workers
+    private final Object defaultContextLock = new Object();
+    private volatile boolean canceled;
+
+    public SQLDDLExporter(@NotNull Map<String, Object> options, int maxThreads) {
+        this.options = options;
+        this.maxThreads = Math.max(maxThreads, 1);
+    }
+
+    /**
+     * Reads definitions of all objects.
+     */
+    @NotNull
+    public Map<DBPScriptObject, String> loadDefinitions(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull Collection<? extends DBPScriptObject> objects
+    ) throws DBException {
+        Map<DBPScriptObject, String> result = new HashMap<>();
+        execute(monitor, objects, result::putAll);
+        return result;
+    }
+
+    /**
+     * Appends script of all objects in their original order.
+     * Script of leading objects is appended as soon as their definitions are ready.
+     */
+    public void exportScript(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull List<? extends DBPScriptObject> objects,
+        @NotNull ScriptAppender appender,
+        @NotNull StringBuilder sql
+    ) throws DBException {
+        Map<DBPScriptObject, String> readyDefinitions = new HashMap<>();
+        int[] nextObject = new int[1];
+        execute(monitor, objects, definitions -> {
+            readyDefinitions.putAll(definitions);
+            while (nextObject[0] < objects.size() && readyDefinitions.containsKey(objects.get(nextObject[0]))) {
+                DBPScriptObject object = objects.get(nextObject[0]++);
+                appender.appendObjectScript(monitor, sql, object, readyDefinitions.remove(object));
+            }
+        });
+    }
+
+    private void execute(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull Collection<? extends DBPScriptObject> objects,
+        @NotNull BatchConsumer consumer
+    ) throws DBException {
+        canceled = false;
+        List<Batch> batches = makeBatches(objects);
+        monitor.beginTask("Generate DDL", objects.size());
+        try {
+            if (maxThreads == 1 || batches.size() == 1) {
+                ContextProvider contexts = new ContextProvider(false);
+                try {
+                    for (Batch batch : batches) {
+                        if (monitor.isCanceled()) {
+                            break;
+                        }
+                        consumer.consumeBatch(processBatch(monitor, monitor, batch, contexts));
+                        monitor.worked(batch.objects.size());
+                    }
+                } finally {
+                    contexts.close();
+                }
+                return;
+            }
+
+            AtomicInteger nextBatch = new AtomicInteger();
+            List<ExportWorker> workers = new ArrayList<>();
+            for (int i = 0; i < Math.min(maxThreads, batches.size()); i++) {
+                workers.add(new ExportWorker(monitor, batches, nextBatch, i > 0));
+            }
+            for (ExportWorker worker : workers) {
+                worker.schedule();
+            }
+            try {
+                for (Batch batch : batches) {
+                    Map<DBPScriptObject, String> result = waitForResult(monitor, batch, workers);
+                    if (result == null) {
+                        break;
+                    }
+                    consumer.consumeBatch(result);
+                    synchronized (monitor) {
+                        monitor.worked(batch.objects.size());
+                    }
+                }
+            } finally {
+                canceled = true;
+                for (ExportWorker worker : workers) {
+                    worker.cancel();
+                }
+            }
+        } finally {
+            monitor.done();
+        }
+    }
+
+    @NotNull
+    private List<Batch> makeBatches(@NotNull Collection<? extends DBPScriptObject> objects) {
+        Map<List<Object>, List<DBPScriptObject>> groups = new LinkedHashMap<>();
+        Map<DBSObject, Integer> ownerObjects = new HashMap<>();
+        for (DBPScriptObject object : objects) {
+            DBSObject owner = object instanceof DBSObject ? ((DBSObject) object).getParentObject() : null;
+            groups.computeIfAbsent(Arrays.asList(owner, object.getClass()), k -> new ArrayList<>()).add(object);
+            if (owner instanceof DBSObjectContainer && ownerObjects.merge(owner, 1, Integer::sum) == PREFETCH_THRESHOLD) {
+                prefetchContainers.add((DBSObjectContainer) owner);
+            }
+        }
+        List<Batch> batches = new ArrayList<>();
+        for (Map.Entry<List<Object>, List<DBPScriptObject>> group : groups.entrySet()) {
+            List<DBPScriptObject> groupObjects = group.getValue();
+            for (int i = 0; i < groupObjects.size(); i += BATCH_SIZE) {
+                Batch batch = new Batch((DBSObject) group.getKey().get(0));
+                batch.objects.addAll(groupObjects.subList(i, Math.min(i + BATCH_SIZE, groupObjects.size())));
+                batches.add(batch);
+            }
+        }
+        return batches;
+    }
+
+    @NotNull
+    private Map<DBPScriptObject, String> processBatch(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBRProgressMonitor parentMonitor,
+        @NotNull Batch batch,
+        @NotNull ContextProvider contexts
+    ) throws DBException {
+        // Implementations may modify options
+        Map<String, Object> batchOptions = new HashMap<>(options);
+        synchronized (parentMonitor) {
+            parentMonitor.subTask("Read definitions of " + batch.objects.size() + " object(s)" +
+                (batch.owner == null ? "" : " of '" + batch.owner.getName() + "'"));
+        }
+        prefetchOwnerStructure(monitor, batch.owner);
+
+        Map<DBPScriptObject, String> batchDefinitions = Collections.emptyMap();
+        if (batch.owner instanceof DBPScriptObjectBatchLoader && batch.objects.size() > 1) {
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(batch.owner);
+            if (instance != null) {
+                try {
+                    batchDefinitions = loadBatchDefinitions(monitor, batch, contexts, instance, batchOptions);
+                } catch (DBException e) {
+                    log.debug("Error reading definitions of '" + batch.owner.getName() + "' objects. Read them one by one.", e);
+                }
+            }
+        }
+        Map<DBPScriptObject, String> definitions = new LinkedHashMap<>();
+        for (DBPScriptObject object : batch.objects) {
+            if (monitor.isCanceled() || canceled) {
+                break;
+            }
+            String definition = batchDefinitions.get(object);
+            if (definition == null) {
+                // Objects read their definitions in default metadata context
+                synchronized (defaultContextLock) {
+                    definition = CommonUtils.notEmpty(object.getObjectDefinitionText(monitor, batchOptions));
+                }
+            }
+            definitions.put(object, definition);
+        }
+        return definitions;
+    }
+
+    @NotNull
+    private Map<DBPScriptObject, String> loadBatchDefinitions(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull Batch batch,
+        @NotNull ContextProvider contexts,
+        @NotNull DBSInstance instance,
+        @NotNull Map<String, Object> batchOptions
+    ) throws DBException {
+        DBPScriptObjectBatchLoader loader = (DBPScriptObjectBatchLoader) batch.owner;
+        DBCExecutionContext context = contexts.getContext(monitor, instance);
+        if (contexts.isIsolated(context)) {
+            return loader.loadObjectDefinitions(monitor, context, batch.objects, batchOptions);
+        }
+        synchronized (defaultContextLock) {
+            return loader.loadObjectDefinitions(monitor, context, batch.objects, batchOptions);
+        }
+    }
+
+    private void prefetchOwnerStructure(@NotNull DBRProgressMonitor monitor, @Nullable DBSObject owner) throws DBException {
+        if (!(owner instanceof DBSObjectContainer)) {
+            return;
+        }
+        // Other batches of the same owner wait for the structure
+        synchronized (owner) {
+            boolean prefetch;
+            synchronized (prefetchContainers) {
+                prefetch = prefetchContainers.remove(owner);
+            }
+            if (prefetch) {
+                synchronized (defaultContextLock) {
+                    ((DBSObjectContainer) owner).cacheStructure(
+                        monitor, DBSObjectContainer.STRUCT_ATTRIBUTES | DBSObjectContainer.STRUCT_ASSOCIATIONS);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private Map<DBPScriptObject, String> waitForResult(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull Batch batch,
+        @NotNull List<ExportWorker> workers
+    ) throws DBException {
+        while (!monitor.isCanceled()) {
+            try {
+                return batch.result.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Workers may be terminated by job manager before they complete their batches
+                boolean workersFinished = workers.stream().allMatch(worker -> worker.getState() == Job.NONE);
+                if (workersFinished && !batch.result.isDone()) {
+                    throw new DBException("DDL generation was terminated");
+                }
+            } catch (InterruptedException | CancellationException e) {
+                return null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DBException) {
+                    throw (DBException) e.getCause();
+                }
+                throw new DBException("Error generating DDL", e.getCause());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Execution contexts of a single worker
+     */
+    private static class ContextProvider {
+        private final boolean isolated;
+        private final Map<DBSInstance, DBCExecutionContext> contexts = new HashMap<>();
+        private final List<DBCExecutionContext> openedContexts = new ArrayList<>();
+
+        ContextProvider(boolean isolated) {
+            this.isolated = isolated;
+        }
+
+        boolean isIsolated(@NotNull DBCExecutionContext context) {
+            return openedContexts.contains(context);
+        }
+
+        @NotNull
+        DBCExecutionContext getContext(@NotNull DBRProgressMonitor monitor, @NotNull DBSInstance instance) {
+            DBCExecutionContext context = contexts.get(instance);
+            if (context == null) {
+                if (isolated) {
+                    try {
+                        context = instance.openIsolatedContext(monitor, "DDL export", null);
+                        openedContexts.add(context);
+                    } catch (DBException e) {
+                        log.debug("Can't open isolated context for DDL export in '" + instance.getName() + "'", e);
+                    }
+                }
+                if (context == null) {
+                    context = instance.getDefaultContext(monitor, true);
+                }
+                contexts.put(instance, context);
+            }
+            return context;
+        }
+
+        void close() {
+            for (DBCExecutionContext context : openedContexts) {
+                context.close();
+            }
+            openedContexts.clear();
+            contexts.clear();
+        }
+    }
+
+    private class ExportWorker extends AbstractJob {
+
+        private final DBRProgressMonitor parentMonitor;
+        private final List<Batch> batches;
+        private final AtomicInteger nextBatch;
+        private final boolean isolated;
+
+        ExportWorker(
+            @NotNull DBRProgressMonitor parentMonitor,
+            @NotNull List<Batch> batches,
+            @NotNull AtomicInteger nextBatch,
+            boolean isolated
+        ) {
+            super("Generate DDL");
+            this.parentMonitor = parentMonitor;
+            this.batches = batches;
+            this.nextBatch = nextBatch;
+            this.isolated = isolated;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            ContextProvider contexts = new ContextProvider(isolated);
+            try {
+                for (int index = nextBatch.getAndIncrement(); index < batches.size(); index = nextBatch.getAndIncrement()) {
+                    Batch batch = batches.get(index);
+                    if (canceled || monitor.isCanceled() || parentMonitor.isCanceled()) {
+                        batch.result.cancel(false);
+                        continue;
+                    }
+                    try {
+                        batch.result.complete(processBatch(monitor, parentMonitor, batch, contexts));
+                    } catch (Throwable e) {
+                        batch.result.completeExceptionally(e);
+                    }
+                }
+            } finally {
+                contexts.close();
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
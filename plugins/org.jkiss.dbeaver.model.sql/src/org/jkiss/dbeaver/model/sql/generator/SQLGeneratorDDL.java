@@ -16,13 +16,17 @@
  */
 package org.jkiss.dbeaver.model.sql.generator;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBPScriptObject;
 import org.jkiss.dbeaver.model.DBPScriptObjectExt;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLConstants;
 import org.jkiss.dbeaver.model.sql.SQLDialect;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
+import org.jkiss.dbeaver.model.sql.registry.SQLGeneratorConfigurationRegistry;
+import org.jkiss.dbeaver.model.sql.registry.SQLGeneratorDescriptor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBStructUtils;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
@@ -53,32 +57,59 @@ public class SQLGeneratorDDL extends SQLGenerator<DBPScriptObject> {
                 tableList.add((DBSTable) object);
             }
         }
-        if (!allTables) {
-            super.run(monitor);
-            return;
-        }
-
-        StringBuilder sql = new StringBuilder(100);
         Map<String, Object> options = new HashMap<>();
         addOptions(options);
+        SQLDDLExporter exporter = new SQLDDLExporter(
+            options, ModelPreferences.getPreferences().getInt(ModelPreferences.SQL_DDL_EXPORT_THREADS));
+        StringBuilder sql = new StringBuilder(100);
         try {
-            DBStructUtils.generateTableListDDL(monitor, sql, tableList, options, false);
+            if (!allTables) {
+                exportScript(monitor, exporter, sql);
+                result = sql.toString();
+                return;
+            }
+            DBStructUtils.generateTableListDDL(monitor, sql, tableList, options, false, exporter::loadDefinitions);
+            result = sql.toString().trim();
         } catch (DBException e) {
             throw new InvocationTargetException(e);
         }
-        result = sql.toString().trim();
+    }
+
+    /**
+     * Appends DDL of all objects in their original order.
+     * Definitions are read in batches and in parallel.
+     */
+    private void exportScript(@NotNull DBRProgressMonitor monitor, @NotNull SQLDDLExporter exporter, @NotNull StringBuilder sql) throws DBException {
+        SQLGeneratorDescriptor descriptor = SQLGeneratorConfigurationRegistry.getInstance().getGeneratorDescriptor(this);
+        List<DBPScriptObject> exportObjects = new ArrayList<>();
+        for (DBPScriptObject object : objects) {
+            if (descriptor == null || descriptor.appliesTo(object)) {
+                exportObjects.add(object);
+            }
+        }
+        exporter.exportScript(monitor, exportObjects, this::appendObjectScript, sql);
     }
 
     @Override
     public void generateSQL(DBRProgressMonitor monitor, StringBuilder sql, DBPScriptObject object) throws DBException {
-        if (sql.length() > 0) {
-            sql.append("\n");
-        }
         Map<String, Object> options = new HashMap<>();
         options.put(DBPScriptObject.OPTION_REFRESH, true);
         addOptions(options);
 
-        String definitionText = CommonUtils.notEmpty(object.getObjectDefinitionText(monitor, options)).trim();
+        String definitionText = CommonUtils.notEmpty(object.getObjectDefinitionText(monitor, options));
+        appendObjectScript(monitor, sql, object, definitionText);
+    }
+
+    private void appendObjectScript(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull StringBuilder sql,
+        @NotNull DBPScriptObject object,
+        @NotNull String definition
+    ) throws DBException {
+        if (sql.length() > 0) {
+            sql.append("\n");
+        }
+        String definitionText = definition.trim();
         sql.append(definitionText);
         String delimiter = SQLConstants.DEFAULT_STATEMENT_DELIMITER;
         if (object instanceof DBSObject) {
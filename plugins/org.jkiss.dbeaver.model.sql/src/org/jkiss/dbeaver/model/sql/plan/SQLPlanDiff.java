@@ -0,0 +1,222 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Difference between two plans of the same query.
+ * Plan trees are matched level by level. Nested nodes are aligned by node type (longest common subsequence),
+ * so a new node doesn't make all its siblings different.
+ */
+public class SQLPlanDiff {
+
+    public enum ChangeKind {
+        ADDED,
+        REMOVED,
+        // Node of the same type works with a different object (e.g. another index)
+        CHANGED
+    }
+
+    public static class Change {
+        private final ChangeKind kind;
+        private final String path;
+        private final SQLPlanSnapshot.Node previousNode;
+        private final SQLPlanSnapshot.Node currentNode;
+
+        Change(@NotNull ChangeKind kind, @NotNull String path, @Nullable SQLPlanSnapshot.Node previousNode, @Nullable SQLPlanSnapshot.Node currentNode) {
+            this.kind = kind;
+            this.path = path;
+            this.previousNode = previousNode;
+            this.currentNode = currentNode;
+        }
+
+        @NotNull
+        public ChangeKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Path of parent nodes types
+         */
+        @NotNull
+        public String getPath() {
+            return path;
+        }
+
+        @Nullable
+        public SQLPlanSnapshot.Node getPreviousNode() {
+            return previousNode;
+        }
+
+        @Nullable
+        public SQLPlanSnapshot.Node getCurrentNode() {
+            return currentNode;
+        }
+
+        @Override
+        public String toString() {
+            String prefix = path.isEmpty() ? "" : path + ": ";
+            switch (kind) {
+                case ADDED:
+                    return prefix + "added " + currentNode;
+                case REMOVED:
+                    return prefix + "removed " + previousNode;
+                default:
+                    return prefix + previousNode + " -> " + currentNode;
+            }
+        }
+    }
+
+    private final SQLPlanSnapshot previousPlan;
+    private final SQLPlanSnapshot currentPlan;
+    private final double costThreshold;
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * @param costThreshold relative cost growth which is considered as regression (0.5 means +50%)
+     */
+    public SQLPlanDiff(@NotNull SQLPlanSnapshot previousPlan, @NotNull SQLPlanSnapshot currentPlan, double costThreshold) {
+        this.previousPlan = previousPlan;
+        this.currentPlan = currentPlan;
+        this.costThreshold = costThreshold;
+        compareNodes("", previousPlan.getNodes(), currentPlan.getNodes());
+    }
+
+    @NotNull
+    public SQLPlanSnapshot getPreviousPlan() {
+        return previousPlan;
+    }
+
+    @NotNull
+    public SQLPlanSnapshot getCurrentPlan() {
+        return currentPlan;
+    }
+
+    @NotNull
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public boolean isShapeChanged() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Ratio of current plan cost to the previous plan cost or null if costs are unknown
+     */
+    @Nullable
+    public Double getCostRatio() {
+        Double previousCost = previousPlan.getTotalCost();
+        Double currentCost = currentPlan.getTotalCost();
+        if (previousCost == null || currentCost == null) {
+            return null;
+        }
+        if (previousCost <= 0) {
+            return currentCost <= 0 ? 1.0 : Double.POSITIVE_INFINITY;
+        }
+        return currentCost / previousCost;
+    }
+
+    public boolean isCostRegression() {
+        Double ratio = getCostRatio();
+        return ratio != null && ratio > 1 + costThreshold;
+    }
+
+    /**
+     * Plan is considered as regressed if its cost grew over the threshold or if its shape was changed
+     * and cost didn't decrease (or is unknown).
+     */
+    public boolean isRegression() {
+        if (isCostRegression()) {
+            return true;
+        }
+        if (!isShapeChanged()) {
+            return false;
+        }
+        Double ratio = getCostRatio();
+        return ratio == null || ratio >= 1;
+    }
+
+    /**
+     * Human readable description of regression
+     */
+    @NotNull
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        Double ratio = getCostRatio();
+        if (ratio != null && !ratio.isInfinite()) {
+            summary.append(String.format("Cost %s -> %s (%+.0f%%)",
+                formatCost(previousPlan.getTotalCost()), formatCost(currentPlan.getTotalCost()), (ratio - 1) * 100));
+        } else if (ratio != null) {
+            summary.append("Cost ").append(formatCost(previousPlan.getTotalCost())).append(" -> ").append(formatCost(currentPlan.getTotalCost()));
+        }
+        if (!changes.isEmpty()) {
+            if (summary.length() > 0) {
+                summary.append("\n");
+            }
+            summary.append("Plan changes:");
+            for (Change change : changes) {
+                summary.append("\n\t").append(change);
+            }
+        }
+        return summary.toString();
+    }
+
+    private static String formatCost(@Nullable Double cost) {
+        return cost == null ? "?" : String.format("%.2f", cost);
+    }
+
+    private void compareNodes(@NotNull String path, @NotNull List<SQLPlanSnapshot.Node> previous, @NotNull List<SQLPlanSnapshot.Node> current) {
+        // LCS table by node types
+        int[][] lcs = new int[previous.size() + 1][current.size() + 1];
+        for (int i = previous.size() - 1; i >= 0; i--) {
+            for (int k = current.size() - 1; k >= 0; k--) {
+                if (previous.get(i).getType().equals(current.get(k).getType())) {
+                    lcs[i][k] = lcs[i + 1][k + 1] + 1;
+                } else {
+                    lcs[i][k] = Math.max(lcs[i + 1][k], lcs[i][k + 1]);
+                }
+            }
+        }
+        int i = 0, k = 0;
+        while (i < previous.size() || k < current.size()) {
+            if (i < previous.size() && k < current.size() && previous.get(i).getType().equals(current.get(k).getType())) {
+                SQLPlanSnapshot.Node prevNode = previous.get(i++);
+                SQLPlanSnapshot.Node curNode = current.get(k++);
+                if (!CommonUtils.equalObjects(prevNode.getName(), curNode.getName())) {
+                    changes.add(new Change(ChangeKind.CHANGED, path, prevNode, curNode));
+                }
+                compareNodes(
+                    path.isEmpty() ? curNode.getType() : path + " > " + curNode.getType(),
+                    prevNode.getNested(),
+                    curNode.getNested());
+            } else if (k < current.size() && (i >= previous.size() || lcs[i][k + 1] >= lcs[i + 1][k])) {
+                changes.add(new Change(ChangeKind.ADDED, path, null, current.get(k++)));
+            } else {
+                changes.add(new Change(ChangeKind.REMOVED, path, previous.get(i++), null));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCTransactionManager;
+import org.jkiss.dbeaver.model.exec.plan.*;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.sql.SQLQueryFingerprint;
+import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local history of execution plans.
+ * Plans are kept per data source and query fingerprint (see {@link SQLQueryFingerprint}), the last
+ * {@link #MAX_PLANS_PER_QUERY} different plans of each query are stored. Plans of at most {@link #MAX_QUERIES}
+ * queries are stored, plans of the least recently explained queries are removed.
+ * Each new plan is compared with the previous one, cost growth and plan shape changes are reported as regressions.
+ */
+public class SQLPlanHistory {
+
+    private static final Log log = Log.getLog(SQLPlanHistory.class);
+
+    static final String HISTORY_FOLDER = "plan-history";
+    static final int MAX_PLANS_PER_QUERY = 20;
+    static final int MAX_QUERIES = 500;
+    private static final String HISTORY_FILE_EXT = ".json";
+
+    private static final Type PLANS_TYPE = new TypeToken<List<SQLPlanSnapshot>>() {}.getType();
+
+    private static SQLPlanHistory instance;
+
+    private final Path historyFolder;
+    private final int maxPlans;
+    private final int maxQueries;
+    private final Gson gson = new Gson();
+
+    public SQLPlanHistory(@NotNull Path historyFolder, int maxPlans, int maxQueries) {
+        this.historyFolder = historyFolder;
+        this.maxPlans = Math.max(maxPlans, 1);
+        this.maxQueries = Math.max(maxQueries, 1);
+    }
+
+    @NotNull
+    public static synchronized SQLPlanHistory getInstance() {
+        if (instance == null) {
+            instance = new SQLPlanHistory(
+                DBWorkbench.getPlatform().getWorkspace().getMetadataFolder().resolve(HISTORY_FOLDER),
+                MAX_PLANS_PER_QUERY,
+                MAX_QUERIES);
+        }
+        return instance;
+    }
+
+    /**
+     * Saves plan in history.
+     * Plan which is the same as the previous one (same shape and cost) replaces it.
+     *
+     * @param costThreshold relative cost growth which is considered as regression
+     * @return difference with the previous plan of the same query or null if there is no previous plan
+     */
+    @Nullable
+    public synchronized SQLPlanDiff addPlan(@NotNull String dataSourceId, @NotNull SQLPlanSnapshot plan, double costThreshold) {
+        Path historyFile = getHistoryFile(dataSourceId, plan.getFingerprint());
+        List<SQLPlanSnapshot> plans = readPlans(historyFile);
+        SQLPlanDiff diff = null;
+        if (!plans.isEmpty()) {
+            SQLPlanSnapshot previousPlan = plans.get(plans.size() - 1);
+            diff = new SQLPlanDiff(previousPlan, plan, costThreshold);
+            if (!diff.isShapeChanged() && CommonUtils.equalObjects(previousPlan.getTotalCost(), plan.getTotalCost())) {
+                plans.remove(plans.size() - 1);
+            }
+        }
+        boolean newQuery = plans.isEmpty();
+        plans.add(plan);
+        while (plans.size() > maxPlans) {
+            plans.remove(0);
+        }
+        writePlans(historyFile, plans);
+        if (newQuery) {
+            removeOldestQueries();
+        }
+        return diff;
+    }
+
+    /**
+     * Returns saved plans of the query, the oldest first
+     */
+    @NotNull
+    public synchronized List<SQLPlanSnapshot> getPlans(@NotNull String dataSourceId, @NotNull String fingerprint) {
+        return readPlans(getHistoryFile(dataSourceId, fingerprint));
+    }
+
+    /**
+     * Removes all saved plans of the data source
+     */
+    public synchronized void clearHistory(@NotNull String dataSourceId) {
+        Path dsFolder = getDataSourceFolder(dataSourceId);
+        if (!Files.exists(dsFolder)) {
+            return;
+        }
+        try {
+            try (Stream<Path> files = Files.list(dsFolder)) {
+                for (Path file : files.toArray(Path[]::new)) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dsFolder);
+        } catch (IOException e) {
+            log.error("Error clearing plan history of '" + dataSourceId + "'", e);
+        }
+    }
+
+    /**
+     * Saves explained plan in history if plans history is enabled for the data source.
+     *
+     * @param queryTime query execution time or -1 if query wasn't executed
+     * @return difference with the previous plan of the same query
+     */
+    @Nullable
+    public static SQLPlanDiff recordPlan(
+        @NotNull DBPDataSource dataSource,
+        @NotNull String query,
+        @NotNull DBCPlan plan,
+        @NotNull SQLPlanSnapshot.Source source,
+        long queryTime
+    ) {
+        DBPDataSourceContainer container = dataSource.getContainer();
+        DBPPreferenceStore store = container.getPreferenceStore();
+        if (!store.getBoolean(ModelPreferences.SQL_PLAN_HISTORY_ENABLED)) {
+            return null;
+        }
+        List<? extends DBCPlanNode> planNodes = plan.getPlanNodes(Collections.emptyMap());
+        if (CommonUtils.isEmpty(planNodes)) {
+            return null;
+        }
+        SQLPlanSnapshot snapshot = SQLPlanSnapshot.create(dataSource.getSQLDialect(), query, source, queryTime, planNodes);
+        double costThreshold = store.getInt(ModelPreferences.SQL_PLAN_HISTORY_COST_THRESHOLD) / 100.0;
+        SQLPlanDiff diff = getInstance().addPlan(container.getId(), snapshot, costThreshold);
+        if (diff != null && diff.isRegression()) {
+            log.warn("Execution plan regression in '" + container.getName() + "' for query:\n" +
+                snapshot.getNormalizedQuery() + "\n" + diff.getSummary());
+        }
+        return diff;
+    }
+
+    /**
+     * Explains and saves plan of the slow query after its execution.
+     * Plan is captured only if query took more than configured time and it is a SELECT query.
+     * Plan is not captured in manual commit mode because plan error may break the current transaction.
+     *
+     * @return difference with the previous plan of the same query
+     */
+    @Nullable
+    public static SQLPlanDiff captureSlowQueryPlan(@NotNull DBCSession session, @NotNull String query, long queryTime) {
+        DBPDataSource dataSource = session.getDataSource();
+        DBPPreferenceStore store = dataSource.getContainer().getPreferenceStore();
+        int slowQueryTime = store.getInt(ModelPreferences.SQL_PLAN_HISTORY_SLOW_QUERY_TIME);
+        if (slowQueryTime <= 0 || queryTime < slowQueryTime || !store.getBoolean(ModelPreferences.SQL_PLAN_HISTORY_ENABLED)) {
+            return null;
+        }
+        DBCQueryPlanner planner = DBUtils.getAdapter(DBCQueryPlanner.class, dataSource);
+        if (planner == null || planner.getPlanStyle() != DBCPlanStyle.PLAN) {
+            return null;
+        }
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        try {
+            if (txnManager != null && !txnManager.isAutoCommit()) {
+                return null;
+            }
+        } catch (DBCException e) {
+            return null;
+        }
+        if (!SQLSemanticProcessor.isSelectQuery(dataSource.getSQLDialect(), query)) {
+            return null;
+        }
+        try {
+            DBCPlan plan = planner.planQueryExecution(session, query, new DBCQueryPlannerConfiguration());
+            return recordPlan(dataSource, query, plan, SQLPlanSnapshot.Source.EXECUTION, queryTime);
+        } catch (Exception e) {
+            log.debug("Error capturing plan of slow query: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @NotNull
+    private Path getDataSourceFolder(@NotNull String dataSourceId) {
+        return historyFolder.resolve(CommonUtils.escapeFileName(dataSourceId));
+    }
+
+    @NotNull
+    private Path getHistoryFile(@NotNull String dataSourceId, @NotNull String fingerprint) {
+        return getDataSourceFolder(dataSourceId).resolve(fingerprint + HISTORY_FILE_EXT);
+    }
+
+    /**
+     * Removes plans of the least recently updated queries over the queries limit
+     */
+    private void removeOldestQueries() {
+        List<Path> historyFiles;
+        try (Stream<Path> files = Files.find(historyFolder, 2,
+            (file, attrs) -> attrs.isRegularFile() && file.getFileName().toString().endsWith(HISTORY_FILE_EXT)))
+        {
+            historyFiles = files.collect(Collectors.toList());
+        } catch (IOException e) {
+            log.debug("Error reading plan history folder: " + e.getMessage());
+            return;
+        }
+        if (historyFiles.size() <= maxQueries) {
+            return;
+        }
+        Map<Path, Long> modifyTimes = new HashMap<>();
+        for (Path file : historyFiles) {
+            try {
+                modifyTimes.put(file, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException e) {
+                modifyTimes.put(file, 0L);
+            }
+        }
+        historyFiles.sort(Comparator.comparing(modifyTimes::get));
+        for (Path file : historyFiles.subList(0, historyFiles.size() - maxQueries)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("Error deleting plan history '" + file + "': " + e.getMessage());
+            }
+        }
+    }
+
+    @NotNull
+    private List<SQLPlanSnapshot> readPlans(@NotNull Path historyFile) {
+        if (!Files.exists(historyFile)) {
+            return new ArrayList<>();
+        }
+        try (Reader reader = Files.newBufferedReader(historyFile, StandardCharsets.UTF_8)) {
+            List<SQLPlanSnapshot> plans = gson.fromJson(reader, PLANS_TYPE);
+            return plans == null ? new ArrayList<>() : new ArrayList<>(plans);
+        } catch (Exception e) {
+            log.debug("Error reading plan history '" + historyFile + "': " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private void writePlans(@NotNull Path historyFile, @NotNull List<SQLPlanSnapshot> plans) {
+        try {
+            Path folder = historyFile.getParent();
+            Files.createDirectories(folder);
+            Path tempFile = Files.createTempFile(folder, historyFile.getFileName().toString(), ".tmp");
+            Files.writeString(tempFile, gson.toJson(plans, PLANS_TYPE), StandardCharsets.UTF_8);
+            Files.move(tempFile, historyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Error writing plan history '" + historyFile + "'", e);
+        }
+    }
+
+}
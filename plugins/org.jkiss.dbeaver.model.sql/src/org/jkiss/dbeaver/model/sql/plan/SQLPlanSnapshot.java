@@ -0,0 +1,212 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanCostNode;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.sql.SQLQueryFingerprint;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Execution plan saved in plans history.
+ * Keeps plan nodes tree with node types, objects and costs only.
+ * Query is kept normalized, so literal values are not saved.
+ */
+public class SQLPlanSnapshot {
+
+    public enum Source {
+        // Plan was explained by user
+        EXPLAIN,
+        // Plan was captured after slow query execution
+        EXECUTION
+    }
+
+    public static class Node {
+        private String type;
+        private String name;
+        private Double cost;
+        private Double rows;
+        private List<Node> nested;
+
+        private Node() {
+        }
+
+        public Node(@NotNull String type, @Nullable String name, @Nullable Double cost, @Nullable Double rows, @NotNull List<Node> nested) {
+            this.type = type;
+            this.name = name;
+            this.cost = cost;
+            this.rows = rows;
+            this.nested = nested;
+        }
+
+        @NotNull
+        public String getType() {
+            return CommonUtils.notEmpty(type);
+        }
+
+        @Nullable
+        public String getName() {
+            return name;
+        }
+
+        @Nullable
+        public Double getCost() {
+            return cost;
+        }
+
+        @Nullable
+        public Double getRows() {
+            return rows;
+        }
+
+        @NotNull
+        public List<Node> getNested() {
+            return nested == null ? Collections.emptyList() : nested;
+        }
+
+        @Override
+        public String toString() {
+            return CommonUtils.isEmpty(name) ? getType() : getType() + " (" + name + ")";
+        }
+    }
+
+    private String fingerprint;
+    private String normalizedQuery;
+    private long time;
+    private Source source;
+    private long queryTime;
+    private List<Node> nodes;
+
+    private SQLPlanSnapshot() {
+    }
+
+    public SQLPlanSnapshot(
+        @NotNull String normalizedQuery,
+        long time,
+        @NotNull Source source,
+        long queryTime,
+        @NotNull List<Node> nodes
+    ) {
+        this.fingerprint = SQLQueryFingerprint.getNormalizedFingerprint(normalizedQuery);
+        this.normalizedQuery = normalizedQuery;
+        this.time = time;
+        this.source = source;
+        this.queryTime = queryTime;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Makes snapshot of the plan nodes
+     *
+     * @param queryTime query execution time (for captured plans) or -1
+     */
+    @NotNull
+    public static SQLPlanSnapshot create(
+        @NotNull SQLDialect dialect,
+        @NotNull String queryText,
+        @NotNull Source source,
+        long queryTime,
+        @NotNull Collection<? extends DBCPlanNode> planNodes
+    ) {
+        String normalizedQuery = SQLQueryFingerprint.normalize(queryText, dialect.getStringEscapeCharacter() == '\\');
+        return new SQLPlanSnapshot(normalizedQuery, System.currentTimeMillis(), source, queryTime, copyNodes(planNodes));
+    }
+
+    @NotNull
+    private static List<Node> copyNodes(@Nullable Collection<? extends DBCPlanNode> planNodes) {
+        if (CommonUtils.isEmpty(planNodes)) {
+            return Collections.emptyList();
+        }
+        List<Node> result = new ArrayList<>(planNodes.size());
+        for (DBCPlanNode planNode : planNodes) {
+            Double cost = null, rows = null;
+            if (planNode instanceof DBCPlanCostNode) {
+                cost = toDouble(((DBCPlanCostNode) planNode).getNodeCost());
+                rows = toDouble(((DBCPlanCostNode) planNode).getNodeRowCount());
+            }
+            result.add(new Node(
+                CommonUtils.notEmpty(planNode.getNodeType()),
+                planNode.getNodeName(),
+                cost,
+                rows,
+                copyNodes(planNode.getNested())));
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Double toDouble(@Nullable Number number) {
+        return number == null ? null : number.doubleValue();
+    }
+
+    @NotNull
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Query text normalized by {@link SQLQueryFingerprint}
+     */
+    @NotNull
+    public String getNormalizedQuery() {
+        return CommonUtils.notEmpty(normalizedQuery);
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    @NotNull
+    public Source getSource() {
+        return source == null ? Source.EXPLAIN : source;
+    }
+
+    /**
+     * Query execution time in milliseconds or -1 if plan was explained without query execution
+     */
+    public long getQueryTime() {
+        return queryTime;
+    }
+
+    @NotNull
+    public List<Node> getNodes() {
+        return nodes == null ? Collections.emptyList() : nodes;
+    }
+
+    /**
+     * Total plan cost (sum of root nodes costs) or null if planner doesn't provide costs
+     */
+    @Nullable
+    public Double getTotalCost() {
+        Double total = null;
+        for (Node node : getNodes()) {
+            if (node.getCost() != null) {
+                total = (total == null ? 0 : total) + node.getCost();
+            }
+        }
+        return total;
+    }
+
+}
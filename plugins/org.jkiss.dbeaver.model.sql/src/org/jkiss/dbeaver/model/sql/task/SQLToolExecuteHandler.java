@@ -16,17 +16,23 @@
  */
 package org.jkiss.dbeaver.model.sql.task;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBPObjectStatistics;
+import org.jkiss.dbeaver.model.DBPObjectStatisticsCollector;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.edit.SQLDatabasePersistActionComment;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
 import org.jkiss.dbeaver.model.runtime.PrintStreamProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTTaskExecutionListener;
@@ -38,10 +44,9 @@ import org.jkiss.utils.CommonUtils;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Locale;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -99,120 +104,258 @@ public abstract class SQLToolExecuteHandler<OBJECT_TYPE extends DBSObject, SETTI
                 Throwable throwable = warnings.get(0);
                 throw new DBCException("Tool execution error: " + throwable.getMessage(), throwable);
             }
-            for (OBJECT_TYPE object : objectList) {
-                monitor.subTask("Process [" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "]");
-                try (DBCSession session = DBUtils.openUtilSession(monitor, object, "Execute " + task.getType().getName())) {
-                    List<DBEPersistAction> queries = new ArrayList<>();
-                    generateObjectQueries(session, settings, queries, object);
+            int threadCount = Math.min(settings.getThreadCount(), objectList.size());
+            if (threadCount > 1) {
+                lastError = executeInParallel(monitor, task, settings, log, outLog, listener, threadCount);
+            } else {
+                for (OBJECT_TYPE object : objectList) {
+                    monitor.subTask("Process [" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "]");
+                    try (DBCSession session = DBUtils.openUtilSession(monitor, object, "Execute " + task.getType().getName())) {
+                        Exception error = processObject(monitor, session, settings, log, outLog, listener, object, isRunInAutoCommit());
+                        if (error != null) {
+                            lastError = error;
+                        }
+                    }
+                    monitor.worked(1);
+                }
+            }
+        } catch (Exception e) {
+            lastError = e;
+            outLog.println("Process error\n" + e.getMessage());
+        } finally {
+            monitor.done();
+        }
+        listener.taskFinished(task, null, lastError, settings);
 
-                    DBCExecutionContext context = session.getExecutionContext();
-                    DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
-                    boolean isAutoCommitModeSwitchedOn = true;
+        outLog.println("Tool execution finished");
+        outLog.flush();
+    }
 
-                    try {
-                        if(isRunInAutoCommit() && txnManager != null && !txnManager.isAutoCommit()){
-                            isAutoCommitModeSwitchedOn = false;
-                            txnManager.setAutoCommit(monitor, true);
-                        }
+    /**
+     * Executes tool queries of a single object.
+     * Errors of individual queries are reported to the listener.
+     *
+     * @return the last query error or null
+     */
+    private Exception processObject(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCSession session,
+        @NotNull SETTINGS settings,
+        @NotNull Log log,
+        @NotNull PrintStream outLog,
+        @NotNull DBTTaskExecutionListener listener,
+        @NotNull OBJECT_TYPE object,
+        boolean runInAutoCommit
+    ) throws DBException {
+        Exception lastError = null;
+        List<DBEPersistAction> queries = new ArrayList<>();
+        generateObjectQueries(session, settings, queries, object);
 
-                        for (DBEPersistAction action : queries) {
-                            if (monitor.isCanceled()) {
-                                break;
-                            }
-                            if (!CommonUtils.isEmpty(action.getTitle())) {
-                                monitor.subTask(action.getTitle());
-                            }
-                            try {
-                                if (action instanceof SQLDatabasePersistActionComment) {
-                                    continue;
-                                }
-                                String script = action.getScript();
-                                if (!CommonUtils.isEmpty(script)) {
-                                    long startTime = System.currentTimeMillis();
-                                    try (final DBCStatement statement = session.prepareStatement(
-                                        DBCStatementType.SCRIPT,
-                                        script,
-                                        false,
-                                        false,
-                                        false)) {
-                                        long execTime = System.currentTimeMillis() - startTime;
-                                        statement.executeStatement();
-                                        if (listener instanceof SQLToolRunListener) {
-                                            if (action.getType() != DBEPersistAction.ActionType.INITIALIZER && action.getType() != DBEPersistAction.ActionType.FINALIZER) {
-                                                SQLToolStatisticsSimple statisticsSimple = new SQLToolStatisticsSimple(object, false);
-                                                if (SQLToolExecuteHandler.this instanceof SQLToolRunStatisticsGenerator) {
-                                                    List<? extends SQLToolStatistics> executeStatistics =
-                                                            ((SQLToolRunStatisticsGenerator) SQLToolExecuteHandler.this).getExecuteStatistics(
-                                                                    object,
-                                                                    settings,
-                                                                    action,
-                                                                    session,
-                                                                    statement);
-                                                    monitor.subTask("\tFinished in " + RuntimeUtils.formatExecutionTime(execTime));
-                                                    if (!CommonUtils.isEmpty(executeStatistics)) {
-                                                        for (SQLToolStatistics stat : executeStatistics) {
-                                                            stat.setExecutionTime(execTime);
-                                                        }
-                                                        ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, executeStatistics);
-                                                    } else {
-                                                        ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(statisticsSimple));
-                                                    }
-                                                } else {
-                                                    ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(statisticsSimple));
-                                                }
-                                            }
-                                        }
+        DBCExecutionContext context = session.getExecutionContext();
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+        boolean isAutoCommitModeSwitchedOn = true;
+
+        long objectStartTime = System.currentTimeMillis();
+        try {
+            if(runInAutoCommit && txnManager != null && !txnManager.isAutoCommit()){
+                isAutoCommitModeSwitchedOn = false;
+                txnManager.setAutoCommit(monitor, true);
+            }
 
-                                        statistics.addStatementsCount();
-                                        statistics.addExecuteTime(execTime);
-                                        try {
-                                            long updateCount = statement.getUpdateRowCount();
-                                            if (updateCount >= 0) {
-                                                statistics.addRowsUpdated(updateCount);
+            for (DBEPersistAction action : queries) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                if (!CommonUtils.isEmpty(action.getTitle())) {
+                    monitor.subTask(action.getTitle());
+                }
+                long startTime = System.currentTimeMillis();
+                try {
+                    if (action instanceof SQLDatabasePersistActionComment) {
+                        continue;
+                    }
+                    String script = action.getScript();
+                    if (!CommonUtils.isEmpty(script)) {
+                        try (final DBCStatement statement = session.prepareStatement(
+                            DBCStatementType.SCRIPT,
+                            script,
+                            false,
+                            false,
+                            false)) {
+                            statement.executeStatement();
+                            long execTime = System.currentTimeMillis() - startTime;
+                            if (listener instanceof SQLToolRunListener) {
+                                if (action.getType() != DBEPersistAction.ActionType.INITIALIZER && action.getType() != DBEPersistAction.ActionType.FINALIZER) {
+                                    SQLToolStatisticsSimple statisticsSimple = new SQLToolStatisticsSimple(object, false);
+                                    statisticsSimple.setExecutionTime(execTime);
+                                    List<? extends SQLToolStatistics> actionStatistics = Collections.singletonList(statisticsSimple);
+                                    if (SQLToolExecuteHandler.this instanceof SQLToolRunStatisticsGenerator) {
+                                        List<? extends SQLToolStatistics> executeStatistics =
+                                                ((SQLToolRunStatisticsGenerator) SQLToolExecuteHandler.this).getExecuteStatistics(
+                                                        object,
+                                                        settings,
+                                                        action,
+                                                        session,
+                                                        statement);
+                                        monitor.subTask("\tFinished in " + RuntimeUtils.formatExecutionTime(execTime));
+                                        if (!CommonUtils.isEmpty(executeStatistics)) {
+                                            for (SQLToolStatistics stat : executeStatistics) {
+                                                stat.setExecutionTime(execTime);
                                             }
-                                        } catch (DBCException e) {
-                                            // In some cases we can't read update count
-                                            // This is bad but we can live with it
-                                            // Just print a warning
-                                            log.warn("Can't obtain update count", e);
+                                            actionStatistics = executeStatistics;
                                         }
                                     }
+                                    synchronized (listener) {
+                                        ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, actionStatistics);
+                                    }
                                 }
-                            } catch (Exception e) {
-                                lastError = e;
-                                log.debug("Error executing query", e);
-                                outLog.println("Error executing query\n" + e.getMessage());
-                                if(listener instanceof SQLToolRunListener) {
-                                    SQLToolStatisticsSimple errorStat = new SQLToolStatisticsSimple(object, true);
-                                    errorStat.setStatusMessage(e.getMessage());
-                                    ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(errorStat));
-                                }
-                            } finally {
-                                monitor.worked(1);
                             }
-                        }
-                    } finally {
-                        if (!isAutoCommitModeSwitchedOn) {
+
+                            synchronized (statistics) {
+                                statistics.addStatementsCount();
+                                statistics.addExecuteTime(execTime);
+                            }
                             try {
-                                txnManager.setAutoCommit(monitor, false);
+                                long updateCount = statement.getUpdateRowCount();
+                                if (updateCount >= 0) {
+                                    synchronized (statistics) {
+                                        statistics.addRowsUpdated(updateCount);
+                                    }
+                                }
                             } catch (DBCException e) {
-                                log.debug("Cannot set auto-commit status", e);
+                                // In some cases we can't read update count
+                                // This is bad but we can live with it
+                                // Just print a warning
+                                log.warn("Can't obtain update count", e);
                             }
                         }
                     }
+                } catch (Exception e) {
+                    lastError = e;
+                    log.debug("Error executing query", e);
+                    outLog.println("Error executing query\n" + e.getMessage());
+                    if(listener instanceof SQLToolRunListener) {
+                        SQLToolStatisticsSimple errorStat = new SQLToolStatisticsSimple(object, true);
+                        errorStat.setStatusMessage(e.getMessage());
+                        errorStat.setExecutionTime(System.currentTimeMillis() - startTime);
+                        synchronized (listener) {
+                            ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(errorStat));
+                        }
+                    }
+                } finally {
+                    monitor.worked(1);
                 }
-                monitor.worked(1);
             }
-        } catch (Exception e) {
-            lastError = e;
-            outLog.println("Process error\n" + e.getMessage());
         } finally {
-            monitor.done();
+            if (!isAutoCommitModeSwitchedOn) {
+                try {
+                    txnManager.setAutoCommit(monitor, false);
+                } catch (DBCException e) {
+                    log.debug("Cannot set auto-commit status", e);
+                }
+            }
         }
-        listener.taskFinished(task, null, lastError, settings);
+        outLog.println("[" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "] processed in " +
+            RuntimeUtils.formatExecutionTime(System.currentTimeMillis() - objectStartTime));
+        return lastError;
+    }
 
-        outLog.println("Tool execution finished");
-        outLog.flush();
+    /**
+     * Executes tool for objects in parallel.
+     * Objects are grouped by owner instance. Each instance is served by a bounded number of workers,
+     * each worker uses its own isolated context in auto-commit mode. Largest objects go first.
+     * Objects left by workers which couldn't open isolated contexts are processed in the default context.
+     *
+     * @return the last error or null
+     */
+    private Exception executeInParallel(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBTTask task,
+        @NotNull SETTINGS settings,
+        @NotNull Log log,
+        @NotNull PrintStream outLog,
+        @NotNull DBTTaskExecutionListener listener,
+        int threadCount
+    ) {
+        Map<DBSInstance, Queue<OBJECT_TYPE>> instanceQueues = new LinkedHashMap<>();
+        for (OBJECT_TYPE object : sortBySize(monitor, settings.getObjectList())) {
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(object);
+            if (instance == null) {
+                log.debug("Can't find owner instance for '" + object.getName() + "'");
+                continue;
+            }
+            instanceQueues.computeIfAbsent(instance, i -> new ConcurrentLinkedQueue<>()).add(object);
+        }
+
+        AtomicReference<Exception> lastError = new AtomicReference<>();
+        List<ToolWorker> workers = new ArrayList<>();
+        for (Map.Entry<DBSInstance, Queue<OBJECT_TYPE>> entry : instanceQueues.entrySet()) {
+            for (int i = 0; i < Math.min(threadCount, entry.getValue().size()); i++) {
+                workers.add(new ToolWorker(monitor, task, settings, log, outLog, listener, entry.getKey(), entry.getValue(), lastError));
+            }
+        }
+        for (ToolWorker worker : workers) {
+            worker.schedule();
+        }
+        for (ToolWorker worker : workers) {
+            try {
+                while (!worker.join(100, null)) {
+                    if (monitor.isCanceled()) {
+                        // Cancel running queries
+                        for (ToolWorker w : workers) {
+                            w.cancel();
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return lastError.get();
+            }
+        }
+        // All workers failed to open isolated contexts (e.g. connections limit is reached)
+        for (Queue<OBJECT_TYPE> queue : instanceQueues.values()) {
+            for (OBJECT_TYPE object = queue.poll(); object != null && !monitor.isCanceled(); object = queue.poll()) {
+                monitor.subTask("Process [" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "]");
+                try (DBCSession session = DBUtils.openUtilSession(monitor, object, "Execute " + task.getType().getName())) {
+                    Exception error = processObject(monitor, session, settings, log, outLog, listener, object, isRunInAutoCommit());
+                    if (error != null) {
+                        lastError.set(error);
+                    }
+                } catch (Exception e) {
+                    lastError.set(e);
+                    outLog.println("Process error\n" + e.getMessage());
+                }
+                monitor.worked(1);
+            }
+        }
+        return lastError.get();
+    }
+
+    private List<OBJECT_TYPE> sortBySize(@NotNull DBRProgressMonitor monitor, @NotNull List<OBJECT_TYPE> objects) {
+        Set<DBSObject> parents = new LinkedHashSet<>();
+        for (OBJECT_TYPE object : objects) {
+            DBSObject parent = object.getParentObject();
+            if (parent instanceof DBPObjectStatisticsCollector && !((DBPObjectStatisticsCollector) parent).isStatisticsCollected()) {
+                parents.add(parent);
+            }
+        }
+        for (DBSObject parent : parents) {
+            try {
+                ((DBPObjectStatisticsCollector) parent).collectObjectStatistics(monitor, false, false);
+            } catch (DBException e) {
+                // Objects order doesn't matter much
+            }
+        }
+        List<OBJECT_TYPE> result = new ArrayList<>(objects);
+        result.sort(Comparator.comparingLong((OBJECT_TYPE o) -> getObjectSize(o)).reversed());
+        return result;
+    }
+
+    private static long getObjectSize(@NotNull DBSObject object) {
+        if (object instanceof DBPObjectStatistics && ((DBPObjectStatistics) object).hasStatistics()) {
+            return ((DBPObjectStatistics) object).getStatObjectSize();
+        }
+        return -1;
     }
 
     public String generateScript(DBRProgressMonitor monitor, SETTINGS settings) throws DBCException {
@@ -259,4 +402,80 @@ public abstract class SQLToolExecuteHandler<OBJECT_TYPE extends DBSObject, SETTI
         return false;
     }
 
+    private class ToolWorker extends AbstractJob {
+
+        private final DBRProgressMonitor parentMonitor;
+        private final DBTTask task;
+        private final SETTINGS settings;
+        private final Log log;
+        private final PrintStream outLog;
+        private final DBTTaskExecutionListener listener;
+        private final DBSInstance instance;
+        private final Queue<OBJECT_TYPE> queue;
+        private final AtomicReference<Exception> lastError;
+
+        ToolWorker(
+            @NotNull DBRProgressMonitor parentMonitor,
+            @NotNull DBTTask task,
+            @NotNull SETTINGS settings,
+            @NotNull Log log,
+            @NotNull PrintStream outLog,
+            @NotNull DBTTaskExecutionListener listener,
+            @NotNull DBSInstance instance,
+            @NotNull Queue<OBJECT_TYPE> queue,
+            @NotNull AtomicReference<Exception> lastError
+        ) {
+            super("Execute " + task.getType().getName() + " in " + instance.getName());
+            this.parentMonitor = parentMonitor;
+            this.task = task;
+            this.settings = settings;
+            this.log = log;
+            this.outLog = outLog;
+            this.listener = listener;
+            this.instance = instance;
+            this.queue = queue;
+            this.lastError = lastError;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBCExecutionContext context;
+            try {
+                context = instance.openIsolatedContext(monitor, "Execute " + task.getType().getName(), null);
+            } catch (DBException e) {
+                // Other workers of this instance will process the queue. If all of them fail, it is processed in the default context.
+                log.debug("Can't open isolated context for '" + task.getType().getName() + "' in '" + instance.getName() + "'", e);
+                return Status.OK_STATUS;
+            }
+            try {
+                for (OBJECT_TYPE object = queue.poll(); object != null; object = queue.poll()) {
+                    if (monitor.isCanceled() || parentMonitor.isCanceled()) {
+                        break;
+                    }
+                    synchronized (parentMonitor) {
+                        parentMonitor.subTask("Process [" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "]");
+                    }
+                    try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Execute " + task.getType().getName())) {
+                        // Isolated context is closed after execution, so there is no way to commit later
+                        Exception error = processObject(monitor, session, settings, log, outLog, listener, object, true);
+                        if (error != null) {
+                            lastError.set(error);
+                        }
+                    } catch (Exception e) {
+                        lastError.set(e);
+                        outLog.println("Process error\n" + e.getMessage());
+                    }
+                    synchronized (parentMonitor) {
+                        parentMonitor.worked(1);
+                    }
+                }
+            } finally {
+                context.close();
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
 }
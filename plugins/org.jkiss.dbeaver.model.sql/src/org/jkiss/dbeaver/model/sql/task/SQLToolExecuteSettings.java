@@ -21,6 +21,7 @@ import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.data.json.JSONUtils;
+import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.task.DBTTaskSettingsInput;
@@ -42,6 +43,7 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
 
     private List<OBJECT_TYPE> objectList = new ArrayList<>();
     private final List<Throwable> warnings = new ArrayList<>();
+    private int threadCount = 1;
 
     protected SQLToolExecuteSettings() {
     }
@@ -58,6 +60,18 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
         return warnings;
     }
 
+    /**
+     * Number of objects processed at once. Each thread uses its own connection.
+     */
+    @Property(viewable = true, editable = true, updatable = true, order = 1000)
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(threadCount, 1);
+    }
+
         @Override
     public void loadSettingsFromInput(List<OBJECT_TYPE> inputObjects) {
         objectList.addAll(inputObjects);
@@ -92,6 +106,7 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
         } catch (InterruptedException e) {
             // ignore
         }
+        setThreadCount(JSONUtils.getInteger(config, "threadCount", 1));
     }
 
     public void saveConfiguration(Map<String, Object> config) {
@@ -103,6 +118,7 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
             objectInfo.put("objectId", DBUtils.getObjectFullId(obj));
             objectsConfig.add(objectInfo);
         }
+        config.put("threadCount", threadCount);
     }
 
 }
@@ -80,6 +80,9 @@ public final class ModelPreferences
     public static final String NOTIFICATIONS_CLOSE_DELAY_TIMEOUT = "notifications.closeDelay"; //$NON-NLS-1$
 
     public static final String DICTIONARY_MAX_ROWS = "dictionary.max.rows";
+    public static final String DICTIONARY_CACHE_TTL = "dictionary.cache.ttl"; //$NON-NLS-1$
+    public static final String DICTIONARY_CACHE_SIZE = "dictionary.cache.size"; //$NON-NLS-1$
+    public static final String DICTIONARY_PREFETCH_VALUES = "dictionary.prefetch.values"; //$NON-NLS-1$
 
     public static final String QUERY_ROLLBACK_ON_ERROR = "query.rollback-on-error"; //$NON-NLS-1$
 
@@ -132,6 +135,8 @@ public final class ModelPreferences
     public static final String RESULT_SET_IGNORE_COLUMN_LABEL = "resultset.column.label.ignore"; //$NON-NLS-1$
 
     public static final String RESULT_SET_REREAD_ON_SCROLLING = "resultset.reread.on.scroll"; //$NON-NLS-1$
+    // Read next segments of tables with primary key by key values instead of offset
+    public static final String RESULT_SET_KEYSET_PAGINATION = "resultset.keyset.pagination"; //$NON-NLS-1$
     public static final String RESULT_SET_READ_METADATA = "resultset.read.metadata"; //$NON-NLS-1$
     public static final String RESULT_SET_READ_REFERENCES = "resultset.read.references"; //$NON-NLS-1$
     public static final String RESULT_SET_MAX_ROWS = "resultset.maxrows"; //$NON-NLS-1$
@@ -145,6 +150,10 @@ public final class ModelPreferences
     public static final String SQL_CONTROL_COMMAND_PREFIX = "sql.command.prefix"; //$NON-NLS-1$
     public static final String SQL_VARIABLES_ENABLED = "sql.variables.enabled"; //$NON-NLS-1$
     public static final String SQL_FILTER_FORCE_SUBSELECT = "sql.query.filter.force.subselect"; //$NON-NLS-1$
+    public static final String SQL_DDL_EXPORT_THREADS = "sql.ddl.export.threads"; //$NON-NLS-1$
+    public static final String SQL_PLAN_HISTORY_ENABLED = "sql.plan.history.enabled"; //$NON-NLS-1$
+    public static final String SQL_PLAN_HISTORY_SLOW_QUERY_TIME = "sql.plan.history.slow.query.time"; //$NON-NLS-1$
+    public static final String SQL_PLAN_HISTORY_COST_THRESHOLD = "sql.plan.history.cost.threshold"; //$NON-NLS-1$
 
     public final static String SQL_FORMAT_KEYWORD_CASE = "sql.format.keywordCase";
     public final static String SQL_FORMAT_EXTERNAL_CMD = "sql.format.external.cmd";
@@ -172,6 +181,8 @@ public final class ModelPreferences
     public static final String NAVIGATOR_SHOW_FOLDER_PLACEHOLDERS = "navigator.show.folder.placeholders"; //$NON-NLS-1$
     public static final String NAVIGATOR_SORT_ALPHABETICALLY = "navigator.sort.case.insensitive"; //$NON-NLS-1$
     public static final String NAVIGATOR_SORT_FOLDERS_FIRST = "navigator.sort.forlers.first"; //$NON-NLS-1$
+    public static final String NAVIGATOR_PREFETCH_CHILDREN = "navigator.prefetch.children"; //$NON-NLS-1$
+    public static final String NAVIGATOR_PREFETCH_THREADS = "navigator.prefetch.threads"; //$NON-NLS-1$
 
     public static final String PLATFORM_LANGUAGE = "platform.language"; //$NON-NLS-1$
 
@@ -213,6 +224,9 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NOTIFICATIONS_ENABLED, true);
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NOTIFICATIONS_CLOSE_DELAY_TIMEOUT, 3000L);
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.DICTIONARY_MAX_ROWS, 200);
+        PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.DICTIONARY_CACHE_TTL, 60);
+        PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.DICTIONARY_CACHE_SIZE, 10000);
+        PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.DICTIONARY_PREFETCH_VALUES, false);
         // Common
         PrefUtils.setDefaultPreferenceValue(store, QUERY_ROLLBACK_ON_ERROR, false);
         PrefUtils.setDefaultPreferenceValue(store, EXECUTE_RECOVER_ENABLED, true);
@@ -250,6 +264,7 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS, String.join("|", DBVEntity.DEFAULT_DESCRIPTION_COLUMN_PATTERNS));
 
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_REREAD_ON_SCROLLING, true);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_KEYSET_PAGINATION, false);
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_READ_METADATA, true);
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_READ_REFERENCES, true);
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_MAX_ROWS, 200);
@@ -278,6 +293,8 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, QMConstants.PROP_QUERY_TYPES, DBCExecutionPurpose.USER + "," + DBCExecutionPurpose.USER_FILTERED + "," + DBCExecutionPurpose.USER_SCRIPT);
         PrefUtils.setDefaultPreferenceValue(store, QMConstants.PROP_STORE_LOG_FILE, false);
         PrefUtils.setDefaultPreferenceValue(store, QMConstants.PROP_LOG_DIRECTORY, GeneralUtils.getMetadataFolder().toAbsolutePath().toString());
+        PrefUtils.setDefaultPreferenceValue(store, QMConstants.PROP_STATISTICS_ENABLED, true);
+        PrefUtils.setDefaultPreferenceValue(store, QMConstants.PROP_SLOW_QUERY_THRESHOLD, 1000);
 
         // SQL
         PrefUtils.setDefaultPreferenceValue(store, SQL_PARAMETERS_ENABLED, true);
@@ -288,6 +305,10 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, SQL_CONTROL_COMMAND_PREFIX, String.valueOf(SQLConstants.DEFAULT_CONTROL_COMMAND_PREFIX));
         PrefUtils.setDefaultPreferenceValue(store, SQL_VARIABLES_ENABLED, true);
         PrefUtils.setDefaultPreferenceValue(store, SQL_FILTER_FORCE_SUBSELECT, false);
+        PrefUtils.setDefaultPreferenceValue(store, SQL_DDL_EXPORT_THREADS, 2);
+        PrefUtils.setDefaultPreferenceValue(store, SQL_PLAN_HISTORY_ENABLED, false);
+        PrefUtils.setDefaultPreferenceValue(store, SQL_PLAN_HISTORY_SLOW_QUERY_TIME, 0);
+        PrefUtils.setDefaultPreferenceValue(store, SQL_PLAN_HISTORY_COST_THRESHOLD, 50);
 
         PrefUtils.setDefaultPreferenceValue(store, SQL_FORMAT_KEYWORD_CASE, "");
         PrefUtils.setDefaultPreferenceValue(store, SQL_FORMAT_LF_BEFORE_COMMA, false);
@@ -313,6 +334,8 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NAVIGATOR_SHOW_FOLDER_PLACEHOLDERS, true);
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NAVIGATOR_SORT_ALPHABETICALLY, false);
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NAVIGATOR_SORT_FOLDERS_FIRST, true);
+        PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NAVIGATOR_PREFETCH_CHILDREN, false);
+        PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.NAVIGATOR_PREFETCH_THREADS, 2);
 
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.TRANSACTIONS_SMART_COMMIT, false);
         PrefUtils.setDefaultPreferenceValue(store, ModelPreferences.TRANSACTIONS_SMART_COMMIT_RECOVER, true);
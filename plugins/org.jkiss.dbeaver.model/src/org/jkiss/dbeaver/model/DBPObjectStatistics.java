@@ -28,6 +28,13 @@ public interface DBPObjectStatistics {
 
     long getStatObjectSize();
 
+    /**
+     * Row count estimate from the collected statistics or -1 if it is unknown
+     */
+    default long getStatRowCount() {
+        return -1;
+    }
+
     @Nullable
     DBPPropertySource getStatProperties();
 
@@ -0,0 +1,45 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Objects container which can read definitions of many children at once.
+ * Used by bulk DDL generators instead of reading definition of each object separately.
+ */
+public interface DBPScriptObjectBatchLoader extends DBPObject {
+
+    /**
+     * Reads definitions of the specified objects with the specified execution context.
+     * All objects have the same class. Objects which are missing in the result map are read
+     * with {@link DBPScriptObject#getObjectDefinitionText(DBRProgressMonitor, Map)}.
+     */
+    @NotNull
+    Map<DBPScriptObject, String> loadObjectDefinitions(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext context,
+        @NotNull List<? extends DBPScriptObject> objects,
+        @NotNull Map<String, Object> options) throws DBException;
+
+}
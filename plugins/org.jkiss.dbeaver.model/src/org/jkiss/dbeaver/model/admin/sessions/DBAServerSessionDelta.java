@@ -0,0 +1,98 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sessions changes since the previous refresh.
+ * Unchanged sessions keep the same instances between refreshes.
+ */
+public class DBAServerSessionDelta<SESSION_TYPE extends DBAServerSession> {
+
+    private final List<SESSION_TYPE> sessions;
+    private final List<SESSION_TYPE> added;
+    private final Map<SESSION_TYPE, SESSION_TYPE> changed;
+    private final List<SESSION_TYPE> removed;
+    private final boolean full;
+
+    DBAServerSessionDelta(
+        @NotNull List<SESSION_TYPE> sessions,
+        @NotNull List<SESSION_TYPE> added,
+        @NotNull Map<SESSION_TYPE, SESSION_TYPE> changed,
+        @NotNull List<SESSION_TYPE> removed,
+        boolean full
+    ) {
+        this.sessions = sessions;
+        this.added = added;
+        this.changed = changed;
+        this.removed = removed;
+        this.full = full;
+    }
+
+    static <T extends DBAServerSession> DBAServerSessionDelta<T> makeFull(@NotNull List<T> sessions) {
+        return new DBAServerSessionDelta<>(sessions, sessions, Collections.emptyMap(), Collections.emptyList(), true);
+    }
+
+    /**
+     * All current sessions
+     */
+    @NotNull
+    public List<SESSION_TYPE> getSessions() {
+        return sessions;
+    }
+
+    @NotNull
+    public List<SESSION_TYPE> getAdded() {
+        return added;
+    }
+
+    /**
+     * Changed sessions. Maps previous session instance to the new one (identity based).
+     */
+    @NotNull
+    public Map<SESSION_TYPE, SESSION_TYPE> getChanged() {
+        return changed;
+    }
+
+    @NotNull
+    public List<SESSION_TYPE> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Full delta means that sessions can't be matched with the previous ones and the whole list must be reloaded
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    public boolean isEmpty() {
+        return !full && added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return full ?
+            "Full: " + sessions.size() :
+            "Added: " + added.size() + ", changed: " + changed.size() + ", removed: " + removed.size();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Short history of session metrics.
+ * Samples are kept in a ring buffer, the oldest samples are dropped.
+ */
+public class DBAServerSessionHistory {
+
+    private final String[] metricNames;
+    private final long[] times;
+    private final double[][] values;
+    // Position of the next sample
+    private int position;
+    private int count;
+
+    public DBAServerSessionHistory(@NotNull String[] metricNames, int capacity) {
+        this.metricNames = metricNames;
+        this.times = new long[capacity];
+        this.values = new double[metricNames.length][capacity];
+    }
+
+    @NotNull
+    public String[] getMetricNames() {
+        return metricNames;
+    }
+
+    public synchronized int getSampleCount() {
+        return count;
+    }
+
+    /**
+     * Returns sample time. Samples are ordered from the oldest to the newest one.
+     */
+    public synchronized long getSampleTime(int index) {
+        return times[toBufferIndex(index)];
+    }
+
+    public synchronized double getSampleValue(int metric, int index) {
+        return values[metric][toBufferIndex(index)];
+    }
+
+    /**
+     * Returns all values of the metric from the oldest to the newest one
+     */
+    @NotNull
+    public synchronized double[] getMetricValues(int metric) {
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = values[metric][toBufferIndex(i)];
+        }
+        return result;
+    }
+
+    synchronized void addSample(long time, @NotNull double[] sample) {
+        int capacity = times.length;
+        times[position] = time;
+        for (int i = 0; i < values.length; i++) {
+            values[i][position] = sample[i];
+        }
+        position = (position + 1) % capacity;
+        if (count < capacity) {
+            count++;
+        }
+    }
+
+    private int toBufferIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Sample " + index + " is out of range [0.." + count + ")");
+        }
+        return (position - count + index + times.length) % times.length;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(metricNames) + ": " + count + " sample(s)";
+    }
+}
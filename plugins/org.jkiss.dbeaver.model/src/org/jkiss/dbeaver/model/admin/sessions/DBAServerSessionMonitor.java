@@ -0,0 +1,206 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.utils.LongKeyMap;
+
+import java.util.*;
+
+/**
+ * Incremental server sessions monitor.
+ * Sessions are read over a dedicated connection which is kept open between refreshes, so the sessions query
+ * is parsed and planned by the server once. Sessions are matched with the previous refresh by key,
+ * unchanged sessions keep their instances. Short metrics history is collected for each session.
+ * If session manager doesn't implement {@link DBAServerSessionTracker} each refresh produces a full delta.
+ */
+public class DBAServerSessionMonitor<SESSION_TYPE extends DBAServerSession> {
+
+    private static final Log log = Log.getLog(DBAServerSessionMonitor.class);
+
+    public static final int DEFAULT_HISTORY_SIZE = 60;
+
+    private final DBAServerSessionManager<SESSION_TYPE> sessionManager;
+    @Nullable
+    private final DBAServerSessionTracker<SESSION_TYPE> tracker;
+    private final int historySize;
+
+    private final LongKeyMap<SESSION_TYPE> sessions = new LongKeyMap<>();
+    private final LongKeyMap<DBAServerSessionHistory> histories = new LongKeyMap<>();
+    private DBCExecutionContext monitorContext;
+
+    public DBAServerSessionMonitor(@NotNull DBAServerSessionManager<SESSION_TYPE> sessionManager) {
+        this(sessionManager, DEFAULT_HISTORY_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DBAServerSessionMonitor(@NotNull DBAServerSessionManager<SESSION_TYPE> sessionManager, int historySize) {
+        this.sessionManager = sessionManager;
+        this.tracker = sessionManager instanceof DBAServerSessionTracker ? (DBAServerSessionTracker<SESSION_TYPE>) sessionManager : null;
+        this.historySize = Math.max(historySize, 1);
+    }
+
+    @NotNull
+    public DBAServerSessionManager<SESSION_TYPE> getSessionManager() {
+        return sessionManager;
+    }
+
+    public boolean isTrackingSupported() {
+        return tracker != null;
+    }
+
+    /**
+     * Reads sessions and returns changes since the previous refresh
+     */
+    @NotNull
+    public synchronized DBAServerSessionDelta<SESSION_TYPE> refresh(
+        @NotNull DBRProgressMonitor monitor,
+        @Nullable Map<String, Object> options
+    ) throws DBException {
+        DBPDataSource dataSource = sessionManager.getDataSource();
+        Collection<SESSION_TYPE> newSessions;
+        if (dataSource.getContainer().isForceUseSingleConnection()) {
+            newSessions = readSessions(monitor, DBUtils.getDefaultContext(dataSource, false), options);
+        } else {
+            if (monitorContext != null && !monitorContext.isConnected()) {
+                closeContext();
+            }
+            if (monitorContext == null) {
+                monitorContext = dataSource.getDefaultInstance().openIsolatedContext(monitor, "View sessions", null);
+            }
+            try {
+                newSessions = readSessions(monitor, monitorContext, options);
+            } catch (DBException e) {
+                // Connection may be broken. Reopen it on the next refresh.
+                closeContext();
+                throw e;
+            }
+        }
+        return update(newSessions, System.currentTimeMillis());
+    }
+
+    /**
+     * Matches sessions with the previous ones and updates metrics history
+     */
+    @NotNull
+    public synchronized DBAServerSessionDelta<SESSION_TYPE> update(@NotNull Collection<SESSION_TYPE> newSessions, long sampleTime) {
+        if (tracker == null) {
+            return DBAServerSessionDelta.makeFull(new ArrayList<>(newSessions));
+        }
+        LongKeyMap<SESSION_TYPE> current = new LongKeyMap<>(Math.max(newSessions.size() * 2, 16));
+        List<SESSION_TYPE> allSessions = new ArrayList<>(newSessions.size());
+        List<SESSION_TYPE> added = new ArrayList<>();
+        Map<SESSION_TYPE, SESSION_TYPE> changed = new IdentityHashMap<>();
+        boolean duplicates = false;
+        for (SESSION_TYPE session : newSessions) {
+            long key = tracker.getSessionKey(session);
+            if (current.containsKey(key)) {
+                duplicates = true;
+                continue;
+            }
+            SESSION_TYPE prevSession = sessions.get(key);
+            if (prevSession == null) {
+                added.add(session);
+            } else if (tracker.isSessionChanged(prevSession, session)) {
+                changed.put(prevSession, session);
+            } else {
+                session = prevSession;
+            }
+            current.put(key, session);
+            allSessions.add(session);
+        }
+        List<SESSION_TYPE> removed = new ArrayList<>();
+        for (SESSION_TYPE prevSession : sessions.values()) {
+            long key = tracker.getSessionKey(prevSession);
+            if (!current.containsKey(key)) {
+                removed.add(prevSession);
+                histories.remove(key);
+            }
+        }
+        sessions.clear();
+        sessions.putAll(current);
+
+        String[] metricNames = tracker.getSessionMetricNames();
+        double[] sample = new double[metricNames.length];
+        for (SESSION_TYPE session : allSessions) {
+            long key = tracker.getSessionKey(session);
+            DBAServerSessionHistory history = histories.get(key);
+            if (history == null) {
+                history = new DBAServerSessionHistory(metricNames, historySize);
+                histories.put(key, history);
+            }
+            Arrays.fill(sample, 0);
+            tracker.collectSessionMetrics(session, sample);
+            history.addSample(sampleTime, sample);
+        }
+
+        if (duplicates) {
+            log.debug("Duplicate session keys found. Reload all sessions.");
+            return DBAServerSessionDelta.makeFull(allSessions);
+        }
+        return new DBAServerSessionDelta<>(allSessions, added, changed, removed, false);
+    }
+
+    /**
+     * Returns metrics history of the session or null if session isn't tracked
+     */
+    @Nullable
+    public synchronized DBAServerSessionHistory getSessionHistory(@NotNull SESSION_TYPE session) {
+        return tracker == null ? null : histories.get(tracker.getSessionKey(session));
+    }
+
+    /**
+     * Closes monitor connection and clears collected sessions
+     */
+    public synchronized void dispose() {
+        closeContext();
+        sessions.clear();
+        histories.clear();
+    }
+
+    @NotNull
+    private Collection<SESSION_TYPE> readSessions(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext context,
+        @Nullable Map<String, Object> options
+    ) throws DBException {
+        try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Retrieve server sessions")) {
+            return sessionManager.getSessions(session, options);
+        }
+    }
+
+    private void closeContext() {
+        if (monitorContext != null) {
+            try {
+                monitorContext.close();
+            } catch (Exception e) {
+                log.debug("Error closing sessions monitor context", e);
+            }
+            monitorContext = null;
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+
+/**
+ * Session manager which supports incremental sessions monitoring.
+ * Sessions are matched between refreshes by key, only added, changed and removed sessions are reported.
+ */
+public interface DBAServerSessionTracker<SESSION_TYPE extends DBAServerSession> {
+
+    /**
+     * Session key. It must be unique among sessions of the server (e.g. backend process id).
+     */
+    long getSessionKey(@NotNull SESSION_TYPE session);
+
+    /**
+     * Checks whether session state differs from its previous state
+     */
+    boolean isSessionChanged(@NotNull SESSION_TYPE previous, @NotNull SESSION_TYPE current);
+
+    /**
+     * Names of the numeric session metrics which are collected on each refresh
+     */
+    @NotNull
+    String[] getSessionMetricNames();
+
+    /**
+     * Fills session metrics values. Array length is equal to the metric names count.
+     */
+    void collectSessionMetrics(@NotNull SESSION_TYPE session, @NotNull double[] values);
+
+}
@@ -33,6 +33,8 @@ public class DBDDataFilter {
     private boolean anyConstraint; // means OR condition
     private String order;
     private String where;
+    // Keyset pagination position. It is not a part of the filter itself, so it is not compared
+    private DBDDataKeyset keyset;
 
     public DBDDataFilter() {
         this.constraints = new ArrayList<>();
@@ -50,6 +52,7 @@ public class DBDDataFilter {
         this.order = source.order;
         this.where = source.where;
         this.anyConstraint = source.anyConstraint;
+        this.keyset = source.keyset == null ? null : new DBDDataKeyset(source.keyset);
     }
 
     public List<DBDAttributeConstraint> getConstraints() {
@@ -129,6 +132,15 @@ public class DBDDataFilter {
         this.where = where;
     }
 
+    @Nullable
+    public DBDDataKeyset getKeyset() {
+        return keyset;
+    }
+
+    public void setKeyset(@Nullable DBDDataKeyset keyset) {
+        this.keyset = keyset;
+    }
+
     public boolean hasFilters() {
         if (!CommonUtils.isEmpty(this.order) || !CommonUtils.isEmpty(this.where)) {
             return true;
@@ -0,0 +1,154 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keyset pagination position.
+ * Rows are ordered by keyset attributes: explicit filter ordering followed by primary key columns.
+ * If keyset is a seek position then only rows which follow keyset values in this order are read.
+ * This way the next segment of a large table is read without scanning and skipping all previous rows.
+ */
+public class DBDDataKeyset {
+
+    private final List<DBDAttributeConstraint> constraints;
+    private final boolean seek;
+
+    public DBDDataKeyset(@NotNull List<DBDAttributeConstraint> constraints, boolean seek) {
+        this.constraints = constraints;
+        this.seek = seek;
+    }
+
+    public DBDDataKeyset(@NotNull DBDDataKeyset source) {
+        this.constraints = new ArrayList<>(source.constraints.size());
+        for (DBDAttributeConstraint constraint : source.constraints) {
+            this.constraints.add(new DBDAttributeConstraint(constraint));
+        }
+        this.seek = source.seek;
+    }
+
+    /**
+     * Keyset attributes in order. Constraint values are the values of the last read row.
+     */
+    @NotNull
+    public List<DBDAttributeConstraint> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Returns true if only rows following keyset values must be read.
+     * Otherwise keyset defines just rows ordering.
+     */
+    public boolean isSeek() {
+        return seek;
+    }
+
+    /**
+     * Makes keyset ordering for the specified filter.
+     * Returns null if filter ordering can't be used for pagination: custom order expression,
+     * ordering by expressions or by nullable columns (nulls are not comparable).
+     */
+    @Nullable
+    public static List<DBDAttributeConstraint> makeKeysetOrder(
+        @NotNull DBDDataFilter filter,
+        @NotNull List<? extends DBSEntityAttribute> keyAttributes
+    ) {
+        if (keyAttributes.isEmpty() || !CommonUtils.isEmpty(filter.getOrder())) {
+            return null;
+        }
+        List<DBDAttributeConstraint> result = new ArrayList<>();
+        for (DBDAttributeConstraint constraint : filter.getOrderConstraints()) {
+            DBSEntityAttribute attribute = getEntityAttribute(constraint.getAttribute());
+            if (attribute == null || !attribute.isRequired()) {
+                return null;
+            }
+            result.add(makeConstraint(attribute, constraint.isOrderDescending(), result.size()));
+        }
+        for (DBSEntityAttribute attribute : keyAttributes) {
+            // Primary key makes the order unique
+            if (findConstraint(result, attribute.getName()) == null) {
+                result.add(makeConstraint(attribute, false, result.size()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns primary key attributes or empty list if entity has no primary key.
+     * Only primary key is used because ordering must be the same for all segments.
+     */
+    @NotNull
+    public static List<DBSEntityAttribute> getPrimaryKeyAttributes(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity
+    ) throws DBException {
+        Collection<? extends DBSEntityConstraint> constraints = entity.getConstraints(monitor);
+        if (constraints != null) {
+            for (DBSEntityConstraint constraint : constraints) {
+                if (constraint.getConstraintType() == DBSEntityConstraintType.PRIMARY_KEY && constraint instanceof DBSEntityReferrer) {
+                    return DBUtils.getEntityAttributes(monitor, (DBSEntityReferrer) constraint);
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    @Nullable
+    public static DBDAttributeConstraint findConstraint(@NotNull List<DBDAttributeConstraint> constraints, @NotNull String attributeName) {
+        for (DBDAttributeConstraint constraint : constraints) {
+            if (attributeName.equals(constraint.getAttributeName())) {
+                return constraint;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static DBSEntityAttribute getEntityAttribute(@Nullable DBSAttributeBase attribute) {
+        if (attribute instanceof DBDAttributeBinding) {
+            return ((DBDAttributeBinding) attribute).getEntityAttribute();
+        } else if (attribute instanceof DBSEntityAttribute) {
+            return (DBSEntityAttribute) attribute;
+        }
+        return null;
+    }
+
+    @NotNull
+    private static DBDAttributeConstraint makeConstraint(@NotNull DBSEntityAttribute attribute, boolean descending, int index) {
+        DBDAttributeConstraint constraint = new DBDAttributeConstraint(attribute, attribute.getOrdinalPosition());
+        constraint.setOrderPosition(index + 1);
+        constraint.setOrderDescending(descending);
+        return constraint;
+    }
+
+    @Override
+    public String toString() {
+        return (seek ? "Seek " : "Order ") + constraints;
+    }
+}
@@ -16,11 +16,28 @@
  */
 package org.jkiss.dbeaver.model.data.aggregate;
 
+import java.util.Comparator;
+
 /**
  * AggregateUtils
  */
 public class AggregateUtils {
 
+    /**
+     * Number of values which are aggregated exactly. Bigger selections are estimated with sketches of bounded size.
+     */
+    public static final int EXACT_VALUES_LIMIT = 10000;
+
+    /**
+     * Total order of comparable values. Values of different types are ordered by type name.
+     */
+    public static final Comparator<Object> VALUE_COMPARATOR = (o1, o2) -> {
+        if (!(o1 instanceof Number && o2 instanceof Number) && o1.getClass() != o2.getClass()) {
+            return o1.getClass().getName().compareTo(o2.getClass().getName());
+        }
+        return compareValues((Comparable) o1, (Comparable) o2);
+    };
+
     public static int compareValues(Comparable val1, Comparable val2) {
         if (val1 instanceof Number && val2 instanceof Number) {
             double cmpr = ((Number) val1).doubleValue() - ((Number) val2).doubleValue();
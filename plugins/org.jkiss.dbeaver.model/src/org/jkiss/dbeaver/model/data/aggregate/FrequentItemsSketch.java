@@ -0,0 +1,81 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Frequent items (Misra-Gries) sketch.
+ * Keeps at most {@code capacity} counters. Counts are exact until capacity is exceeded,
+ * after that any item which occurs more than n/capacity times is guaranteed to be kept.
+ */
+public class FrequentItemsSketch {
+
+    private final int capacity;
+    // Insertion order makes the first of equally frequent items win
+    private final Map<Object, long[]> counters = new LinkedHashMap<>();
+    private boolean approximate;
+
+    public FrequentItemsSketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void update(@NotNull Object item) {
+        long[] counter = counters.get(item);
+        if (counter != null) {
+            counter[0]++;
+        } else if (counters.size() < capacity) {
+            counters.put(item, new long[] { 1 });
+        } else {
+            // Decrement all counters, new item is absorbed by the decrement
+            approximate = true;
+            for (Iterator<long[]> iter = counters.values().iterator(); iter.hasNext(); ) {
+                long[] c = iter.next();
+                c[0]--;
+                if (c[0] <= 0) {
+                    iter.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the most frequent item or null if sketch is empty
+     */
+    @Nullable
+    public Object getMostFrequent() {
+        Object maxItem = null;
+        long maxCount = 0;
+        for (Map.Entry<Object, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] > maxCount) {
+                maxCount = entry.getValue()[0];
+                maxItem = entry.getKey();
+            }
+        }
+        return maxItem;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+}
@@ -20,18 +20,31 @@ import java.util.HashSet;
 import java.util.Set;
 
 /**
- * FunctionCountDistinct
+ * FunctionCountDistinct.
+ * Distinct values are counted exactly up to the limit, then count is estimated with HyperLogLog.
  */
 public class FunctionCountDistinct implements IAggregateFunction {
 
     private int count = 0;
     private Set<Object> cache = new HashSet<>();
+    private HyperLogLogSketch sketch;
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
+        if (sketch != null) {
+            sketch.update(value);
+            return true;
+        }
         if (!cache.contains(value)) {
             count++;
             cache.add(value);
+            if (count > AggregateUtils.EXACT_VALUES_LIMIT) {
+                sketch = new HyperLogLogSketch();
+                for (Object item : cache) {
+                    sketch.update(item);
+                }
+                cache = null;
+            }
             return true;
         }
         return false;
@@ -39,6 +52,14 @@ public class FunctionCountDistinct implements IAggregateFunction {
 
     @Override
     public Object getResult(int valueCount) {
+        if (sketch != null) {
+            return sketch.getEstimate();
+        }
         return count;
     }
+
+    @Override
+    public boolean isApproximate() {
+        return sketch != null;
+    }
 }
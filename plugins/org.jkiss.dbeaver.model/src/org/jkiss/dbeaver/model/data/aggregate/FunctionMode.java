@@ -16,15 +16,12 @@
  */
 package org.jkiss.dbeaver.model.data.aggregate;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Mode
  */
 public class FunctionMode implements IAggregateFunction {
 
-    private final List<Object> cache = new ArrayList<>();
+    private final FrequentItemsSketch sketch = new FrequentItemsSketch(AggregateUtils.EXACT_VALUES_LIMIT);
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
@@ -33,7 +30,7 @@ public class FunctionMode implements IAggregateFunction {
             value = num;
         }
         if (value != null) {
-            cache.add(value);
+            sketch.update(value);
             return true;
         }
         return false;
@@ -41,24 +38,11 @@ public class FunctionMode implements IAggregateFunction {
 
     @Override
     public Object getResult(int valueCount) {
-        Object maxValue = null;
-        int maxCount = 0;
+        return sketch.getMostFrequent();
+    }
 
-        for (int i = 0; i < cache.size(); ++i) {
-            int count = 0;
-            for (int j = 0; j < cache.size(); ++j) {
-                if (cache.get(j).equals(cache.get(i))) {
-                    count++;
-                }
-            }
-            if (count > maxCount) {
-                maxCount = count;
-                maxValue = cache.get(i);
-            }
-        }
-//        if (maxCount <= 1) {
-//            return null;
-//        }
-        return maxValue;
+    @Override
+    public boolean isApproximate() {
+        return sketch.isApproximate();
     }
 }
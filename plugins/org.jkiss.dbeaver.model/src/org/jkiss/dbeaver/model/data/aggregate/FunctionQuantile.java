@@ -0,0 +1,98 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.jkiss.dbeaver.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quantile.
+ * Values are kept and sorted while there are not too many of them, then quantile is estimated with a sketch.
+ */
+public abstract class FunctionQuantile implements IAggregateFunction {
+
+    private static final Log log = Log.getLog(FunctionQuantile.class);
+
+    private final double fraction;
+    private List<Comparable<?>> cache = new ArrayList<>();
+    private QuantileSketch sketch;
+
+    protected FunctionQuantile(double fraction) {
+        this.fraction = fraction;
+    }
+
+    @Override
+    public boolean accumulate(Object value, boolean aggregateAsStrings) {
+        Comparable<?> comparable = FunctionNumeric.getComparable(value, aggregateAsStrings);
+        if (comparable == null) {
+            return false;
+        }
+        if (sketch != null) {
+            sketch.update(comparable);
+        } else {
+            cache.add(comparable);
+            if (cache.size() > AggregateUtils.EXACT_VALUES_LIMIT) {
+                sketch = new QuantileSketch(AggregateUtils.VALUE_COMPARATOR);
+                for (Comparable<?> item : cache) {
+                    sketch.update(item);
+                }
+                cache = null;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object getResult(int valueCount) {
+        if (sketch != null) {
+            return sketch.getQuantile(fraction);
+        }
+        if (cache.isEmpty()) {
+            return null;
+        }
+        try {
+            cache.sort(AggregateUtils.VALUE_COMPARATOR);
+        } catch (Exception e) {
+            log.debug("Can't sort value collection", e);
+            return null;
+        }
+
+        double position = fraction * (cache.size() - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        Comparable<?> val1 = cache.get(lower);
+        if (lower == upper) {
+            return val1;
+        }
+        Comparable<?> val2 = cache.get(upper);
+        if (val1 instanceof Number && val2 instanceof Number) {
+            double num1 = ((Number) val1).doubleValue();
+            double num2 = ((Number) val2).doubleValue();
+            return num1 + (num2 - num1) * (position - lower);
+        }
+        // Not true quantile - but we can't interpolate non-numeric values
+        // So just get the lower one
+        return val1;
+    }
+
+    @Override
+    public boolean isApproximate() {
+        return sketch != null;
+    }
+}
@@ -17,7 +17,8 @@
 package org.jkiss.dbeaver.model.data.aggregate;
 
 /**
- * Aggregate function
+ * Aggregate function.
+ * Result may be requested several times during accumulation to show intermediate values.
  */
 public interface IAggregateFunction {
 
@@ -25,4 +26,11 @@ public interface IAggregateFunction {
 
     Object getResult(int valueCount);
 
+    /**
+     * Returns true if function switched to the estimation because there are too many values
+     */
+    default boolean isApproximate() {
+        return false;
+    }
+
 }
@@ -0,0 +1,148 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * KLL quantile sketch.
+ * Keeps a bounded number of items in levels of compactors. Item on level h represents 2^h source items.
+ * Rank error is about 1.7% for the default size.
+ */
+public class QuantileSketch {
+
+    public static final int DEFAULT_SIZE = 200;
+
+    private static final double LEVEL_RATIO = 2.0 / 3.0;
+
+    private final int k;
+    private final Comparator<Object> comparator;
+    private final List<List<Object>> compactors = new ArrayList<>();
+    // Fixed seed makes results stable for the same input
+    private final Random random = new Random(0);
+    private int size;
+    private int maxSize;
+    private long count;
+
+    public QuantileSketch(@NotNull Comparator<Object> comparator) {
+        this(DEFAULT_SIZE, comparator);
+    }
+
+    public QuantileSketch(int k, @NotNull Comparator<Object> comparator) {
+        this.k = k;
+        this.comparator = comparator;
+        addLevel();
+    }
+
+    public void update(@NotNull Object item) {
+        compactors.get(0).add(item);
+        size++;
+        count++;
+        if (size >= maxSize) {
+            compress();
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns approximate quantile (0..1) or null if sketch is empty
+     */
+    @Nullable
+    public Object getQuantile(double fraction) {
+        if (count == 0) {
+            return null;
+        }
+        List<WeightedItem> items = new ArrayList<>(size);
+        long totalWeight = 0;
+        for (int h = 0; h < compactors.size(); h++) {
+            long weight = 1L << h;
+            for (Object item : compactors.get(h)) {
+                items.add(new WeightedItem(item, weight));
+                totalWeight += weight;
+            }
+        }
+        items.sort((o1, o2) -> comparator.compare(o1.item, o2.item));
+        double targetWeight = fraction * totalWeight;
+        long cumulativeWeight = 0;
+        for (WeightedItem item : items) {
+            cumulativeWeight += item.weight;
+            if (cumulativeWeight >= targetWeight) {
+                return item.item;
+            }
+        }
+        return items.get(items.size() - 1).item;
+    }
+
+    private void addLevel() {
+        compactors.add(new ArrayList<>());
+        maxSize = 0;
+        for (int h = 0; h < compactors.size(); h++) {
+            maxSize += getCapacity(h);
+        }
+    }
+
+    private int getCapacity(int level) {
+        int depth = compactors.size() - level - 1;
+        return (int) Math.ceil(k * Math.pow(LEVEL_RATIO, depth)) + 1;
+    }
+
+    private void compress() {
+        for (int h = 0; h < compactors.size(); h++) {
+            List<Object> level = compactors.get(h);
+            if (level.size() < getCapacity(h)) {
+                continue;
+            }
+            if (h + 1 >= compactors.size()) {
+                addLevel();
+            }
+            // Promote every second item to the next level, the rest are dropped
+            level.sort(comparator);
+            List<Object> nextLevel = compactors.get(h + 1);
+            for (int i = random.nextBoolean() ? 1 : 0; i < level.size(); i += 2) {
+                nextLevel.add(level.get(i));
+            }
+            level.clear();
+            size = 0;
+            for (List<Object> c : compactors) {
+                size += c.size();
+            }
+            if (size < maxSize) {
+                break;
+            }
+        }
+    }
+
+    private static class WeightedItem {
+        private final Object item;
+        private final long weight;
+
+        WeightedItem(Object item, long weight) {
+            this.item = item;
+            this.weight = weight;
+        }
+    }
+
+}
@@ -108,6 +108,8 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
             }
         }
 
+        // Batches which don't reuse statements by default may be switched to reuse by caller
+        boolean reuseStatement = this.reuseStatement || CommonUtils.toBoolean(options.get(DBSDataManipulator.OPTION_REUSE_STATEMENT));
         boolean useBatch = session.getDataSource().getInfo().supportsBatchUpdates() && reuseStatement && !CommonUtils.toBoolean(options.get(DBSDataManipulator.OPTION_DISABLE_BATCHES));
         if (values.size() <= 1) {
             useBatch = false;
@@ -144,13 +146,13 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     for (int i = 0; i < rowValues.length; i++) {
                         nulls[i] = DBUtils.isNullValue(rowValues[i]);
                     }
-                    if (!Arrays.equals(prevNulls, nulls) && statementsInBatch > 0) {
+                    if (!Arrays.equals(prevNulls, nulls) && statement != null) {
                         reuse = false;
                     }
                     System.arraycopy(nulls, 0, prevNulls, 0, nulls.length);
-                    if (!reuse && statementsInBatch > 0) {
+                    if (!reuse && statement != null) {
                         // Flush batch
-                        if (actions == null) {
+                        if (actions == null && statementsInBatch > 0) {
                             flushBatch(statistics, statement);
                         }
                         statement.close();
@@ -35,6 +35,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.AbstractDataSource;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCConnectionImpl;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCFactoryDefault;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCMetaDataCache;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableWithProgress;
@@ -438,6 +439,14 @@ public abstract class JDBCDataSource extends AbstractDataSource
         return jdbcFactory;
     }
 
+    /**
+     * Cache of database metadata calls. Null means that metadata is always read from driver.
+     */
+    @Nullable
+    public JDBCMetaDataCache getMetaDataCache() {
+        return null;
+    }
+
     @NotNull
     @Override
     public JDBCRemoteInstance getDefaultInstance() {
@@ -58,6 +58,37 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
         return JDBCResultSetImpl.makeResultSet(connection, null, resultSet, description, false);
     }
 
+    private interface MetaDataReader {
+        ResultSet read() throws SQLException;
+    }
+
+    /**
+     * Reads metadata result set snapshot from data source metadata cache.
+     * Method arguments are used as cache key.
+     */
+    private JDBCResultSet makeCachedResultSet(MetaDataReader reader, String method, String functionName, Object ... args)
+        throws SQLException
+    {
+        JDBCMetaDataCache cache = connection.getDataSource().getMetaDataCache();
+        if (cache == null || !JDBCMetaDataCache.isCacheable(method)) {
+            return makeResultSet(reader.read(), functionName, args);
+        }
+        JDBCResultSetSnapshot snapshot = cache.getSnapshot(method, args);
+        if (snapshot == null) {
+            ResultSet resultSet = reader.read();
+            if (resultSet == null) {
+                return makeResultSet(null, functionName, args);
+            }
+            try {
+                snapshot = new JDBCResultSetSnapshot(resultSet);
+            } finally {
+                resultSet.close();
+            }
+            cache.putSnapshot(snapshot, method, args);
+        }
+        return makeResultSet(snapshot.openResultSet(), functionName, args);
+    }
+
     @Override
     public JDBCSession getConnection()
     {
@@ -225,18 +256,18 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
     public JDBCResultSet getFunctions(String catalog, String schemaPattern, String functionNamePattern)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getFunctions(catalog, schemaPattern, functionNamePattern),
-            "Load functions", catalog, schemaPattern, functionNamePattern);
+        return makeCachedResultSet(
+            () -> getOriginal().getFunctions(catalog, schemaPattern, functionNamePattern),
+            JDBCMetaDataCache.GET_FUNCTIONS, "Load functions", catalog, schemaPattern, functionNamePattern);
     }
 
     @Override
     public JDBCResultSet getFunctionColumns(String catalog, String schemaPattern, String functionNamePattern, String columnNamePattern)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern),
-            "Load function columns", catalog, schemaPattern, functionNamePattern, columnNamePattern);
+        return makeCachedResultSet(
+            () -> getOriginal().getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern),
+            JDBCMetaDataCache.GET_FUNCTION_COLUMNS, "Load function columns", catalog, schemaPattern, functionNamePattern, columnNamePattern);
     }
 
     @Override
@@ -1093,9 +1124,9 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
     public JDBCResultSet getProcedures(String catalog, String schemaPattern, String procedureNamePattern)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getProcedures(catalog, schemaPattern, procedureNamePattern),
-            "Load procedures", catalog, schemaPattern, procedureNamePattern);
+        return makeCachedResultSet(
+            () -> getOriginal().getProcedures(catalog, schemaPattern, procedureNamePattern),
+            JDBCMetaDataCache.GET_PROCEDURES, "Load procedures", catalog, schemaPattern, procedureNamePattern);
     }
 
     @Override
@@ -1103,18 +1134,18 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
                                          String columnNamePattern)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern),
-            "Load procedure columns", catalog, schemaPattern, procedureNamePattern, columnNamePattern);
+        return makeCachedResultSet(
+            () -> getOriginal().getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern),
+            JDBCMetaDataCache.GET_PROCEDURE_COLUMNS, "Load procedure columns", catalog, schemaPattern, procedureNamePattern, columnNamePattern);
     }
 
     @Override
     public JDBCResultSet getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getTables(catalog, schemaPattern, tableNamePattern, types),
-            "Load tables", catalog, schemaPattern, tableNamePattern, types);
+        return makeCachedResultSet(
+            () -> getOriginal().getTables(catalog, schemaPattern, tableNamePattern, types),
+            JDBCMetaDataCache.GET_TABLES, "Load tables", catalog, schemaPattern, tableNamePattern, types);
     }
 
     @Override
@@ -1148,9 +1179,9 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
     public JDBCResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
-            "Load columns", catalog, schemaPattern, tableNamePattern, columnNamePattern);
+        return makeCachedResultSet(
+            () -> getOriginal().getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+            JDBCMetaDataCache.GET_COLUMNS, "Load columns", catalog, schemaPattern, tableNamePattern, columnNamePattern);
     }
 
     @Override
@@ -1193,27 +1224,27 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
     public JDBCResultSet getPrimaryKeys(String catalog, String schema, String table)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getPrimaryKeys(catalog, schema, table),
-            "Load primary keys", catalog, schema, table);
+        return makeCachedResultSet(
+            () -> getOriginal().getPrimaryKeys(catalog, schema, table),
+            JDBCMetaDataCache.GET_PRIMARY_KEYS, "Load primary keys", catalog, schema, table);
     }
 
     @Override
     public JDBCResultSet getImportedKeys(String catalog, String schema, String table)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getImportedKeys(catalog, schema, table),
-            "Load imported keys", catalog, schema, table);
+        return makeCachedResultSet(
+            () -> getOriginal().getImportedKeys(catalog, schema, table),
+            JDBCMetaDataCache.GET_IMPORTED_KEYS, "Load imported keys", catalog, schema, table);
     }
 
     @Override
     public JDBCResultSet getExportedKeys(String catalog, String schema, String table)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getExportedKeys(catalog, schema, table),
-            "Load exported keys", catalog, schema, table);
+        return makeCachedResultSet(
+            () -> getOriginal().getExportedKeys(catalog, schema, table),
+            JDBCMetaDataCache.GET_EXPORTED_KEYS, "Load exported keys", catalog, schema, table);
     }
 
     @Override
@@ -1240,9 +1271,9 @@ public class JDBCDatabaseMetaDataImpl implements JDBCDatabaseMetaData  {
     public JDBCResultSet getIndexInfo(String catalog, String schema, String table, boolean unique, boolean approximate)
         throws SQLException
     {
-        return makeResultSet(
-            getOriginal().getIndexInfo(catalog, schema, table, unique, approximate),
-            "Load indexes", catalog, schema, table);
+        return makeCachedResultSet(
+            () -> getOriginal().getIndexInfo(catalog, schema, table, unique, approximate),
+            JDBCMetaDataCache.GET_INDEX_INFO, "Load indexes", catalog, schema, table, unique, approximate);
     }
 
     @Override
@@ -0,0 +1,221 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Cache of database metadata result sets.
+ * Snapshots are keyed by metadata method and its arguments and expire after the specified time.
+ * All arguments of cached methods start with catalog, schema and object name (or pattern).
+ * Result of a call for all objects of a schema (bulk call) is used to serve calls for a single object.
+ */
+public class JDBCMetaDataCache {
+
+    public static final String GET_TABLES = "getTables";
+    public static final String GET_COLUMNS = "getColumns";
+    public static final String GET_PRIMARY_KEYS = "getPrimaryKeys";
+    public static final String GET_IMPORTED_KEYS = "getImportedKeys";
+    public static final String GET_EXPORTED_KEYS = "getExportedKeys";
+    public static final String GET_INDEX_INFO = "getIndexInfo";
+    public static final String GET_PROCEDURES = "getProcedures";
+    public static final String GET_PROCEDURE_COLUMNS = "getProcedureColumns";
+    public static final String GET_FUNCTIONS = "getFunctions";
+    public static final String GET_FUNCTION_COLUMNS = "getFunctionColumns";
+
+    private static final int MAX_ENTRIES = 1000;
+
+    // Methods which accept object name pattern and the result column with object name
+    private static final Map<String, String> BULK_METHODS = Map.of(
+        GET_TABLES, "TABLE_NAME",
+        GET_COLUMNS, "TABLE_NAME",
+        GET_PROCEDURES, "PROCEDURE_NAME",
+        GET_PROCEDURE_COLUMNS, "PROCEDURE_NAME",
+        GET_FUNCTIONS, "FUNCTION_NAME",
+        GET_FUNCTION_COLUMNS, "FUNCTION_NAME");
+
+    private static class CacheKey {
+        private final String method;
+        private final Object[] args;
+
+        CacheKey(@NotNull String method, @NotNull Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+
+        @Nullable
+        String getArg(int index) {
+            return args.length > index && args[index] instanceof String ? (String) args[index] : null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey key = (CacheKey) obj;
+            return method.equals(key.method) && Arrays.deepEquals(args, key.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return method.hashCode() * 31 + Arrays.deepHashCode(args);
+        }
+    }
+
+    private static class CacheEntry {
+        private final JDBCResultSetSnapshot snapshot;
+        private final long createTime;
+
+        CacheEntry(@NotNull JDBCResultSetSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.createTime = System.currentTimeMillis();
+        }
+    }
+
+    private final long ttl;
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * @param ttl snapshot time to live in milliseconds
+     */
+    public JDBCMetaDataCache(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getTimeToLive() {
+        return ttl;
+    }
+
+    public static boolean isCacheable(@NotNull String method) {
+        switch (method) {
+            case GET_TABLES:
+            case GET_COLUMNS:
+            case GET_PRIMARY_KEYS:
+            case GET_IMPORTED_KEYS:
+            case GET_EXPORTED_KEYS:
+            case GET_INDEX_INFO:
+            case GET_PROCEDURES:
+            case GET_PROCEDURE_COLUMNS:
+            case GET_FUNCTIONS:
+            case GET_FUNCTION_COLUMNS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns cached snapshot of the call result.
+     * If there is no such call in cache then tries to find bulk call for all objects of the same schema.
+     */
+    @Nullable
+    public synchronized JDBCResultSetSnapshot getSnapshot(@NotNull String method, @NotNull Object... args) {
+        CacheKey key = new CacheKey(method, args);
+        JDBCResultSetSnapshot snapshot = getValidSnapshot(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        String nameColumn = BULK_METHODS.get(method);
+        String objectName = getExactName(key.getArg(2));
+        if (nameColumn == null || objectName == null) {
+            return null;
+        }
+        for (String allPattern : new String[]{"%", null}) {
+            Object[] bulkArgs = args.clone();
+            bulkArgs[2] = allPattern;
+            JDBCResultSetSnapshot bulkSnapshot = getValidSnapshot(new CacheKey(method, bulkArgs));
+            if (bulkSnapshot != null) {
+                return bulkSnapshot.filter(nameColumn, objectName);
+            }
+        }
+        return null;
+    }
+
+    public synchronized void putSnapshot(@NotNull JDBCResultSetSnapshot snapshot, @NotNull String method, @NotNull Object... args) {
+        entries.put(new CacheKey(method, args), new CacheEntry(snapshot));
+    }
+
+    /**
+     * Removes snapshots of the specified object and bulk snapshots which may contain it.
+     * Null catalog, schema or object name matches any value.
+     */
+    public synchronized void invalidate(@Nullable String catalog, @Nullable String schema, @Nullable String objectName) {
+        entries.keySet().removeIf(key ->
+            matches(catalog, key.getArg(0)) &&
+            matches(schema, key.getArg(1)) &&
+            matches(objectName, key.getArg(2)));
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    @Nullable
+    private JDBCResultSetSnapshot getValidSnapshot(@NotNull CacheKey key) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.createTime > ttl) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.snapshot;
+    }
+
+    private static boolean matches(@Nullable String filter, @Nullable String value) {
+        if (filter == null || value == null) {
+            return true;
+        }
+        String exactName = getExactName(value);
+        return exactName == null || CommonUtils.equalObjects(filter, exactName);
+    }
+
+    /**
+     * Removes wildcard escapes from the name. Returns null if name is a pattern.
+     * Unescaped underscore is considered as a part of name because it is common in object names.
+     */
+    @Nullable
+    private static String getExactName(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '\\' && i < name.length() - 1) {
+                result.append(name.charAt(++i));
+            } else if (c == '%') {
+                return null;
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+}
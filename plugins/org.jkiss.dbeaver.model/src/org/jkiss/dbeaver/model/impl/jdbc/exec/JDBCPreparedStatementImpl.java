@@ -39,6 +39,7 @@ import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.*;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -148,6 +149,22 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
         }
     }
 
+    /**
+     * Returns formatted values of bound parameters.
+     * Parameters are saved only if query manager logging is enabled.
+     */
+    @NotNull
+    public Map<Object, String> getBoundParameters() {
+        if (paramMap == null) {
+            return Collections.emptyMap();
+        }
+        Map<Object, String> result = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> param : paramMap.entrySet()) {
+            result.put(param.getKey(), formatParameterValue(param.getValue()));
+        }
+        return result;
+    }
+
     @NotNull
     private String formatParameterValue(Object value) {
         if (value instanceof CharSequence) {
@@ -0,0 +1,282 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Detached copy of a metadata result set.
+ * Snapshot is read once and then can be opened any number of times. Opened result sets are read-only
+ * and forward-only, they support value getters which metadata loaders use.
+ */
+public class JDBCResultSetSnapshot {
+
+    private final int columnCount;
+    // Results of ResultSetMetaData methods with a column index parameter
+    private final Map<String, Object[]> columnInfo;
+    private final Map<String, Integer> columnIndexes;
+    private final List<Object[]> rows;
+
+    private JDBCResultSetSnapshot(JDBCResultSetSnapshot source, List<Object[]> rows) {
+        this.columnCount = source.columnCount;
+        this.columnInfo = source.columnInfo;
+        this.columnIndexes = source.columnIndexes;
+        this.rows = rows;
+    }
+
+    /**
+     * Reads all rows of the result set. Result set is not closed.
+     */
+    public JDBCResultSetSnapshot(@NotNull ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        this.columnCount = metaData.getColumnCount();
+        this.columnInfo = new HashMap<>();
+        for (Method method : ResultSetMetaData.class.getMethods()) {
+            if (method.getParameterCount() != 1 || method.getParameterTypes()[0] != Integer.TYPE) {
+                continue;
+            }
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                try {
+                    values[i] = method.invoke(metaData, i + 1);
+                } catch (Throwable e) {
+                    // Not supported by driver
+                    values[i] = getDefaultValue(method.getReturnType());
+                }
+            }
+            columnInfo.put(method.getName(), values);
+        }
+        this.columnIndexes = new HashMap<>();
+        Object[] labels = columnInfo.get("getColumnLabel");
+        Object[] names = columnInfo.get("getColumnName");
+        for (int i = columnCount - 1; i >= 0; i--) {
+            // The first column with the same name wins
+            if (names[i] != null) {
+                columnIndexes.put(names[i].toString().toUpperCase(Locale.ENGLISH), i);
+            }
+            if (labels[i] != null) {
+                columnIndexes.put(labels[i].toString().toUpperCase(Locale.ENGLISH), i);
+            }
+        }
+        this.rows = new ArrayList<>();
+        while (resultSet.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                try {
+                    row[i] = resultSet.getObject(i + 1);
+                } catch (SQLException e) {
+                    // Some drivers can't convert non-standard types
+                    row[i] = resultSet.getString(i + 1);
+                }
+            }
+            rows.add(row);
+        }
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Returns snapshot with rows which have the specified value in the column.
+     * Returns null if there is no such column.
+     */
+    @Nullable
+    public JDBCResultSetSnapshot filter(@NotNull String columnName, @NotNull String value) {
+        Integer index = columnIndexes.get(columnName.toUpperCase(Locale.ENGLISH));
+        if (index == null) {
+            return null;
+        }
+        List<Object[]> filtered = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[index] != null && value.equals(row[index].toString())) {
+                filtered.add(row);
+            }
+        }
+        return new JDBCResultSetSnapshot(this, filtered);
+    }
+
+    /**
+     * Opens new result set positioned before the first row
+     */
+    @NotNull
+    public ResultSet openResultSet() {
+        return (ResultSet) Proxy.newProxyInstance(
+            JDBCResultSetSnapshot.class.getClassLoader(),
+            new Class[]{ResultSet.class},
+            new CursorHandler());
+    }
+
+    @Nullable
+    private static Object getDefaultValue(Class<?> type) {
+        if (type == Boolean.TYPE) {
+            return false;
+        } else if (type == Integer.TYPE) {
+            return 0;
+        }
+        return null;
+    }
+
+    private class CursorHandler implements InvocationHandler {
+        private final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+            JDBCResultSetSnapshot.class.getClassLoader(),
+            new Class[]{ResultSetMetaData.class},
+            this::invokeMetaData);
+        private int position = -1;
+        private boolean closed;
+        private boolean wasNull;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "next":
+                    checkOpen();
+                    if (position < rows.size()) {
+                        position++;
+                    }
+                    return position < rows.size();
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "wasNull":
+                    return wasNull;
+                case "getMetaData":
+                    return metaData;
+                case "findColumn":
+                    return findColumn((String) args[0]) + 1;
+                case "getRow":
+                    return position < rows.size() ? position + 1 : 0;
+                case "isBeforeFirst":
+                    return position < 0 && !rows.isEmpty();
+                case "isAfterLast":
+                    return position >= rows.size() && !rows.isEmpty();
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "getConcurrency":
+                    return ResultSet.CONCUR_READ_ONLY;
+                case "getFetchSize":
+                    return 0;
+                case "getStatement":
+                case "getWarnings":
+                    return null;
+                case "setFetchSize":
+                case "clearWarnings":
+                    return null;
+                case "isWrapperFor":
+                    return false;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Metadata snapshot (" + rows.size() + " rows)";
+            }
+            if (name.startsWith("get") && args != null && (args.length == 1 || args.length == 2)) {
+                int index = args[0] instanceof String ? findColumn((String) args[0]) : (Integer) args[0] - 1;
+                return getValue(method.getReturnType(), index, args.length == 2 && args[1] instanceof Class ? (Class<?>) args[1] : null);
+            }
+            throw new SQLFeatureNotSupportedException("Metadata snapshot doesn't support " + name);
+        }
+
+        private Object invokeMetaData(Object proxy, Method method, Object[] args) throws SQLException {
+            String name = method.getName();
+            if ("getColumnCount".equals(name)) {
+                return columnCount;
+            } else if ("isWrapperFor".equals(name)) {
+                return false;
+            }
+            Object[] values = columnInfo.get(name);
+            if (values == null || args == null || args.length != 1) {
+                throw new SQLFeatureNotSupportedException("Metadata snapshot doesn't support " + name);
+            }
+            int index = (Integer) args[0] - 1;
+            if (index < 0 || index >= columnCount) {
+                throw new SQLException("Column index " + args[0] + " is out of range");
+            }
+            return values[index];
+        }
+
+        private void checkOpen() throws SQLException {
+            if (closed) {
+                throw new SQLException("Result set is closed");
+            }
+        }
+
+        private int findColumn(String columnLabel) throws SQLException {
+            Integer index = columnIndexes.get(columnLabel.toUpperCase(Locale.ENGLISH));
+            if (index == null) {
+                throw new SQLException("Column '" + columnLabel + "' not found");
+            }
+            return index;
+        }
+
+        private Object getValue(Class<?> type, int index, @Nullable Class<?> targetType) throws SQLException {
+            checkOpen();
+            if (position < 0 || position >= rows.size()) {
+                throw new SQLException("No current row");
+            }
+            if (index < 0 || index >= columnCount) {
+                throw new SQLException("Column index " + (index + 1) + " is out of range");
+            }
+            Object value = rows.get(position)[index];
+            wasNull = value == null;
+            if (targetType != null) {
+                type = targetType;
+            }
+            if (type == Object.class || (value != null && type.isInstance(value))) {
+                return value;
+            } else if (type == String.class) {
+                return value == null ? null : value.toString();
+            } else if (type == Boolean.TYPE || type == Boolean.class) {
+                if (value instanceof Number) {
+                    return ((Number) value).intValue() != 0;
+                }
+                return value == null ? (type == Boolean.TYPE ? false : null) : CommonUtils.toBoolean(value);
+            } else if (type == Integer.TYPE || type == Integer.class) {
+                return value == null && type == Integer.class ? null : CommonUtils.toInt(value);
+            } else if (type == Long.TYPE || type == Long.class) {
+                return value == null && type == Long.class ? null : CommonUtils.toLong(value);
+            } else if (type == Short.TYPE || type == Short.class) {
+                return value == null && type == Short.class ? null : (short) CommonUtils.toInt(value);
+            } else if (type == Byte.TYPE || type == Byte.class) {
+                return value == null && type == Byte.class ? null : (byte) CommonUtils.toInt(value);
+            } else if (type == Double.TYPE || type == Double.class) {
+                return value == null && type == Double.class ? null : CommonUtils.toDouble(value);
+            } else if (type == Float.TYPE || type == Float.class) {
+                return value == null && type == Float.class ? null : (float) CommonUtils.toDouble(value);
+            } else if (type == BigDecimal.class) {
+                return value == null ? null : new BigDecimal(value.toString());
+            } else if (value == null) {
+                return null;
+            }
+            throw new SQLException("Can't convert " + value.getClass().getName() + " to " + type.getName());
+        }
+    }
+
+}
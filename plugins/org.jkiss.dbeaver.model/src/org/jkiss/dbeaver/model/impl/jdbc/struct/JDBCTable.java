@@ -20,6 +20,7 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.exec.*;
@@ -40,6 +41,7 @@ import org.jkiss.dbeaver.model.sql.SQLDialect;
 import org.jkiss.dbeaver.model.sql.SQLExpressionFormatter;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.virtual.DBVDictionaryCache;
 import org.jkiss.dbeaver.model.virtual.DBVEntity;
 import org.jkiss.dbeaver.model.virtual.DBVUtils;
 import org.jkiss.utils.ArrayUtils;
@@ -47,10 +49,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * JDBC abstract table implementation
@@ -62,9 +61,12 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     private static final Log log = Log.getLog(JDBCTable.class);
 
     private static final String DEFAULT_TABLE_ALIAS = "x";
+    // Max number of key values in a single dictionary values query
+    private static final int MAX_DICTIONARY_VALUES_IN_QUERY = 500;
 
     private boolean persisted;
     private boolean allNulls;
+    private volatile DBVDictionaryCache dictionaryCache;
 
     protected JDBCTable(CONTAINER container, boolean persisted)
     {
@@ -111,9 +113,9 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     public String[] getSupportedFeatures()
     {
         if (isTruncateSupported()) {
-            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_DATA_TRUNCATE};
+            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_DATA_TRUNCATE, FEATURE_KEYSET_PAGINATION};
         } else {
-            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE};
+            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_KEYSET_PAGINATION};
         }
     }
 
@@ -136,6 +138,17 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             log.warn(e);
         }
 
+        DBDDataKeyset keyset = dataFilter == null ? null : dataFilter.getKeyset();
+        if (keyset != null && keyset.isSeek()) {
+            // Next segment is located by the keyset values
+            firstRow = 0;
+        } else if (keyset == null && hasLimits &&
+            dataSource.getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION))
+        {
+            // Order by primary key, so the next segments can be read by the key values
+            dataFilter = makeKeysetOrderFilter(monitor, dataFilter);
+        }
+
         DBDPseudoAttribute rowIdAttribute = (flags & FLAG_READ_PSEUDO) != 0 ?
             DBUtils.getRowIdAttribute(this) : null;
 
@@ -224,6 +237,24 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         }
     }
 
+    @Nullable
+    private DBDDataFilter makeKeysetOrderFilter(@NotNull DBRProgressMonitor monitor, @Nullable DBDDataFilter dataFilter) {
+        DBDDataFilter keysetFilter = dataFilter == null ? new DBDDataFilter() : new DBDDataFilter(dataFilter);
+        try {
+            List<DBDAttributeConstraint> keysetOrder = DBDDataKeyset.makeKeysetOrder(
+                keysetFilter,
+                DBDDataKeyset.getPrimaryKeyAttributes(monitor, this));
+            if (keysetOrder == null) {
+                return dataFilter;
+            }
+            keysetFilter.setKeyset(new DBDDataKeyset(keysetOrder, false));
+            return keysetFilter;
+        } catch (DBException e) {
+            log.debug("Can't read primary key of '" + getName() + "': " + e.getMessage());
+            return dataFilter;
+        }
+    }
+
     @NotNull
     protected String getTableName() {
         return getFullyQualifiedName(DBPEvaluationContext.DML);
@@ -315,6 +346,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         throws DBCException
     {
         readRequiredMeta(session.getProgressMonitor());
+        resetDictionaryCache();
 
         boolean multiRowInsertSupported = getDataSource().getSQLDialect().getDefaultMultiValueInsertMode() == SQLDialect.MultiValueInsertMode.GROUP_ROWS;
         if (CommonUtils.toBoolean(options.get(DBSDataManipulator.OPTION_USE_MULTI_INSERT)) && multiRowInsertSupported) {
@@ -345,6 +377,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
                 Collections.emptyMap());
         }
         readRequiredMeta(session.getProgressMonitor());
+        resetDictionaryCache();
 
         DBSAttributeBase[] attributes = ArrayUtils.concatArrays(updateAttributes, keyAttributes);
 
@@ -427,6 +460,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         throws DBCException
     {
         readRequiredMeta(session.getProgressMonitor());
+        resetDictionaryCache();
 
         return new ExecuteBatchImpl(keyAttributes, null, false) {
             @NotNull
@@ -514,7 +548,25 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         int offset,
         int maxResults
     ) throws DBException {
-        return readKeyEnumeration(
+        DBVDictionaryCache cache = getDictionaryCache();
+        List<Object> enumerationKey = null;
+        if (cache != null) {
+            enumerationKey = new ArrayList<>();
+            enumerationKey.add(keyColumn.getName());
+            enumerationKey.add(DBVDictionaryCache.normalizeValue(keyPattern));
+            if (preceedingKeys != null) {
+                for (DBDAttributeValue pk : preceedingKeys) {
+                    enumerationKey.add(pk.getAttribute().getName());
+                    enumerationKey.add(DBVDictionaryCache.normalizeValue(pk.getValue()));
+                }
+            }
+            enumerationKey.addAll(Arrays.asList(caseInsensitiveSearch, sortAsc, sortByValue, offset, maxResults));
+            List<DBDLabelValuePair> enumeration = cache.getEnumeration(enumerationKey);
+            if (enumeration != null) {
+                return enumeration;
+            }
+        }
+        List<DBDLabelValuePair> enumeration = readKeyEnumeration(
             monitor,
             keyColumn,
             keyPattern,
@@ -525,8 +577,16 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             maxResults,
             offset
         );
+        if (cache != null && !monitor.isCanceled()) {
+            cache.putEnumeration(keyColumn, enumerationKey, enumeration);
+        }
+        return enumeration;
     }
 
+    /**
+     * Reads descriptions of the specified key values.
+     * Descriptions are cached. Only values which are not in cache are read, with as few queries as possible.
+     */
     @NotNull
     @Override
     public List<DBDLabelValuePair> getDictionaryValues(
@@ -536,6 +596,89 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         @Nullable List<DBDAttributeValue> preceedingKeys,
         boolean sortByValue,
         boolean sortAsc) throws DBException
+    {
+        DBVDictionaryCache cache = getDictionaryCache();
+        if (cache == null || !CommonUtils.isEmpty(preceedingKeys)) {
+            return readDictionaryValues(monitor, keyColumn, keyValues, preceedingKeys, sortByValue, sortAsc);
+        }
+        Set<Object> distinctValues = new LinkedHashSet<>();
+        for (Object value : keyValues) {
+            if (!DBUtils.isNullValue(value)) {
+                distinctValues.add(value);
+            }
+        }
+        Map<Object, DBDLabelValuePair> cachedValues = cache.getValues(keyColumn, distinctValues);
+        List<DBDLabelValuePair> result = new ArrayList<>();
+        for (DBDLabelValuePair pair : cachedValues.values()) {
+            if (pair != null) {
+                result.add(pair);
+            }
+        }
+        List<Object> missingValues = new ArrayList<>(distinctValues);
+        missingValues.removeAll(cachedValues.keySet());
+        for (int i = 0; i < missingValues.size() && !monitor.isCanceled(); i += MAX_DICTIONARY_VALUES_IN_QUERY) {
+            List<Object> chunk = missingValues.subList(i, Math.min(i + MAX_DICTIONARY_VALUES_IN_QUERY, missingValues.size()));
+            List<DBDLabelValuePair> loadedValues = readDictionaryValues(monitor, keyColumn, chunk, null, sortByValue, sortAsc);
+            cache.putValues(keyColumn, chunk, loadedValues);
+            result.addAll(loadedValues);
+        }
+        if (sortByValue) {
+            result.sort(DBDLabelValuePair::compareTo);
+        } else {
+            result.sort(Comparator.comparing(DBDLabelValuePair::getLabel, Comparator.nullsFirst(Comparator.naturalOrder())));
+        }
+        if (!sortAsc) {
+            Collections.reverse(result);
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public DBDLabelValuePair getCachedDictionaryValue(@NotNull DBSEntityAttribute keyColumn, @NotNull Object keyValue) {
+        DBVDictionaryCache cache = dictionaryCache;
+        if (cache == null || !cache.isValidFor(getCustomDescriptionColumns())) {
+            return null;
+        }
+        return cache.getValues(keyColumn, Collections.singletonList(keyValue)).get(keyValue);
+    }
+
+    @Nullable
+    protected DBVDictionaryCache getDictionaryCache() {
+        String descColumns = getCustomDescriptionColumns();
+        DBVDictionaryCache cache = dictionaryCache;
+        if (cache == null || !cache.isValidFor(descColumns)) {
+            // Description columns were changed by user. Cached labels are obsolete.
+            cache = DBVDictionaryCache.create(getDataSource().getContainer().getPreferenceStore(), descColumns);
+            dictionaryCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Description columns configured in virtual entity. Default description column doesn't change, so it is not checked.
+     */
+    @Nullable
+    private String getCustomDescriptionColumns() {
+        DBVEntity vEntity = DBVUtils.getVirtualEntity((DBSEntity) this, false);
+        return vEntity == null ? null : vEntity.getDescriptionColumnNames();
+    }
+
+    /**
+     * Drops cached dictionary values. Called when table data is changed.
+     */
+    protected void resetDictionaryCache() {
+        dictionaryCache = null;
+    }
+
+    @NotNull
+    private List<DBDLabelValuePair> readDictionaryValues(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntityAttribute keyColumn,
+        @NotNull List<Object> keyValues,
+        @Nullable List<DBDAttributeValue> preceedingKeys,
+        boolean sortByValue,
+        boolean sortAsc) throws DBException
     {
         DBDValueHandler keyValueHandler = DBUtils.findValueHandler(keyColumn.getDataSource(), keyColumn);
 
@@ -58,9 +58,25 @@ public class StandardSQLDialectQueryGenerator implements SQLDialectQueryGenerato
         @Nullable String tableAlias,
         @Nullable DBDDataFilter dataFilter
     ) {
-        if (dataFilter != null && dataFilter.hasConditions()) {
+        if (dataFilter == null) {
+            return;
+        }
+        DBDDataKeyset keyset = dataFilter.getKeyset();
+        boolean seek = keyset != null && keyset.isSeek() && !keyset.getConstraints().isEmpty();
+        if (dataFilter.hasConditions() || seek) {
             query.append("\nWHERE "); //$NON-NLS-1$
-            appendConditionString(dataFilter, dataSource, tableAlias, query, true);
+            if (dataFilter.hasConditions()) {
+                if (seek) {
+                    query.append('(');
+                }
+                appendConditionString(dataFilter, dataSource, tableAlias, query, true);
+                if (seek) {
+                    query.append(") AND ");
+                }
+            }
+            if (seek) {
+                appendKeysetCondition(dataSource, query, tableAlias, keyset.getConstraints(), 0);
+            }
         }
     }
 
@@ -72,14 +88,71 @@ public class StandardSQLDialectQueryGenerator implements SQLDialectQueryGenerato
         @Nullable DBDDataFilter dataFilter
     ) {
         if (dataFilter != null) {
-            // Construct ORDER BY
-            if (dataFilter.hasOrdering()) {
+            DBDDataKeyset keyset = dataFilter.getKeyset();
+            if (keyset != null && !keyset.getConstraints().isEmpty()) {
+                // Keyset ordering includes filter ordering
+                query.append("\nORDER BY "); //$NON-NLS-1$
+                appendKeysetOrder(dataSource, query, tableAlias, keyset.getConstraints());
+            } else if (dataFilter.hasOrdering()) {
+                // Construct ORDER BY
                 query.append("\nORDER BY "); //$NON-NLS-1$
                 appendOrderString(dataFilter, dataSource, tableAlias, false, query);
             }
         }
     }
 
+    /**
+     * Appends (k1 > v1 OR (k1 = v1 AND (k2 > v2 OR ...))) condition.
+     * Row value comparison is not used because it is not supported by some databases
+     * and doesn't work with mixed ordering directions.
+     */
+    private void appendKeysetCondition(
+        @NotNull DBPDataSource dataSource,
+        @NotNull StringBuilder query,
+        @Nullable String tableAlias,
+        @NotNull List<DBDAttributeConstraint> constraints,
+        int index
+    ) {
+        DBDAttributeConstraint constraint = constraints.get(index);
+        String attrName = getKeysetAttributeName(dataSource, tableAlias, constraint);
+        String value = SQLUtils.convertValueToSQL(dataSource, constraint.getAttribute(), constraint.getValue());
+        query.append('(').append(attrName).append(constraint.isOrderDescending() ? " < " : " > ").append(value);
+        if (index < constraints.size() - 1) {
+            query.append(" OR (").append(attrName).append(" = ").append(value).append(" AND ");
+            appendKeysetCondition(dataSource, query, tableAlias, constraints, index + 1);
+            query.append(')');
+        }
+        query.append(')');
+    }
+
+    private void appendKeysetOrder(
+        @NotNull DBPDataSource dataSource,
+        @NotNull StringBuilder query,
+        @Nullable String tableAlias,
+        @NotNull List<DBDAttributeConstraint> constraints
+    ) {
+        for (int i = 0; i < constraints.size(); i++) {
+            DBDAttributeConstraint constraint = constraints.get(i);
+            if (i > 0) {
+                query.append(',');
+            }
+            query.append(getKeysetAttributeName(dataSource, tableAlias, constraint));
+            if (constraint.isOrderDescending()) {
+                query.append(" DESC"); //$NON-NLS-1$
+            }
+        }
+    }
+
+    @NotNull
+    private static String getKeysetAttributeName(
+        @NotNull DBPDataSource dataSource,
+        @Nullable String tableAlias,
+        @NotNull DBDAttributeConstraint constraint
+    ) {
+        String attrName = DBUtils.getQuotedIdentifier(dataSource, constraint.getAttributeName());
+        return tableAlias == null ? attrName : tableAlias + '.' + attrName;
+    }
+
 
     @Override
     public void appendConditionString(
@@ -57,6 +57,8 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBNLazyNode, DB
 
     private volatile boolean locked;
     protected volatile DBNDatabaseNode[] childNodes;
+    // Serializes children loading (e.g. navigator expand and background prefetch)
+    private final transient Object childrenLoadLock = new Object();
     private boolean filtered;
 
     protected DBNDatabaseNode(DBNNode parentNode) {
@@ -222,18 +224,21 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBNLazyNode, DB
             needsLoad = childNodes == null && hasChildren(false);
         }
         if (needsLoad) {
-            if (this.initializeNode(monitor, null)) {
-                final List<DBNDatabaseNode> tmpList = new ArrayList<>();
-                loadChildren(monitor, getMeta(), null, tmpList, this, true);
-                if (!monitor.isCanceled()) {
-                    synchronized (this) {
-                        if (tmpList.isEmpty()) {
-                            this.childNodes = EMPTY_NODES;
-                        } else {
-                            this.childNodes = tmpList.toArray(new DBNDatabaseNode[0]);
+            synchronized (childrenLoadLock) {
+                // Children may be loaded by another thread while we were waiting
+                if (childNodes == null && this.initializeNode(monitor, null)) {
+                    final List<DBNDatabaseNode> tmpList = new ArrayList<>();
+                    loadChildren(monitor, getMeta(), null, tmpList, this, true);
+                    if (!monitor.isCanceled()) {
+                        synchronized (this) {
+                            if (tmpList.isEmpty()) {
+                                this.childNodes = EMPTY_NODES;
+                            } else {
+                                this.childNodes = tmpList.toArray(new DBNDatabaseNode[0]);
+                            }
                         }
+                        this.afterChildRead();
                     }
-                    this.afterChildRead();
                 }
             }
         }
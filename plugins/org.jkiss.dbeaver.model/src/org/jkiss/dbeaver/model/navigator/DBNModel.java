@@ -44,6 +44,7 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -86,7 +87,9 @@ public class DBNModel implements IResourceChangeListener {
     private final List<INavigatorListener> listeners = new ArrayList<>();
     private transient INavigatorListener[] listenersCopy = null;
     private final transient List<DBNEvent> eventCache = new ArrayList<>();
-    private final Map<DBSObject, Object> nodeMap = new HashMap<>();
+    // Object -> node or immutable list of nodes. Lists are replaced, never modified.
+    private final Map<DBSObject, Object> nodeMap = new ConcurrentHashMap<>();
+    private final DBNNodePrefetcher prefetcher = new DBNNodePrefetcher();
     private final List<Function<DBNNode, Boolean>> nodeFilters = new ArrayList<>();
 
     private SMSessionContext modelAuthContext;
@@ -147,11 +150,10 @@ public class DBNModel implements IResourceChangeListener {
             }
         }
 
+        prefetcher.dispose();
         if (root != null) {
             this.root.dispose(false);
-            synchronized (nodeMap) {
-                this.nodeMap.clear();
-            }
+            this.nodeMap.clear();
             this.root = null;
         }
         synchronized (this.listeners) {
@@ -180,6 +182,14 @@ public class DBNModel implements IResourceChangeListener {
         }
     }
 
+    /**
+     * Loads children of the specified nodes in background, so they are ready when user expands them.
+     * Does nothing if prefetch is disabled for nodes data source.
+     */
+    public void prefetchChildren(@NotNull DBNNode[] nodes) {
+        prefetcher.prefetch(nodes);
+    }
+
     @Nullable
     public DBNDatabaseNode getNodeByObject(DBSObject object)
     {
@@ -187,11 +197,11 @@ public class DBNModel implements IResourceChangeListener {
             return (DBNDatabaseNode)object;
         }
         object = DBUtils.getPublicObjectContainer(object);
-
-        Object obj;
-        synchronized (nodeMap) {
-            obj = nodeMap.get(object);
+        if (object == null) {
+            return null;
         }
+
+        Object obj = nodeMap.get(object);
         if (obj == null) {
             return null;
         } else if (obj instanceof DBNDatabaseNode) {
@@ -536,24 +546,27 @@ public class DBNModel implements IResourceChangeListener {
 
     void addNode(DBNDatabaseNode node, boolean reflect)
     {
-        synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
+        DBSObject object = node.getObject();
+        if (object == null) {
+            return;
+        }
+        nodeMap.compute(object, (o, obj) -> {
             if (obj == null) {
                 // New node
-                nodeMap.put(node.getObject(), node);
-            } else if (obj instanceof DBNNode) {
-                // Second node - make a list
-                List<DBNNode> nodeList = new ArrayList<>(2);
-                nodeList.add((DBNNode)obj);
-                nodeList.add(node);
-                nodeMap.put(node.getObject(), nodeList);
-            } else if (obj instanceof List) {
-                // Multiple nodes
+                return node;
+            }
+            // Second node - make a list. Multiple nodes - make a new list.
+            List<DBNNode> nodeList = new ArrayList<>(2);
+            if (obj instanceof DBNNode) {
+                nodeList.add((DBNNode) obj);
+            } else {
                 @SuppressWarnings("unchecked")
-                List<DBNNode> nodeList = (List<DBNNode>) obj;
-                nodeList.add(node);
+                List<DBNNode> oldList = (List<DBNNode>) obj;
+                nodeList.addAll(oldList);
             }
-        }
+            nodeList.add(node);
+            return Collections.unmodifiableList(nodeList);
+        });
         if (reflect) {
             this.fireNodeEvent(new DBNEvent(this, DBNEvent.Action.ADD, DBNEvent.NodeChange.LOAD, node));
         }
@@ -561,30 +574,35 @@ public class DBNModel implements IResourceChangeListener {
 
     void removeNode(DBNDatabaseNode node, boolean reflect)
     {
-        boolean badNode = false;
-        synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
-            if (obj == null) {
-                // No found
-                badNode = true;
-            } else if (obj instanceof DBNNode) {
-                // Just remove it
-                if (nodeMap.remove(node.getObject()) != node) {
-                    badNode = true;
-                }
-            } else if (obj instanceof List) {
-                // Multiple nodes
-                @SuppressWarnings("unchecked")
-                List<DBNNode> nodeList = (List<DBNNode>) obj;
-                if (!nodeList.remove(node)) {
-                    badNode = true;
-                }
-                if (nodeList.isEmpty()) {
-                    nodeMap.remove(node.getObject());
+        boolean[] badNode = new boolean[1];
+        DBSObject object = node.getObject();
+        if (object == null) {
+            badNode[0] = true;
+        } else {
+            nodeMap.compute(object, (o, obj) -> {
+                if (obj == null) {
+                    // No found
+                    badNode[0] = true;
+                    return null;
+                } else if (obj instanceof DBNNode) {
+                    // Just remove it
+                    if (obj != node) {
+                        badNode[0] = true;
+                        return obj;
+                    }
+                    return null;
+                } else {
+                    // Multiple nodes
+                    @SuppressWarnings("unchecked")
+                    List<DBNNode> nodeList = new ArrayList<>((List<DBNNode>) obj);
+                    if (!nodeList.remove(node)) {
+                        badNode[0] = true;
+                    }
+                    return nodeList.isEmpty() ? null : Collections.unmodifiableList(nodeList);
                 }
-            }
+            });
         }
-        if (badNode) {
+        if (badNode[0]) {
             log.warn("Remove unregistered meta node object " + node.getNodeName());
         } else {
             if (reflect) {
@@ -0,0 +1,168 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.navigator;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+
+import java.util.*;
+
+/**
+ * Navigator children prefetcher.
+ * Loads next level of children for visible nodes in background.
+ * Each data source is served by a bounded number of jobs, nodes are loaded in order of request.
+ * Only containers (schemas, catalogs, folders) are prefetched. Entities children are loaded on demand.
+ */
+class DBNNodePrefetcher {
+
+    private static final Log log = Log.getLog(DBNNodePrefetcher.class);
+
+    // Maximum number of nodes prefetched for one expanded parent
+    private static final int MAX_PREFETCH_NODES = 100;
+
+    private static class DataSourceQueue {
+        private final Set<DBNDatabaseNode> pending = new LinkedHashSet<>();
+        private int runningJobs;
+    }
+
+    private final Map<DBPDataSourceContainer, DataSourceQueue> queues = new HashMap<>();
+    private volatile boolean disposed;
+
+    void prefetch(@NotNull DBNNode[] nodes) {
+        if (disposed) {
+            return;
+        }
+        int count = 0;
+        for (DBNNode node : nodes) {
+            if (count >= MAX_PREFETCH_NODES) {
+                break;
+            }
+            if (!(node instanceof DBNDatabaseNode) || !isPrefetchable((DBNDatabaseNode) node)) {
+                continue;
+            }
+            DBNDatabaseNode dbNode = (DBNDatabaseNode) node;
+            DBPDataSourceContainer container = dbNode.getDataSourceContainer();
+            DBPPreferenceStore store = container.getPreferenceStore();
+            if (!store.getBoolean(ModelPreferences.NAVIGATOR_PREFETCH_CHILDREN)) {
+                // Setting is the same for all nodes of the data source
+                return;
+            }
+            int maxJobs = Math.max(store.getInt(ModelPreferences.NAVIGATOR_PREFETCH_THREADS), 1);
+            boolean startJob = false;
+            synchronized (queues) {
+                DataSourceQueue queue = queues.computeIfAbsent(container, c -> new DataSourceQueue());
+                if (queue.pending.add(dbNode)) {
+                    count++;
+                    if (queue.runningJobs < maxJobs) {
+                        queue.runningJobs++;
+                        startJob = true;
+                    }
+                }
+            }
+            if (startJob) {
+                new PrefetchJob(container).schedule();
+            }
+        }
+    }
+
+    void dispose() {
+        disposed = true;
+        synchronized (queues) {
+            for (DataSourceQueue queue : queues.values()) {
+                queue.pending.clear();
+            }
+        }
+    }
+
+    private static boolean isPrefetchable(@NotNull DBNDatabaseNode node) {
+        if (node.isDisposed() || !node.needsInitialization()) {
+            return false;
+        }
+        if (!node.getDataSourceContainer().isConnected()) {
+            return false;
+        }
+        if (node instanceof DBNDatabaseFolder) {
+            return true;
+        }
+        return node.getObject() instanceof DBSObjectContainer && !(node.getObject() instanceof DBSEntity);
+    }
+
+    @Nullable
+    private DBNDatabaseNode nextNode(@NotNull DBPDataSourceContainer container) {
+        synchronized (queues) {
+            DataSourceQueue queue = queues.get(container);
+            if (queue == null) {
+                return null;
+            }
+            Iterator<DBNDatabaseNode> iterator = queue.pending.iterator();
+            if (disposed || !iterator.hasNext() || !container.isConnected()) {
+                queue.pending.clear();
+                queue.runningJobs--;
+                if (queue.runningJobs <= 0) {
+                    queues.remove(container);
+                }
+                return null;
+            }
+            DBNDatabaseNode node = iterator.next();
+            iterator.remove();
+            return node;
+        }
+    }
+
+    private class PrefetchJob extends AbstractJob {
+
+        private final DBPDataSourceContainer container;
+
+        PrefetchJob(@NotNull DBPDataSourceContainer container) {
+            super("Prefetch navigator nodes of '" + container.getName() + "'");
+            this.container = container;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            for (DBNDatabaseNode node = nextNode(container); node != null; node = nextNode(container)) {
+                if (monitor.isCanceled()) {
+                    // Drain the queue
+                    continue;
+                }
+                if (node.isDisposed() || !node.needsInitialization()) {
+                    continue;
+                }
+                try {
+                    node.getChildren(monitor);
+                } catch (DBException e) {
+                    log.debug("Error prefetching children of '" + node.getNodeName() + "': " + e.getMessage());
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -31,6 +31,8 @@ public class QMConstants {
     public static final String PROP_HISTORY_DAYS = PROP_PREFIX + "historyDays";
     public static final String PROP_STORE_LOG_FILE = PROP_PREFIX + "storeLogs";
     public static final String PROP_LOG_DIRECTORY = PROP_PREFIX + "logDirectory";
+    public static final String PROP_STATISTICS_ENABLED = PROP_PREFIX + "statistics.enabled";
+    public static final String PROP_SLOW_QUERY_THRESHOLD = PROP_PREFIX + "statistics.slowQueryThreshold";
 
     public static final int EVENT_TYPE_SESSION = 1;
     public static final int EVENT_TYPE_TXN = 2;
@@ -16,8 +16,10 @@
  */
 package org.jkiss.dbeaver.model.qm;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.qm.meta.QMMConnectionInfo;
+import org.jkiss.dbeaver.model.qm.stats.QMStatistics;
 
 /**
  * Query manager execution handler implementation
@@ -25,4 +27,10 @@ import org.jkiss.dbeaver.model.qm.meta.QMMConnectionInfo;
 public interface QMMCollector extends QMExecutionHandler {
 
     QMMConnectionInfo getConnectionInfo(DBCExecutionContext context);
+
+    /**
+     * Aggregated queries execution statistics
+     */
+    @NotNull
+    QMStatistics getStatistics();
 }
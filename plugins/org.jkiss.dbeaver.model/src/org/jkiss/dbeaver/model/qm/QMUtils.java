@@ -37,6 +37,7 @@ import org.jkiss.dbeaver.model.qm.meta.QMMConnectionInfo;
 import org.jkiss.dbeaver.model.qm.meta.QMMStatementExecuteInfo;
 import org.jkiss.dbeaver.model.qm.meta.QMMTransactionInfo;
 import org.jkiss.dbeaver.model.qm.meta.QMMTransactionSavepointInfo;
+import org.jkiss.dbeaver.model.qm.stats.QMStatistics;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.LoggingProgressMonitor;
 import org.jkiss.utils.CommonUtils;
@@ -83,6 +84,17 @@ public class QMUtils {
         application.getQueryManager().unregisterMetaListener(metaListener);
     }
 
+    /**
+     * Returns aggregated query execution statistics or null if query manager isn't initialized
+     */
+    @Nullable
+    public static QMStatistics getStatistics() {
+        if (application == null || application.getQueryManager().getMetaCollector() == null) {
+            return null;
+        }
+        return application.getQueryManager().getMetaCollector().getStatistics();
+    }
+
     @Nullable
     public static QMEventBrowser getEventBrowser(boolean currentSessionOnly) {
         if (application == null) {
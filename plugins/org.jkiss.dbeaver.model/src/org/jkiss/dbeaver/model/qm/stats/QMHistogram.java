@@ -0,0 +1,130 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.qm.stats;
+
+import java.util.Arrays;
+
+/**
+ * Compact histogram of non-negative long values.
+ * Values below 128 are counted exactly. Greater values are counted in log-linear buckets: each power of two
+ * is split into 64 sub-buckets, so relative error of reported percentiles is below 1.6%
+ * (similar to HdrHistogram with 2 significant digits). Buckets array grows on demand.
+ */
+public class QMHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_RANGE = SUB_BUCKET_COUNT * 2;
+    private static final int MAX_BUCKETS = getBucketIndex(Long.MAX_VALUE) + 1;
+
+    private long[] counts = new long[LINEAR_RANGE];
+    private long totalCount;
+    private long totalSum;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+
+    public synchronized void recordValue(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int index = getBucketIndex(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.min(Math.max(index + 1, counts.length * 2), MAX_BUCKETS));
+        }
+        counts[index]++;
+        totalCount++;
+        totalSum += value;
+        if (value < minValue) {
+            minValue = value;
+        }
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMinValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public synchronized long getMaxValue() {
+        return maxValue;
+    }
+
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : (double) totalSum / totalCount;
+    }
+
+    /**
+     * Returns value at the specified percentile (0..100).
+     * Returned value is the highest value of the bucket which contains the percentile, but not greater than max value.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double requested = Math.min(Math.max(percentile, 0.0), 100.0);
+        long countAtPercentile = Math.max((long) Math.ceil(requested / 100.0 * totalCount), 1);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= countAtPercentile) {
+                return Math.min(getBucketHighestValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public synchronized void reset() {
+        counts = new long[LINEAR_RANGE];
+        totalCount = 0;
+        totalSum = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < LINEAR_RANGE) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return LINEAR_RANGE + (magnitude - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+    }
+
+    static long getBucketHighestValue(int index) {
+        if (index < LINEAR_RANGE) {
+            return index;
+        }
+        int offset = index - LINEAR_RANGE;
+        int magnitude = offset / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        long subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long nextLowest = (subBucket + 1) << shift;
+        return nextLowest < 0 ? Long.MAX_VALUE : nextLowest - 1;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "count=" + totalCount + ", min=" + getMinValue() + ", max=" + maxValue +
+            ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.qm.stats;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+/**
+ * Execution statistics of a query (or of all queries of a data source).
+ * Times are in milliseconds.
+ */
+public class QMQueryStatistics {
+
+    private final String dataSourceId;
+    private final String dataSourceName;
+    private final String fingerprint;
+    private volatile String queryText;
+    private final QMHistogram executeTime = new QMHistogram();
+    private final QMHistogram fetchTime = new QMHistogram();
+    private final QMHistogram rows = new QMHistogram();
+    private volatile long errorCount;
+    private volatile long lastExecuteTime;
+
+    QMQueryStatistics(@NotNull String dataSourceId, @NotNull String dataSourceName, @Nullable String fingerprint) {
+        this.dataSourceId = dataSourceId;
+        this.dataSourceName = dataSourceName;
+        this.fingerprint = fingerprint;
+    }
+
+    @NotNull
+    public String getDataSourceId() {
+        return dataSourceId;
+    }
+
+    @NotNull
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
+    /**
+     * Normalized query fingerprint. Null for the data source totals.
+     */
+    @Nullable
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Text of the last executed query with this fingerprint
+     */
+    @Nullable
+    public String getQueryText() {
+        return queryText;
+    }
+
+    @NotNull
+    public QMHistogram getExecuteTime() {
+        return executeTime;
+    }
+
+    @NotNull
+    public QMHistogram getFetchTime() {
+        return fetchTime;
+    }
+
+    /**
+     * Fetched or updated rows
+     */
+    @NotNull
+    public QMHistogram getRows() {
+        return rows;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getLastExecuteTime() {
+        return lastExecuteTime;
+    }
+
+    void recordExecute(@NotNull String queryText, long time, long updateRows, boolean error) {
+        this.queryText = queryText;
+        this.lastExecuteTime = System.currentTimeMillis();
+        executeTime.recordValue(time);
+        if (updateRows >= 0) {
+            rows.recordValue(updateRows);
+        }
+        if (error) {
+            errorCount++;
+        }
+    }
+
+    void recordFetch(long time, long fetchRows) {
+        fetchTime.recordValue(time);
+        rows.recordValue(fetchRows);
+    }
+
+    @Override
+    public String toString() {
+        return dataSourceName + ": " + (fingerprint == null ? "<total>" : queryText) + " [" + executeTime + "]";
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.qm.stats;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.Map;
+
+/**
+ * Slow query captured by query manager.
+ * Times are in milliseconds.
+ */
+public class QMSlowQuery {
+
+    private final long time;
+    private final String dataSourceId;
+    private final String dataSourceName;
+    private final String contextName;
+    private final String fingerprint;
+    private final String queryText;
+    private final Map<Object, String> parameters;
+    private final long executeTime;
+    private final long fetchTime;
+    private final long rows;
+    private final String errorMessage;
+
+    public QMSlowQuery(
+        long time,
+        @NotNull String dataSourceId,
+        @NotNull String dataSourceName,
+        @Nullable String contextName,
+        @NotNull String fingerprint,
+        @NotNull String queryText,
+        @NotNull Map<Object, String> parameters,
+        long executeTime,
+        long fetchTime,
+        long rows,
+        @Nullable String errorMessage
+    ) {
+        this.time = time;
+        this.dataSourceId = dataSourceId;
+        this.dataSourceName = dataSourceName;
+        this.contextName = contextName;
+        this.fingerprint = fingerprint;
+        this.queryText = queryText;
+        this.parameters = parameters;
+        this.executeTime = executeTime;
+        this.fetchTime = fetchTime;
+        this.rows = rows;
+        this.errorMessage = errorMessage;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    @NotNull
+    public String getDataSourceId() {
+        return dataSourceId;
+    }
+
+    @NotNull
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
+    @Nullable
+    public String getContextName() {
+        return contextName;
+    }
+
+    /**
+     * Query fingerprint. Execution plans history of the query is kept under the same fingerprint.
+     */
+    @NotNull
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @NotNull
+    public String getQueryText() {
+        return queryText;
+    }
+
+    /**
+     * Bound parameters values (parameter index or name to formatted value)
+     */
+    @NotNull
+    public Map<Object, String> getParameters() {
+        return parameters;
+    }
+
+    public long getExecuteTime() {
+        return executeTime;
+    }
+
+    public long getFetchTime() {
+        return fetchTime;
+    }
+
+    public long getDuration() {
+        return executeTime + fetchTime;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Nullable
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public String toString() {
+        return dataSourceName + ": " + queryText + " (" + getDuration() + "ms)";
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.qm.stats;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.sql.SQLQueryFingerprint;
+
+import java.util.*;
+
+/**
+ * Aggregated query execution statistics.
+ * Latency, fetch time and rows histograms are kept per data source and per query fingerprint.
+ * Queries which take longer than the threshold are captured with their parameters.
+ * Statistics is kept in memory only.
+ */
+public class QMStatistics {
+
+    public static final int MAX_QUERIES_PER_DATA_SOURCE = 500;
+    public static final int MAX_SLOW_QUERIES = 200;
+    private static final int MAX_FINGERPRINT_CACHE_SIZE = 1000;
+
+    private static class DataSourceStatistics {
+        private final QMQueryStatistics total;
+        // Least recently executed queries are evicted first
+        private final LinkedHashMap<String, QMQueryStatistics> queries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QMQueryStatistics> eldest) {
+                return size() > MAX_QUERIES_PER_DATA_SOURCE;
+            }
+        };
+
+        DataSourceStatistics(@NotNull String dataSourceId, @NotNull String dataSourceName) {
+            this.total = new QMQueryStatistics(dataSourceId, dataSourceName, null);
+        }
+    }
+
+    private final Map<String, DataSourceStatistics> dataSources = new LinkedHashMap<>();
+    private final Deque<QMSlowQuery> slowQueries = new ArrayDeque<>();
+    // Normalization is much more expensive than map lookup, and the same queries are executed again and again
+    private final LinkedHashMap<String, String> fingerprintCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_FINGERPRINT_CACHE_SIZE;
+        }
+    };
+
+    private volatile boolean enabled = true;
+    private volatile long slowQueryThreshold;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Slow query threshold in milliseconds. Zero or negative value disables slow queries capture.
+     */
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public void setSlowQueryThreshold(long slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    public boolean isSlowQuery(long duration) {
+        long threshold = slowQueryThreshold;
+        return threshold > 0 && duration >= threshold;
+    }
+
+    @NotNull
+    public synchronized String getFingerprint(@NotNull String queryText) {
+        return fingerprintCache.computeIfAbsent(queryText, SQLQueryFingerprint::getFingerprint);
+    }
+
+    /**
+     * Records statement execution.
+     *
+     * @param updateRows rows updated by the statement or -1 if statement returned result set
+     */
+    public synchronized void recordExecute(
+        @NotNull String dataSourceId,
+        @NotNull String dataSourceName,
+        @NotNull String queryText,
+        long executeTime,
+        long updateRows,
+        boolean error
+    ) {
+        DataSourceStatistics dsStats = getDataSourceStats(dataSourceId, dataSourceName);
+        dsStats.total.recordExecute(queryText, executeTime, updateRows, error);
+        getQueryStats(dsStats, queryText).recordExecute(queryText, executeTime, updateRows, error);
+    }
+
+    /**
+     * Records result set fetch
+     */
+    public synchronized void recordFetch(
+        @NotNull String dataSourceId,
+        @NotNull String dataSourceName,
+        @NotNull String queryText,
+        long fetchTime,
+        long rows
+    ) {
+        DataSourceStatistics dsStats = getDataSourceStats(dataSourceId, dataSourceName);
+        dsStats.total.recordFetch(fetchTime, rows);
+        getQueryStats(dsStats, queryText).recordFetch(fetchTime, rows);
+    }
+
+    public synchronized void addSlowQuery(@NotNull QMSlowQuery query) {
+        slowQueries.addFirst(query);
+        while (slowQueries.size() > MAX_SLOW_QUERIES) {
+            slowQueries.removeLast();
+        }
+    }
+
+    /**
+     * Returns statistics of all queries of the data source or of all data sources
+     */
+    @NotNull
+    public synchronized List<QMQueryStatistics> getQueryStatistics(@Nullable String dataSourceId) {
+        List<QMQueryStatistics> result = new ArrayList<>();
+        for (Map.Entry<String, DataSourceStatistics> entry : dataSources.entrySet()) {
+            if (dataSourceId == null || dataSourceId.equals(entry.getKey())) {
+                result.addAll(entry.getValue().queries.values());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns totals of all queries of the data source
+     */
+    @Nullable
+    public synchronized QMQueryStatistics getDataSourceStatistics(@NotNull String dataSourceId) {
+        DataSourceStatistics dsStats = dataSources.get(dataSourceId);
+        return dsStats == null ? null : dsStats.total;
+    }
+
+    @NotNull
+    public synchronized List<QMQueryStatistics> getDataSourceStatistics() {
+        List<QMQueryStatistics> result = new ArrayList<>(dataSources.size());
+        for (DataSourceStatistics dsStats : dataSources.values()) {
+            result.add(dsStats.total);
+        }
+        return result;
+    }
+
+    /**
+     * Returns slow queries, the most recent first
+     */
+    @NotNull
+    public synchronized List<QMSlowQuery> getSlowQueries() {
+        return new ArrayList<>(slowQueries);
+    }
+
+    public synchronized void clear() {
+        dataSources.clear();
+        slowQueries.clear();
+    }
+
+    @NotNull
+    private DataSourceStatistics getDataSourceStats(@NotNull String dataSourceId, @NotNull String dataSourceName) {
+        return dataSources.computeIfAbsent(dataSourceId, id -> new DataSourceStatistics(id, dataSourceName));
+    }
+
+    @NotNull
+    private QMQueryStatistics getQueryStats(@NotNull DataSourceStatistics dsStats, @NotNull String queryText) {
+        String fingerprint = getFingerprint(queryText);
+        return dsStats.queries.computeIfAbsent(
+            fingerprint,
+            fp -> new QMQueryStatistics(dsStats.total.getDataSourceId(), dsStats.total.getDataSourceName(), fp));
+    }
+
+}
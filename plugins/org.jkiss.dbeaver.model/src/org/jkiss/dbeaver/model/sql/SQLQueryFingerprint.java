@@ -0,0 +1,242 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.utils.CommonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * Query fingerprint.
+ * Queries which differ only in literal values, parameters, comments, whitespaces and keywords case
+ * have the same fingerprint. Lists of literals (e.g. in IN clause) are collapsed into a single literal.
+ */
+public class SQLQueryFingerprint {
+
+    private static final char LITERAL = '?';
+
+    private SQLQueryFingerprint() {
+    }
+
+    /**
+     * Returns fingerprint (hex digest) of the normalized query text
+     */
+    @NotNull
+    public static String getFingerprint(@NotNull String query) {
+        return getNormalizedFingerprint(normalize(query));
+    }
+
+    /**
+     * Returns fingerprint of the query text which was already normalized with {@link #normalize(String, boolean)}
+     */
+    @NotNull
+    public static String getNormalizedFingerprint(@NotNull String normalizedQuery) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return CommonUtils.toHexString(md.digest(normalizedQuery.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Normalizes query with standard string literals, where backslash is not an escape character.
+     */
+    @NotNull
+    public static String normalize(@NotNull String query) {
+        return normalize(query, false);
+    }
+
+    /**
+     * Replaces literals and parameters with '?', removes comments, collapses whitespaces and
+     * converts unquoted words to lower case.
+     *
+     * @param backslashEscapes backslash escapes characters in string literals (see {@link SQLDialect#getStringEscapeCharacter()}).
+     *                         E'...' strings always use backslash escapes.
+     */
+    @NotNull
+    public static String normalize(@NotNull String query, boolean backslashEscapes) {
+        StringBuilder result = new StringBuilder(query.length());
+        int length = query.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; ) {
+            char c = query.charAt(i);
+            int next;
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            } else if (c == '-' && i + 1 < length && query.charAt(i + 1) == '-') {
+                next = query.indexOf('\n', i);
+                i = next < 0 ? length : next + 1;
+                pendingSpace = true;
+                continue;
+            } else if (c == '/' && i + 1 < length && query.charAt(i + 1) == '*') {
+                next = query.indexOf("*/", i + 2);
+                i = next < 0 ? length : next + 2;
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && result.length() > 0) {
+                result.append(' ');
+            }
+            pendingSpace = false;
+            if (c == '\'') {
+                i = skipQuoted(query, i, '\'', backslashEscapes);
+                appendLiteral(result);
+            } else if (c == '"' || c == '`') {
+                next = skipQuoted(query, i, c, false);
+                result.append(query, i, next);
+                i = next;
+            } else if (c == '[') {
+                next = query.indexOf(']', i);
+                next = next < 0 ? length : next + 1;
+                result.append(query, i, next);
+                i = next;
+            } else if (c == '$' && i + 1 < length && Character.isDigit(query.charAt(i + 1))) {
+                // Positional parameter
+                i = skipWhile(query, i + 1, Character::isDigit);
+                appendLiteral(result);
+            } else if (c == '$') {
+                // Dollar-quoted string
+                int tagEnd = query.indexOf('$', i + 1);
+                String tag = tagEnd < 0 ? null : query.substring(i, tagEnd + 1);
+                if (tag != null && isIdentifier(tag.substring(1, tag.length() - 1))) {
+                    next = query.indexOf(tag, tagEnd + 1);
+                    i = next < 0 ? length : next + tag.length();
+                    appendLiteral(result);
+                } else {
+                    result.append(c);
+                    i++;
+                }
+            } else if ((c == ':' || c == '@') && i + 1 < length && Character.isJavaIdentifierStart(query.charAt(i + 1)) &&
+                (i == 0 || query.charAt(i - 1) != ':')) {
+                // Named parameter
+                i = skipWhile(query, i + 1, Character::isJavaIdentifierPart);
+                appendLiteral(result);
+            } else if (c == '?') {
+                appendLiteral(result);
+                i++;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(query.charAt(i + 1)))) {
+                i = skipNumber(query, i);
+                appendLiteral(result);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                next = skipWhile(query, i, Character::isJavaIdentifierPart);
+                if (next == i + 1 && next < length && query.charAt(next) == '\'' && "NnEeXxBbUu".indexOf(c) >= 0) {
+                    // Prefixed string literal
+                    i = skipQuoted(query, next, '\'', backslashEscapes || c == 'E' || c == 'e');
+                    appendLiteral(result);
+                } else {
+                    result.append(query.substring(i, next).toLowerCase(Locale.ENGLISH));
+                    i = next;
+                }
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        // Trailing delimiter
+        while (result.length() > 0 && (result.charAt(result.length() - 1) == ';' || result.charAt(result.length() - 1) == ' ')) {
+            result.setLength(result.length() - 1);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Appends literal. Literals list ("?, ?, ?") is collapsed into a single literal.
+     */
+    private static void appendLiteral(@NotNull StringBuilder result) {
+        int pos = result.length() - 1;
+        while (pos >= 0 && result.charAt(pos) == ' ') {
+            pos--;
+        }
+        if (pos >= 0 && result.charAt(pos) == ',') {
+            int prev = pos - 1;
+            while (prev >= 0 && result.charAt(prev) == ' ') {
+                prev--;
+            }
+            if (prev >= 0 && result.charAt(prev) == LITERAL) {
+                result.setLength(prev + 1);
+                return;
+            }
+        }
+        result.append(LITERAL);
+    }
+
+    private static int skipQuoted(@NotNull String query, int start, char quote, boolean backslashEscapes) {
+        int length = query.length();
+        for (int i = start + 1; i < length; i++) {
+            char c = query.charAt(i);
+            if (c == '\\' && backslashEscapes) {
+                i++;
+            } else if (c == quote) {
+                if (i + 1 < length && query.charAt(i + 1) == quote) {
+                    // Escaped quote
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return length;
+    }
+
+    private static int skipNumber(@NotNull String query, int start) {
+        int length = query.length();
+        int i = start;
+        if (query.startsWith("0x", i) || query.startsWith("0X", i)) {
+            return skipWhile(query, i + 2, ch -> Character.digit(ch, 16) >= 0);
+        }
+        i = skipWhile(query, i, ch -> Character.isDigit(ch) || ch == '.');
+        if (i < length && (query.charAt(i) == 'e' || query.charAt(i) == 'E')) {
+            int exp = i + 1;
+            if (exp < length && (query.charAt(exp) == '+' || query.charAt(exp) == '-')) {
+                exp++;
+            }
+            if (exp < length && Character.isDigit(query.charAt(exp))) {
+                i = skipWhile(query, exp, Character::isDigit);
+            }
+        }
+        return i;
+    }
+
+    private static int skipWhile(@NotNull String query, int start, @NotNull CharPredicate predicate) {
+        int i = start;
+        while (i < query.length() && predicate.test(query.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifier(@NotNull String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isJavaIdentifierPart(text.charAt(i)) || text.charAt(i) == '$') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private interface CharPredicate {
+        boolean test(char c);
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+
+/**
+ * Data container which can estimate its row count without reading the data.
+ * Estimates are taken from the catalog statistics or from the optimizer plan, so they are instant
+ * but may be outdated. Exact row count is still available with {@link DBSDataContainer#countData}.
+ */
+public interface DBSDataRowCountEstimator {
+
+    /**
+     * Returns estimated row count or -1 if estimate is not available
+     * (e.g. statistics were never collected or filter is not supported).
+     */
+    long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException;
+
+}
@@ -75,4 +75,15 @@ public interface DBSDictionary
         boolean sortAsc
     ) throws DBException;
 
+    /**
+     * Returns description of key value if it was already read (e.g. by {@link #getDictionaryValues}).
+     * Never reads database.
+     *
+     * @return description or null if it is not cached
+     */
+    @Nullable
+    default DBDLabelValuePair getCachedDictionaryValue(@NotNull DBSEntityAttribute keyColumn, @NotNull Object keyValue) {
+        return null;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Collection;
+
+/**
+ * Object container which can read the metadata graph of many entities at once.
+ * Graph includes entity attributes, unique keys and foreign keys. It is used by tools which need the full
+ * structure of a set of entities (e.g. diagrams), so they don't read metadata of each entity separately.
+ * May be implemented by a container or provided as its adapter.
+ */
+public interface DBSEntityGraphLoader {
+
+    /**
+     * Reads and caches attributes, unique keys and foreign keys of the specified entities of this container.
+     * Implementor may read more entities than requested if it is cheaper,
+     * or read nothing if requested entities are a small part of the container.
+     * Entities which were not loaded will read their metadata on demand as usual.
+     */
+    void loadEntityGraph(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends DBSEntity> entities) throws DBException;
+
+}
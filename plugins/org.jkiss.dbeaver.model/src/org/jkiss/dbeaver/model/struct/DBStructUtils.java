@@ -127,37 +127,84 @@ public final class DBStructUtils {
         return generateTableDDL(monitor, table, options, addComments);
     }
 
+    private static String getTableDDL(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity table, Map<String, Object> options, boolean addComments, @Nullable Map<? extends DBPScriptObject, String> definitions) throws DBException {
+        if (definitions != null) {
+            String definitionText = definitions.get(table);
+            if (!CommonUtils.isEmpty(definitionText)) {
+                return definitionText;
+            }
+        }
+        return getTableDDL(monitor, table, options, addComments);
+    }
+
     public static <T extends DBSEntity> void generateTableListDDL(@NotNull DBRProgressMonitor monitor, @NotNull StringBuilder sql, @NotNull Collection<T> tablesOrViews, Map<String, Object> options, boolean addComments) throws DBException {
+        generateTableListDDL(monitor, sql, tablesOrViews, options, addComments, null);
+    }
+
+    /**
+     * Reads definitions of many objects at once
+     */
+    public interface DefinitionsLoader {
+        @NotNull
+        Map<? extends DBPScriptObject, String> loadDefinitions(
+            @NotNull DBRProgressMonitor monitor,
+            @NotNull List<DBPScriptObject> objects) throws DBException;
+    }
+
+    /**
+     * Generates DDL of tables and views in dependency order.
+     * Definitions of entities which are written with full DDL are read in advance by the specified loader.
+     */
+    public static <T extends DBSEntity> void generateTableListDDL(@NotNull DBRProgressMonitor monitor, @NotNull StringBuilder sql, @NotNull Collection<T> tablesOrViews, Map<String, Object> options, boolean addComments, @Nullable DefinitionsLoader definitionsLoader) throws DBException {
         List<T> goodTableList = new ArrayList<>();
         List<T> cycleTableList = new ArrayList<>();
         List<T> viewList = new ArrayList<>();
 
         DBStructUtils.sortTableList(monitor, tablesOrViews, goodTableList, cycleTableList, viewList);
 
+        // Cycle tables: generate CREATE TABLE and CREATE FOREIGN KEY separately
+        // This doesn't work if table implementation doesn't support DDL restructure
+        List<T> goodCycleTableList = new ArrayList<>();
+        for (T table : cycleTableList) {
+            if (
+                table instanceof DBPScriptObjectExt2 &&
+                ((DBPScriptObjectExt2) table).supportsObjectDefinitionOption(DBPScriptObject.OPTION_DDL_SKIP_FOREIGN_KEYS) &&
+                ((DBPScriptObjectExt2) table).supportsObjectDefinitionOption(DBPScriptObject.OPTION_DDL_ONLY_FOREIGN_KEYS))
+            {
+                goodCycleTableList.add(table);
+            }
+        }
+        cycleTableList.removeAll(goodCycleTableList);
+        boolean separateForeignKeys = CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_SEPARATE_FOREIGN_KEYS_STATEMENTS, true);
+
+        Map<? extends DBPScriptObject, String> definitions = null;
+        if (definitionsLoader != null) {
+            // Split cycle tables are generated with different options, their full DDL is never used
+            List<T> fullDDLTables = new ArrayList<>(goodTableList);
+            if (!separateForeignKeys) {
+                fullDDLTables.addAll(goodCycleTableList);
+            }
+            fullDDLTables.addAll(cycleTableList);
+            fullDDLTables.addAll(viewList);
+            List<DBPScriptObject> scriptObjects = new ArrayList<>();
+            for (T table : fullDDLTables) {
+                if (table instanceof DBPScriptObject) {
+                    scriptObjects.add((DBPScriptObject) table);
+                }
+            }
+            definitions = definitionsLoader.loadDefinitions(monitor, scriptObjects);
+        }
+
         // Good tables: generate full DDL
         for (T table : goodTableList) {
             sql.append(getObjectNameComment(table, "definition"));
-            addDDLLine(sql, DBStructUtils.getTableDDL(monitor, table, options, addComments));
+            addDDLLine(sql, getTableDDL(monitor, table, options, addComments, definitions));
         }
         {
-            // Cycle tables: generate CREATE TABLE and CREATE FOREIGN KEY separately
-            // This doesn't work if table implementation doesn't support DDL restructure
-            List<T> goodCycleTableList = new ArrayList<>();
-            for (T table : cycleTableList) {
-                if (
-                    table instanceof DBPScriptObjectExt2 &&
-                    ((DBPScriptObjectExt2) table).supportsObjectDefinitionOption(DBPScriptObject.OPTION_DDL_SKIP_FOREIGN_KEYS) &&
-                    ((DBPScriptObjectExt2) table).supportsObjectDefinitionOption(DBPScriptObject.OPTION_DDL_ONLY_FOREIGN_KEYS))
-                {
-                    goodCycleTableList.add(table);
-                }
-            }
-            cycleTableList.removeAll(goodCycleTableList);
-
-            if (!CommonUtils.getOption(options, DBPScriptObject.OPTION_DDL_SEPARATE_FOREIGN_KEYS_STATEMENTS, true)) {
+            if (!separateForeignKeys) {
                 for (T table : goodCycleTableList) {
                     sql.append(getObjectNameComment(table, "definition"));
-                    addDDLLine(sql, DBStructUtils.getTableDDL(monitor, table, options, addComments));
+                    addDDLLine(sql, getTableDDL(monitor, table, options, addComments, definitions));
                 }
             } else {
                 Map<String, Object> optionsNoFK = new HashMap<>(options);
@@ -177,14 +224,14 @@ public final class DBStructUtils {
             // the rest - tables which can't split their DDL
             for (T table : cycleTableList) {
                 sql.append(getObjectNameComment(table, "definition"));
-                addDDLLine(sql, DBStructUtils.getTableDDL(monitor, table, options, addComments));
+                addDDLLine(sql, getTableDDL(monitor, table, options, addComments, definitions));
             }
         }
         // Views: generate them after all tables.
         // TODO: find view dependencies and generate them in right order
         for (T table : viewList) {
             sql.append(getObjectNameComment(table, "source"));
-            addDDLLine(sql, DBStructUtils.getTableDDL(monitor, table, options, addComments));
+            addDDLLine(sql, getTableDDL(monitor, table, options, addComments, definitions));
         }
         monitor.done();
     }
@@ -61,6 +61,13 @@ public interface DBTTask extends DBPNamedObject, DBPObjectWithDescription {
     @NotNull
     DBTTaskRun[] getRunStatistics();
 
+    /**
+     * Returns runs started since the specified time (all recent runs if null), ordered by start time.
+     * Can be used to analyze run duration and processed rows history.
+     */
+    @NotNull
+    DBTTaskRun[] getRunStatistics(@Nullable Date since);
+
     @NotNull
     Path getRunLogFolder();
 
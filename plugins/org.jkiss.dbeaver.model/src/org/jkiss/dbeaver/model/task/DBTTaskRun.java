@@ -40,6 +40,16 @@ public interface DBTTaskRun {
 
     long getRunDuration();
 
+    /**
+     * Number of rows fetched during the run, 0 if not reported by task handler
+     */
+    long getRowsFetched();
+
+    /**
+     * Number of rows modified during the run, 0 if not reported by task handler
+     */
+    long getRowsUpdated();
+
     boolean isRunSuccess();
 
     @Nullable
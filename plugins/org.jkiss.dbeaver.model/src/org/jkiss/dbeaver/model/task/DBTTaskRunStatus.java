@@ -26,6 +26,8 @@ import java.util.StringJoiner;
 public class DBTTaskRunStatus {
 
     private String resultMessage;
+    private long rowsFetched;
+    private long rowsUpdated;
 
     public DBTTaskRunStatus(){
     }
@@ -39,8 +41,18 @@ public class DBTTaskRunStatus {
         resultMessage = message;
     }
 
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public long getRowsUpdated() {
+        return rowsUpdated;
+    }
+
     public static DBTTaskRunStatus makeStatisticsStatus(DBCStatistics statistics) {
         DBTTaskRunStatus taskResultStatus = new DBTTaskRunStatus();
+        taskResultStatus.rowsFetched = statistics.getRowsFetched();
+        taskResultStatus.rowsUpdated = statistics.getRowsUpdated();
 
         if (statistics.getRowsFetched() > 0 ||
             statistics.getRowsUpdated() > 0 ||
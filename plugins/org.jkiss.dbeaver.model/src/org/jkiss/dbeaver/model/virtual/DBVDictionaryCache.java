@@ -0,0 +1,197 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.data.DBDLabelValuePair;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Dictionary values cache of a single dictionary entity.
+ * Keeps recently read enumerations and descriptions of individual key values.
+ * Absent key values are cached too, so they are not looked up again.
+ * Entries are evicted in LRU order when cache grows over its size limit and expire after TTL.
+ * Labels depend on dictionary description columns, so cache is bound to the description columns it was created for.
+ */
+public class DBVDictionaryCache {
+
+    // Enumerations are relatively big, keep just a few of them
+    private static final int MAX_ENUMERATIONS = 20;
+
+    private static class CacheEntry<T> {
+        private final T value;
+        private final long loadTime;
+
+        CacheEntry(T value, long loadTime) {
+            this.value = value;
+            this.loadTime = loadTime;
+        }
+    }
+
+    private final long ttl;
+    private final String descriptionColumns;
+    private final Map<List<Object>, CacheEntry<List<DBDLabelValuePair>>> enumerations;
+    private final Map<List<Object>, CacheEntry<DBDLabelValuePair>> values;
+
+    public DBVDictionaryCache(int maxValues, long ttl) {
+        this(maxValues, ttl, null);
+    }
+
+    public DBVDictionaryCache(int maxValues, long ttl, @Nullable String descriptionColumns) {
+        this.ttl = ttl;
+        this.descriptionColumns = descriptionColumns;
+        this.enumerations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry<List<DBDLabelValuePair>>> eldest) {
+                return size() > MAX_ENUMERATIONS;
+            }
+        };
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry<DBDLabelValuePair>> eldest) {
+                return size() > maxValues;
+            }
+        };
+    }
+
+    /**
+     * Creates cache configured by preferences.
+     * @return null if dictionary cache is disabled
+     */
+    @Nullable
+    public static DBVDictionaryCache create(@NotNull DBPPreferenceStore store, @Nullable String descriptionColumns) {
+        int ttl = store.getInt(ModelPreferences.DICTIONARY_CACHE_TTL);
+        int maxValues = store.getInt(ModelPreferences.DICTIONARY_CACHE_SIZE);
+        if (ttl <= 0 || maxValues <= 0) {
+            return null;
+        }
+        return new DBVDictionaryCache(maxValues, ttl * 1000L, descriptionColumns);
+    }
+
+    /**
+     * Checks whether cached labels were read with the specified description columns
+     */
+    public boolean isValidFor(@Nullable String descriptionColumns) {
+        return Objects.equals(this.descriptionColumns, descriptionColumns);
+    }
+
+    @Nullable
+    public synchronized List<DBDLabelValuePair> getEnumeration(@NotNull List<Object> enumerationKey) {
+        CacheEntry<List<DBDLabelValuePair>> entry = enumerations.get(enumerationKey);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            enumerations.remove(enumerationKey);
+            return null;
+        }
+        return new ArrayList<>(entry.value);
+    }
+
+    public synchronized void putEnumeration(
+        @NotNull DBSEntityAttribute keyColumn,
+        @NotNull List<Object> enumerationKey,
+        @NotNull List<DBDLabelValuePair> enumeration)
+    {
+        long loadTime = System.currentTimeMillis();
+        enumerations.put(enumerationKey, new CacheEntry<>(new ArrayList<>(enumeration), loadTime));
+        for (DBDLabelValuePair pair : enumeration) {
+            if (pair.getValue() != null) {
+                values.put(makeValueKey(keyColumn, pair.getValue()), new CacheEntry<>(pair, loadTime));
+            }
+        }
+    }
+
+    /**
+     * Returns cached descriptions of the specified key values.
+     * Values which are known to be absent in dictionary are mapped to null.
+     * Values which are not cached are not present in the result map.
+     */
+    @NotNull
+    public synchronized Map<Object, DBDLabelValuePair> getValues(@NotNull DBSEntityAttribute keyColumn, @NotNull Collection<Object> keyValues) {
+        Map<Object, DBDLabelValuePair> result = new LinkedHashMap<>();
+        for (Object keyValue : keyValues) {
+            List<Object> valueKey = makeValueKey(keyColumn, keyValue);
+            CacheEntry<DBDLabelValuePair> entry = values.get(valueKey);
+            if (entry == null) {
+                continue;
+            }
+            if (isExpired(entry)) {
+                values.remove(valueKey);
+                continue;
+            }
+            result.put(keyValue, entry.value);
+        }
+        return result;
+    }
+
+    /**
+     * Caches loaded descriptions. Requested values which were not loaded are cached as absent.
+     */
+    public synchronized void putValues(
+        @NotNull DBSEntityAttribute keyColumn,
+        @NotNull Collection<Object> requestedValues,
+        @NotNull Collection<DBDLabelValuePair> loadedValues)
+    {
+        long loadTime = System.currentTimeMillis();
+        for (Object keyValue : requestedValues) {
+            values.put(makeValueKey(keyColumn, keyValue), new CacheEntry<>(null, loadTime));
+        }
+        for (DBDLabelValuePair pair : loadedValues) {
+            if (pair.getValue() != null) {
+                values.put(makeValueKey(keyColumn, pair.getValue()), new CacheEntry<>(pair, loadTime));
+            }
+        }
+    }
+
+    public synchronized void invalidate() {
+        enumerations.clear();
+        values.clear();
+    }
+
+    private boolean isExpired(@NotNull CacheEntry<?> entry) {
+        return System.currentTimeMillis() - entry.loadTime > ttl;
+    }
+
+    @NotNull
+    private static List<Object> makeValueKey(@NotNull DBSEntityAttribute keyColumn, @NotNull Object keyValue) {
+        return Arrays.asList(keyColumn.getName(), normalizeValue(keyValue));
+    }
+
+    /**
+     * Foreign key and dictionary key columns may have different Java types (e.g. Integer and Long)
+     */
+    @Nullable
+    public static Object normalizeValue(@Nullable Object value) {
+        if (value instanceof Number) {
+            try {
+                BigDecimal decimal = new BigDecimal(value.toString()).stripTrailingZeros();
+                return decimal.signum() == 0 ? BigDecimal.ZERO : decimal;
+            } catch (NumberFormatException e) {
+                return value;
+            }
+        }
+        return value;
+    }
+
+}
@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.data.json.JSONUtils;
 import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.utils.CommonUtils;
 
@@ -710,6 +711,19 @@ public class DBVEntity extends DBVObject implements DBSEntity, DBPQualifiedObjec
             Collections.emptyList();
     }
 
+    @Nullable
+    @Override
+    public DBDLabelValuePair getCachedDictionaryValue(@NotNull DBSEntityAttribute keyColumn, @NotNull Object keyValue) {
+        try {
+            DBSEntity realEntity = getRealEntity(new VoidProgressMonitor());
+            return realEntity instanceof DBSDictionary ?
+                ((DBSDictionary) realEntity).getCachedDictionaryValue(keyColumn, keyValue) :
+                null;
+        } catch (DBException e) {
+            return null;
+        }
+    }
+
     public DBVModel getModel() {
         for (DBVContainer container = getContainer(); container != null; container = container.getParentObject()) {
             if (container instanceof DBVModel) {
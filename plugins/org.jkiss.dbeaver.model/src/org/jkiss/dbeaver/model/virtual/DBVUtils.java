@@ -207,6 +207,63 @@ public abstract class DBVUtils {
         return descColumns;
     }
 
+    /**
+     * Reads descriptions of dictionary values referenced by the specified attribute values with a single query.
+     * Descriptions are cached by dictionary and then can be obtained with {@link #getCachedDictionaryValue}.
+     * Only single-column associations are supported.
+     */
+    public static void prefetchDictionaryValues(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntityAssociation association,
+        @NotNull DBSEntityAttribute attribute,
+        @NotNull Collection<Object> values) throws DBException
+    {
+        DBSEntityAttribute refAttribute = getDictionaryKeyAttribute(monitor, association, attribute);
+        if (refAttribute != null && !values.isEmpty()) {
+            DBSDictionary dictionary = (DBSDictionary) association.getReferencedConstraint().getParentObject();
+            dictionary.getDictionaryValues(monitor, refAttribute, new ArrayList<>(values), null, true, true);
+        }
+    }
+
+    /**
+     * Returns cached description of referenced dictionary value. Never reads data.
+     */
+    @Nullable
+    public static DBDLabelValuePair getCachedDictionaryValue(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntityAssociation association,
+        @NotNull DBSEntityAttribute attribute,
+        @NotNull Object value) throws DBException
+    {
+        DBSEntityAttribute refAttribute = getDictionaryKeyAttribute(monitor, association, attribute);
+        if (refAttribute == null) {
+            return null;
+        }
+        DBSDictionary dictionary = (DBSDictionary) association.getReferencedConstraint().getParentObject();
+        return dictionary.getCachedDictionaryValue(refAttribute, value);
+    }
+
+    @Nullable
+    private static DBSEntityAttribute getDictionaryKeyAttribute(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntityAssociation association,
+        @NotNull DBSEntityAttribute attribute) throws DBException
+    {
+        DBSEntityConstraint refConstraint = association.getReferencedConstraint();
+        if (!(association instanceof DBSEntityReferrer) || refConstraint == null ||
+            !(refConstraint.getParentObject() instanceof DBSDictionary) ||
+            !((DBSDictionary) refConstraint.getParentObject()).supportsDictionaryEnumeration())
+        {
+            return null;
+        }
+        List<? extends DBSEntityAttributeRef> references = ((DBSEntityReferrer) association).getAttributeReferences(monitor);
+        if (references == null || references.size() != 1) {
+            // Composite keys need preceding key values
+            return null;
+        }
+        return DBUtils.getReferenceAttribute(monitor, association, attribute, false);
+    }
+
     @NotNull
     public static List<DBDLabelValuePair> readDictionaryRows(
         @NotNull DBCSession session,
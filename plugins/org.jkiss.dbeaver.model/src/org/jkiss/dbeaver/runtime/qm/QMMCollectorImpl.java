@@ -19,15 +19,22 @@ package org.jkiss.dbeaver.runtime.qm;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.exec.DBCSavepoint;
 import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCPreparedStatementImpl;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceListener;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.qm.*;
 import org.jkiss.dbeaver.model.qm.meta.*;
+import org.jkiss.dbeaver.model.qm.stats.QMSlowQuery;
+import org.jkiss.dbeaver.model.qm.stats.QMStatistics;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
@@ -36,6 +43,7 @@ import org.jkiss.utils.LongKeyMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Query manager execution handler implementation
@@ -62,12 +70,17 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
     private boolean running = true;
     private long eventDispatchPeriod = 250;
 
+    private final QMStatistics statistics = new QMStatistics();
+    private final DBPPreferenceListener statisticsPreferenceListener = event -> configureStatistics();
+
     public QMMCollectorImpl() {
         var application = DBWorkbench.getPlatform().getApplication();
         var qmConfigurationProvider = DBUtils.getAdapter(QMConfigurationProvider.class, application);
         if (qmConfigurationProvider != null) {
             eventDispatchPeriod = qmConfigurationProvider.getEventDispatchPeriod();
         }
+        configureStatistics();
+        DBWorkbench.getPlatform().getPreferenceStore().addPropertyChangeListener(statisticsPreferenceListener);
         new EventDispatcher().schedule(eventDispatchPeriod);
     }
 
@@ -89,6 +102,7 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
                 listeners.clear();
             }
         }
+        DBWorkbench.getPlatform().getPreferenceStore().removePropertyChangeListener(statisticsPreferenceListener);
         running = false;
     }
 
@@ -171,6 +185,12 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
         return connectionInfo;
     }
 
+    @NotNull
+    @Override
+    public QMStatistics getStatistics() {
+        return statistics;
+    }
+
     public List<QMMetaEvent> getPastEvents() {
         synchronized (historySync) {
             return new ArrayList<>(pastEvents);
@@ -282,6 +302,7 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
             QMMStatementExecuteInfo exec = session.endExecution(statement, rows, error);
             if (exec != null) {
                 tryFireMetaEvent(exec, QMEventAction.END, statement.getSession().getExecutionContext());
+                collectExecuteStatistics(statement, exec);
             }
         }
     }
@@ -304,10 +325,72 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
             QMMStatementExecuteInfo exec = session.endFetch(resultSet, rowCount);
             if (exec != null) {
                 tryFireMetaEvent(exec, QMEventAction.UPDATE, resultSet.getSession().getExecutionContext());
+                collectFetchStatistics(resultSet.getSourceStatement(), exec);
             }
         }
     }
 
+    private void configureStatistics() {
+        DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
+        statistics.setEnabled(store.getBoolean(QMConstants.PROP_STATISTICS_ENABLED));
+        statistics.setSlowQueryThreshold(store.getLong(QMConstants.PROP_SLOW_QUERY_THRESHOLD));
+    }
+
+    private void collectExecuteStatistics(@NotNull DBCStatement statement, @NotNull QMMStatementExecuteInfo exec) {
+        String queryText = exec.getQueryString();
+        if (!statistics.isEnabled() || queryText == null || !exec.isClosed()) {
+            return;
+        }
+        DBPDataSourceContainer container = statement.getSession().getDataSource().getContainer();
+        long executeTime = exec.getCloseTime() - exec.getOpenTime();
+        statistics.recordExecute(container.getId(), container.getName(), queryText, executeTime, exec.getUpdateRowCount(), exec.hasError());
+        if (statistics.isSlowQuery(executeTime)) {
+            captureSlowQuery(statement, exec, executeTime, 0, Math.max(exec.getUpdateRowCount(), 0));
+        }
+    }
+
+    private void collectFetchStatistics(@Nullable DBCStatement statement, @NotNull QMMStatementExecuteInfo exec) {
+        String queryText = exec.getQueryString();
+        if (!statistics.isEnabled() || statement == null || queryText == null || !exec.isClosed()) {
+            return;
+        }
+        DBPDataSourceContainer container = statement.getSession().getDataSource().getContainer();
+        long executeTime = exec.getCloseTime() - exec.getOpenTime();
+        long fetchTime = exec.getFetchEndTime() - exec.getFetchBeginTime();
+        statistics.recordFetch(container.getId(), container.getName(), queryText, fetchTime, exec.getFetchRowCount());
+        // Queries with slow execution were already captured on execute end
+        if (!statistics.isSlowQuery(executeTime) && statistics.isSlowQuery(executeTime + fetchTime)) {
+            captureSlowQuery(statement, exec, executeTime, fetchTime, exec.getFetchRowCount());
+        }
+    }
+
+    private void captureSlowQuery(
+        @NotNull DBCStatement statement,
+        @NotNull QMMStatementExecuteInfo exec,
+        long executeTime,
+        long fetchTime,
+        long rows
+    ) {
+        DBCExecutionContext context = statement.getSession().getExecutionContext();
+        DBPDataSourceContainer container = context.getDataSource().getContainer();
+        Map<Object, String> parameters = statement instanceof JDBCPreparedStatementImpl ?
+            ((JDBCPreparedStatementImpl) statement).getBoundParameters() :
+            Collections.emptyMap();
+        String queryText = exec.getQueryString();
+        statistics.addSlowQuery(new QMSlowQuery(
+            exec.getOpenTime(),
+            container.getId(),
+            container.getName(),
+            context.getContextName(),
+            statistics.getFingerprint(queryText),
+            queryText,
+            parameters,
+            executeTime,
+            fetchTime,
+            rows,
+            exec.getErrorMessage()));
+    }
+
     private class EventDispatcher extends AbstractJob {
 
         protected EventDispatcher() {
@@ -50,8 +50,28 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
 
     private static final Log log = Log.getLog(SSHImplementationJsch.class);
 
+    private static final SSHSessionPool<Session[]> SESSION_POOL = new SSHSessionPool<>(new SSHSessionPool.SessionController<>() {
+        @Override
+        public boolean isSessionAlive(@NotNull Session[] sessions) {
+            for (Session session : sessions) {
+                if (!session.isConnected()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void closeSession(@NotNull Session[] sessions) {
+            disconnectSessions(sessions);
+        }
+    });
+
     private transient JSch jsch;
     private transient volatile Session[] sessions;
+    // Shared session lease and own port forwarding in it
+    private transient SSHSessionPool.Lease<Session[]> sessionLease;
+    private transient SSHPortForwardConfiguration sharedPortForward;
 
     @Override
     protected synchronized void setupTunnel(@NotNull DBRProgressMonitor monitor, @NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts, @NotNull SSHPortForwardConfiguration portForward) throws DBException, IOException {
@@ -60,7 +80,30 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
             JSch.setLogger(new JschLoggerProxy());
         }
 
-        sessions = new Session[hosts.length];
+        if (isSharedSession(configuration)) {
+            sessionLease = SESSION_POOL.acquire(
+                SSHSessionPool.makeSessionKey(configuration, hosts),
+                () -> openSessions(monitor, configuration, hosts));
+            sessions = sessionLease.getSession();
+        } else {
+            sessions = openSessions(monitor, configuration, hosts);
+        }
+
+        try {
+            log.debug("Set port forwarding " + portForward.getLocalHost() + ":" + portForward.getLocalPort() + " -> " + portForward.getRemoteHost() + ":" + portForward.getRemotePort());
+            sessions[sessions.length - 1].setPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort(), portForward.getRemoteHost(), portForward.getRemotePort());
+            if (sessionLease != null) {
+                sharedPortForward = portForward;
+            }
+        } catch (JSchException e) {
+            closeTunnel(monitor);
+            throw new DBException("Cannot establish tunnel to " + portForward.getRemoteHost() + ":" + portForward.getRemotePort(), e);
+        }
+    }
+
+    @NotNull
+    private Session[] openSessions(@NotNull DBRProgressMonitor monitor, @NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts) throws DBException, IOException {
+        final Session[] sessions = new Session[hosts.length];
 
         for (int index = 0; index < hosts.length; index++) {
             final SSHHostConfiguration host = hosts[index];
@@ -107,7 +150,7 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
                 session.setUserInfo(userInfo);
                 session.setHostKeyAlias(host.getHostname());
                 setupHostKeyVerification(session, configuration);
-                session.setServerAliveInterval(configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL));
+                session.setServerAliveInterval(getKeepAliveInterval(configuration));
                 session.setTimeout(configuration.getIntProperty(SSHConstants.PROP_CONNECT_TIMEOUT));
 
                 if (auth.getType() == AuthType.PASSWORD) {
@@ -119,18 +162,24 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
                 log.debug("Connect to tunnel host");
 
                 session.connect();
-
-                if (index == hosts.length - 1) {
-                    log.debug("Set port forwarding " + portForward.getLocalHost() + ":" + portForward.getLocalPort() + " -> " + portForward.getRemoteHost() + ":" + portForward.getRemotePort());
-                    session.setPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort(), portForward.getRemoteHost(), portForward.getRemotePort());
-                }
             } catch (JSchException e) {
-                closeTunnel(monitor);
+                disconnectSessions(sessions);
                 throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
             }
 
             sessions[index] = session;
         }
+        return sessions;
+    }
+
+    private static void disconnectSessions(@NotNull Session[] sessions) {
+        // Close from the last hop to the first one
+        for (int i = sessions.length - 1; i >= 0; i--) {
+            Session session = sessions[i];
+            if (session != null && session.isConnected()) {
+                session.disconnect();
+            }
+        }
     }
 
     private void setupHostKeyVerification(Session session, DBWHandlerConfiguration configuration) throws JSchException {
@@ -164,6 +213,26 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
         if (ArrayUtils.isEmpty(sessions)) {
             return;
         }
+        if (sessionLease != null) {
+            // Remove own port forwarding and leave the session to other tunnels
+            final SSHSessionPool.Lease<Session[]> lease = sessionLease;
+            final SSHPortForwardConfiguration portForward = sharedPortForward;
+            final Session session = sessions[sessions.length - 1];
+            RuntimeUtils.runTask(monitor1 -> {
+                if (portForward != null && session.isConnected()) {
+                    try {
+                        session.delPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort());
+                    } catch (JSchException e) {
+                        log.debug("Error removing port forwarding: " + e.getMessage());
+                    }
+                }
+                SESSION_POOL.release(lease);
+            }, "Release SSH session", 1000);
+            sessionLease = null;
+            sharedPortForward = null;
+            sessions = null;
+            return;
+        }
         RuntimeUtils.runTask(monitor1 -> {
             Session[] sessions = this.sessions;
             if (ArrayUtils.isEmpty(sessions)) {
@@ -55,8 +55,27 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
     private static final Log log = Log.getLog(SSHImplementationSshj.class);
 
+    private static final SSHSessionPool<SharedClients> SESSION_POOL = new SSHSessionPool<>(new SSHSessionPool.SessionController<>() {
+        @Override
+        public boolean isSessionAlive(@NotNull SharedClients session) {
+            for (SSHClient client : session.clients) {
+                if (!client.isConnected() || !client.isAuthenticated()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void closeSession(@NotNull SharedClients session) {
+            session.listeners.forEach(LocalPortListener::disconnect);
+            disconnectClients(session.clients);
+        }
+    });
+
     private final List<LocalPortListener> listeners = new ArrayList<>();
     private SSHClient[] clients;
+    private SSHSessionPool.Lease<SharedClients> sessionLease;
 
     @Override
     protected synchronized void setupTunnel(
@@ -64,11 +83,44 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         @NotNull DBWHandlerConfiguration configuration,
         @NotNull SSHHostConfiguration[] hosts,
         @NotNull SSHPortForwardConfiguration portForward
+    ) throws DBException, IOException {
+        if (isSharedSession(configuration)) {
+            sessionLease = SESSION_POOL.acquire(SSHSessionPool.makeSessionKey(configuration, hosts), () -> {
+                // Jump hosts forwardings belong to the shared session, not to this tunnel
+                final List<LocalPortListener> hopListeners = new ArrayList<>();
+                return new SharedClients(openClients(monitor, configuration, hosts, hopListeners), hopListeners);
+            });
+            clients = sessionLease.getSession().clients;
+        } else {
+            clients = openClients(monitor, configuration, hosts, listeners);
+        }
+
+        try {
+            log.debug(String.format(
+                "Set port forwarding %s:%d -> %s:%d",
+                portForward.getLocalHost(), portForward.getLocalPort(),
+                portForward.getRemoteHost(), portForward.getRemotePort()));
+            listeners.add(setPortForwarding(
+                clients[clients.length - 1],
+                portForward.getLocalHost(), portForward.getLocalPort(),
+                portForward.getRemoteHost(), portForward.getRemotePort()));
+        } catch (IOException e) {
+            closeTunnel(monitor);
+            throw new DBException("Cannot establish tunnel to " + portForward.getRemoteHost() + ":" + portForward.getRemotePort(), e);
+        }
+    }
+
+    @NotNull
+    private SSHClient[] openClients(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBWHandlerConfiguration configuration,
+        @NotNull SSHHostConfiguration[] hosts,
+        @NotNull List<LocalPortListener> hopListeners
     ) throws DBException {
-        this.clients = new SSHClient[hosts.length];
+        final SSHClient[] clients = new SSHClient[hosts.length];
 
         final int connectTimeout = configuration.getIntProperty(SSHConstants.PROP_CONNECT_TIMEOUT);
-        final int keepAliveInterval = configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL);
+        final int keepAliveInterval = getKeepAliveInterval(configuration);
 
         for (int index = 0; index < hosts.length; index++) {
             final SSHHostConfiguration host = hosts[index];
@@ -86,7 +138,9 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
             try {
                 if (index > 0) {
-                    final int port = setPortForwarding(clients[index - 1], host.getHostname(), host.getPort());
+                    final LocalPortListener hopListener = setPortForwarding(clients[index - 1], host.getHostname(), host.getPort());
+                    hopListeners.add(hopListener);
+                    final int port = hopListener.getLocalPort();
 
                     monitor.subTask(String.format(
                         "Instantiate tunnel %s:%d -> %s:%d",
@@ -132,24 +186,35 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
                     default:
                         break;
                 }
-
-                if (index == hosts.length - 1) {
-                    log.debug(String.format(
-                        "Set port forwarding %s:%d -> %s:%d",
-                        portForward.getLocalHost(), portForward.getLocalPort(),
-                        portForward.getRemoteHost(), portForward.getRemotePort()));
-                    setPortForwarding(
-                        client,
-                        portForward.getLocalHost(), portForward.getLocalPort(),
-                        portForward.getRemoteHost(), portForward.getRemotePort());
-                }
             } catch (IOException e) {
-                closeTunnel(monitor);
+                hopListeners.forEach(LocalPortListener::disconnect);
+                hopListeners.clear();
+                disconnectClients(clients);
+                try {
+                    client.disconnect();
+                } catch (Exception e1) {
+                    log.debug("Error closing session: " + e1.getMessage());
+                }
                 throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
             }
 
             clients[index] = client;
         }
+        return clients;
+    }
+
+    private static void disconnectClients(@NotNull SSHClient[] clients) {
+        // Close from the last hop to the first one
+        for (int i = clients.length - 1; i >= 0; i--) {
+            SSHClient client = clients[i];
+            if (client != null && client.isConnected()) {
+                try {
+                    client.disconnect();
+                } catch (Exception e) {
+                    log.debug("Error closing session: " + e.getMessage());
+                }
+            }
+        }
     }
 
     private static void setupHostKeyVerification(
@@ -173,6 +238,15 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         listeners.forEach(LocalPortListener::disconnect);
         listeners.clear();
 
+        if (sessionLease != null) {
+            // Leave the session to other tunnels
+            final SSHSessionPool.Lease<SharedClients> lease = sessionLease;
+            RuntimeUtils.runTask(monitor1 -> SESSION_POOL.release(lease), "Release SSH session", 1000);
+            sessionLease = null;
+            clients = null;
+            return;
+        }
+
         RuntimeUtils.runTask(monitor1 -> {
             final SSHClient[] clients = this.clients;
 
@@ -180,15 +254,7 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
                 return;
             }
 
-            for (SSHClient client : clients) {
-                if (client != null && client.isConnected()) {
-                    try {
-                        client.disconnect();
-                    } catch (Exception e) {
-                        log.debug("Error closing session: " + e.getMessage());
-                    }
-                }
-            }
+            disconnectClients(clients);
         }, "Close SSH session", 1000);
 
         clients = null;
@@ -273,11 +339,13 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
     }
 
-    private int setPortForwarding(@NotNull SSHClient client, String host, int port) throws IOException {
+    @NotNull
+    private static LocalPortListener setPortForwarding(@NotNull SSHClient client, String host, int port) throws IOException {
         return setPortForwarding(client, "127.0.0.1", 0, host, port);
     }
 
-    private int setPortForwarding(
+    @NotNull
+    private static LocalPortListener setPortForwarding(
         @NotNull SSHClient client,
         @NotNull String localHost, int localPort,
         @NotNull String remoteHost, int remotePort
@@ -288,16 +356,30 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         final LocalPortListener listener = new LocalPortListener(forwarder, parameters);
 
         listener.start();
-        listeners.add(listener);
 
-        return ss.getLocalPort();
+        return listener;
+    }
+
+    /**
+     * Clients chain shared between tunnels with forwardings to the jump hosts
+     */
+    private static class SharedClients {
+        private final SSHClient[] clients;
+        private final List<LocalPortListener> listeners;
+
+        SharedClients(@NotNull SSHClient[] clients, @NotNull List<LocalPortListener> listeners) {
+            this.clients = clients;
+            this.listeners = listeners;
+        }
     }
 
     private static class LocalPortListener extends Thread {
         private final LocalPortForwarder forwarder;
+        private final int localPort;
 
         public LocalPortListener(@NotNull LocalPortForwarder forwarder, @NotNull Parameters parameters) {
             this.forwarder = forwarder;
+            this.localPort = parameters.getLocalPort();
 
             setName(String.format(
                 "Port forwarder listener (%s:%d -> %s:%d)",
@@ -315,6 +397,10 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
             }
         }
 
+        public int getLocalPort() {
+            return localPort;
+        }
+
         public void disconnect() {
             try {
                 if (forwarder.isRunning()) {
@@ -81,6 +81,7 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
 
     private Combo tunnelImplCombo;
     private Button fingerprintVerificationCheck;
+    private Button shareSessionCheck;
     private Text localHostText;
     private Text localPortSpinner;
     private Text remoteHostText;
@@ -185,6 +186,12 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
             fingerprintVerificationCheck.setLayoutData(cgd);
             fingerprintVerificationCheck.setToolTipText(SSHUIMessages.model_ssh_configurator_label_bypass_verification_description);
 
+            shareSessionCheck = UIUtils.createCheckbox(client, SSHUIMessages.model_ssh_configurator_label_share_session, false);
+            GridData ssgd = new GridData(GridData.FILL_HORIZONTAL);
+            ssgd.horizontalSpan = 2;
+            shareSessionCheck.setLayoutData(ssgd);
+            shareSessionCheck.setToolTipText(SSHUIMessages.model_ssh_configurator_label_share_session_description);
+
             localHostText = UIUtils.createLabelText(client, SSHUIMessages.model_ssh_configurator_label_local_host, null, SWT.BORDER, new GridData(GridData.FILL_HORIZONTAL));
             localHostText.setToolTipText(SSHUIMessages.model_ssh_configurator_label_local_host_description);
             localHostText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
@@ -421,6 +428,7 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
         }
         
         fingerprintVerificationCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION));
+        shareSessionCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_SHARE_SESSION));
         
         localHostText.setText(CommonUtils.notEmpty(configuration.getStringProperty(SSHConstants.PROP_LOCAL_HOST)));
         int lpValue = configuration.getIntProperty(SSHConstants.PROP_LOCAL_PORT);
@@ -482,6 +490,11 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
         } else {
             configuration.setProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION, null);
         }
+        if (shareSessionCheck.getSelection()) {
+            configuration.setProperty(SSHConstants.PROP_SHARE_SESSION, true);
+        } else {
+            configuration.setProperty(SSHConstants.PROP_SHARE_SESSION, null);
+        }
 
         configuration.setProperty(SSHConstants.PROP_LOCAL_HOST, localHostText.getText().trim());
         int localPort = CommonUtils.toInt(localPortSpinner.getText());
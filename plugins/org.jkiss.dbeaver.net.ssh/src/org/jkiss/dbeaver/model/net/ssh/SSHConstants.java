@@ -24,6 +24,8 @@ public class SSHConstants {
     public static final String LOCALHOST_NAME = "127.0.0.1";
     public static final int DEFAULT_SSH_PORT = 22;
     public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+    // Shared sessions live long, so keep-alive is always enabled for them
+    public static final int DEFAULT_SHARED_SESSION_ALIVE_INTERVAL = 30000;
 
     public static final String PROP_IMPLEMENTATION = "implementation";
     public static final String PROP_AUTH_TYPE = "authType";
@@ -39,6 +41,7 @@ public class SSHConstants {
     public static final String PROP_REMOTE_HOST = "remoteHost";
     public static final String PROP_REMOTE_PORT = "remotePort";
     public static final String PROP_BYPASS_HOST_VERIFICATION = "bypassHostVerification";
+    public static final String PROP_SHARE_SESSION = "shareSession";
     //private static final int CONNECT_TIMEOUT = 10000;
 
     public enum AuthType {
@@ -217,6 +217,21 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
         return new SSHHostConfiguration(username, hostname, port, authentication);
     }
 
+    /**
+     * Whether the tunnel uses a session shared with other tunnels to the same hosts
+     */
+    protected static boolean isSharedSession(@NotNull DBWHandlerConfiguration configuration) {
+        return configuration.getBooleanProperty(SSHConstants.PROP_SHARE_SESSION);
+    }
+
+    protected static int getKeepAliveInterval(@NotNull DBWHandlerConfiguration configuration) {
+        int interval = configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL);
+        if (interval <= 0 && isSharedSession(configuration)) {
+            interval = SSHConstants.DEFAULT_SHARED_SESSION_ALIVE_INTERVAL;
+        }
+        return interval;
+    }
+
     @NotNull
     public static String getJumpServerSettingsPrefix(int index) {
         return SSHConstants.PROP_JUMP_SERVER + index + ".";
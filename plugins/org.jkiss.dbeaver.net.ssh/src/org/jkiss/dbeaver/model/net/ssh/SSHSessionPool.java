@@ -0,0 +1,198 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net.ssh;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
+import org.jkiss.dbeaver.model.net.ssh.config.SSHAuthConfiguration;
+import org.jkiss.dbeaver.model.net.ssh.config.SSHHostConfiguration;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reference-counted pool of authenticated SSH sessions.
+ * Sessions are keyed by the chain of hosts, users and credentials. Tunnels which share the same key
+ * use the same session and add their own port forwardings. Session is closed when the last tunnel releases it.
+ * Dead session is replaced with a new one on the next acquire.
+ */
+public class SSHSessionPool<T> {
+
+    private static final Log log = Log.getLog(SSHSessionPool.class);
+
+    public interface SessionOpener<T> {
+
+        /**
+         * Opens and authenticates new session
+         */
+        @NotNull
+        T openSession() throws DBException, IOException;
+    }
+
+    public interface SessionController<T> {
+
+        boolean isSessionAlive(@NotNull T session);
+
+        void closeSession(@NotNull T session);
+    }
+
+    /**
+     * Session usage by a single tunnel
+     */
+    public static class Lease<T> {
+        private final PoolEntry<T> entry;
+        private final T session;
+        private boolean released;
+
+        private Lease(@NotNull PoolEntry<T> entry, @NotNull T session) {
+            this.entry = entry;
+            this.session = session;
+        }
+
+        @NotNull
+        public T getSession() {
+            return session;
+        }
+    }
+
+    private static class PoolEntry<T> {
+        private final String key;
+        private T session;
+        private int refCount;
+
+        private PoolEntry(@NotNull String key) {
+            this.key = key;
+        }
+    }
+
+    private final SessionController<T> controller;
+    private final Map<String, PoolEntry<T>> entries = new HashMap<>();
+
+    public SSHSessionPool(@NotNull SessionController<T> controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Returns existing live session or opens a new one.
+     * Sessions with different keys are opened concurrently.
+     */
+    @NotNull
+    public Lease<T> acquire(@NotNull String key, @NotNull SessionOpener<T> opener) throws DBException, IOException {
+        PoolEntry<T> entry;
+        synchronized (entries) {
+            entry = entries.computeIfAbsent(key, PoolEntry::new);
+            entry.refCount++;
+        }
+        boolean success = false;
+        try {
+            synchronized (entry) {
+                if (entry.session != null && !controller.isSessionAlive(entry.session)) {
+                    log.debug("Shared SSH session is broken. Reconnecting.");
+                    // Port forwardings of other tunnels are broken anyway. They will re-acquire session on invalidate.
+                    controller.closeSession(entry.session);
+                    entry.session = null;
+                }
+                if (entry.session == null) {
+                    entry.session = opener.openSession();
+                } else {
+                    log.debug("Reuse shared SSH session (" + entry.refCount + " tunnel(s))");
+                }
+                success = true;
+                return new Lease<>(entry, entry.session);
+            }
+        } finally {
+            if (!success) {
+                releaseEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * Releases session. Session is closed if there are no more tunnels using it.
+     */
+    public void release(@NotNull Lease<T> lease) {
+        synchronized (lease) {
+            if (lease.released) {
+                return;
+            }
+            lease.released = true;
+        }
+        releaseEntry(lease.entry);
+    }
+
+    public int getSessionCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void releaseEntry(@NotNull PoolEntry<T> entry) {
+        synchronized (entries) {
+            entry.refCount--;
+            if (entry.refCount > 0) {
+                return;
+            }
+            entries.remove(entry.key, entry);
+        }
+        T session;
+        synchronized (entry) {
+            session = entry.session;
+            entry.session = null;
+        }
+        if (session != null) {
+            controller.closeSession(session);
+        }
+    }
+
+    /**
+     * Makes pool key for the specified hosts chain.
+     * Credentials are digested, so they never appear in the pool key as is.
+     */
+    @NotNull
+    public static String makeSessionKey(@NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts) {
+        StringBuilder key = new StringBuilder();
+        key.append(configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION));
+        for (SSHHostConfiguration host : hosts) {
+            SSHAuthConfiguration auth = host.getAuthConfiguration();
+            key.append('|').append(host.getUsername()).append('@').append(host.getHostname()).append(':').append(host.getPort());
+            key.append('/').append(auth.getType());
+            StringBuilder secret = new StringBuilder();
+            secret.append(CommonUtils.notEmpty(auth.getPassword())).append('\0');
+            secret.append(auth.getKeyFile() == null ? "" : auth.getKeyFile().toAbsolutePath().toString()).append('\0');
+            secret.append(CommonUtils.notEmpty(auth.getKeyValue()));
+            key.append('/').append(digest(secret.toString()));
+        }
+        return key.toString();
+    }
+
+    @NotNull
+    private static String digest(@NotNull String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return CommonUtils.toHexString(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -33,10 +33,20 @@ import java.util.stream.StreamSupport;
 public class Parser {
     private final GrammarInfo grammar;
     private final NfaFragment nfa;
+    private final boolean memoized;
 
     public Parser(GrammarInfo grammar, NfaFragment nfa) {
+        this(grammar, nfa, false);
+    }
+
+    /**
+     * @param memoized share stack frames and merge equivalent parsing steps
+     *                 within each position (graph-structured stack), see {@link ClosureMemo}
+     */
+    public Parser(GrammarInfo grammar, NfaFragment nfa, boolean memoized) {
         this.grammar = grammar;
         this.nfa = nfa;
+        this.memoized = memoized;
     }
 
     private static ImmList<ParsingStep> performPush(
@@ -161,6 +171,7 @@ public class Parser {
                 }
                 GrammarNfaState.DispatchResult dispatchResult = state.nfaState.dispatch(text, state.position);
                 if (dispatchResult != null) {
+                    ClosureMemo memo = memoized ? new ClosureMemo(localStates) : null;
                     localStates.clear();
                     for (GrammarNfaTransition t : dispatchResult.transitions) {
                         localStates.offer(new LocalState(state.paths, t));
@@ -169,22 +180,38 @@ public class Parser {
                         LocalState localState = localStates.remove();
                         if (localState.transitionToGo.getOperation().getKind() == ParseOperationKind.TERM) {
                             // got to the term, advancing the position and enqueuing for another further dispatch iteration
-                            queue.enqueue(state.makeNext(
-                                dispatchResult.end,
-                                localState.transitionToGo.getTo(),
-                                localState.prevSteps.map(s -> new ParsingStep(ImmList.of(s), localState.transitionToGo, s.stack))
-                            ));
+                            ImmList<ParsingStep> termSteps = localState.prevSteps.map(
+                                s -> new ParsingStep(ImmList.of(s), localState.transitionToGo, s.stack)
+                            );
+                            if (memo == null) {
+                                queue.enqueue(state.makeNext(dispatchResult.end, localState.transitionToGo.getTo(), termSteps));
+                            } else {
+                                termSteps = memo.register(termSteps);
+                                if (!termSteps.isEmpty()) {
+                                    ParserState nextState = state.makeNext(
+                                        dispatchResult.end, localState.transitionToGo.getTo(), termSteps, false
+                                    );
+                                    memo.nextStates.add(nextState);
+                                    queue.enqueue(nextState);
+                                }
+                            }
                         } else {
                             // just apply the context-local operations between the terms
-                            ImmList<ParsingStep> stepsDone = evaluateOperation(localState.prevSteps, localState.transitionToGo);
+                            ImmList<ParsingStep> stepsDone = memo == null
+                                ? evaluateOperation(localState.prevSteps, localState.transitionToGo)
+                                : memo.evaluate(localState.prevSteps, localState.transitionToGo);
                             if (!stepsDone.isEmpty()) {
                                 for (GrammarNfaTransition t : localState.transitionToGo.getTo().getNextByTerm(dispatchResult.term)) {
                                     if (t.getTo() == nfa.getTo()) {
                                         ImmList<ParsingStep> finalSteps = stepsDone.filter(s -> s.stack.isRoot());
                                         if (!finalSteps.isEmpty()) {
-                                            results.add(state.makeNext(dispatchResult.end, t.getTo(), finalSteps.map(
+                                            ParserState resultState = state.makeNext(dispatchResult.end, t.getTo(), finalSteps.map(
                                                 s -> new ParsingStep(ImmList.of(s), t, s.stack)
-                                            )));
+                                            ), memo == null);
+                                            if (memo != null) {
+                                                memo.nextStates.add(resultState);
+                                            }
+                                            results.add(resultState);
                                         } else {
                                             localStates.offer(new LocalState(stepsDone, t));
                                         }
@@ -195,6 +222,9 @@ public class Parser {
                             }
                         }
                     }
+                    if (memo != null) {
+                        memo.releaseStacks();
+                    }
                 }
             }
         }
@@ -295,6 +325,10 @@ public class Parser {
             return result;
         }
 
+        public boolean containsSame(T value) {
+            return this.any(item -> item == value);
+        }
+
         public boolean isEmpty() {
             return this == SENTINEL;
         }
@@ -364,7 +398,7 @@ public class Parser {
         private final int exprId;
         private final int exprPosition;
         private final GrammarRule rule;
-        private final ImmList<StackFrame> prev;
+        private ImmList<StackFrame> prev;
 
         private StackFrame(int exprId, int exprPosition, GrammarRule rule, ImmList<StackFrame> prev) {
             this.exprId = exprId;
@@ -401,6 +435,22 @@ public class Parser {
             return prev;
         }
 
+        /**
+         * Adds the frames which are not yet below this one
+         *
+         * @return true if stack was extended
+         */
+        public boolean addPrev(ImmList<StackFrame> frames) {
+            boolean added = false;
+            for (StackFrame frame : frames) {
+                if (!prev.containsSame(frame)) {
+                    prev = prev.push(frame);
+                    added = true;
+                }
+            }
+            return added;
+        }
+
         private void formatTo(StringBuilder sb) {
             sb.append("[").append(rule == null ? "<NULL>" : rule.getName()).append(":").append(exprId).append("@").append(exprPosition);
             if (!prev.isEmpty()) {
@@ -426,7 +476,7 @@ public class Parser {
     }
 
     private static class ParsingStep {
-        public final ImmList<ParsingStep> prev;
+        public ImmList<ParsingStep> prev;
         public final GrammarNfaTransition transition;
         public StackFrame stack;
 
@@ -436,6 +486,14 @@ public class Parser {
             this.stack = stack;
         }
 
+        public void addPrev(ImmList<ParsingStep> steps) {
+            for (ParsingStep step : steps) {
+                if (!prev.containsSame(step)) {
+                    prev = prev.push(step);
+                }
+            }
+        }
+
         private void formatTo(StringBuilder sb) {
             sb.append("[");
             sb.append(transition);
@@ -478,12 +536,27 @@ public class Parser {
         public final GrammarNfaState nfaState;
         public final ImmList<ParsingStep> paths;
 
-        private ParserState(ImmList<ParserState> prev, int position, GrammarNfaState nfaState, ImmList<ParsingStep> paths) {
+        private ParserState(
+            ImmList<ParserState> prev,
+            int position,
+            GrammarNfaState nfaState,
+            ImmList<ParsingStep> paths,
+            boolean releaseStacks
+        ) {
             this.prev = prev;
             this.position = position;
             this.nfaState = nfaState;
             this.paths = paths;
 
+            if (releaseStacks) {
+                releasePrevStacks();
+            }
+        }
+
+        /**
+         * Stacks of the steps preceding the paths are not needed anymore, only the steps themselves are used to build the tree
+         */
+        private void releasePrevStacks() {
             ImmList<ParsingStep> q = this.paths.flatMap(p -> p.prev);
             while (!q.isEmpty()) {
                 ParsingStep s = q.peek();
@@ -504,19 +577,25 @@ public class Parser {
                 ImmList.empty(),
                 0,
                 initialState,
-                ImmList.of(new ParsingStep(ImmList.empty(), null, StackFrame.initial()))
+                ImmList.of(new ParsingStep(ImmList.empty(), null, StackFrame.initial())),
+                true
             );
         }
 
         public ParserState makeNext(int position, GrammarNfaState nfaState, ImmList<ParsingStep> path) {
-            return new ParserState(ImmList.of(this), position, nfaState, path);
+            return makeNext(position, nfaState, path, true);
+        }
+
+        public ParserState makeNext(int position, GrammarNfaState nfaState, ImmList<ParsingStep> path, boolean releaseStacks) {
+            return new ParserState(ImmList.of(this), position, nfaState, path, releaseStacks);
         }
 
         public ParserState merge(ParserState other) {
             if (other == null) {
                 return this;
             } else if (other.position == this.position && other.nfaState == this.nfaState) {
-                return new ParserState(this.prev.merge(other.prev), position, nfaState, this.paths.merge(other.paths));
+                // both states have already released stacks of their predecessors
+                return new ParserState(this.prev.merge(other.prev), position, nfaState, this.paths.merge(other.paths), false);
             } else {
                 throw new IllegalArgumentException();
             }
@@ -597,6 +676,149 @@ public class Parser {
         }
     }
 
+    /**
+     * Memoization of the context-local operations performed between two terms (graph-structured stack).
+     * Frames pushed by the same transition at the same expression position are shared, so the body of a rule
+     * is traversed once per position regardless of the number of its callers. Callers discovered later are added
+     * as edges below the shared frame, and the pops already performed over that frame are replayed for them.
+     * Steps with the same transition and stack are merged into the first one, and only the first one is advanced.
+     */
+    private static class ClosureMemo {
+        private final Queue<LocalState> localStates;
+        private final Map<FrameKey, StackFrame> frames = new HashMap<>();
+        private final Map<StackFrame, List<LocalState>> framePops = new IdentityHashMap<>();
+        private final Map<StepKey, ParsingStep> steps = new HashMap<>();
+        // Stacks are still needed while the closure is in progress, they are released when it is done
+        private final List<ParserState> nextStates = new ArrayList<>();
+
+        ClosureMemo(Queue<LocalState> localStates) {
+            this.localStates = localStates;
+        }
+
+        ImmList<ParsingStep> evaluate(ImmList<ParsingStep> prevSteps, GrammarNfaTransition transition) {
+            GrammarNfaOperation op = transition.getOperation();
+            if (isPop(op.getKind())) {
+                for (ParsingStep prevStep : prevSteps) {
+                    List<LocalState> pops = prevStep.stack.exprId == op.getExprId() ? framePops.get(prevStep.stack) : null;
+                    if (pops != null && pops.stream().noneMatch(p -> p.transitionToGo == transition && p.prevSteps.peek() == prevStep)) {
+                        pops.add(new LocalState(ImmList.of(prevStep), transition));
+                    }
+                }
+            }
+            ImmList<ParsingStep> stepsDone = evaluateOperation(prevSteps, transition);
+            return isPush(op.getKind()) ? registerPushed(stepsDone) : register(stepsDone);
+        }
+
+        ImmList<ParsingStep> register(ImmList<ParsingStep> stepsDone) {
+            return stepsDone.filter(this::registerStep);
+        }
+
+        private ImmList<ParsingStep> registerPushed(ImmList<ParsingStep> stepsDone) {
+            ImmList<ParsingStep> result = ImmList.empty();
+            for (ParsingStep step : stepsDone) {
+                StackFrame frame = step.stack;
+                StackFrame sharedFrame = frames.putIfAbsent(new FrameKey(step.transition, frame.exprPosition), frame);
+                if (sharedFrame == null) {
+                    framePops.put(frame, new ArrayList<>());
+                } else {
+                    if (sharedFrame.addPrev(frame.prev)) {
+                        // new callers, so return to them from the shared frame as well
+                        localStates.addAll(framePops.get(sharedFrame));
+                    }
+                    step.stack = sharedFrame;
+                }
+                if (registerStep(step)) {
+                    result = result.push(step);
+                }
+            }
+            return result;
+        }
+
+        private boolean registerStep(ParsingStep step) {
+            ParsingStep existingStep = steps.putIfAbsent(new StepKey(step.transition, step.stack), step);
+            if (existingStep == null) {
+                return true;
+            } else {
+                existingStep.addPrev(step.prev);
+                return false;
+            }
+        }
+
+        void releaseStacks() {
+            for (ParserState state : nextStates) {
+                state.releasePrevStacks();
+            }
+        }
+
+        private static boolean isPush(ParseOperationKind kind) {
+            switch (kind) {
+                case RULE_START:
+                case LOOP_ENTER:
+                case SEQ_ENTER:
+                case LOOP_INCREMENT:
+                case SEQ_STEP:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private static boolean isPop(ParseOperationKind kind) {
+            switch (kind) {
+                case RULE_END:
+                case LOOP_EXIT:
+                case SEQ_EXIT:
+                case LOOP_INCREMENT:
+                case SEQ_STEP:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private static class FrameKey {
+        private final GrammarNfaTransition transition;
+        private final int exprPosition;
+
+        FrameKey(GrammarNfaTransition transition, int exprPosition) {
+            this.transition = transition;
+            this.exprPosition = exprPosition;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof FrameKey
+                && ((FrameKey) obj).transition == transition
+                && ((FrameKey) obj).exprPosition == exprPosition;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(transition) * 31 + exprPosition;
+        }
+    }
+
+    private static class StepKey {
+        private final GrammarNfaTransition transition;
+        private final StackFrame stack;
+
+        StepKey(GrammarNfaTransition transition, StackFrame stack) {
+            this.transition = transition;
+            this.stack = stack;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof StepKey && ((StepKey) obj).transition == transition && ((StepKey) obj).stack == stack;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(transition) * 31 + System.identityHashCode(stack);
+        }
+    }
+
     private static class PathStep {
         public final PathStep next;
         public final ParserState state;
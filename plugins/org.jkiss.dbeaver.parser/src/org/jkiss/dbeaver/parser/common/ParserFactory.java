@@ -64,4 +64,12 @@ public class ParserFactory {
     public Parser createParser() {
         return new Parser(grammar, nfa);
     }
+
+    /**
+     * Creates parser which shares stack frames and merges equivalent parsing steps at each position.
+     * It is much faster on ambiguous grammars and long texts.
+     */
+    public Parser createParser(boolean memoized) {
+        return new Parser(grammar, nfa, memoized);
+    }
 }
@@ -142,8 +142,12 @@ public class GrammarNfaState {
                 return new DispatchResult(eofGroup.term, position, eofGroup.transitions);
             }
         } else {
+            // Match only at the position. Transparent bounds keep word boundary checks aware of the preceding text.
             Matcher matcher = this.pattern.matcher(text);
-            if (matcher.find(position)) {
+            matcher.region(position, text.length());
+            matcher.useTransparentBounds(true);
+            matcher.useAnchoringBounds(false);
+            if (matcher.lookingAt()) {
                 for (TermGroup g : this.termGroupByName.values()) {
                     int end = matcher.end(g.groupName);
                     if (end > 0 && end - position > 0 && matcher.start(g.groupName) == position) {
@@ -94,6 +94,8 @@ class DataSourceSerializerModern implements DataSourceSerializer
     //  1 level: object type (connection or handler id)
     //  2 level: map of secured properties
     private final Map<String, Map<String, Map<String, String>>> secureProperties = new LinkedHashMap<>();
+    // Resolved drivers cache. Generated configurations usually have a lot of connections with the same driver.
+    private final Map<String, DriverDescriptor> resolvedDrivers = new HashMap<>();
 
     DataSourceSerializerModern(@NotNull DataSourceRegistry registry) {
         this.registry = registry;
@@ -450,13 +452,12 @@ class DataSourceSerializerModern implements DataSourceSerializer
                 externalConfigurations.put(id, new DBPExternalConfiguration(id, configMap));
             }
 
-            // Virtual models
-            Map<String, DBVModel> modelMap = new LinkedHashMap<>();
+            // Virtual models. They are deserialized on first reference from connection
+            Map<String, Map<String, Object>> modelConfigs = new LinkedHashMap<>();
             for (Map.Entry<String, Map<String, Object>> vmMap : JSONUtils.getNestedObjects(jsonMap, "virtual-models")) {
-                String id = vmMap.getKey();
-                DBVModel model = new DBVModel(id, vmMap.getValue());
-                modelMap.put(id, model);
+                modelConfigs.put(vmMap.getKey(), vmMap.getValue());
             }
+            Map<String, DBVModel> modelMap = new HashMap<>();
 
             // Network profiles
             for (Map.Entry<String, Map<String, Object>> vmMap : JSONUtils.getNestedObjects(jsonMap, "network-profiles")) {
@@ -511,11 +512,11 @@ class DataSourceSerializerModern implements DataSourceSerializer
                 DriverDescriptor substitutedDriver;
 
                 if (CommonUtils.isEmpty(originalProviderId) || CommonUtils.isEmpty(originalDriverId)) {
-                    originalDriver = parseDriver(id, substitutedProviderId, substitutedDriverId, true);
+                    originalDriver = resolveDriver(id, substitutedProviderId, substitutedDriverId, true);
                     substitutedDriver = originalDriver;
                 } else {
-                    originalDriver = parseDriver(id, originalProviderId, originalDriverId, true);
-                    substitutedDriver = parseDriver(id, substitutedProviderId, substitutedDriverId, false);
+                    originalDriver = resolveDriver(id, originalProviderId, originalDriverId, true);
+                    substitutedDriver = resolveDriver(id, substitutedProviderId, substitutedDriverId, false);
                 }
                 if (originalDriver == null) {
                     continue;
@@ -719,6 +720,10 @@ class DataSourceSerializerModern implements DataSourceSerializer
                 // Virtual model
                 String vmID = CommonUtils.toString(conObject.get("virtual-model-id"), id);
                 DBVModel dbvModel = modelMap.get(vmID);
+                if (dbvModel == null && modelConfigs.containsKey(vmID)) {
+                    dbvModel = new DBVModel(vmID, modelConfigs.get(vmID));
+                    modelMap.put(vmID, dbvModel);
+                }
                 if (dbvModel != null) {
                     dataSource.setVirtualModel(dbvModel);
                 }
@@ -745,6 +750,24 @@ class DataSourceSerializerModern implements DataSourceSerializer
 
     }
 
+    @Nullable
+    private DriverDescriptor resolveDriver(
+        @NotNull String id,
+        @NotNull String providerId,
+        @NotNull String driverId,
+        boolean createIfAbsent
+    ) {
+        String driverKey = providerId + ":" + driverId;
+        DriverDescriptor driver = resolvedDrivers.get(driverKey);
+        if (driver == null) {
+            driver = parseDriver(id, providerId, driverId, createIfAbsent);
+            if (driver != null) {
+                resolvedDrivers.put(driverKey, driver);
+            }
+        }
+        return driver;
+    }
+
     @Nullable
     private static DriverDescriptor parseDriver(
         @NotNull String id,
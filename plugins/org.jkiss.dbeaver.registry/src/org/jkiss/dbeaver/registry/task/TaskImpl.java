@@ -28,7 +28,6 @@ import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.IOException;
-import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Date;
@@ -60,6 +59,7 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
     private DBTTaskType type;
     private Map<String, Object> properties;
     private TaskRunImpl lastRun;
+    private TaskRunJournal runJournal;
     @Nullable
     private TaskFolderImpl taskFolder;
 
@@ -169,7 +169,13 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
     @NotNull
     @Override
     public DBTTaskRun[] getRunStatistics() {
-        return loadRunStatistics().toArray(new DBTTaskRun[0]);
+        return getRunJournal().getRuns().toArray(new DBTTaskRun[0]);
+    }
+
+    @NotNull
+    @Override
+    public DBTTaskRun[] getRunStatistics(@Nullable Date since) {
+        return getRunJournal().getRuns(since).toArray(new DBTTaskRun[0]);
     }
 
     @NotNull
@@ -189,9 +195,7 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
                 log.error("Can't delete log file '" + runLog.toAbsolutePath() + "'", e);
             }
         }
-        List<TaskRunImpl> runs = loadRunStatistics();
-        runs.remove(taskRun);
-        flushRunStatistics(runs);
+        getRunJournal().removeRun(taskRun.getId());
         if (CommonUtils.equalObjects(lastRun, taskRun)) {
             lastRun = null;
         }
@@ -216,7 +220,7 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
                 log.error("Can't delete logs folder '" + statsFolder.toAbsolutePath() + "'", e);
             }
         }
-        flushRunStatistics(List.of());
+        getRunJournal().clear();
         lastRun = null;
         TaskRegistry.getInstance().notifyTaskListeners(new DBTTaskEvent(this, DBTTaskEvent.Action.TASK_UPDATE));
     }
@@ -225,8 +229,8 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
     public void refreshRunStatistics() {
         try {
             synchronized (this) {
-                List<TaskRunImpl> runs = loadRunStatistics();
-                lastRun = runs.isEmpty() ? VOID_RUN : runs.get(runs.size() - 1);
+                TaskRunImpl journalLastRun = getRunJournal().getLastRun();
+                lastRun = journalLastRun == null ? VOID_RUN : journalLastRun;
             }
         } catch (Throwable e) {
             log.debug("Error loading task runs", e); //$NON-NLS-1$
@@ -261,46 +265,24 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
         return taskStatsFolder;
     }
 
-    private List<TaskRunImpl> loadRunStatistics() {
-        Path metaFile = getTaskStatsFolder(false).resolve(META_FILE_NAME);
-        return TaskUtils.loadRunStatistics(metaFile, gson);
-    }
-
-    private void flushRunStatistics(List<TaskRunImpl> runs) {
-        Path metaFile = getTaskStatsFolder(true).resolve(META_FILE_NAME);
-        try (Writer writer = Files.newBufferedWriter(metaFile)) {
-            String metaContent = gson.toJson(new RunStatistics(runs));
-            writer.write(metaContent);
-        } catch (IOException e) {
-            log.error("Error writing task run statistics", e);
+    @NotNull
+    private synchronized TaskRunJournal getRunJournal() {
+        if (runJournal == null) {
+            runJournal = new TaskRunJournal(getTaskStatsFolder(false), gson, MAX_RUNS_IN_STATS);
         }
+        return runJournal;
     }
 
     void addNewRun(TaskRunImpl taskRun) {
         synchronized (this) {
             lastRun = taskRun;
-            var runs = loadRunStatistics();
-            runs.add(taskRun);
-            while (runs.size() > MAX_RUNS_IN_STATS) {
-                runs.remove(0);
-            }
-            flushRunStatistics(runs);
         }
+        getRunJournal().writeRun(taskRun);
         TaskRegistry.getInstance().notifyTaskListeners(new DBTTaskEvent(this, DBTTaskEvent.Action.TASK_UPDATE));
     }
 
     void updateRun(TaskRunImpl taskRun) {
-        synchronized (this) {
-            List<TaskRunImpl> runs = loadRunStatistics();
-            for (int i = 0; i < runs.size(); i++) {
-                TaskRunImpl run = runs.get(i);
-                if (CommonUtils.equalObjects(run.getId(), taskRun.getId())) {
-                    runs.set(i, taskRun);
-                    break;
-                }
-            }
-            flushRunStatistics(runs);
-        }
+        getRunJournal().writeRun(taskRun);
         TaskRegistry.getInstance().notifyTaskListeners(new DBTTaskEvent(this, DBTTaskEvent.Action.TASK_UPDATE));
     }
 
@@ -32,6 +32,8 @@ public class TaskRunImpl implements DBTTaskRun {
     private String startUser;
     private String startedBy;
     private long duration;
+    private long rowsFetched;
+    private long rowsUpdated;
     private String errorMessage;
     private String errorStackTrace;
     private String extraMessage;
@@ -82,6 +84,21 @@ public class TaskRunImpl implements DBTTaskRun {
         this.duration = duration;
     }
 
+    @Override
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    @Override
+    public long getRowsUpdated() {
+        return rowsUpdated;
+    }
+
+    public void setRowCounts(long rowsFetched, long rowsUpdated) {
+        this.rowsFetched = rowsFetched;
+        this.rowsUpdated = rowsUpdated;
+    }
+
     @Override
     public boolean isRunSuccess() {
         return errorMessage == null;
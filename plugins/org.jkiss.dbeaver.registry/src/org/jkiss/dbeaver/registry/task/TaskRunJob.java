@@ -95,6 +95,7 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
             try {
                 DBTTaskRunStatus runResultStatus = executeTask(new LoggingProgressMonitor(monitor), logStream);
                 taskRun.setExtraMessage(runResultStatus.getResultMessage());
+                taskRun.setRowCounts(runResultStatus.getRowsFetched(), runResultStatus.getRowsUpdated());
             } catch (Throwable e) {
                 taskError = e;
                 taskLog.error("Task fatal error", e);
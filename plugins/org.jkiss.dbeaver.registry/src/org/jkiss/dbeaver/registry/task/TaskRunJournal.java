@@ -0,0 +1,320 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import com.google.gson.Gson;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Append-only task run journal.
+ * Each line of the journal file is a JSON-serialized run. Run updates are appended as new lines,
+ * the last line with the same run id wins. Recent runs are kept in memory, journal is re-read
+ * incrementally when it is changed by another process. Journal is compacted when it grows
+ * twice over the runs limit.
+ * Appends and compaction lock the journal file, so journal can be shared by several processes.
+ */
+public class TaskRunJournal {
+
+    private static final Log log = Log.getLog(TaskRunJournal.class);
+
+    public static final String JOURNAL_FILE_NAME = "runs.jsonl";
+    private static final int MAX_LOCK_ATTEMPTS = 10;
+
+    private final Path statsFolder;
+    private final Gson gson;
+    private final int maxRuns;
+
+    private final LinkedHashMap<String, TaskRunImpl> runs = new LinkedHashMap<>();
+    // Position after the last line read from journal. -1 means that journal wasn't read yet.
+    private long readOffset = -1;
+    // Journal file identity. It changes when journal is compacted.
+    private Object journalFileKey;
+    private int journalLines;
+
+    public TaskRunJournal(@NotNull Path statsFolder, @NotNull Gson gson, int maxRuns) {
+        this.statsFolder = statsFolder;
+        this.gson = gson;
+        this.maxRuns = maxRuns;
+    }
+
+    @NotNull
+    public synchronized List<TaskRunImpl> getRuns() {
+        refresh();
+        return new ArrayList<>(runs.values());
+    }
+
+    /**
+     * Returns runs started at or after the specified time in start order.
+     */
+    @NotNull
+    public synchronized List<TaskRunImpl> getRuns(@Nullable Date since) {
+        refresh();
+        List<TaskRunImpl> result = new ArrayList<>();
+        for (TaskRunImpl run : runs.values()) {
+            if (since == null || (run.getStartTime() != null && !run.getStartTime().before(since))) {
+                result.add(run);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    public synchronized TaskRunImpl getLastRun() {
+        refresh();
+        TaskRunImpl lastRun = null;
+        for (TaskRunImpl run : runs.values()) {
+            lastRun = run;
+        }
+        return lastRun;
+    }
+
+    /**
+     * Adds new run or updates the existing one
+     */
+    public synchronized void writeRun(@NotNull TaskRunImpl run) {
+        refresh();
+        try {
+            Files.createDirectories(statsFolder);
+            byte[] line = (gson.toJson(run) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (FileChannel channel = openLockedJournal()) {
+                channel.write(ByteBuffer.wrap(line), channel.size());
+            }
+        } catch (IOException e) {
+            log.error("Error writing task run journal", e);
+            return;
+        }
+        // Read our own line (and lines appended by others)
+        refresh();
+        if (journalLines > maxRuns * 2) {
+            compact(null);
+        }
+    }
+
+    public synchronized void removeRun(@NotNull String runId) {
+        refresh();
+        if (runs.containsKey(runId)) {
+            compact(run -> runId.equals(run.getId()));
+        }
+    }
+
+    public synchronized void clear() {
+        compact(run -> true);
+    }
+
+    private Path getJournalFile() {
+        return statsFolder.resolve(JOURNAL_FILE_NAME);
+    }
+
+    private void refresh() {
+        Path journalFile = getJournalFile();
+        if (readOffset < 0) {
+            migrateRunStatistics();
+        }
+        if (!Files.exists(journalFile)) {
+            runs.clear();
+            readOffset = 0;
+            journalLines = 0;
+            journalFileKey = null;
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.READ)) {
+            readJournal(channel, getFileKey(journalFile));
+        } catch (IOException e) {
+            log.error("Error reading task run journal", e);
+        }
+    }
+
+    /**
+     * Reads lines appended to the journal since the last read
+     */
+    private void readJournal(@NotNull FileChannel channel, @Nullable Object fileKey) throws IOException {
+        long size = channel.size();
+        if (size < readOffset || readOffset < 0 || !CommonUtils.equalObjects(fileKey, journalFileKey)) {
+            // Journal was compacted by somebody else. Re-read it completely.
+            runs.clear();
+            readOffset = 0;
+            journalLines = 0;
+            journalFileKey = fileKey;
+        }
+        if (size == readOffset) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (size - readOffset));
+        long position = readOffset;
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position);
+            if (count <= 0) {
+                break;
+            }
+            position += count;
+        }
+        readJournalLines(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Opens and locks the journal file. Lock is released when the channel is closed.
+     * Journal may be replaced by compaction in another process while we wait for the lock,
+     * in this case the new journal file is opened and locked.
+     */
+    @NotNull
+    private FileChannel openLockedJournal() throws IOException {
+        Path journalFile = getJournalFile();
+        for (int attempt = 1; ; attempt++) {
+            Object fileKey = getFileKey(journalFile);
+            FileChannel channel = FileChannel.open(
+                journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                channel.lock();
+                Object lockedFileKey = getFileKey(journalFile);
+                // Journal could be deleted or replaced. Null key of existing file means that file keys are not supported.
+                boolean sameFile = Files.exists(journalFile) && (lockedFileKey == null || lockedFileKey.equals(fileKey));
+                if (sameFile || attempt >= MAX_LOCK_ATTEMPTS) {
+                    return channel;
+                }
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            channel.close();
+        }
+    }
+
+    @Nullable
+    private static Object getFileKey(@NotNull Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void readJournalLines(byte[] data, int length) {
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (data[i] != '\n') {
+                continue;
+            }
+            String line = new String(data, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            lineStart = i + 1;
+            journalLines++;
+            if (CommonUtils.isEmptyTrimmed(line)) {
+                continue;
+            }
+            try {
+                TaskRunImpl run = gson.fromJson(line, TaskRunImpl.class);
+                if (run != null && run.getId() != null) {
+                    runs.put(run.getId(), run);
+                }
+            } catch (Exception e) {
+                log.debug("Skip broken task run journal line: " + e.getMessage());
+            }
+        }
+        // Incomplete last line (being written right now) will be read next time
+        readOffset += lineStart;
+        while (runs.size() > maxRuns) {
+            runs.remove(runs.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Rewrites journal with the runs which are kept in memory.
+     * Journal is locked during the whole compaction and lines appended by others are read before the rewrite.
+     *
+     * @param removeFilter runs to remove from the journal, or null to keep all runs
+     */
+    private void compact(@Nullable Predicate<TaskRunImpl> removeFilter) {
+        Path journalFile = getJournalFile();
+        if (!Files.exists(journalFile)) {
+            if (removeFilter != null) {
+                runs.values().removeIf(removeFilter);
+            }
+            return;
+        }
+        try (FileChannel channel = openLockedJournal()) {
+            readJournal(channel, getFileKey(journalFile));
+            if (removeFilter != null) {
+                runs.values().removeIf(removeFilter);
+            }
+            if (runs.isEmpty()) {
+                Files.deleteIfExists(journalFile);
+                readOffset = 0;
+                journalFileKey = null;
+                journalLines = 0;
+                return;
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (TaskRunImpl run : runs.values()) {
+                content.write((gson.toJson(run) + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            Path tempFile = Files.createTempFile(statsFolder, JOURNAL_FILE_NAME, ".tmp");
+            try {
+                Files.write(tempFile, content.toByteArray());
+                Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            readOffset = content.size();
+            journalLines = runs.size();
+            journalFileKey = getFileKey(journalFile);
+        } catch (IOException e) {
+            log.error("Error compacting task run journal", e);
+        }
+    }
+
+    /**
+     * Moves runs from legacy meta.json into the journal
+     */
+    private void migrateRunStatistics() {
+        Path metaFile = statsFolder.resolve(TaskImpl.META_FILE_NAME);
+        if (!Files.exists(metaFile) || Files.exists(getJournalFile())) {
+            return;
+        }
+        List<TaskRunImpl> legacyRuns = TaskUtils.loadRunStatistics(metaFile, gson);
+        try (Writer writer = Files.newBufferedWriter(getJournalFile(), StandardCharsets.UTF_8)) {
+            for (TaskRunImpl run : legacyRuns) {
+                writer.write(gson.toJson(run));
+                writer.write("\n");
+            }
+        } catch (IOException e) {
+            log.error("Error migrating task run statistics", e);
+            return;
+        }
+        try {
+            Files.delete(metaFile);
+        } catch (IOException e) {
+            log.debug("Can't delete legacy task run statistics '" + metaFile + "'", e);
+        }
+    }
+
+}
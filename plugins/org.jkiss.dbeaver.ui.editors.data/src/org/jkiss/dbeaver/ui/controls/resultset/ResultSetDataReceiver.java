@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.ui.controls.resultset;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBUtils;
@@ -49,6 +50,9 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
     private List<Object[]> rows = new ArrayList<>();
     private boolean hasMoreData;
     private boolean nextSegmentRead;
+    private boolean keysetSegmentRead;
+    // Values of the last row fetched from the server. Model rows may be reordered or added locally.
+    private volatile Object[] lastFetchedRow;
     private long offset;
     private long maxRows;
 
@@ -77,6 +81,15 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         this.nextSegmentRead = nextSegmentRead;
     }
 
+    void setKeysetSegmentRead(boolean keysetSegmentRead) {
+        this.keysetSegmentRead = keysetSegmentRead;
+    }
+
+    @Nullable
+    Object[] getLastFetchedRow() {
+        return lastFetchedRow;
+    }
+
     void setFocusRow(int focusRow) {
         this.focusRow = focusRow;
     }
@@ -171,6 +184,12 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         final List<Object[]> tmpRows = rows;
 
         final boolean nextSegmentRead = this.nextSegmentRead;
+        if (!tmpRows.isEmpty()) {
+            // Copy, model rows share values arrays and may be edited
+            lastFetchedRow = tmpRows.get(tmpRows.size() - 1).clone();
+        } else if (!nextSegmentRead) {
+            lastFetchedRow = null;
+        }
 
         // Push data into viewer
         DBRProgressMonitor monitor = session.getProgressMonitor();
@@ -180,7 +199,9 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
             resultSetViewer.setData(tmpRows, focusRow);
         } else {
             monitor.subTask("Append data");
-            boolean resetOldRows = getDataContainer().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
+            // Keyset segment contains only new rows
+            boolean resetOldRows = !keysetSegmentRead &&
+                getDataContainer().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
             resultSetViewer.appendData(tmpRows, resetOldRows);
         }
         // Check for more data
@@ -207,6 +228,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
     @Override
     public void close() {
         nextSegmentRead = false;
+        keysetSegmentRead = false;
 
         attrErrors.clear();
         rows = new ArrayList<>();
@@ -96,7 +96,12 @@ abstract class ResultSetJobDataRead extends ResultSetJobAbstract implements ILoa
             fetchFlags |= DBSDataContainer.FLAG_FETCH_SEGMENT;
         }
 
-        if (offset > 0 && getExecutionContext().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING)) {
+        final DBSDataContainer dataContainer = executionSource.getDataContainer();
+        final DBDDataFilter dataFilter = executionSource.getUseDataFilter();
+        // Keyset segment is read after the last row, so there is nothing to re-read
+        boolean keysetRead = dataFilter != null && dataFilter.getKeyset() != null && dataFilter.getKeyset().isSeek();
+
+        if (offset > 0 && !keysetRead && getExecutionContext().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING)) {
             if (maxRows > 0) {
                 maxRows += offset;
             }
@@ -108,9 +113,6 @@ abstract class ResultSetJobDataRead extends ResultSetJobAbstract implements ILoa
         }
         long finalFlags = fetchFlags;
 
-        final DBSDataContainer dataContainer = executionSource.getDataContainer();
-        final DBDDataFilter dataFilter = executionSource.getUseDataFilter();
-
         progressMonitor.beginTask("Read data", 1);
         try (DBCSession session = getExecutionContext().openSession(
             progressMonitor,
@@ -59,6 +59,8 @@ public class ResultSetModel {
     // Data
     private List<ResultSetRow> curRows = new ArrayList<>();
     private Long totalRowCount = null;
+    // Row count estimated from statistics. -1 means that estimate is not available.
+    private Long estimatedRowCount = null;
     private int changesCount = 0;
     private volatile boolean hasData = false;
     // Flag saying that edited values update is in progress
@@ -378,6 +380,15 @@ public class ResultSetModel {
         this.totalRowCount = totalRowCount;
     }
 
+    @Nullable
+    public Long getEstimatedRowCount() {
+        return estimatedRowCount;
+    }
+
+    void setEstimatedRowCount(@Nullable Long estimatedRowCount) {
+        this.estimatedRowCount = estimatedRowCount;
+    }
+
     @Nullable
     public Object getCellValue(@NotNull ResultSetCellLocation cellLocation) {
         return DBUtils.getAttributeValue(
@@ -882,6 +893,7 @@ public class ResultSetModel {
         // Refresh all rows
         this.curRows = new ArrayList<>();
         this.totalRowCount = null;
+        this.estimatedRowCount = null;
         this.singleSourceEntity = null;
 
         this.hasData = false;
@@ -895,6 +907,19 @@ public class ResultSetModel {
         return changesCount != 0;
     }
 
+    /**
+     * Checks whether rows order differs from the server order (client side sorting) or there are added rows.
+     */
+    boolean hasLocalRowOrder() {
+        for (int i = 0; i < curRows.size(); i++) {
+            ResultSetRow row = curRows.get(i);
+            if (row.getState() == ResultSetRow.STATE_ADDED || row.getRowNumber() != i) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean isUpdateInProgress() {
         return updateInProgress != null;
     }
@@ -738,96 +738,23 @@ class ResultSetPersister {
                 }
             }
             try {
-                for (DataStatementInfo statement : ResultSetPersister.this.deleteStatements) {
+                int batchSize = getSaveBatchSize();
+                List<List<DataStatementInfo>> batches = new ArrayList<>();
+                batches.addAll(makeBatches(ResultSetPersister.this.deleteStatements, batchSize));
+                batches.addAll(makeBatches(ResultSetPersister.this.insertStatements, batchSize));
+                batches.addAll(makeBatches(ResultSetPersister.this.updateStatements, batchSize));
+                for (List<DataStatementInfo> batch : batches) {
                     if (monitor.isCanceled()) break;
                     try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.deleteData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            new ExecutionSource(dataContainer))) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                deleteStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
-                }
-                for (DataStatementInfo statement : ResultSetPersister.this.insertStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.insertData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            statement.needKeys() ? new KeyDataReceiver(statement) : null,
-                            new ExecutionSource(dataContainer),
-                            options)) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                insertStats.accumulate(bs);
-                            }
+                        executeBatch(session, batch, options);
+                        for (DataStatementInfo statement : batch) {
+                            processStatementChanges(statement);
                         }
-                        processStatementChanges(statement);
                     } catch (DBException e) {
-                        processStatementError(statement, session);
+                        processStatementError(batch, session);
                         return e;
                     }
-                    monitor.worked(1);
-                }
-                for (DataStatementInfo statement : ResultSetPersister.this.updateStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.updateData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.updateAttributes),
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            null,
-                            new ExecutionSource(dataContainer))) {
-                            // Make single array of values
-                            Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
-                            for (int i = 0; i < statement.updateAttributes.size(); i++) {
-                                attributes[i] = statement.updateAttributes.get(i).getValue();
-                            }
-                            for (int i = 0; i < statement.keyAttributes.size(); i++) {
-                                attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
-                            }
-                            // Execute
-                            batch.add(attributes);
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                updateStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
+                    monitor.worked(batch.size());
                 }
 
                 return null;
@@ -843,12 +770,117 @@ class ResultSetPersister {
             }
         }
 
+        private int getSaveBatchSize() {
+            if (generateScript || !viewer.getPreferenceStore().getBoolean(ResultSetPreferences.RS_EDIT_SAVE_IN_BATCHES)) {
+                return 1;
+            }
+            return Math.max(viewer.getPreferenceStore().getInt(ResultSetPreferences.RS_EDIT_SAVE_BATCH_SIZE), 1);
+        }
+
+        /**
+         * Groups consecutive statements with the same entity and the same set of attributes.
+         * Statements are never reordered, so cascade deletes still precede deletes of referenced rows.
+         * Statements which read generated keys are executed one by one.
+         */
+        @NotNull
+        private List<List<DataStatementInfo>> makeBatches(@NotNull List<DataStatementInfo> statements, int batchSize) {
+            List<List<DataStatementInfo>> batches = new ArrayList<>();
+            List<DataStatementInfo> batch = null;
+            List<Object> batchKey = null;
+            for (DataStatementInfo statement : statements) {
+                if (batchSize <= 1 || (statement.type == DBSManipulationType.INSERT && statement.needKeys())) {
+                    batches.add(Collections.singletonList(statement));
+                    batch = null;
+                    continue;
+                }
+                List<Object> statementKey = new ArrayList<>();
+                statementKey.add(statement.entity);
+                statementKey.addAll(Arrays.asList(DBDAttributeValue.getAttributes(statement.updateAttributes)));
+                statementKey.add(null);
+                statementKey.addAll(Arrays.asList(DBDAttributeValue.getAttributes(statement.keyAttributes)));
+                if (batch == null || batch.size() >= batchSize || !statementKey.equals(batchKey)) {
+                    batch = new ArrayList<>();
+                    batchKey = statementKey;
+                    batches.add(batch);
+                }
+                batch.add(statement);
+            }
+            return batches;
+        }
+
+        private void executeBatch(@NotNull DBCSession session, @NotNull List<DataStatementInfo> statements, @NotNull Map<String, Object> options) throws DBException {
+            DataStatementInfo firstStatement = statements.get(0);
+            DBSDataManipulator dataContainer = getDataManipulator(firstStatement.entity);
+            DBCStatistics statistics;
+            Map<String, Object> batchOptions = options;
+            if (statements.size() > 1) {
+                // Statements of one batch differ only by values, so they can be executed by a single prepared statement
+                batchOptions = new LinkedHashMap<>(options);
+                batchOptions.put(DBSDataManipulator.OPTION_REUSE_STATEMENT, true);
+            }
+            DBSDataManipulator.ExecuteBatch batch;
+            if (firstStatement.type == DBSManipulationType.DELETE) {
+                statistics = deleteStats;
+                batch = dataContainer.deleteData(
+                    session,
+                    DBDAttributeValue.getAttributes(firstStatement.keyAttributes),
+                    new ExecutionSource(dataContainer));
+            } else if (firstStatement.type == DBSManipulationType.INSERT) {
+                statistics = insertStats;
+                if (statements.size() > 1) {
+                    // Multi-row VALUES if dialect supports it
+                    batchOptions.put(DBSDataManipulator.OPTION_USE_MULTI_INSERT, true);
+                    batchOptions.put(DBSDataManipulator.OPTION_MULTI_INSERT_BATCH_SIZE, statements.size());
+                }
+                batch = dataContainer.insertData(
+                    session,
+                    DBDAttributeValue.getAttributes(firstStatement.keyAttributes),
+                    firstStatement.needKeys() ? new KeyDataReceiver(firstStatement) : null,
+                    new ExecutionSource(dataContainer),
+                    batchOptions);
+            } else {
+                statistics = updateStats;
+                batch = dataContainer.updateData(
+                    session,
+                    DBDAttributeValue.getAttributes(firstStatement.updateAttributes),
+                    DBDAttributeValue.getAttributes(firstStatement.keyAttributes),
+                    null,
+                    new ExecutionSource(dataContainer));
+            }
+            try {
+                for (DataStatementInfo statement : statements) {
+                    // Update values go first, then key values
+                    Object[] values = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
+                    for (int i = 0; i < statement.updateAttributes.size(); i++) {
+                        values[i] = statement.updateAttributes.get(i).getValue();
+                    }
+                    for (int i = 0; i < statement.keyAttributes.size(); i++) {
+                        values[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
+                    }
+                    batch.add(values);
+                }
+                if (generateScript) {
+                    batch.generatePersistActions(session, script, batchOptions);
+                } else {
+                    DBCStatistics bs = batch.execute(session, batchOptions);
+                    // Notify rsv container about statement execute
+                    this.notifyContainer(bs);
+
+                    statistics.accumulate(bs);
+                }
+            } finally {
+                batch.close();
+            }
+        }
+
         private void processStatementChanges(DataStatementInfo statement) {
             statement.executed = true;
         }
 
-        private void processStatementError(DataStatementInfo statement, DBCSession session) {
-            statement.executed = false;
+        private void processStatementError(List<DataStatementInfo> statements, DBCSession session) {
+            for (DataStatementInfo statement : statements) {
+                statement.executed = false;
+            }
             if (!generateScript) {
                 DBCTransactionManager txnManager = DBUtils.getTransactionManager(getExecutionContext());
                 if (txnManager != null) {
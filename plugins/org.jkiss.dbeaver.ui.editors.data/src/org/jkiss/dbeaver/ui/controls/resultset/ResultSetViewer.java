@@ -2132,6 +2132,12 @@ public class ResultSetViewer extends Viewer
             } else {
                 if (model.getTotalRowCount() == null) {
                     rcMessage = ROW_COUNT_FORMAT.format(model.getRowCount()) + "+";
+                    Long estimatedRowCount = model.getEstimatedRowCount();
+                    if (estimatedRowCount == null) {
+                        requestRowCountEstimate();
+                    } else if (estimatedRowCount >= 0) {
+                        rcMessage += " (~" + ROW_COUNT_FORMAT.format(estimatedRowCount) + ")";
+                    }
                 } else {
                     // We know actual row count
                     rcMessage = ROW_COUNT_FORMAT.format(model.getTotalRowCount());
@@ -2411,10 +2417,12 @@ public class ResultSetViewer extends Viewer
                 }
             }
         }
+        requestDictionaryPrefetch();
     }
 
     void appendData(List<Object[]> rows, boolean resetOldRows) {
         model.appendData(rows, resetOldRows);
+        requestDictionaryPrefetch();
 
         UIUtils.asyncExec(() -> {
             String message = NLS.bind(ResultSetMessages.controls_resultset_viewer_status_rows_size, model.getRowCount(),
@@ -3948,12 +3956,19 @@ public class ResultSetViewer extends Viewer
             }
             DBSDataContainer dataContainer = getDataContainer();
             if (dataContainer != null && !model.isUpdateInProgress()) {
+                DBDDataFilter dataFilter = model.getDataFilter();
+                DBDDataKeyset keyset = makeNextSegmentKeyset(dataContainer, dataFilter);
+                if (keyset != null) {
+                    dataFilter = new DBDDataFilter(dataFilter);
+                    dataFilter.setKeyset(keyset);
+                }
                 dataReceiver.setHasMoreData(false);
                 dataReceiver.setNextSegmentRead(true);
+                dataReceiver.setKeysetSegmentRead(keyset != null);
 
                 runDataPump(
                     dataContainer,
-                    model.getDataFilter(),
+                    dataFilter,
                     model.getRowCount(),
                     getSegmentMaxRows(),
                     -1,//curRow == null ? -1 : curRow.getRowNumber(), // Do not reposition cursor after next segment read!
@@ -3965,6 +3980,51 @@ public class ResultSetViewer extends Viewer
         });
     }
 
+    /**
+     * Makes keyset of the last row read from the server, so the next segment is read after this row
+     * instead of skipping all previously read rows. Model rows are not used: they may be sorted
+     * on the client side or contain added rows.
+     * Returns null if keyset pagination is disabled or can't be used with the current ordering.
+     */
+    @Nullable
+    private DBDDataKeyset makeNextSegmentKeyset(@NotNull DBSDataContainer dataContainer, @NotNull DBDDataFilter dataFilter) {
+        if (!(dataContainer instanceof DBSEntity) ||
+            !dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_KEYSET_PAGINATION) ||
+            !getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION) ||
+            model.getRowCount() == 0 ||
+            model.hasLocalRowOrder())
+        {
+            // Local ordering or added rows: read next segment by offset
+            return null;
+        }
+        Object[] lastRow = dataReceiver.getLastFetchedRow();
+        if (lastRow == null) {
+            return null;
+        }
+        try {
+            // Primary key was already read during the first segment read
+            List<DBDAttributeConstraint> keysetOrder = DBDDataKeyset.makeKeysetOrder(
+                dataFilter,
+                DBDDataKeyset.getPrimaryKeyAttributes(new VoidProgressMonitor(), (DBSEntity) dataContainer));
+            if (keysetOrder == null) {
+                return null;
+            }
+            for (DBDAttributeConstraint constraint : keysetOrder) {
+                DBDAttributeBinding binding = model.getAttributeBinding(constraint.getAttribute());
+                Object value = binding == null ? null : DBUtils.getAttributeValue(binding, model.getAttributes(), lastRow);
+                if (DBUtils.isNullValue(value) || value instanceof DBDValue) {
+                    // Can't compare with this value. Read next segment by offset.
+                    return null;
+                }
+                constraint.setValue(value);
+            }
+            return new DBDDataKeyset(keysetOrder, true);
+        } catch (DBException e) {
+            log.debug("Can't make keyset for the next segment: " + e.getMessage());
+            return null;
+        }
+    }
+
     private boolean verifyQuerySafety() {
         if (container.getDataContainer() == null || !container.getDataContainer().isFeatureSupported(DBSDataContainer.FEATURE_DATA_MODIFIED_ON_REFRESH) ) {
             return true;
@@ -4058,6 +4118,101 @@ public class ResultSetViewer extends Viewer
         return result[0];
     }
 
+    /**
+     * Reads row count estimate in background. Exact row count is read only on demand.
+     */
+    private void requestRowCountEstimate() {
+        DBSDataContainer dataContainer = getDataContainer();
+        if (!(dataContainer instanceof DBSDataRowCountEstimator) || getExecutionContext() == null) {
+            model.setEstimatedRowCount(-1L);
+            return;
+        }
+        // Mark estimate as requested
+        model.setEstimatedRowCount(-1L);
+        DBDDataFilter dataFilter = new DBDDataFilter(model.getDataFilter());
+        AbstractJob estimateJob = new AbstractJob("Estimate row count") {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                long estimate;
+                try (DBCSession session = DBUtils.openMetaSession(monitor, dataContainer, "Estimate row count")) {
+                    estimate = ((DBSDataRowCountEstimator) dataContainer).estimateRowCount(session, dataFilter);
+                } catch (Exception e) {
+                    log.debug("Can't estimate row count: " + e.getMessage());
+                    return Status.OK_STATUS;
+                }
+                if (estimate >= 0) {
+                    UIUtils.asyncExec(() -> {
+                        if (getControl().isDisposed() || model.getTotalRowCount() != null ||
+                            !dataFilter.equals(model.getDataFilter()))
+                        {
+                            // Data was changed
+                            return;
+                        }
+                        model.setEstimatedRowCount(estimate);
+                        updateStatusMessage();
+                    });
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        estimateJob.setSystem(true);
+        estimateJob.setUser(false);
+        estimateJob.schedule();
+    }
+
+    /**
+     * Reads descriptions of the referenced dictionary values in background.
+     * All distinct values of a reference column are read with one query, descriptions are cached by dictionaries.
+     */
+    private void requestDictionaryPrefetch() {
+        if (getExecutionContext() == null || !getPreferenceStore().getBoolean(ModelPreferences.DICTIONARY_PREFETCH_VALUES)) {
+            return;
+        }
+        Map<DBDAttributeBinding, Set<Object>> referenceValues = new LinkedHashMap<>();
+        for (DBDAttributeBinding binding : model.getVisibleAttributes()) {
+            if (binding.getEntityAttribute() == null || CommonUtils.isEmpty(binding.getReferrers())) {
+                continue;
+            }
+            Set<Object> values = new LinkedHashSet<>();
+            for (ResultSetRow row : model.getAllRows()) {
+                Object value = model.getCellValue(binding, row);
+                if (!DBUtils.isNullValue(value)) {
+                    values.add(value);
+                }
+            }
+            if (!values.isEmpty()) {
+                referenceValues.put(binding, values);
+            }
+        }
+        if (referenceValues.isEmpty()) {
+            return;
+        }
+        AbstractJob prefetchJob = new AbstractJob("Prefetch dictionary values") {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                for (Map.Entry<DBDAttributeBinding, Set<Object>> entry : referenceValues.entrySet()) {
+                    DBSEntityAttribute attribute = entry.getKey().getEntityAttribute();
+                    for (DBSEntityReferrer referrer : CommonUtils.safeList(entry.getKey().getReferrers())) {
+                        if (monitor.isCanceled() || attribute == null) {
+                            return Status.OK_STATUS;
+                        }
+                        if (referrer instanceof DBSEntityAssociation) {
+                            try {
+                                DBVUtils.prefetchDictionaryValues(monitor, (DBSEntityAssociation) referrer, attribute, entry.getValue());
+                            } catch (Exception e) {
+                                log.debug("Can't prefetch dictionary values of '" + attribute.getName() + "': " + e.getMessage());
+                            }
+                        }
+                    }
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        prefetchJob.setSystem(true);
+        prefetchJob.setUser(false);
+        prefetchJob.schedule();
+    }
+
     public int getSegmentMaxRows()
     {
         if (getDataContainer() == null) {
@@ -225,6 +225,8 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_content_editor_checkbox_disable_editing_if_key_missing;
     public static String pref_page_content_editor_checkbox_new_rows_after;
     public static String pref_page_content_editor_checkbox_refresh_after_update;
+    public static String pref_page_content_editor_checkbox_save_in_batches;
+    public static String pref_page_content_editor_checkbox_save_in_batches_tip;
     public static String pref_page_content_editor_checkbox_use_navigator_filters;
     public static String pref_page_content_editor_checkbox_use_navigator_filters_tip;
     public static String pref_page_content_editor_group_content;
@@ -260,6 +262,10 @@ public class ResultSetMessages extends NLS {
 
     public static String pref_page_data_viewer_dictionary_panel_group;
     public static String getPref_page_data_viewer_dictionary_panel_results_max_size;
+    public static String pref_page_data_viewer_dictionary_panel_cache_ttl;
+    public static String pref_page_data_viewer_dictionary_panel_cache_ttl_tip;
+    public static String pref_page_data_viewer_dictionary_panel_prefetch_values;
+    public static String pref_page_data_viewer_dictionary_panel_prefetch_values_tip;
 
 
     public static String dialog_data_format_profiles_button_delete_profile;
@@ -295,6 +301,8 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_auto_fetch_segment_tip;
     public static String pref_page_database_resultsets_label_reread_on_scrolling;
     public static String pref_page_database_resultsets_label_reread_on_scrolling_tip;
+    public static String pref_page_database_resultsets_label_keyset_pagination;
+    public static String pref_page_database_resultsets_label_keyset_pagination_tip;
     public static String pref_page_database_resultsets_label_use_sql;
     public static String pref_page_database_resultsets_label_use_sql_tip;
     public static String pref_page_database_resultsets_label_order_mode;
@@ -407,6 +415,8 @@ public class ResultSetMessages extends NLS {
     public static String aggregate_columns_reset_text;
     public static String aggregate_columns_copy_value_text;
     public static String aggregate_columns_copy_all_text;
+    public static String aggregate_columns_server_queries_text;
+    public static String aggregate_columns_server_queries_tip;
     public static String result_set_view_menu_text;
     public static String result_set_stat_columns;
     public static String result_set_stat_rows;
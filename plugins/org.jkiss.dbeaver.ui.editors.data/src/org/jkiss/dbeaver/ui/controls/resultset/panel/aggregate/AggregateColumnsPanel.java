@@ -16,6 +16,8 @@
  */
 package org.jkiss.dbeaver.ui.controls.resultset.panel.aggregate;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.action.*;
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.viewers.ISelection;
@@ -29,10 +31,17 @@ import org.eclipse.swt.widgets.*;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBIcon;
+import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPImage;
 import org.jkiss.dbeaver.model.DBValueFormatting;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.aggregate.AggregateUtils;
 import org.jkiss.dbeaver.model.data.aggregate.IAggregateFunction;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLAggregateQueryGenerator;
+import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
 import org.jkiss.dbeaver.registry.functions.AggregateFunctionDescriptor;
 import org.jkiss.dbeaver.registry.functions.FunctionsRegistry;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
@@ -41,6 +50,7 @@ import org.jkiss.dbeaver.ui.UIIcon;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.resultset.*;
 import org.jkiss.dbeaver.ui.controls.resultset.internal.ResultSetMessages;
+import org.jkiss.utils.CommonUtils;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
@@ -60,6 +70,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
     public static final String SETTINGS_SECTION_AGGREGATE = "panel-" + PANEL_ID;
     public static final String PARAM_GROUP_BY_COLUMNS = "groupByColumns";
     public static final String PARAM_GROUP_AS_STRINGS = "groupAsStrings";
+    public static final String PARAM_SERVER_QUERIES = "serverQueries";
 
     private static final DecimalFormat DOUBLE_FORMAT = new DecimalFormat("###,###,###,###,###,##0.###");
     private static final DecimalFormat INTEGER_FORMAT = new DecimalFormat("###,###,###,###,###,##0");
@@ -69,12 +80,19 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
     private boolean groupByColumns;
     private boolean aggregateAsStrings;
-    //private boolean runServerQueries;
+    private boolean runServerQueries;
+    // Columns are shown as separate tree nodes
+    private boolean groupedResults;
 
     private IDialogSettings panelSettings;
 
     private final List<AggregateFunctionDescriptor> enabledFunctions = new ArrayList<>();
     private boolean featureTracked;
+    private volatile AggregateJob aggregateJob;
+    private volatile ServerAggregateJob serverJob;
+    // Last server query and its results. Server results don't depend on selected rows.
+    private String serverQueryText;
+    private Object[] serverResults;
 
     public AggregateColumnsPanel() {
     }
@@ -112,6 +130,8 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         this.aggregateTable.setMenu(menuMgr.createContextMenu(this.aggregateTable));
         this.aggregateTable.addDisposeListener(e -> menuMgr.dispose());
 
+        aggregateTable.addDisposeListener(e -> cancelAggregation());
+
         aggregateTable.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetSelected(SelectionEvent e) {
@@ -130,6 +150,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
     private void loadSettings() {
         aggregateAsStrings = panelSettings.getBoolean(PARAM_GROUP_AS_STRINGS);
         groupByColumns = panelSettings.getBoolean(PARAM_GROUP_BY_COLUMNS);
+        runServerQueries = panelSettings.getBoolean(PARAM_SERVER_QUERIES);
         IDialogSettings functionsSection = panelSettings.getSection("functions");
         if (functionsSection != null) {
             final Map<AggregateFunctionDescriptor, Integer> funcIndexes = new HashMap<>();
@@ -167,6 +188,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
     private void saveSettings() {
         panelSettings.put(PARAM_GROUP_BY_COLUMNS, groupByColumns);
         panelSettings.put(PARAM_GROUP_AS_STRINGS, aggregateAsStrings);
+        panelSettings.put(PARAM_SERVER_QUERIES, runServerQueries);
         IDialogSettings functionsSection = UIUtils.getSettingsSection(panelSettings, "functions");
 
         for (AggregateFunctionDescriptor func : FunctionsRegistry.getInstance().getAggregateFunctions()) {
@@ -198,6 +220,11 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
     @Override
     public void refresh(boolean force) {
+        cancelAggregation();
+        if (force) {
+            serverQueryText = null;
+            serverResults = null;
+        }
         aggregateTable.setRedraw(false);
         try {
             aggregateTable.removeAll();
@@ -229,38 +256,84 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             featureTracked = true;
         }
         ResultSetModel model = presentation.getController().getModel();
-        if (groupByColumns) {
-            Map<DBDAttributeBinding, List<Object>> attrValues = new LinkedHashMap<>();
-            for (Object element : selection.toList()) {
-                DBDAttributeBinding attr = selection.getElementAttribute(element);
-                ResultSetRow row = selection.getElementRow(element);
-                Object cellValue = model.getCellValue(attr, row);
-                List<Object> values = attrValues.computeIfAbsent(attr, k -> new ArrayList<>());
-                values.add(cellValue);
-            }
-
-            for (Map.Entry<DBDAttributeBinding, List<Object>> entry : attrValues.entrySet()) {
+        List<AggregateGroup> groups = new ArrayList<>();
+        boolean serverMode = runServerQueries && isServerAggregationAvailable();
+        groupedResults = groupByColumns || serverMode;
+        // Only references to selected rows are collected here, values are read during aggregation
+        Map<DBDAttributeBinding, List<ResultSetRow>> attrRows = getSelectedAttributeRows(selection);
+        if (groupedResults) {
+            for (Map.Entry<DBDAttributeBinding, List<ResultSetRow>> entry : attrRows.entrySet()) {
                 TreeItem attrItem = new TreeItem(aggregateTable, SWT.NONE);
                 attrItem.setText(entry.getKey().getName());
                 attrItem.setImage(DBeaverIcons.getImage(DBValueFormatting.getObjectImage(entry.getKey())));
-                aggregateValues(attrItem, entry.getValue());
+                groups.add(createAggregateGroup(
+                    attrItem,
+                    entry.getKey(),
+                    Collections.singletonList(new CellRange(entry.getKey(), entry.getValue())),
+                    serverMode));
                 attrItem.setExpanded(true);
             }
         } else {
-            List<Object> allValues = new ArrayList<>(selection.size());
-            for (Object element : selection.toList()) {
-                DBDAttributeBinding attr = selection.getElementAttribute(element);
-                ResultSetRow row = selection.getElementRow(element);
-                Object cellValue = model.getCellValue(attr, row);
-                allValues.add(cellValue);
+            List<CellRange> ranges = new ArrayList<>();
+            for (Map.Entry<DBDAttributeBinding, List<ResultSetRow>> entry : attrRows.entrySet()) {
+                ranges.add(new CellRange(entry.getKey(), entry.getValue()));
+            }
+            groups.add(createAggregateGroup(null, null, ranges, false));
+        }
+
+        long totalValues = 0;
+        for (AggregateGroup group : groups) {
+            totalValues += group.getValueCount();
+        }
+        if (totalValues <= AggregateUtils.EXACT_VALUES_LIMIT) {
+            // Small selection, aggregate it right away
+            for (AggregateGroup group : groups) {
+                group.accumulate(model, 0, group.getValueCount());
+                showResults(group.funcItems, group.getResults(), group.getApproximateFlags());
+            }
+        } else {
+            aggregateJob = new AggregateJob(model, groups);
+            aggregateJob.schedule();
+        }
+        if (serverMode) {
+            aggregateOnServer(groups);
+        }
+    }
+
+    /**
+     * Collects selected rows of each selected attribute.
+     * Rectangular selections are taken from selected rows and attributes without visiting every cell.
+     */
+    private static Map<DBDAttributeBinding, List<ResultSetRow>> getSelectedAttributeRows(IResultSetSelection selection) {
+        Map<DBDAttributeBinding, List<ResultSetRow>> attrRows = new LinkedHashMap<>();
+        if (selection instanceof IResultSetSelectionExt) {
+            IResultSetSelectionExt selectionExt = (IResultSetSelectionExt) selection;
+            if ((long) selectionExt.getSelectedColumnCount() * selectionExt.getSelectedRowCount() == selectionExt.getSelectedCellCount()) {
+                List<ResultSetRow> rows = selection.getSelectedRows();
+                for (DBDAttributeBinding attr : selection.getSelectedAttributes()) {
+                    attrRows.put(attr, rows);
+                }
+                return attrRows;
             }
-            aggregateValues(null, allValues);
         }
+        for (Object element : selection.toList()) {
+            DBDAttributeBinding attr = selection.getElementAttribute(element);
+            ResultSetRow row = selection.getElementRow(element);
+            attrRows.computeIfAbsent(attr, k -> new ArrayList<>()).add(row);
+        }
+        return attrRows;
     }
 
-    private void aggregateValues(TreeItem parentItem, Collection<Object> values) {
+    private AggregateGroup createAggregateGroup(
+        TreeItem parentItem,
+        DBDAttributeBinding attribute,
+        List<CellRange> ranges,
+        boolean serverMode
+    ) {
         List<AggregateFunctionDescriptor> functions = enabledFunctions;
-        Map<IAggregateFunction, TreeItem> funcMap = new IdentityHashMap<>();
+        List<IAggregateFunction> funcs = new ArrayList<>();
+        List<TreeItem> funcItems = new ArrayList<>();
+        List<TreeItem> serverItems = new ArrayList<>();
         for (AggregateFunctionDescriptor funcDesc : functions) {
             TreeItem funcItem = (parentItem == null) ?
                 new TreeItem(aggregateTable, SWT.NONE) :
@@ -271,46 +344,146 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             if (icon != null) {
                 funcItem.setImage(0, DBeaverIcons.getImage(icon));
             }
+            if (serverMode && funcDesc.getSqlTemplate() != null) {
+                serverItems.add(funcItem);
+                continue;
+            }
             try {
-                IAggregateFunction func = funcDesc.createFunction();
-                funcMap.put(func, funcItem);
+                funcs.add(funcDesc.createFunction());
+                funcItems.add(funcItem);
             } catch (DBException e) {
                 log.error(e);
             }
         }
+        return new AggregateGroup(
+            parentItem,
+            attribute,
+            ranges,
+            funcs.toArray(new IAggregateFunction[0]),
+            funcItems.toArray(new TreeItem[0]),
+            serverItems.toArray(new TreeItem[0]),
+            aggregateAsStrings);
+    }
 
-        IAggregateFunction[] funcs = funcMap.keySet().toArray(new IAggregateFunction[funcMap.size()]);
-        int[] funcCount = new int[funcs.length];
-        for (Object element : values) {
-            for (int i = 0; i < funcs.length; i++) {
-                if (funcs[i].accumulate(element, aggregateAsStrings)) {
-                    funcCount[i]++;
+    private boolean isServerAggregationAvailable() {
+        IResultSetController controller = presentation.getController();
+        DBCExecutionContext executionContext = controller.getExecutionContext();
+        return executionContext != null &&
+            executionContext.isConnected() &&
+            controller.getDataContainer() != null &&
+            controller.getModel().getStatistics() != null;
+    }
+
+    /**
+     * Calculates functions which have SQL equivalent over the whole result of the current query.
+     * Query is executed in a separate context and doesn't fetch result rows.
+     */
+    private void aggregateOnServer(List<AggregateGroup> groups) {
+        List<String> templates = new ArrayList<>();
+        for (AggregateFunctionDescriptor funcDesc : enabledFunctions) {
+            if (funcDesc.getSqlTemplate() != null) {
+                templates.add(funcDesc.getSqlTemplate());
+            }
+        }
+        if (templates.isEmpty()) {
+            return;
+        }
+        List<AggregateGroup> serverGroups = new ArrayList<>();
+        List<String> attributeNames = new ArrayList<>();
+        for (AggregateGroup group : groups) {
+            // Nested attributes can't be referenced in a query
+            if (group.attribute != null && group.attribute.getParentObject() == null) {
+                serverGroups.add(group);
+                attributeNames.add(group.attribute.getName());
+            }
+        }
+        if (serverGroups.isEmpty()) {
+            return;
+        }
+        IResultSetController controller = presentation.getController();
+        DBCExecutionContext executionContext = controller.getExecutionContext();
+        DBPDataSource dataSource = executionContext.getDataSource();
+        SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
+        syntaxManager.init(dataSource.getSQLDialect(), controller.getPreferenceStore());
+        SQLAggregateQueryGenerator generator = new SQLAggregateQueryGenerator(
+            dataSource, controller.getDataContainer(), syntaxManager, attributeNames, templates);
+        String queryText;
+        try {
+            queryText = generator.generateAggregateQuery(controller.getModel().getStatistics().getQueryText());
+        } catch (DBException e) {
+            log.debug("Can't generate aggregate query", e);
+            showServerError(serverGroups, e);
+            return;
+        }
+        if (serverResults != null && queryText.equals(serverQueryText)) {
+            showServerResults(serverGroups, generator, serverResults);
+            return;
+        }
+        for (AggregateGroup group : serverGroups) {
+            for (TreeItem item : group.serverItems) {
+                item.setText(1, "...");
+            }
+        }
+        serverJob = new ServerAggregateJob(executionContext, queryText, serverGroups, generator);
+        serverJob.schedule();
+    }
+
+    private void showServerResults(List<AggregateGroup> groups, SQLAggregateQueryGenerator generator, Object[] results) {
+        for (int i = 0; i < groups.size(); i++) {
+            AggregateGroup group = groups.get(i);
+            Object[] groupResults = new Object[group.serverItems.length];
+            for (int k = 0; k < groupResults.length; k++) {
+                int index = generator.getResultIndex(i, k);
+                groupResults[k] = index < results.length ? results[index] : null;
+            }
+            showResults(group.serverItems, groupResults, new boolean[groupResults.length]);
+        }
+    }
+
+    private void showServerError(List<AggregateGroup> groups, Throwable error) {
+        for (AggregateGroup group : groups) {
+            for (TreeItem item : group.serverItems) {
+                if (!item.isDisposed()) {
+                    item.setText(1, "");
                 }
             }
+            if (group.parentItem != null && !group.parentItem.isDisposed()) {
+                group.parentItem.setText(1, CommonUtils.notEmpty(error.getMessage()));
+            }
         }
-        for (int i = 0; i < funcs.length; i++) {
-            if (funcCount[i] <= 0) {
+    }
+
+    private void showResults(TreeItem[] funcItems, Object[] results, boolean[] approximate) {
+        for (int i = 0; i < funcItems.length; i++) {
+            Object result = results[i];
+            if (result == null || funcItems[i].isDisposed()) {
                 continue;
             }
-            IAggregateFunction func = funcs[i];
-            Object result = func.getResult(funcCount[i]);
-            if (result != null) {
-                TreeItem treeItem = funcMap.get(func);
-                String strValue;
-                if (result instanceof Double || result instanceof Float || result instanceof BigDecimal) {
-                    strValue = DOUBLE_FORMAT.format(result);
-                } else if (result instanceof Integer || result instanceof Long || result instanceof Short) {
-                    strValue = INTEGER_FORMAT.format(result);
-                } else {
-                    strValue = result.toString();
-                }
-                if (strValue != null) {
-                    treeItem.setText(1, strValue);
-                }
+            String strValue;
+            if (result instanceof Double || result instanceof Float || result instanceof BigDecimal) {
+                strValue = DOUBLE_FORMAT.format(result);
+            } else if (result instanceof Integer || result instanceof Long || result instanceof Short) {
+                strValue = INTEGER_FORMAT.format(result);
+            } else {
+                strValue = result.toString();
+            }
+            if (strValue != null) {
+                funcItems[i].setText(1, approximate[i] ? "~" + strValue : strValue);
             }
         }
     }
 
+    private void cancelAggregation() {
+        if (aggregateJob != null) {
+            aggregateJob.cancel();
+            aggregateJob = null;
+        }
+        if (serverJob != null) {
+            serverJob.cancel();
+            serverJob = null;
+        }
+    }
+
     public void clearValue()
     {
         aggregateTable.removeAll();
@@ -324,6 +497,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         contributionManager.add(new Separator());
         contributionManager.add(new GroupByColumnsAction());
         contributionManager.add(new ValueTypeToggleAction());
+        contributionManager.add(new ServerQueriesToggleAction());
     }
 
     private class GroupByColumnsAction extends Action {
@@ -358,6 +532,22 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         }
     }
 
+    private class ServerQueriesToggleAction extends Action {
+        public ServerQueriesToggleAction() {
+            super(ResultSetMessages.aggregate_columns_server_queries_text, IAction.AS_CHECK_BOX);
+            setToolTipText(ResultSetMessages.aggregate_columns_server_queries_tip);
+            setImageDescriptor(DBeaverIcons.getImageDescriptor(UIIcon.SQL_EXECUTE));
+            setChecked(runServerQueries);
+        }
+
+        @Override
+        public void run() {
+            runServerQueries = !runServerQueries;
+            setChecked(runServerQueries);
+            refresh(false);
+        }
+    }
+
     private class AddFunctionAction extends Action {
         public AddFunctionAction() {
             super(ResultSetMessages.aggregate_columns_add_function_text, DBeaverIcons.getImageDescriptor(UIIcon.ADD));
@@ -464,7 +654,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         @Override
         public void run() {
             StringBuilder result = new StringBuilder();
-            if (!groupByColumns) {
+            if (!groupedResults) {
                 for (TreeItem item : aggregateTable.getItems()) {
                     if (result.length() > 0) result.append("\n");
                     result.append(item.getText(0)).append("=").append(item.getText(1));
@@ -483,4 +673,230 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         }
     }
 
+    /**
+     * Values of one column (or of all selected columns) and functions which aggregate them
+     */
+    /**
+     * Values of one attribute in selected rows
+     */
+    private static class CellRange {
+        private final DBDAttributeBinding attribute;
+        private final List<ResultSetRow> rows;
+
+        CellRange(DBDAttributeBinding attribute, List<ResultSetRow> rows) {
+            this.attribute = attribute;
+            this.rows = rows;
+        }
+    }
+
+    private static class AggregateGroup {
+        private final TreeItem parentItem;
+        private final DBDAttributeBinding attribute;
+        private final List<CellRange> ranges;
+        private final IAggregateFunction[] funcs;
+        private final TreeItem[] funcItems;
+        // Items of functions calculated by server query
+        private final TreeItem[] serverItems;
+        private final int[] funcCount;
+        private final boolean aggregateAsStrings;
+
+        AggregateGroup(
+            TreeItem parentItem,
+            DBDAttributeBinding attribute,
+            List<CellRange> ranges,
+            IAggregateFunction[] funcs,
+            TreeItem[] funcItems,
+            TreeItem[] serverItems,
+            boolean aggregateAsStrings
+        ) {
+            this.parentItem = parentItem;
+            this.attribute = attribute;
+            this.ranges = ranges;
+            this.funcs = funcs;
+            this.funcItems = funcItems;
+            this.serverItems = serverItems;
+            this.funcCount = new int[funcs.length];
+            this.aggregateAsStrings = aggregateAsStrings;
+        }
+
+        int getValueCount() {
+            int count = 0;
+            for (CellRange range : ranges) {
+                count += range.rows.size();
+            }
+            return count;
+        }
+
+        /**
+         * Reads values with indexes in [fromIndex, toIndex) from the model and accumulates them.
+         * Values are numbered range by range.
+         */
+        void accumulate(ResultSetModel model, int fromIndex, int toIndex) {
+            int offset = 0;
+            for (CellRange range : ranges) {
+                int rangeSize = range.rows.size();
+                int from = Math.max(fromIndex - offset, 0);
+                int to = Math.min(toIndex - offset, rangeSize);
+                for (int v = from; v < to; v++) {
+                    Object element = model.getCellValue(range.attribute, range.rows.get(v));
+                    for (int i = 0; i < funcs.length; i++) {
+                        if (funcs[i].accumulate(element, aggregateAsStrings)) {
+                            funcCount[i]++;
+                        }
+                    }
+                }
+                offset += rangeSize;
+                if (offset >= toIndex) {
+                    break;
+                }
+            }
+        }
+
+        Object[] getResults() {
+            Object[] results = new Object[funcs.length];
+            for (int i = 0; i < funcs.length; i++) {
+                if (funcCount[i] > 0) {
+                    results[i] = funcs[i].getResult(funcCount[i]);
+                }
+            }
+            return results;
+        }
+
+        boolean[] getApproximateFlags() {
+            boolean[] flags = new boolean[funcs.length];
+            for (int i = 0; i < funcs.length; i++) {
+                flags[i] = funcs[i].isApproximate();
+            }
+            return flags;
+        }
+    }
+
+    /**
+     * Aggregates big selections in background. Intermediate results are shown periodically.
+     * Cell values are read from the model here. The job is canceled whenever the panel is refreshed.
+     */
+    private class AggregateJob extends AbstractJob {
+
+        private static final int CHUNK_SIZE = 10000;
+        private static final long UPDATE_INTERVAL = 300;
+
+        private final ResultSetModel model;
+        private final List<AggregateGroup> groups;
+
+        AggregateJob(ResultSetModel model, List<AggregateGroup> groups) {
+            super("Aggregate selected values");
+            this.model = model;
+            this.groups = groups;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            long lastUpdateTime = System.currentTimeMillis();
+            for (AggregateGroup group : groups) {
+                int size = group.getValueCount();
+                for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+                    if (monitor.isCanceled() || aggregateJob != this) {
+                        return Status.CANCEL_STATUS;
+                    }
+                    group.accumulate(model, offset, Math.min(offset + CHUNK_SIZE, size));
+                    long currentTime = System.currentTimeMillis();
+                    if (currentTime - lastUpdateTime >= UPDATE_INTERVAL) {
+                        postResults(group, false);
+                        lastUpdateTime = currentTime;
+                    }
+                }
+                postResults(group, true);
+            }
+            return Status.OK_STATUS;
+        }
+
+        private void postResults(AggregateGroup group, boolean packColumns) {
+            Object[] results = group.getResults();
+            boolean[] approximate = group.getApproximateFlags();
+            UIUtils.asyncExec(() -> {
+                if (aggregateJob != this || aggregateTable.isDisposed()) {
+                    return;
+                }
+                showResults(group.funcItems, results, approximate);
+                if (packColumns) {
+                    UIUtils.packColumns(aggregateTable, false, null);
+                }
+            });
+        }
+    }
+
+    private class ServerAggregateJob extends AbstractJob {
+
+        private final DBCExecutionContext executionContext;
+        private final String queryText;
+        private final List<AggregateGroup> groups;
+        private final SQLAggregateQueryGenerator generator;
+
+        ServerAggregateJob(
+            DBCExecutionContext executionContext,
+            String queryText,
+            List<AggregateGroup> groups,
+            SQLAggregateQueryGenerator generator
+        ) {
+            super("Calculate aggregate functions on server");
+            this.executionContext = executionContext;
+            this.queryText = queryText;
+            this.groups = groups;
+            this.generator = generator;
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            Object[] results;
+            try {
+                results = executeQuery(monitor);
+            } catch (DBException e) {
+                log.debug("Error calculating aggregate functions on server", e);
+                UIUtils.asyncExec(() -> {
+                    if (serverJob == this && !aggregateTable.isDisposed()) {
+                        showServerError(groups, e);
+                    }
+                });
+                return Status.OK_STATUS;
+            }
+            UIUtils.asyncExec(() -> {
+                if (serverJob != this || aggregateTable.isDisposed()) {
+                    return;
+                }
+                serverQueryText = queryText;
+                serverResults = results;
+                showServerResults(groups, generator, results);
+                UIUtils.packColumns(aggregateTable, false, null);
+            });
+            return Status.OK_STATUS;
+        }
+
+        private Object[] executeQuery(DBRProgressMonitor monitor) throws DBException {
+            DBCExecutionContext isolatedContext = executionContext.getOwnerInstance().openIsolatedContext(
+                monitor, "Aggregate functions", executionContext);
+            try (DBCSession session = isolatedContext.openSession(monitor, DBCExecutionPurpose.UTIL, "Calculate aggregate functions")) {
+                try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, queryText, false, false, false)) {
+                    if (dbStat.executeStatement()) {
+                        try (DBCResultSet dbResult = dbStat.openResultSet()) {
+                            if (dbResult.nextRow()) {
+                                int columnCount = dbResult.getMeta().getAttributes().size();
+                                Object[] results = new Object[columnCount];
+                                for (int i = 0; i < columnCount; i++) {
+                                    results[i] = dbResult.getAttributeValue(i);
+                                }
+                                return results;
+                            }
+                        }
+                    }
+                    return new Object[0];
+                }
+            } finally {
+                isolatedContext.close();
+            }
+        }
+    }
+
 }
@@ -67,6 +67,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLConstants;
 import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.virtual.DBVUtils;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.runtime.properties.PropertyCollector;
 import org.jkiss.dbeaver.ui.*;
@@ -1822,10 +1823,12 @@ public class SpreadsheetPresentation extends AbstractPresentation
                         }
                     }
                 } else {
+                    // Nested grid rows share the same result set row
+                    Set<ResultSetRow> addedRows = Collections.newSetFromMap(new IdentityHashMap<>());
                     for (Integer row : spreadsheet.getRowSelection()) {
                         IGridRow gridRow = spreadsheet.getRow(row);
                         ResultSetRow rsr = (ResultSetRow) gridRow.getElement();
-                        if (!rows.contains(rsr)) {
+                        if (addedRows.add(rsr)) {
                             rows.add(rsr);
                         }
                     }
@@ -2535,6 +2538,10 @@ public class SpreadsheetPresentation extends AbstractPresentation
                         if (associatedEntity != null) {
                             if (text.length() > 0) text.append("\n");
                             text.append(DBUtils.getObjectFullName(associatedEntity, DBPEvaluationContext.UI));
+                            DBDLabelValuePair dictionaryValue = getCachedDictionaryValue((DBSEntityAssociation) ref, attr, value);
+                            if (dictionaryValue != null && !CommonUtils.isEmpty(dictionaryValue.getLabel())) {
+                                text.append(": ").append(dictionaryValue.getLabel());
+                            }
                         }
                     }
                 }
@@ -2543,6 +2550,20 @@ public class SpreadsheetPresentation extends AbstractPresentation
             return "";
         }
 
+        @Nullable
+        private DBDLabelValuePair getCachedDictionaryValue(@NotNull DBSEntityAssociation association, @NotNull DBDAttributeBinding attr, @NotNull Object value) {
+            DBSEntityAttribute entityAttribute = attr.getEntityAttribute();
+            if (entityAttribute == null) {
+                return null;
+            }
+            try {
+                return DBVUtils.getCachedDictionaryValue(new VoidProgressMonitor(), association, entityAttribute, value);
+            } catch (DBException e) {
+                log.debug("Can't get dictionary value description", e);
+                return null;
+            }
+        }
+
         @Override
         public void resetColors() {
             backgroundNormal = null;
@@ -44,6 +44,8 @@ public class PrefPageDataViewer extends TargetPrefPage {
 
     private List refPanelDescColumnKeywords;
     private Text maxAmountText;
+    private Text cacheTtlText;
+    private Button prefetchValuesCheck;
 
     public PrefPageDataViewer() {
         setPreferenceStore(new PreferenceStoreDelegate(DBWorkbench.getPlatform().getPreferenceStore()));
@@ -53,7 +55,9 @@ public class PrefPageDataViewer extends TargetPrefPage {
     protected boolean hasDataSourceSpecificOptions(DBPDataSourceContainer container) {
         final DBPPreferenceStore store = container.getPreferenceStore();
         return store.contains(ModelPreferences.RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS)
-            || store.contains(ModelPreferences.DICTIONARY_MAX_ROWS);
+            || store.contains(ModelPreferences.DICTIONARY_MAX_ROWS)
+            || store.contains(ModelPreferences.DICTIONARY_CACHE_TTL)
+            || store.contains(ModelPreferences.DICTIONARY_PREFETCH_VALUES);
     }
 
     @Override
@@ -128,13 +132,24 @@ public class PrefPageDataViewer extends TargetPrefPage {
                 updateApplyButton();
                 getContainer().updateButtons();
             });
+            cacheTtlText = UIUtils.createLabelText(group,
+                ResultSetMessages.pref_page_data_viewer_dictionary_panel_cache_ttl, "60");
+            cacheTtlText.setToolTipText(ResultSetMessages.pref_page_data_viewer_dictionary_panel_cache_ttl_tip);
+            cacheTtlText.addVerifyListener(UIUtils.getNumberVerifyListener(Locale.getDefault()));
+            cacheTtlText.addModifyListener((event) -> {
+                updateApplyButton();
+                getContainer().updateButtons();
+            });
+            prefetchValuesCheck = UIUtils.createCheckbox(group,
+                ResultSetMessages.pref_page_data_viewer_dictionary_panel_prefetch_values,
+                ResultSetMessages.pref_page_data_viewer_dictionary_panel_prefetch_values_tip, false, 1);
         }
         return composite;
     }
 
     @Override
     public boolean isValid() {
-        return super.isValid() && !maxAmountText.getText().isEmpty();
+        return super.isValid() && !maxAmountText.getText().isEmpty() && !cacheTtlText.getText().isEmpty();
     }
 
     @Override
@@ -145,6 +160,8 @@ public class PrefPageDataViewer extends TargetPrefPage {
         }
         refPanelDescColumnKeywords.notifyListeners(SWT.Selection, new Event());
         maxAmountText.setText(store.getString(ModelPreferences.DICTIONARY_MAX_ROWS));
+        cacheTtlText.setText(store.getString(ModelPreferences.DICTIONARY_CACHE_TTL));
+        prefetchValuesCheck.setSelection(store.getBoolean(ModelPreferences.DICTIONARY_PREFETCH_VALUES));
     }
 
     @Override
@@ -155,12 +172,16 @@ public class PrefPageDataViewer extends TargetPrefPage {
         }
         store.setValue(ModelPreferences.RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS, buffer.toString());
         store.setValue(ModelPreferences.DICTIONARY_MAX_ROWS, maxAmountText.getText());
+        store.setValue(ModelPreferences.DICTIONARY_CACHE_TTL, cacheTtlText.getText());
+        store.setValue(ModelPreferences.DICTIONARY_PREFETCH_VALUES, prefetchValuesCheck.getSelection());
     }
 
     @Override
     protected void clearPreferences(DBPPreferenceStore store) {
         store.setToDefault(ModelPreferences.RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS);
         store.setToDefault(ModelPreferences.DICTIONARY_MAX_ROWS);
+        store.setToDefault(ModelPreferences.DICTIONARY_CACHE_TTL);
+        store.setToDefault(ModelPreferences.DICTIONARY_PREFETCH_VALUES);
     }
 
     @Override
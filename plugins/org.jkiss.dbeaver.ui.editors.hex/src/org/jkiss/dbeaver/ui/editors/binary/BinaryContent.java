@@ -17,7 +17,10 @@
 package org.jkiss.dbeaver.ui.editors.binary;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.utils.ContentUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.io.Closeable;
 import java.io.File;
@@ -40,6 +43,7 @@ import java.util.*;
  */
 public class BinaryContent {
 
+    private static final Log log = Log.getLog(BinaryContent.class);
 
     /**
      * Used to notify changes in content
@@ -82,7 +86,7 @@ public class BinaryContent {
             this(aPosition, aFile.length());
             if (length < 0L) throw new IOException("File error");
 
-            data = new RandomAccessFile(aFile, "r");
+            data = new FileData(aFile);
             dirty = isDirty;
         }
 
@@ -124,6 +128,145 @@ public class BinaryContent {
     }
 
 
+    /**
+     * Read-only data of a file. Files bigger than mappedFileBufferLength are read through memory mapped
+     * windows, so scrolling and searching over multi-gigabyte files does not issue a system call per read.
+     * Only a few windows are kept mapped at once, the least recently used ones are released.
+     * Files are not mapped on Windows: mapped files can't be truncated or replaced there until the
+     * mapping is garbage collected, and the content is usually saved to the very same file.
+     */
+    final static class FileData implements Closeable {
+        private static final long MAPPED_WINDOW_LENGTH = 64 * 1024 * 1024;
+        private static final int MAX_MAPPED_WINDOWS = 16;
+
+        private final File file;
+        private final RandomAccessFile randomFile;
+        private final long length;
+        private final Map<Long, ByteBuffer> windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ByteBuffer> eldest)
+            {
+                return size() > MAX_MAPPED_WINDOWS;
+            }
+        };
+        private boolean mapped;
+
+        FileData(File aFile)
+            throws IOException
+        {
+            file = aFile;
+            randomFile = new RandomAccessFile(aFile, "r");
+            length = randomFile.length();
+            mapped = length > mappedFileBufferLength && !RuntimeUtils.isWindows();
+        }
+
+        boolean isBackedBy(File aFile)
+        {
+            return file.getAbsoluteFile().equals(aFile.getAbsoluteFile());
+        }
+
+        /**
+         * Reads up to maxLength bytes starting at the given file position
+         *
+         * @return number of bytes read
+         */
+        int read(ByteBuffer dst, long position, int maxLength)
+            throws IOException
+        {
+            int toRead = (int) Math.min(Math.min(dst.remaining(), maxLength), length - position);
+            int total = 0;
+            while (toRead > 0) {
+                ByteBuffer window = getWindow(position);
+                int count;
+                if (window == null) {
+                    int limit = dst.limit();
+                    dst.limit(dst.position() + toRead);
+                    try {
+                        count = randomFile.getChannel().read(dst, position);
+                    }
+                    finally {
+                        dst.limit(limit);
+                    }
+                    if (count <= 0) break;
+                } else {
+                    int offset = (int) (position % MAPPED_WINDOW_LENGTH);
+                    count = Math.min(toRead, window.capacity() - offset);
+                    ByteBuffer src = window.duplicate();
+                    src.limit(offset + count);
+                    src.position(offset);
+                    dst.put(src);
+                }
+                position += count;
+                toRead -= count;
+                total += count;
+            }
+
+            return total;
+        }
+
+        /**
+         * Reads a single byte at the given file position
+         *
+         * @return unsigned byte value or -1 past the end of file
+         */
+        int read(long position)
+            throws IOException
+        {
+            if (position < 0L || position >= length) return -1;
+
+            ByteBuffer window = getWindow(position);
+            if (window != null) {
+                return window.get((int) (position % MAPPED_WINDOW_LENGTH)) & 0x0ff;
+            }
+            synchronized (randomFile) {
+                randomFile.seek(position);
+                return randomFile.read();
+            }
+        }
+
+        @Nullable
+        private synchronized ByteBuffer getWindow(long position)
+        {
+            if (!mapped) return null;
+
+            long windowStart = position - position % MAPPED_WINDOW_LENGTH;
+            ByteBuffer window = windows.get(windowStart);
+            if (window == null) {
+                try {
+                    window = randomFile.getChannel().map(
+                        FileChannel.MapMode.READ_ONLY, windowStart, Math.min(MAPPED_WINDOW_LENGTH, length - windowStart));
+                }
+                catch (IOException e) {
+                    log.debug("Can't map file '" + file.getName() + "', read it directly: " + e.getMessage());
+                    mapped = false;
+                    return null;
+                }
+                windows.put(windowStart, window);
+            }
+
+            return window;
+        }
+
+        /**
+         * Stops reading through mapped windows. Must be called before the file is modified, accessing
+         * a mapped window of a truncated file crashes the virtual machine.
+         */
+        synchronized void releaseMappings()
+        {
+            mapped = false;
+            windows.clear();
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            releaseMappings();
+            randomFile.close();
+        }
+    }
+
+
     private static final long mappedFileBufferLength = 2048 * 1024;  // for mapped file I/O
 
     private ActionHistory actions = null;  // undo/redo actions history
@@ -136,6 +279,7 @@ public class BinaryContent {
     private boolean changesInserted = false;
     private long changesPosition = -1L;
     private TreeSet<Range> ranges = new TreeSet<>();
+    private final List<FileData> files = new ArrayList<>();  // all files ever backing this content
     private Iterator<Range> tailTree = null;
 
     /**
@@ -158,7 +302,17 @@ public class BinaryContent {
         if (aFile == null || aFile.length() < 1L)
             return;
 
-        ranges.add(new Range(0L, aFile, false));
+        ranges.add(newFileRange(0L, aFile, false));
+    }
+
+
+    private Range newFileRange(long position, File aFile, boolean isDirty)
+        throws IOException
+    {
+        Range range = new Range(position, aFile, isDirty);
+        files.add((FileData) range.data);
+
+        return range;
     }
 
 
@@ -366,6 +520,7 @@ public class BinaryContent {
             actions = null;
         }
         ranges = null;
+        files.clear();
         listeners = null;
     }
 
@@ -399,18 +554,10 @@ public class BinaryContent {
                 src.limit(src.position() + Math.min(dst.remaining(), maxCopyLength));
             }
             dst.put(src);
-        } else if (sourceRange.data instanceof RandomAccessFile) {
-            RandomAccessFile src = (RandomAccessFile) sourceRange.data;
-            long start = sourceRange.dataOffset + overlapBytes;
+        } else if (sourceRange.data instanceof FileData) {
+            FileData src = (FileData) sourceRange.data;
             int length = (int) Math.min(sourceRange.length - overlapBytes, maxCopyLength);
-            int limit = -1;
-            if (dst.remaining() > length) {
-                limit = dst.limit();
-                dst.limit(dst.position() + length);
-            }
-            src.getChannel().read(dst, start);
-            if (limit > 0)
-                dst.limit(limit);
+            src.read(dst, sourceRange.dataOffset + overlapBytes, length);
         }
 
         return dst.position() - dstInitialPosition;
@@ -552,6 +699,11 @@ public class BinaryContent {
         if (actions != null)
             actions.endAction();
         commitChanges();
+        for (FileData file : files) {
+            if (file.isBackedBy(destinationFile)) {
+                file.releaseMappings();
+            }
+        }
 
         RandomAccessFile dst = new RandomAccessFile(destinationFile, "rws");
         try {
@@ -610,12 +762,9 @@ public class BinaryContent {
             if (value instanceof ByteBuffer) {
                 ByteBuffer data = (ByteBuffer) value;
                 data.limit(data.capacity());
-                data.position((int) range.dataOffset);
-                result = data.get((int) (position - range.position)) & 0x0ff;
-            } else if (value instanceof RandomAccessFile) {
-                RandomAccessFile randomFile = (RandomAccessFile) value;
-                randomFile.seek(position);
-                result = randomFile.read();
+                result = data.get((int) (range.dataOffset + position - range.position)) & 0x0ff;
+            } else if (value instanceof FileData) {
+                result = ((FileData) value).read(range.dataOffset + position - range.position);
             }
         }
 
@@ -705,7 +854,7 @@ public class BinaryContent {
         long fileLength = aFile.length();
         if (fileLength < 1L || position > length()) return;
 
-        Range newRange = new Range(position, aFile, true);
+        Range newRange = newFileRange(position, aFile, true);
         dirty = true;
         lastUpperNibblePosition = -1L;
         if (actions != null)
@@ -873,7 +1022,7 @@ public class BinaryContent {
         throws IOException
     {
         if (aFile.length() > 0L && position < length())
-            overwriteInternal(new Range(position, aFile, true));
+            overwriteInternal(newFileRange(position, aFile, true));
     }
 
 
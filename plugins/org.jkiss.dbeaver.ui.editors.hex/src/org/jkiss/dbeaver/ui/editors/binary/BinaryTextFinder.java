@@ -20,6 +20,7 @@ package org.jkiss.dbeaver.ui.editors.binary;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,6 +45,8 @@ public class BinaryTextFinder {
     private boolean currentPartFoundIsUnicode = false;
     private long currentPosition = 0L;  // absolute value, start of forward finds, end(exclusive) of backward finds
     private byte[] byteFindSequence = null;
+    private int[] forwardSkipTable = null;
+    private int[] backwardSkipTable = null;
     private boolean caseSensitive = true;
     private BinaryContent content = null;
     private boolean directionForward = true;
@@ -105,29 +108,27 @@ public class BinaryTextFinder {
     {
         if (byteFindSequence == null) return -1;
 
-        int start = 0;
-        int inclusiveEnd = byteBuffer.limit() - byteFindSequence.length;
-        if (!directionForward) {
-            start = inclusiveEnd;
-            inclusiveEnd = 0;
+        // Boyer-Moore-Horspool: on mismatch skip by the distance to the next occurrence of the
+        // byte under the window edge (last byte of window forward, first byte backward)
+        int sequenceLength = byteFindSequence.length;
+        int lastStart = byteBuffer.limit() - sequenceLength;
+        if (lastStart < 0) return -1;
+
+        int[] skipTable = directionForward ? forwardSkipTable : backwardSkipTable;
+        if (skipTable == null) {
+            skipTable = makeSkipTable(directionForward);
+            if (directionForward)
+                forwardSkipTable = skipTable;
+            else
+                backwardSkipTable = skipTable;
         }
-
-        for (int i = start;
-            directionForward && i <= inclusiveEnd || !directionForward && i >= inclusiveEnd;
-            i += directionForward ? 1 : -1)
-        {
-            boolean matchesSoFar = true;
-            for (int j = 0; j < byteFindSequence.length && matchesSoFar; ++j) {
-                byte existing = byteBuffer.get(i + j);
-                byte matcher = byteFindSequence[j];
-                if (existing != matcher) {
-                    if (caseSensitive || existing < 'A' || existing > 'z' || matcher < 'A' ||
-                        matcher > 'z' || existing - matcher != 32 && matcher - existing != 32)
-                        matchesSoFar = false;
-                }
+        if (directionForward) {
+            for (int i = 0; i <= lastStart; i += skipTable[foldCase(byteBuffer.get(i + sequenceLength - 1))]) {
+                if (matchesAt(i)) return i;
             }
-            if (matchesSoFar) {
-                return i;
+        } else {
+            for (int i = lastStart; i >= 0; i -= skipTable[foldCase(byteBuffer.get(i))]) {
+                if (matchesAt(i)) return i;
             }
         }
 
@@ -135,6 +136,48 @@ public class BinaryTextFinder {
     }
 
 
+    private boolean matchesAt(int position)
+    {
+        for (int j = byteFindSequence.length - 1; j >= 0; --j) {
+            byte existing = byteBuffer.get(position + j);
+            byte matcher = byteFindSequence[j];
+            if (existing != matcher && (caseSensitive || foldCase(existing) != foldCase(matcher)))
+                return false;
+        }
+
+        return true;
+    }
+
+
+    private int[] makeSkipTable(boolean forward)
+    {
+        int sequenceLength = byteFindSequence.length;
+        int[] result = new int[256];
+        Arrays.fill(result, sequenceLength);
+        if (forward) {
+            for (int j = 0; j < sequenceLength - 1; ++j)
+                result[foldCase(byteFindSequence[j])] = sequenceLength - 1 - j;
+        } else {
+            for (int j = sequenceLength - 1; j > 0; --j)
+                result[foldCase(byteFindSequence[j])] = j;
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Unsigned value of the byte, ascii letters are lower-cased when search is case insensitive
+     */
+    private int foldCase(byte value)
+    {
+        if (!caseSensitive && value >= 'A' && value <= 'Z')
+            return value + 32;
+
+        return value & 0x0ff;
+    }
+
+
     private int findUnicodeMatchInPart()
         throws IOException
     {
@@ -217,6 +260,7 @@ public class BinaryTextFinder {
     void initSearchHex(byte[] sequence)
     {
         byteFindSequence = sequence;
+        resetSkipTables();
 
         if (sequence.length > MAX_SEQUENCE_SIZE) {
             byteFindSequence = new byte[MAX_SEQUENCE_SIZE];
@@ -269,6 +313,14 @@ public class BinaryTextFinder {
 
         if (isAsciiCompatible)
             byteFindSequence = tmpBytes;
+        resetSkipTables();
+    }
+
+
+    private void resetSkipTables()
+    {
+        forwardSkipTable = null;
+        backwardSkipTable = null;
     }
 
 
@@ -340,6 +392,7 @@ public class BinaryTextFinder {
         if (caseSensitive == beSensitive) return;
 
         caseSensitive = beSensitive;
+        resetSkipTables();
         if (literal != null)
             initSearchUnicodeAscii();
     }
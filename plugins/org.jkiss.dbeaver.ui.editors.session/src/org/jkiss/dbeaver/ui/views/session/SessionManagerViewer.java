@@ -35,6 +35,8 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.ui.IEditorSite;
 import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.IWorkbenchSite;
@@ -76,6 +78,7 @@ import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -110,6 +113,8 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
     private ExplainPlanViewer planViewer;
     private Object selectedPlanElement;
     private final CTabFolder detailsFolder;
+    private CTabItem historyItem;
+    private Table historyTable;
 
     protected SessionManagerViewer(IWorkbenchPart part, Composite parent, final DBAServerSessionManager<SESSION_TYPE> sessionManager) {
         this.workbenchPart = part;
@@ -223,11 +228,19 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                     }
                 }
 
+                if (sessionTable.getSessionMonitor().isTrackingSupported()) {
+                    createHistoryTab(detailsFolder);
+                }
+
                 detailsFolder.setSelection(detailsItem);
                 detailsFolder.addSelectionListener(new SelectionAdapter() {
                     @Override
                     public void widgetSelected(SelectionEvent e) {
                         CTabItem item = detailsFolder.getItem(detailsFolder.getSelectionIndex());
+                        if (item == historyItem) {
+                            updateHistory();
+                            return;
+                        }
                         Object data = item.getData();
                         if (data instanceof DBAServerSessionDetails) {
                             Class<?> detailsType = ((DBAServerSessionDetails) data).getDetailsType();
@@ -289,6 +302,9 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
         }
         if (detailsFolder.getSelectionIndex() > 0) {
             CTabItem detailsItem = detailsFolder.getItem(detailsFolder.getSelectionIndex());
+            if (detailsItem == historyItem) {
+                updateHistory();
+            }
             Object data = detailsItem.getData();
             if (data instanceof DBAServerSessionDetails) {
                 if (detailsItem.getControl() instanceof StyledText) {
@@ -302,6 +318,59 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
         }
     }
 
+    private void createHistoryTab(CTabFolder detailsFolder) {
+        historyTable = new Table(detailsFolder, SWT.FULL_SELECTION);
+        historyTable.setHeaderVisible(true);
+        historyTable.setLinesVisible(true);
+        UIUtils.createTableColumn(historyTable, SWT.LEFT, SessionEditorMessages.viewer_history_column_time);
+        DBAServerSessionTracker<?> tracker = (DBAServerSessionTracker<?>) sessionManager;
+        for (String metricName : tracker.getSessionMetricNames()) {
+            UIUtils.createTableColumn(historyTable, SWT.RIGHT, metricName);
+        }
+        UIUtils.packColumns(historyTable);
+
+        historyItem = new CTabItem(detailsFolder, SWT.NONE);
+        historyItem.setText(SessionEditorMessages.viewer_history_item_history);
+        historyItem.setToolTipText(SessionEditorMessages.viewer_history_item_history_tip);
+        historyItem.setControl(historyTable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateHistory() {
+        if (historyTable == null || historyTable.isDisposed()) {
+            return;
+        }
+        historyTable.setRedraw(false);
+        try {
+            historyTable.removeAll();
+            DBAServerSessionHistory history = curSession == null ?
+                null : sessionTable.getSessionMonitor().getSessionHistory((SESSION_TYPE) curSession);
+            if (history == null) {
+                return;
+            }
+            SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+            int metricCount = history.getMetricNames().length;
+            // Newest samples first
+            for (int i = history.getSampleCount() - 1; i >= 0; i--) {
+                TableItem item = new TableItem(historyTable, SWT.NONE);
+                item.setText(0, timeFormat.format(new Date(history.getSampleTime(i))));
+                for (int m = 0; m < metricCount; m++) {
+                    item.setText(m + 1, formatMetricValue(history.getSampleValue(m, i)));
+                }
+            }
+            UIUtils.packColumns(historyTable);
+        } finally {
+            historyTable.setRedraw(true);
+        }
+    }
+
+    private static String formatMetricValue(double value) {
+        if (value == Math.rint(value)) {
+            return String.valueOf((long) value);
+        }
+        return String.format("%.1f", value);
+    }
+
     private void createPlannerTab(CTabFolder previewFolder) {
         planViewer = new ExplainPlanViewer(workbenchPart, sqlViewer, previewFolder, 0);
 
@@ -579,20 +648,38 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
             @Override
             public void completeLoading(Collection<SESSION_TYPE> items) {
                 Collection<DBAServerSession> previouslySelectedSessions = getSelectedSessions();
+                DBAServerSessionDelta<SESSION_TYPE> delta = getLastDelta();
                 super.completeLoading(items);
                 if (items != null) {
-                    Object[] sessionsToSelect = previouslySelectedSessions.stream().filter(items::contains).toArray();
+                    Map<SESSION_TYPE, SESSION_TYPE> changed = delta == null ? Collections.emptyMap() : delta.getChanged();
+                    Object[] sessionsToSelect = previouslySelectedSessions.stream()
+                        .map(s -> changed.getOrDefault(s, (SESSION_TYPE) s))
+                        .filter(items::contains)
+                        .toArray();
                     sessionTable.getItemsViewer().setSelection(new StructuredSelection(sessionsToSelect));
-                    if (items.contains(curSession)) {
+                    DBAServerSession newCurSession = changed.get(curSession);
+                    if (newCurSession != null) {
+                        // Session state was changed, refresh its details
+                        onSessionSelect(newCurSession);
+                    } else if (items.contains(curSession)) {
                         onSessionSelect(curSession);
                     } else {
                         onSessionSelect(null);
                     }
+                    if (historyItem != null && detailsFolder.getSelection() == historyItem) {
+                        updateHistory();
+                    }
                 }
             }
 
             @Override
             protected void afterCompleteLoading(@NotNull Collection<SESSION_TYPE> items) {
+                DBAServerSessionDelta<SESSION_TYPE> delta = getLastDelta();
+                if (delta != null && !delta.isFull() &&
+                    updateListData(delta.getAdded(), delta.getChanged(), delta.getRemoved()))
+                {
+                    return;
+                }
                 setListData(items, false, false, true);
             }
         }
@@ -16,20 +16,25 @@
  */
 package org.jkiss.dbeaver.ui.views.session;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.ui.IWorkbenchSite;
 import org.jkiss.code.NotNull;
-import org.jkiss.dbeaver.DBException;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSession;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionDelta;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManager;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionMonitor;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
 import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.load.DatabaseLoadService;
 import org.jkiss.dbeaver.ui.LoadingJob;
@@ -48,11 +53,15 @@ class SessionTable<SESSION_TYPE extends DBAServerSession> extends DatabaseObject
     private static final Log log = Log.getLog(SessionTable.class);
 
     private DBAServerSessionManager<SESSION_TYPE> sessionManager;
+    private DBAServerSessionMonitor<SESSION_TYPE> sessionMonitor;
+    // Changes made by the last sessions refresh
+    private volatile DBAServerSessionDelta<SESSION_TYPE> lastDelta;
 
     SessionTable(Composite parent, int style, IWorkbenchSite site, DBAServerSessionManager<SESSION_TYPE> sessionManager)
     {
         super(parent, style, site, CONTENT_PROVIDER);
         this.sessionManager = sessionManager;
+        this.sessionMonitor = new DBAServerSessionMonitor<>(sessionManager);
         //setFitWidth(true);
     }
 
@@ -60,6 +69,22 @@ class SessionTable<SESSION_TYPE extends DBAServerSession> extends DatabaseObject
         return sessionManager;
     }
 
+    @NotNull
+    public DBAServerSessionMonitor<SESSION_TYPE> getSessionMonitor() {
+        return sessionMonitor;
+    }
+
+    @Nullable
+    protected DBAServerSessionDelta<SESSION_TYPE> getLastDelta() {
+        return lastDelta;
+    }
+
+    @Override
+    public void disposeControl() {
+        super.disposeControl();
+        new DisposeMonitorJob(sessionMonitor).schedule();
+    }
+
     @NotNull
     @Override
     protected String getListConfigId(List<Class<?>> classList) {
@@ -84,6 +109,8 @@ class SessionTable<SESSION_TYPE extends DBAServerSession> extends DatabaseObject
     public void init(DBAServerSessionManager<SESSION_TYPE> sessionManager)
     {
         this.sessionManager = sessionManager;
+        new DisposeMonitorJob(this.sessionMonitor).schedule();
+        this.sessionMonitor = new DBAServerSessionMonitor<>(sessionManager);
     }
 
     protected Map<String, Object> getSessionOptions() {
@@ -140,24 +167,15 @@ class SessionTable<SESSION_TYPE extends DBAServerSession> extends DatabaseObject
             throws InvocationTargetException, InterruptedException
         {
             try {
-                if (sessionManager.getDataSource().getContainer().isForceUseSingleConnection()) {
-                    DBCExecutionContext context = DBUtils.getDefaultContext(sessionManager.getDataSource(), false);
-                    return getSessions(monitor, context);
-                } else {
-                    try (DBCExecutionContext isolatedContext = sessionManager.getDataSource().getDefaultInstance().openIsolatedContext(monitor, "View sessions", null)) {
-                        return getSessions(monitor, isolatedContext);
-                    }
-                }
+                // Monitor keeps its connection open between refreshes
+                DBAServerSessionDelta<SESSION_TYPE> delta = sessionMonitor.refresh(monitor, getSessionOptions());
+                lastDelta = delta;
+                return delta.getSessions();
             } catch (Throwable ex) {
+                lastDelta = null;
                 throw new InvocationTargetException(ex);
             }
         }
-        
-        private Collection<SESSION_TYPE> getSessions(DBRProgressMonitor monitor, DBCExecutionContext context) throws DBException {
-            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Retrieve server sessions")) {
-                return sessionManager.getSessions(session, getSessionOptions());
-            }
-        }
     }
 
     private class KillSessionsService extends DatabaseLoadService<Void> {
@@ -208,4 +226,24 @@ class SessionTable<SESSION_TYPE extends DBAServerSession> extends DatabaseObject
         }
 
     }
+
+    /**
+     * Monitor connection may be busy with the sessions query, so it is closed in background
+     */
+    private static class DisposeMonitorJob extends AbstractJob {
+        private final DBAServerSessionMonitor<?> sessionMonitor;
+
+        DisposeMonitorJob(DBAServerSessionMonitor<?> sessionMonitor) {
+            super("Close sessions monitor");
+            this.sessionMonitor = sessionMonitor;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            sessionMonitor.dispose();
+            return Status.OK_STATUS;
+        }
+    }
 }
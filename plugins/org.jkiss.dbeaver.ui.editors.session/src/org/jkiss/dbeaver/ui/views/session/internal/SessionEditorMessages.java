@@ -35,6 +35,9 @@ public class SessionEditorMessages extends NLS {
     public static String viewer_session_manager_error_opening_editor_title;
     public static String viewer_session_manager_error_opening_editor_message;
     public static String viewer_session_manager_refresh_sessions_action;
+    public static String viewer_history_item_history;
+    public static String viewer_history_item_history_tip;
+    public static String viewer_history_column_time;
 
     static {
         // initialize resource bundle
@@ -54,6 +54,7 @@ import org.jkiss.dbeaver.model.runtime.DBRRunnableParametrized;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
 import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
+import org.jkiss.dbeaver.model.sql.plan.SQLPlanHistory;
 import org.jkiss.dbeaver.model.sql.registry.SQLCommandsRegistry;
 import org.jkiss.dbeaver.model.sql.registry.SQLPragmaHandlerDescriptor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
@@ -517,6 +518,9 @@ public class SQLQueryJob extends DataSourceJob
             if (fireEvents && listener != null && startQueryAlerted) {
                 notifyQueryExecutionEnd(curResult);
             }
+            if (curResult.getError() == null && !monitor.isCanceled()) {
+                SQLPlanHistory.captureSlowQueryPlan(session, sqlQuery.getText(), curResult.getQueryTime());
+            }
 
             monitor.done();
         }
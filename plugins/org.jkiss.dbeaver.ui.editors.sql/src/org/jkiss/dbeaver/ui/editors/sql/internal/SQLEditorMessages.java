@@ -48,6 +48,7 @@ public class SQLEditorMessages extends NLS {
     public static String editors_sql_error_cant_obtain_session;
     public static String editors_sql_error_execution_plan_message;
     public static String editors_sql_error_execution_plan_title;
+    public static String editors_sql_warning_execution_plan_regression_title;
     public static String editors_sql_execution_log;
     public static String editors_sql_execution_log_tip;
     public static String editors_sql_variables;
@@ -292,6 +293,13 @@ public class SQLEditorMessages extends NLS {
     public static String pref_page_sql_editor_label_refresh_defaults_after_execute_tip;
     public static String pref_page_sql_editor_label_clear_output_before_execute;
     public static String pref_page_sql_editor_label_clear_output_before_execute_tip;
+    public static String pref_page_sql_editor_group_plan_history;
+    public static String pref_page_sql_editor_checkbox_plan_history_enabled;
+    public static String pref_page_sql_editor_checkbox_plan_history_enabled_tip;
+    public static String pref_page_sql_editor_label_plan_history_slow_query_time;
+    public static String pref_page_sql_editor_label_plan_history_slow_query_time_tip;
+    public static String pref_page_sql_editor_label_plan_history_cost_threshold;
+    public static String pref_page_sql_editor_label_plan_history_cost_threshold_tip;
 
 	public static String pref_page_sql_insert_case_default;
 	public static String pref_page_sql_insert_case_lower_case;
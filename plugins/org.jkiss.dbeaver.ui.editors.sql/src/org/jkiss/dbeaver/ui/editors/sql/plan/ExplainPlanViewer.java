@@ -44,6 +44,9 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.load.DatabaseLoadService;
 import org.jkiss.dbeaver.model.runtime.load.ILoadVisualizerExt;
 import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.dbeaver.model.sql.plan.SQLPlanDiff;
+import org.jkiss.dbeaver.model.sql.plan.SQLPlanHistory;
+import org.jkiss.dbeaver.model.sql.plan.SQLPlanSnapshot;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
 import org.jkiss.dbeaver.ui.LoadingJob;
@@ -415,6 +418,14 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
             } catch (Throwable ex) {
                 throw new InvocationTargetException(ex);
             }
+            if (plan != null && savedQueryId == null) {
+                SQLPlanDiff diff = SQLPlanHistory.recordPlan(
+                    executionContext.getDataSource(), query, plan, SQLPlanSnapshot.Source.EXPLAIN, -1);
+                if (diff != null && diff.isRegression()) {
+                    DBWorkbench.getPlatformUI().showWarningNotification(
+                        SQLEditorMessages.editors_sql_warning_execution_plan_regression_title, diff.getSummary());
+                }
+            }
             return plan;
         }
 
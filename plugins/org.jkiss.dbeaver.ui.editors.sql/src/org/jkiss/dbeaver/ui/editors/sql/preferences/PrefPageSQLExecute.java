@@ -74,6 +74,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
     private Button enableParametersInEmbeddedCode;
     private Button enableVariables;
 
+    private Button planHistoryEnabledCheck;
+    private Spinner planHistorySlowQueryTimeText;
+    private Spinner planHistoryCostThresholdText;
+
     public PrefPageSQLExecute()
     {
         super();
@@ -108,7 +112,11 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.contains(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE) ||
             store.contains(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE) ||
             store.contains(SQLPreferenceConstants.REFRESH_DEFAULTS_AFTER_EXECUTE) ||
-            store.contains(SQLPreferenceConstants.CLEAR_OUTPUT_BEFORE_EXECUTE)
+            store.contains(SQLPreferenceConstants.CLEAR_OUTPUT_BEFORE_EXECUTE) ||
+
+            store.contains(ModelPreferences.SQL_PLAN_HISTORY_ENABLED) ||
+            store.contains(ModelPreferences.SQL_PLAN_HISTORY_SLOW_QUERY_TIME) ||
+            store.contains(ModelPreferences.SQL_PLAN_HISTORY_COST_THRESHOLD)
         ;
     }
 
@@ -253,6 +261,26 @@ public class PrefPageSQLExecute extends TargetPrefPage
             removeTrailingDelimiter = UIUtils.createCheckbox(delimGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_remove_trailing_delimiter, SQLEditorMessages.pref_page_sql_editor_checkbox_remove_trailing_delimiter_tip, false, 2);
         }
 
+        // Plans history
+        {
+            Composite planGroup = UIUtils.createControlGroup(composite, SQLEditorMessages.pref_page_sql_editor_group_plan_history, 2, GridData.FILL_HORIZONTAL | GridData.VERTICAL_ALIGN_BEGINNING, 0);
+            planHistoryEnabledCheck = UIUtils.createCheckbox(planGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_plan_history_enabled, SQLEditorMessages.pref_page_sql_editor_checkbox_plan_history_enabled_tip, false, 2);
+
+            UIUtils.createControlLabel(planGroup, SQLEditorMessages.pref_page_sql_editor_label_plan_history_slow_query_time);
+            planHistorySlowQueryTimeText = new Spinner(planGroup, SWT.BORDER);
+            planHistorySlowQueryTimeText.setMinimum(0);
+            planHistorySlowQueryTimeText.setMaximum(Integer.MAX_VALUE);
+            planHistorySlowQueryTimeText.setIncrement(100);
+            planHistorySlowQueryTimeText.setToolTipText(SQLEditorMessages.pref_page_sql_editor_label_plan_history_slow_query_time_tip);
+
+            UIUtils.createControlLabel(planGroup, SQLEditorMessages.pref_page_sql_editor_label_plan_history_cost_threshold);
+            planHistoryCostThresholdText = new Spinner(planGroup, SWT.BORDER);
+            planHistoryCostThresholdText.setMinimum(0);
+            planHistoryCostThresholdText.setMaximum(10000);
+            planHistoryCostThresholdText.setIncrement(10);
+            planHistoryCostThresholdText.setToolTipText(SQLEditorMessages.pref_page_sql_editor_label_plan_history_cost_threshold_tip);
+        }
+
         return composite;
     }
 
@@ -285,6 +313,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
             controlCommandPrefixText.setText(store.getString(ModelPreferences.SQL_CONTROL_COMMAND_PREFIX));
             enableParametersInEmbeddedCode.setSelection(store.getBoolean(ModelPreferences.SQL_PARAMETERS_IN_EMBEDDED_CODE_ENABLED));
             enableVariables.setSelection(store.getBoolean(ModelPreferences.SQL_VARIABLES_ENABLED));
+
+            planHistoryEnabledCheck.setSelection(store.getBoolean(ModelPreferences.SQL_PLAN_HISTORY_ENABLED));
+            planHistorySlowQueryTimeText.setSelection(store.getInt(ModelPreferences.SQL_PLAN_HISTORY_SLOW_QUERY_TIME));
+            planHistoryCostThresholdText.setSelection(store.getInt(ModelPreferences.SQL_PLAN_HISTORY_COST_THRESHOLD));
         } catch (Exception e) {
             log.warn(e);
         }
@@ -319,6 +351,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.setValue(ModelPreferences.SQL_CONTROL_COMMAND_PREFIX, controlCommandPrefixText.getText());
             store.setValue(ModelPreferences.SQL_PARAMETERS_IN_EMBEDDED_CODE_ENABLED, enableParametersInEmbeddedCode.getSelection());
             store.setValue(ModelPreferences.SQL_VARIABLES_ENABLED, enableVariables.getSelection());
+
+            store.setValue(ModelPreferences.SQL_PLAN_HISTORY_ENABLED, planHistoryEnabledCheck.getSelection());
+            store.setValue(ModelPreferences.SQL_PLAN_HISTORY_SLOW_QUERY_TIME, planHistorySlowQueryTimeText.getSelection());
+            store.setValue(ModelPreferences.SQL_PLAN_HISTORY_COST_THRESHOLD, planHistoryCostThresholdText.getSelection());
         } catch (Exception e) {
             log.warn(e);
         }
@@ -355,6 +391,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
         store.setToDefault(SQLPreferenceConstants.BEEP_ON_QUERY_END);
         store.setToDefault(SQLPreferenceConstants.REFRESH_DEFAULTS_AFTER_EXECUTE);
         store.setToDefault(SQLPreferenceConstants.CLEAR_OUTPUT_BEFORE_EXECUTE);
+
+        store.setToDefault(ModelPreferences.SQL_PLAN_HISTORY_ENABLED);
+        store.setToDefault(ModelPreferences.SQL_PLAN_HISTORY_SLOW_QUERY_TIME);
+        store.setToDefault(ModelPreferences.SQL_PLAN_HISTORY_COST_THRESHOLD);
     }
 
     @Override
@@ -175,6 +175,15 @@ public class StatisticsNavigatorNodeRenderer extends DefaultNavigatorNodeRendere
         tree.setCursor(null);
     }
 
+    private static String formatStatNumber(DBSObject object, long value) {
+        try {
+            DBDDataFormatter formatter = object.getDataSource().getContainer().getDataFormatterProfile().createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, null);
+            return formatter.formatValue(value);
+        } catch (Exception e) {
+            return String.valueOf(value);
+        }
+    }
+
     private String getDetailsTipText(DBNNode element, Tree tree, Event event) {
         if (element instanceof DBNDatabaseNode) {
             if (element instanceof DBNDataSource) {
@@ -197,14 +206,12 @@ public class StatisticsNavigatorNodeRenderer extends DefaultNavigatorNodeRendere
                     if (object instanceof DBPObjectStatistics && ((DBPObjectStatistics) object).hasStatistics()) {
                         long statObjectSize = ((DBPObjectStatistics) object).getStatObjectSize();
                         if (statObjectSize > 0) {
-                            String formattedSize;
-                            try {
-                                DBDDataFormatter formatter = object.getDataSource().getContainer().getDataFormatterProfile().createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, null);
-                                formattedSize = formatter.formatValue(statObjectSize);
-                            } catch (Exception e) {
-                                formattedSize = String.valueOf(statObjectSize);
+                            String tipText = "Object size on disk: " + formatStatNumber(object, statObjectSize) + " bytes";
+                            long statRowCount = ((DBPObjectStatistics) object).getStatRowCount();
+                            if (statRowCount >= 0) {
+                                tipText += "\nEstimated row count: ~" + formatStatNumber(object, statRowCount);
                             }
-                            return "Object size on disk: " + formattedSize + " bytes";
+                            return tipText;
                         }
                     }
                 }
@@ -47,7 +47,14 @@ public class TreeLoadService extends DatabaseLoadService<Object[]> {
     {
         try {
             DBNNode[] children = DBNUtils.getNodeChildrenFiltered(monitor, parentNode, true);
-            return children == null ? new Object[0] : children;
+            if (children == null) {
+                return new Object[0];
+            }
+            if (parentNode instanceof DBNDatabaseNode) {
+                // Children are going to be shown, load their children in background
+                parentNode.getModel().prefetchChildren(children);
+            }
+            return children;
         } catch (Throwable ex) {
             throw new InvocationTargetException(ex);
         }
@@ -558,6 +558,82 @@ public abstract class ObjectListControl<OBJECT_TYPE> extends ProgressPageControl
         setListData(items, true, false);
     }
 
+    /**
+     * Applies incremental changes to the list without full viewer refresh.
+     * Replaced objects keep their positions in the list.
+     *
+     * @param replaced maps old objects to new ones
+     * @return false if list can't be updated incrementally (e.g. it is grouped or wasn't loaded yet)
+     */
+    protected boolean updateListData(
+        @NotNull Collection<OBJECT_TYPE> added,
+        @NotNull Map<OBJECT_TYPE, OBJECT_TYPE> replaced,
+        @NotNull Collection<OBJECT_TYPE> removed
+    ) {
+        final Control itemsControl = itemsViewer.getControl();
+        if (itemsControl.isDisposed() || columnController == null || groupingColumn != null || CommonUtils.isEmpty(objectList)) {
+            return false;
+        }
+        itemsControl.setRedraw(false);
+        try {
+            if (!removed.isEmpty()) {
+                Set<OBJECT_TYPE> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+                removedSet.addAll(removed);
+                objectList.removeIf(removedSet::contains);
+                synchronized (lazyCache) {
+                    removed.forEach(lazyCache::remove);
+                }
+                if (isTree) {
+                    ((TreeViewer) itemsViewer).remove(removed.toArray());
+                } else {
+                    ((TableViewer) itemsViewer).remove(removed.toArray());
+                }
+            }
+            if (!replaced.isEmpty()) {
+                // Replacement doesn't shift positions, so old objects can be indexed once
+                Map<OBJECT_TYPE, Integer> objectIndexes = new IdentityHashMap<>(objectList.size());
+                for (int i = 0; i < objectList.size(); i++) {
+                    objectIndexes.put(objectList.get(i), i);
+                }
+                for (Map.Entry<OBJECT_TYPE, OBJECT_TYPE> entry : replaced.entrySet()) {
+                    replaceListObject(entry.getKey(), entry.getValue(), objectIndexes.get(entry.getKey()));
+                }
+            }
+            if (!added.isEmpty()) {
+                objectList.addAll(added);
+                if (isTree) {
+                    ((TreeViewer) itemsViewer).add(itemsViewer.getInput(), added.toArray());
+                } else {
+                    ((TableViewer) itemsViewer).add(added.toArray());
+                }
+            }
+        } finally {
+            itemsControl.setRedraw(true);
+        }
+        setInfo(getItemsLoadMessage(objectList.size()));
+        return true;
+    }
+
+    private void replaceListObject(@NotNull OBJECT_TYPE oldObject, @NotNull OBJECT_TYPE newObject, @Nullable Integer index) {
+        if (index == null) {
+            return;
+        }
+        objectList.set(index, newObject);
+        synchronized (lazyCache) {
+            lazyCache.remove(oldObject);
+        }
+        if (CommonUtils.equalObjects(oldObject, newObject)) {
+            // Viewer finds item by equality and rebinds it to the new object
+            itemsViewer.update(newObject, null);
+        } else if (isTree) {
+            ((TreeViewer) itemsViewer).remove(oldObject);
+            ((TreeViewer) itemsViewer).insert(itemsViewer.getInput(), newObject, index);
+        } else {
+            ((TableViewer) itemsViewer).remove(oldObject);
+            ((TableViewer) itemsViewer).insert(newObject, index);
+        }
+    }
+
     public void repackColumns() {
         if (columnController != null) {
             columnController.repackColumns();
@@ -72,6 +72,8 @@ public class PrefPageDatabaseNavigator extends AbstractPrefPage implements IWork
     private Button showResourceFolderPlaceholdersCheck;
     private Button groupByDriverCheck;
     private Text longListFetchSizeText;
+    private Button prefetchChildrenCheck;
+    private Text prefetchThreadsText;
     private Combo dsDoubleClickBehavior;
     private Combo objDoubleClickBehavior;
     private Combo defaultEditorPageCombo;
@@ -142,6 +144,11 @@ public class PrefPageDatabaseNavigator extends AbstractPrefPage implements IWork
             longListFetchSizeText.setToolTipText(UINavigatorMessages.pref_page_database_general_label_long_list_fetch_size_tip);
             longListFetchSizeText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
 
+            prefetchChildrenCheck = UIUtils.createCheckbox(miscGroup, UINavigatorMessages.pref_page_database_general_label_prefetch_children, UINavigatorMessages.pref_page_database_general_label_prefetch_children_tip, false, 2);
+            prefetchThreadsText = UIUtils.createLabelText(miscGroup, UINavigatorMessages.pref_page_database_general_label_prefetch_threads, "", SWT.BORDER);
+            prefetchThreadsText.setToolTipText(UINavigatorMessages.pref_page_database_general_label_prefetch_threads_tip);
+            prefetchThreadsText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
+
             restoreStateDepthText = UIUtils.createLabelText(miscGroup, UINavigatorMessages.pref_page_database_general_label_restore_state_depth, "", SWT.BORDER);
             restoreStateDepthText.setToolTipText(UINavigatorMessages.pref_page_database_general_label_restore_state_depth_tip);
             restoreStateDepthText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
@@ -173,6 +180,8 @@ public class PrefPageDatabaseNavigator extends AbstractPrefPage implements IWork
         showResourceFolderPlaceholdersCheck.setSelection(store.getBoolean(ModelPreferences.NAVIGATOR_SHOW_FOLDER_PLACEHOLDERS));
         groupByDriverCheck.setSelection(store.getBoolean(NavigatorPreferences.NAVIGATOR_GROUP_BY_DRIVER));
         longListFetchSizeText.setText(store.getString(NavigatorPreferences.NAVIGATOR_LONG_LIST_FETCH_SIZE));
+        prefetchChildrenCheck.setSelection(store.getBoolean(ModelPreferences.NAVIGATOR_PREFETCH_CHILDREN));
+        prefetchThreadsText.setText(store.getString(ModelPreferences.NAVIGATOR_PREFETCH_THREADS));
         NavigatorPreferences.DoubleClickBehavior objDCB = CommonUtils.valueOf(NavigatorPreferences.DoubleClickBehavior.class, store.getString(NavigatorPreferences.NAVIGATOR_OBJECT_DOUBLE_CLICK));
         objDoubleClickBehavior.select(objDCB == NavigatorPreferences.DoubleClickBehavior.EXPAND ? 1 : 0);
         dsDoubleClickBehavior.select(
@@ -216,6 +225,8 @@ public class PrefPageDatabaseNavigator extends AbstractPrefPage implements IWork
         store.setValue(ModelPreferences.NAVIGATOR_SHOW_FOLDER_PLACEHOLDERS, showResourceFolderPlaceholdersCheck.getSelection());
         store.setValue(NavigatorPreferences.NAVIGATOR_GROUP_BY_DRIVER, groupByDriverCheck.getSelection());
         store.setValue(NavigatorPreferences.NAVIGATOR_LONG_LIST_FETCH_SIZE, longListFetchSizeText.getText());
+        store.setValue(ModelPreferences.NAVIGATOR_PREFETCH_CHILDREN, prefetchChildrenCheck.getSelection());
+        store.setValue(ModelPreferences.NAVIGATOR_PREFETCH_THREADS, prefetchThreadsText.getText());
         NavigatorPreferences.DoubleClickBehavior objDCB = NavigatorPreferences.DoubleClickBehavior.EXPAND;
         if (objDoubleClickBehavior.getSelectionIndex() == 0) {
             objDCB = NavigatorPreferences.DoubleClickBehavior.EDIT;
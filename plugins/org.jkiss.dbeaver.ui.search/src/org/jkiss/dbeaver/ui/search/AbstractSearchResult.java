@@ -71,7 +71,9 @@ public abstract class AbstractSearchResult<OBJECT_TYPE> implements ISearchResult
     }
 
     public void addObjects(List<OBJECT_TYPE> objects) {
-        this.objects.addAll(objects);
+        synchronized (this.objects) {
+            this.objects.addAll(objects);
+        }
         fireChange(new DatabaseSearchResultEvent(objects));
     }
 
@@ -0,0 +1,183 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.search.data;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBPObjectStatistics;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel data search executor.
+ * Containers are grouped by owner instance. Each instance is served by a bounded number of worker jobs.
+ * The first worker uses the instance default context, others open their own isolated contexts.
+ */
+class SearchDataExecutor {
+
+    private static final Log log = Log.getLog(SearchDataExecutor.class);
+
+    interface ContainerSearcher {
+        /**
+         * Searches in the specified container. Returns true if something was found.
+         */
+        boolean searchInContainer(
+            @NotNull DBRProgressMonitor monitor,
+            @NotNull DBCExecutionContext context,
+            @NotNull DBSDataContainer dataContainer);
+    }
+
+    private final ContainerSearcher searcher;
+    private final int maxThreads;
+    private final AtomicInteger foundObjects = new AtomicInteger();
+
+    SearchDataExecutor(@NotNull ContainerSearcher searcher, int maxThreads) {
+        this.searcher = searcher;
+        this.maxThreads = Math.max(maxThreads, 1);
+    }
+
+    /**
+     * Runs search in all containers and waits for completion.
+     *
+     * @return number of containers with found rows
+     */
+    int execute(@NotNull DBRProgressMonitor monitor, @NotNull Collection<DBSDataContainer> containers) {
+        Map<DBSInstance, Queue<DBSDataContainer>> instanceQueues = new LinkedHashMap<>();
+        for (DBSDataContainer container : sortBySize(containers)) {
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(container);
+            if (instance == null) {
+                log.debug("Can't find owner instance for '" + container.getName() + "'");
+                continue;
+            }
+            instanceQueues.computeIfAbsent(instance, i -> new ConcurrentLinkedQueue<>()).add(container);
+        }
+
+        List<SearchWorker> workers = new ArrayList<>();
+        for (Map.Entry<DBSInstance, Queue<DBSDataContainer>> entry : instanceQueues.entrySet()) {
+            int threadCount = Math.min(maxThreads, entry.getValue().size());
+            for (int i = 0; i < threadCount; i++) {
+                workers.add(new SearchWorker(monitor, entry.getKey(), entry.getValue(), i > 0));
+            }
+        }
+        for (SearchWorker worker : workers) {
+            worker.schedule();
+        }
+        for (SearchWorker worker : workers) {
+            try {
+                while (!worker.join(100, null)) {
+                    if (monitor.isCanceled()) {
+                        // Cancel running queries
+                        for (SearchWorker w : workers) {
+                            w.cancel();
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return foundObjects.get();
+    }
+
+    /**
+     * Largest containers go first, so that small ones fill the gaps at the end of search
+     */
+    private static List<DBSDataContainer> sortBySize(@NotNull Collection<DBSDataContainer> containers) {
+        List<DBSDataContainer> result = new ArrayList<>(containers);
+        result.sort(Comparator.comparingLong(SearchDataExecutor::getContainerSize).reversed());
+        return result;
+    }
+
+    static long getContainerSize(@NotNull DBSDataContainer container) {
+        if (container instanceof DBPObjectStatistics && ((DBPObjectStatistics) container).hasStatistics()) {
+            return ((DBPObjectStatistics) container).getStatObjectSize();
+        }
+        return -1;
+    }
+
+    private class SearchWorker extends AbstractJob {
+
+        private final DBRProgressMonitor parentMonitor;
+        private final DBSInstance instance;
+        private final Queue<DBSDataContainer> queue;
+        private final boolean isolated;
+
+        SearchWorker(
+            @NotNull DBRProgressMonitor parentMonitor,
+            @NotNull DBSInstance instance,
+            @NotNull Queue<DBSDataContainer> queue,
+            boolean isolated
+        ) {
+            super("Search data in " + instance.getName());
+            this.parentMonitor = parentMonitor;
+            this.instance = instance;
+            this.queue = queue;
+            this.isolated = isolated;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBCExecutionContext context;
+            try {
+                context = isolated ?
+                    instance.openIsolatedContext(monitor, "Data search", null) :
+                    instance.getDefaultContext(monitor, false);
+            } catch (DBException e) {
+                // Other workers of this instance will process the queue
+                log.debug("Can't open isolated context for data search in '" + instance.getName() + "'", e);
+                return Status.OK_STATUS;
+            }
+            try {
+                for (DBSDataContainer dataContainer = queue.poll(); dataContainer != null; dataContainer = queue.poll()) {
+                    if (monitor.isCanceled() || parentMonitor.isCanceled()) {
+                        break;
+                    }
+                    synchronized (parentMonitor) {
+                        parentMonitor.subTask("Search in '" + DBUtils.getObjectFullName(dataContainer, DBPEvaluationContext.UI) + "'");
+                    }
+                    if (searcher.searchInContainer(monitor, context, dataContainer)) {
+                        foundObjects.incrementAndGet();
+                    }
+                    synchronized (parentMonitor) {
+                        parentMonitor.worked(1);
+                    }
+                }
+            } finally {
+                if (isolated) {
+                    context.close();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
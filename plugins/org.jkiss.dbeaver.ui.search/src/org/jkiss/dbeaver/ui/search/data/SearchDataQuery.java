@@ -108,21 +108,18 @@ public class SearchDataQuery implements ISearchQuery {
 
             DBRProgressMonitor monitor = new DefaultProgressMonitor(m);
 
-            int totalObjects = 0;
+            int totalObjects;
 
             monitor.beginTask(
                 "Search \"" + searchString + "\" in " + params.sources.size() + " table(s) / " + dataSources.size() + " database(s)",
                 params.sources.size());
             try {
-                for (DBSDataContainer dataContainer : params.sources) {
-                    if (monitor.isCanceled()) {
-                        break;
-                    }
-                    if (searchDataInContainer(monitor, dbnModel, dataContainer)) {
-                        totalObjects++;
-                    }
-                    monitor.worked(1);
-                }
+                Map<DBSDataContainer, DBDDataFilter> editorFilters = collectEditorDataFilters();
+                SearchDataExecutor executor = new SearchDataExecutor(
+                    (workerMonitor, context, dataContainer) ->
+                        searchDataInContainer(workerMonitor, context, dbnModel, dataContainer, editorFilters.get(dataContainer)),
+                    params.maxThreads);
+                totalObjects = executor.execute(monitor, params.sources);
             } finally {
                 monitor.done();
             }
@@ -135,7 +132,13 @@ public class SearchDataQuery implements ISearchQuery {
         }
     }
 
-    private boolean searchDataInContainer(DBRProgressMonitor monitor, DBNModel dbnModel, DBSDataContainer dataContainer) {
+    private boolean searchDataInContainer(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext context,
+        @NotNull DBNModel dbnModel,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter editorFilter
+    ) {
         if (!params.searchForeignObjects && dataContainer instanceof DBPForeignObject && ((DBPForeignObject) dataContainer).isForeignObject()) {
             return false;
         }
@@ -146,11 +149,22 @@ public class SearchDataQuery implements ISearchQuery {
             log.warn("Can't find tree node for object \"" + objectName + "\"");
             return false;
         }
-        monitor.subTask("Search in '" + objectName + "'");
+        DBDDataFilter dataFilter;
+        try {
+            // Build filter before opening session. Tables without searchable columns are skipped without any query.
+            dataFilter = makeSearchFilter(monitor, dataContainer, editorFilter);
+        } catch (DBException e) {
+            log.debug("Can't prepare search filter for '" + objectName + "'", e);
+            return false;
+        }
+        if (dataFilter == null) {
+            return false;
+        }
         log.debug("Search in '" + objectName + "'");
         SearchTableMonitor searchMonitor = new SearchTableMonitor(monitor);
-        try (DBCSession session = DBUtils.openUtilSession(searchMonitor, dataContainer, "Search rows in " + objectName)) {
+        try (DBCSession session = context.openSession(searchMonitor, DBCExecutionPurpose.UTIL, "Search rows in " + objectName)) {
             TestDataReceiver dataReceiver = new TestDataReceiver(searchMonitor);
+            dataReceiver.filter = dataFilter;
             try {
                 findRows(session, dataContainer, dataReceiver);
             } catch (DBCException e) {
@@ -164,8 +178,6 @@ public class SearchDataQuery implements ISearchQuery {
                 searchResult.addObjects(Collections.singletonList(object));
                 return true;
             }
-        } catch (DBCException e) {
-            log.error("Error searching data in container", e);
         }
         return false;
     }
@@ -174,6 +186,20 @@ public class SearchDataQuery implements ISearchQuery {
         @NotNull DBCSession session,
         @NotNull DBSDataContainer dataContainer,
         @NotNull TestDataReceiver dataReceiver) throws DBCException
+    {
+        DBCExecutionSource searchSource = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this);
+        return dataContainer.readData(searchSource, session, dataReceiver, dataReceiver.filter, -1, -1, 0, 0);
+    }
+
+    /**
+     * Makes search filter for all searchable attributes of the container.
+     * Returns null if there are no attributes which may contain search string.
+     */
+    @Nullable
+    private DBDDataFilter makeSearchFilter(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter editorFilter) throws DBException
     {
         DBSEntity entity;
         if (dataContainer instanceof DBSEntity) {
@@ -182,153 +208,141 @@ public class SearchDataQuery implements ISearchQuery {
             log.warn("Data container " + dataContainer + " isn't entity");
             return null;
         }
-        try {
-
-            List<DBDAttributeConstraint> constraints = new ArrayList<>();
-            DBDDataFilter dataFilter = searchDataFilterForContainer(dataContainer, session.getProgressMonitor());
-            for (DBSEntityAttribute attribute : CommonUtils.safeCollection(entity.getAttributes(session.getProgressMonitor()))) {
-                if (params.fastSearch) {
-                    if (DBUtils.findAttributeIndex(session.getProgressMonitor(), attribute) == null) {
-                        continue;
-                    }
-                }
-                if (DBUtils.isPseudoAttribute(attribute) || DBUtils.isHiddenObject(attribute)) {
+        List<DBDAttributeConstraint> constraints = new ArrayList<>();
+        DBDDataFilter dataFilter = editorFilter != null ? editorFilter : ResultSetUtils.restoreDataFilter(dataContainer, monitor);
+        for (DBSEntityAttribute attribute : CommonUtils.safeCollection(entity.getAttributes(monitor))) {
+            if (params.fastSearch) {
+                if (DBUtils.findAttributeIndex(monitor, attribute) == null) {
                     continue;
                 }
-                DBCLogicalOperator[] supportedOperators = DBUtils.getAttributeOperators(attribute);
-                DBCLogicalOperator operator;
-                Object value;
-                switch (attribute.getDataKind()) {
-                    case BOOLEAN:
+            }
+            if (DBUtils.isPseudoAttribute(attribute) || DBUtils.isHiddenObject(attribute)) {
+                continue;
+            }
+            DBCLogicalOperator[] supportedOperators = DBUtils.getAttributeOperators(attribute);
+            DBCLogicalOperator operator;
+            Object value;
+            switch (attribute.getDataKind()) {
+                case BOOLEAN:
+                    continue;
+                case NUMERIC:
+                    if (!params.searchNumbers) {
                         continue;
-                    case NUMERIC:
-                        if (!params.searchNumbers) {
-                            continue;
-                        }
-                        if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
-                            continue;
-                        }
-                        operator = DBCLogicalOperator.EQUALS;
+                    }
+                    if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                        continue;
+                    }
+                    operator = DBCLogicalOperator.EQUALS;
+                    try {
+                        value = Integer.valueOf(params.searchString);
+                    } catch (NumberFormatException e) {
                         try {
-                            value = Integer.valueOf(params.searchString);
-                        } catch (NumberFormatException e) {
+                            value = Long.valueOf(params.searchString);
+                        } catch (NumberFormatException e1) {
                             try {
-                                value = Long.valueOf(params.searchString);
-                            } catch (NumberFormatException e1) {
+                                value = Double.valueOf(params.searchString);
+                            } catch (NumberFormatException e2) {
                                 try {
-                                    value = Double.valueOf(params.searchString);
-                                } catch (NumberFormatException e2) {
-                                    try {
-                                        value = new BigDecimal(params.searchString);
-                                    } catch (Exception e3) {
-                                        // Not a number
-                                        continue;
-                                    }
+                                    value = new BigDecimal(params.searchString);
+                                } catch (Exception e3) {
+                                    // Not a number
+                                    continue;
                                 }
                             }
                         }
-                        break;
-                    case CONTENT:
-                    case BINARY:
-                        if (!params.searchLOBs) {
-                            continue;
-                        }
-                    case STRING:
-                        // Do not check value length. Some columns may be compressed/compacted/have special data type and thus have length < than value length.
+                    }
+                    break;
+                case CONTENT:
+                case BINARY:
+                    if (!params.searchLOBs) {
+                        continue;
+                    }
+                case STRING:
+                    // Do not check value length. Some columns may be compressed/compacted/have special data type and thus have length < than value length.
 //                        if (attribute.getMaxLength() > 0 && attribute.getMaxLength() < params.searchString.length()) {
 //                            continue;
 //                        }
 
-                        if (!params.isCaseSensitive() && ArrayUtils.contains(supportedOperators, DBCLogicalOperator.ILIKE)) {
-                            operator = DBCLogicalOperator.ILIKE;
-                            value = "%" + params.searchString + "%";
-                        } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.LIKE)) {
-                            operator = DBCLogicalOperator.LIKE;
-                            value = "%" + params.searchString + "%";
-                        } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                    if (!params.isCaseSensitive() && ArrayUtils.contains(supportedOperators, DBCLogicalOperator.ILIKE)) {
+                        operator = DBCLogicalOperator.ILIKE;
+                        value = "%" + params.searchString + "%";
+                    } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.LIKE)) {
+                        operator = DBCLogicalOperator.LIKE;
+                        value = "%" + params.searchString + "%";
+                    } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                        operator = DBCLogicalOperator.EQUALS;
+                        value = params.searchString;
+                    } else {
+                        continue;
+                    }
+                    break;
+                default: {
+                    // Try to convert string to attribute type
+                    // On success search by exact match
+                    if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                        continue;
+                    }
+                    String typeName = attribute.getTypeName();
+                    if (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2)) {
+                        try {
+                            UUID uuid = UUID.fromString(params.searchString);
                             operator = DBCLogicalOperator.EQUALS;
-                            value = params.searchString;
-                        } else {
-                            continue;
-                        }
-                        break;
-                    default: {
-                        // Try to convert string to attribute type
-                        // On success search by exact match
-                        if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
-                            continue;
-                        }
-                        String typeName = attribute.getTypeName();
-                        if (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2)) {
-                            try {
-                                UUID uuid = UUID.fromString(params.searchString);
-                                operator = DBCLogicalOperator.EQUALS;
-                                value = uuid.toString();
-                            } catch (Exception e) {
-                                // No a UUID
-                                continue;
-                            }
-                        } else {
+                            value = uuid.toString();
+                        } catch (Exception e) {
+                            // No a UUID
                             continue;
                         }
+                    } else {
+                        continue;
                     }
                 }
-                DBDAttributeConstraint constraint = null;
-                if (dataFilter != null) {
-                    constraint = dataFilter.getConstraint(attribute, true);
-                }
-                if (constraint == null) {
-                    constraint = new DBDAttributeConstraint(attribute, constraints.size());
-                    constraint.setVisible(true);
-                }
-                constraint.setOperator(operator);
-                constraint.setValue(value);
-                constraints.add(constraint);
-            }
-            if (constraints.isEmpty()) {
-                return null;
             }
+            DBDAttributeConstraint constraint = null;
             if (dataFilter != null) {
-                dataReceiver.filter = dataFilter;
-            } else {
-                dataReceiver.filter = new DBDDataFilter(constraints);
+                constraint = dataFilter.getConstraint(attribute, true);
             }
-            dataReceiver.filter.setAnyConstraint(true);
-            DBCExecutionSource searchSource = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this);
-            return dataContainer.readData(searchSource, session, dataReceiver, dataReceiver.filter, -1, -1, 0, 0);
-        } catch (DBException e) {
-            throw new DBCException("Error finding rows", e);
+            if (constraint == null) {
+                constraint = new DBDAttributeConstraint(attribute, constraints.size());
+                constraint.setVisible(true);
+            }
+            constraint.setOperator(operator);
+            constraint.setValue(value);
+            constraints.add(constraint);
+        }
+        if (constraints.isEmpty()) {
+            return null;
         }
+        if (dataFilter == null) {
+            dataFilter = new DBDDataFilter(constraints);
+        }
+        dataFilter.setAnyConstraint(true);
+        return dataFilter;
     }
 
     static SearchDataQuery createQuery(SearchDataParams params) throws DBException {
         return new SearchDataQuery(params);
     }
 
-    @Nullable
-    private DBDDataFilter searchDataFilterForContainer(@NotNull DBSDataContainer dataContainer, @NotNull DBRProgressMonitor monitor) {
-        DBDDataFilter dataFilter = null;
-        // First let's search in open editors
+    /**
+     * Collects data filters of containers opened in editors.
+     * Filters are copied because search modifies their constraints.
+     */
+    @NotNull
+    private Map<DBSDataContainer, DBDDataFilter> collectEditorDataFilters() {
+        Map<DBSDataContainer, DBDDataFilter> result = new IdentityHashMap<>();
         for (IEditorReference er : UIUtils.getActiveWorkbenchWindow().getActivePage().getEditorReferences()) {
             IEditorPart editor = er.getEditor(false);
             if (editor instanceof EntityEditor) {
                 IEditorPart pageEditor = ((EntityEditor) editor).getPageEditor(DatabaseDataEditor.class.getName());
                 if (pageEditor != null) {
                     IResultSetController rsc = pageEditor.getAdapter(IResultSetController.class);
-                    if (rsc != null) {
-                        DBSDataContainer rscDataContainer = rsc.getDataContainer();
-                        if (rscDataContainer == dataContainer) {
-                            dataFilter = rsc.getDataFilter();
-                        }
+                    if (rsc != null && rsc.getDataContainer() != null) {
+                        result.put(rsc.getDataContainer(), new DBDDataFilter(rsc.getDataFilter()));
                     }
                 }
             }
         }
-        if (dataFilter == null) {
-            // Now we try to find saved data filters for container
-            dataFilter = ResultSetUtils.restoreDataFilter(dataContainer, monitor);
-        }
-        return dataFilter;
+        return result;
     }
 
     private class SearchTableMonitor extends VoidProgressMonitor {
@@ -0,0 +1,110 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsm.test;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.jkiss.dbeaver.model.lsm.LSMSkippingErrorListener;
+import org.jkiss.dbeaver.model.lsm.impl.LSMParserPool;
+import org.jkiss.dbeaver.model.lsm.mapping.SyntaxModel;
+import org.jkiss.dbeaver.model.lsm.mapping.SyntaxModelMappingResult;
+import org.jkiss.dbeaver.model.lsm.mapping.internal.XTreeNodeBase;
+import org.jkiss.dbeaver.model.lsm.sql.impl.SelectStatement;
+import org.jkiss.dbeaver.model.lsm.sql.impl.syntax.Sql92Lexer;
+import org.jkiss.dbeaver.model.lsm.sql.impl.syntax.Sql92Parser;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.List;
+
+public class LSMParserPoolTest {
+
+    private static LSMParserPool<Sql92Lexer, Sql92Parser> createPool() {
+        return new LSMParserPool<>(Sql92Lexer::new, Sql92Parser::new, Sql92Parser::sqlQuery);
+    }
+
+    private static String parseWithLL(String text) {
+        Sql92Parser parser = new Sql92Parser(new CommonTokenStream(new Sql92Lexer(CharStreams.fromString(text))));
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return parser.sqlQuery().toStringTree(parser);
+    }
+
+    @Test
+    public void pooledParserBuildsSameTrees() {
+        List<String> statements = SelectStatementsResource.readStatements();
+        LSMParserPool<Sql92Lexer, Sql92Parser> pool = createPool();
+        Sql92Parser namesParser = new Sql92Parser(null);
+        for (String text : statements) {
+            ParserRuleContext tree = pool.parse(CharStreams.fromString(text), new LSMSkippingErrorListener());
+            Assert.assertNotNull(tree);
+            Assert.assertEquals(parseWithLL(text), tree.toStringTree(namesParser));
+        }
+    }
+
+    @Test
+    public void repeatedStatementIsNotParsed() {
+        LSMParserPool<Sql92Lexer, Sql92Parser> pool = createPool();
+        String text = "SELECT a.id, b.name FROM t1 a, t2 b WHERE a.id = b.id";
+        ParserRuleContext tree = pool.parse(CharStreams.fromString(text), null);
+        Assert.assertNotNull(tree);
+        Assert.assertSame(tree, pool.parse(CharStreams.fromString(text), null));
+
+        pool.clearCache();
+        Assert.assertNotSame(tree, pool.parse(CharStreams.fromString(text), null));
+    }
+
+    @Test
+    public void invalidStatementIsNotCached() {
+        LSMParserPool<Sql92Lexer, Sql92Parser> pool = createPool();
+        String text = "SELECT FROM WHERE";
+        ParserRuleContext tree = pool.parse(CharStreams.fromString(text), new LSMSkippingErrorListener());
+        Assert.assertNotSame(tree, pool.parse(CharStreams.fromString(text), new LSMSkippingErrorListener()));
+    }
+
+    @Test
+    public void lexerErrorStatementIsNotCached() {
+        LSMParserPool<Sql92Lexer, Sql92Parser> pool = createPool();
+        // Lexer skips the unknown character, so the parser sees no errors
+        String text = "SELECT a FROM t WHERE a = 1 ~";
+        ParserRuleContext tree = pool.parse(CharStreams.fromString(text), new LSMSkippingErrorListener());
+        Assert.assertNotSame(tree, pool.parse(CharStreams.fromString(text), new LSMSkippingErrorListener()));
+    }
+
+    @Test
+    public void cachedTreeMapsToSameModel() {
+        LSMParserPool<Sql92Lexer, Sql92Parser> pool = createPool();
+        String text = "SELECT a.id, b.name FROM t1 a, t2 b WHERE a.id = b.id";
+        ParserRuleContext tree = pool.parse(CharStreams.fromString(text), null);
+        Assume.assumeTrue("Sql92 grammar is generated without syntax model tree nodes", tree instanceof XTreeNodeBase);
+
+        SyntaxModel model = new SyntaxModel(new Sql92Parser(null));
+        Assert.assertTrue(model.introduce(SelectStatement.class).isEmpty());
+        SyntaxModelMappingResult<SelectStatement> first = model.map(tree, SelectStatement.class);
+        Assert.assertTrue(first.isNoErrors());
+        String firstModel = model.stringify(first.getModel());
+
+        ParserRuleContext cachedTree = pool.parse(CharStreams.fromString(text), null);
+        Assert.assertSame(tree, cachedTree);
+        SyntaxModelMappingResult<SelectStatement> second = model.map(cachedTree, SelectStatement.class);
+        Assert.assertTrue(second.isNoErrors());
+        Assert.assertNotSame(first.getModel(), second.getModel());
+        Assert.assertEquals(firstModel, model.stringify(second.getModel()));
+    }
+}
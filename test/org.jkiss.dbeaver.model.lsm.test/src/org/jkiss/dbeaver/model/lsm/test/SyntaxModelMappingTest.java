@@ -0,0 +1,156 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsm.test;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.jkiss.dbeaver.model.lsm.mapping.SyntaxModel;
+import org.jkiss.dbeaver.model.lsm.mapping.SyntaxModelMappingResult;
+import org.jkiss.dbeaver.model.lsm.mapping.internal.TreeRuleNode;
+import org.jkiss.dbeaver.model.lsm.mapping.internal.TreeTermNode;
+import org.jkiss.dbeaver.model.lsm.sql.impl.SelectStatement;
+import org.jkiss.dbeaver.model.lsm.sql.impl.syntax.Sql92Lexer;
+import org.jkiss.dbeaver.model.lsm.sql.impl.syntax.Sql92Parser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares syntax model mapping with compiled paths against the XPath-only mapping
+ */
+public class SyntaxModelMappingTest {
+
+    private static final int ROUNDS = 6;
+
+    /**
+     * Rule node of the syntax model tree keeping the rule of the parsed Sql92 context
+     */
+    private static class MappingRuleNode extends TreeRuleNode {
+        private final int ruleIndex;
+
+        MappingRuleNode(ParserRuleContext parent, ParserRuleContext source) {
+            super(parent, source.invokingState);
+            this.ruleIndex = source.getRuleIndex();
+            this.start = source.getStart();
+            this.stop = source.getStop();
+        }
+
+        @Override
+        public int getRuleIndex() {
+            return ruleIndex;
+        }
+    }
+
+    private static class ParsedStatement {
+        final Sql92Parser parser;
+        final TreeRuleNode tree;
+
+        ParsedStatement(String text) {
+            Sql92Lexer lexer = new Sql92Lexer(CharStreams.fromString(text));
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+            tokens.fill();
+            parser = new Sql92Parser(tokens);
+            parser.setBuildParseTree(true);
+            ParserRuleContext parseTree = parser.sqlQuery();
+            Assert.assertEquals(0, parser.getNumberOfSyntaxErrors());
+            // Sql92 contexts are model.stm tree nodes, while the syntax model maps its own ones
+            tree = copyTree(null, parseTree);
+        }
+    }
+
+    private static TreeRuleNode copyTree(ParserRuleContext parent, ParserRuleContext source) {
+        TreeRuleNode node = new MappingRuleNode(parent, source);
+        for (int i = 0; i < source.getChildCount(); i++) {
+            ParseTree child = source.getChild(i);
+            if (child instanceof ParserRuleContext) {
+                node.addChild(copyTree(node, (ParserRuleContext) child));
+            } else {
+                node.addChild(new TreeTermNode(((TerminalNode) child).getSymbol()));
+            }
+        }
+        return node;
+    }
+
+    private static List<ParsedStatement> parseStatements() {
+        List<String> statements = SelectStatementsResource.readStatements();
+        Assert.assertFalse(statements.isEmpty());
+        List<ParsedStatement> result = new ArrayList<>(statements.size());
+        for (String text : statements) {
+            result.add(new ParsedStatement(text));
+        }
+        return result;
+    }
+
+    private static SyntaxModel makeModel(Sql92Parser parser, boolean compilePaths) {
+        SyntaxModel model = new SyntaxModel(parser, compilePaths);
+        Assert.assertTrue(model.introduce(SelectStatement.class).isEmpty());
+        return model;
+    }
+
+    /**
+     * Maps each statement with the model and returns total time in nanoseconds
+     */
+    private static long measureMapping(List<ParsedStatement> parsedStatements, SyntaxModel model, List<String> output) {
+        long startTime = System.nanoTime();
+        for (ParsedStatement statement : parsedStatements) {
+            SyntaxModelMappingResult<SelectStatement> result = model.map(statement.tree, SelectStatement.class);
+            Assert.assertTrue(result.isNoErrors());
+            if (output != null) {
+                output.add(model.stringify(result.getModel()));
+            }
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    @Test
+    public void compiledMappingMatchesXPathMapping() {
+        List<ParsedStatement> parsedStatements = parseStatements();
+        Sql92Parser parser = parsedStatements.get(0).parser;
+
+        List<String> xpathModels = new ArrayList<>();
+        List<String> compiledModels = new ArrayList<>();
+        measureMapping(parsedStatements, makeModel(parser, false), xpathModels);
+        measureMapping(parsedStatements, makeModel(parser, true), compiledModels);
+        Assert.assertEquals(parsedStatements.size(), xpathModels.size());
+        Assert.assertEquals(xpathModels, compiledModels);
+    }
+
+    @Test
+    public void compiledMappingBenchmark() {
+        List<ParsedStatement> parsedStatements = parseStatements();
+        Sql92Parser parser = parsedStatements.get(0).parser;
+        SyntaxModel xpathModel = makeModel(parser, false);
+        SyntaxModel compiledModel = makeModel(parser, true);
+
+        long xpathTime = Long.MAX_VALUE;
+        long compiledTime = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            xpathTime = Math.min(xpathTime, measureMapping(parsedStatements, xpathModel, null));
+            compiledTime = Math.min(compiledTime, measureMapping(parsedStatements, compiledModel, null));
+        }
+        // Compiled paths are several times faster, so only a slower mapping is a failure
+        Assert.assertTrue(
+            "Syntax model mapping of " + parsedStatements.size() + " statements: XPath " + xpathTime / 1000 +
+                "us, compiled " + compiledTime / 1000 + "us",
+            compiledTime < xpathTime);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.parser.common.test;
+
+import org.jkiss.dbeaver.model.lsm.test.ParseSelectStmtTest;
+import org.jkiss.dbeaver.parser.common.ParseResult;
+import org.jkiss.dbeaver.parser.common.ParseTreeNode;
+import org.jkiss.dbeaver.parser.common.ParserFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.stream.Collectors;
+
+/**
+ * Memoized parser should build the same trees as the plain one
+ */
+public class MemoizedParserTest {
+
+    private static List<String> readStatements(InputStream stream) {
+        List<String> result = new ArrayList<>();
+        try (Scanner scanner = new Scanner(stream)) {
+            StringBuilder sb = new StringBuilder();
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine();
+                String trimmed = line.trim();
+                if (trimmed.length() > 0) {
+                    if (!trimmed.startsWith("--")) {
+                        sb.append(line).append("\n");
+                    }
+                } else if (sb.toString().trim().length() > 0) {
+                    result.add(sb.toString().trim());
+                    sb.setLength(0);
+                }
+            }
+            if (sb.toString().trim().length() > 0) {
+                result.add(sb.toString().trim());
+            }
+        }
+        return result;
+    }
+
+    private static List<String> collectTrees(ParseResult result) {
+        Assert.assertTrue(result.isSuccess());
+        return result.getTrees(false).stream().map(ParseTreeNode::collectString).collect(Collectors.toList());
+    }
+
+    @Test
+    public void memoizedParserBuildsSameTrees() {
+        ParserFactory factory = ParserFactory.getFactory(SelectGrammar.makeSelectGrammar(false));
+        Assert.assertEquals(List.of(), factory.getErrors());
+        List<String> statements = readStatements(
+            ParseSelectStmtTest.class.getResourceAsStream("SelectStatements.sql.txt"));
+        Assert.assertFalse(statements.isEmpty());
+
+        for (String text : statements) {
+            List<String> trees = collectTrees(factory.createParser().parse(text));
+            List<String> memoizedTrees = collectTrees(factory.createParser(true).parse(text));
+            Assert.assertEquals(text, 1, trees.size());
+            Assert.assertEquals(text, trees, memoizedTrees);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.parser.common.test;
+
+import org.jkiss.dbeaver.parser.common.ParseResult;
+import org.jkiss.dbeaver.parser.common.Parser;
+import org.jkiss.dbeaver.parser.common.ParserFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Parsing time of long statements, which should grow nearly linearly with the text length
+ */
+public class ParserBenchmarkTest {
+
+    private static final String STATEMENT = "SELECT p.ProductID, p.Name AS n, count(*) FROM Production.Product p " +
+        "INNER JOIN Sales.Detail d ON p.ProductID = d.ProductID AND p.rowguid = d.rowguid " +
+        "WHERE p.x > 1 OR (p.y < 2 AND (a.b + (c * (d - e))) IN (1, 2))";
+
+    private static final int[] UNION_SIZES = {8, 16, 32, 64};
+
+    // Per-statement time may vary that much between the sizes, quadratic parsing would give 8
+    private static final double MAX_TIME_RATIO = 4.0;
+
+    private static String makeUnion(int count) {
+        StringBuilder text = new StringBuilder(STATEMENT);
+        for (int i = 1; i < count; i++) {
+            text.append("\nUNION ").append(STATEMENT);
+        }
+        return text.toString();
+    }
+
+    private static long measureParse(Parser parser, String text) {
+        long bestTime = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long startTime = System.nanoTime();
+            ParseResult result = parser.parse(text);
+            bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+            Assert.assertTrue(result.isSuccess());
+        }
+        return bestTime;
+    }
+
+    private static void assertLinearScaling(Parser parser) {
+        // Warm up
+        measureParse(parser, makeUnion(UNION_SIZES[UNION_SIZES.length - 1]));
+
+        StringBuilder report = new StringBuilder();
+        double minTime = Double.MAX_VALUE;
+        double maxTime = 0;
+        for (int size : UNION_SIZES) {
+            long time = measureParse(parser, makeUnion(size));
+            double statementTime = (double) time / size;
+            minTime = Math.min(minTime, statementTime);
+            maxTime = Math.max(maxTime, statementTime);
+            report.append(size).append(" statements: ").append(time / 1000).append("us; ");
+        }
+        Assert.assertTrue(
+            "Parse time per statement varies " + String.format("%.1f", maxTime / minTime) + " times: " + report,
+            maxTime < minTime * MAX_TIME_RATIO);
+    }
+
+    @Test
+    public void parseTimeGrowsLinearly() {
+        ParserFactory factory = ParserFactory.getFactory(SelectGrammar.makeSelectGrammar(false));
+        Assert.assertEquals(List.of(), factory.getErrors());
+        assertLinearScaling(factory.createParser());
+    }
+
+    @Test
+    public void memoizedParseTimeGrowsLinearlyOnAmbiguousGrammar() {
+        // The plain parser runs out of memory on this grammar, so only the memoized one is measured
+        ParserFactory factory = ParserFactory.getFactory(SelectGrammar.makeSelectGrammar(true));
+        Assert.assertEquals(List.of(), factory.getErrors());
+        assertLinearScaling(factory.createParser(true));
+    }
+}
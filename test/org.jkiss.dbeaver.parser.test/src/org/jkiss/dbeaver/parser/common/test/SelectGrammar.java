@@ -0,0 +1,105 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.parser.common.test;
+
+import org.jkiss.dbeaver.parser.common.grammar.GrammarInfo;
+import org.jkiss.dbeaver.parser.common.grammar.GrammarInfoBuilder;
+
+import static org.jkiss.dbeaver.parser.common.grammar.ExpressionFactory.*;
+
+/**
+ * Simplified SELECT grammar shared by the parser tests
+ */
+class SelectGrammar {
+
+    private static final String KEYWORDS = "select|distinct|all|from|where|group|by|having|order|asc|desc|as|on|using|" +
+        "natural|inner|outer|cross|union|except|intersect|left|right|full|join|and|or|like|in";
+
+    private SelectGrammar() {
+    }
+
+    /**
+     * @param ambiguous adds a column reference term which matches the same text as a qualified name
+     */
+    static GrammarInfo makeSelectGrammar(boolean ambiguous) {
+        GrammarInfoBuilder gb = new GrammarInfoBuilder("stmt");
+        gb.setUseSkipRule(false);
+        gb.setRule("sp", regex("[\\s]*"));
+        gb.setSkipRuleName("sp");
+        gb.setUseSkipRule(true);
+        gb.setCaseSensitiveTerms(false);
+        gb.setRule("stmt", seq(call("select_stmt"), optional(";")));
+        gb.setRule("select_stmt", seq(
+            call("query"),
+            zeroOrMore(alt("union", "except", "intersect"), optional("all"), call("query")),
+            optional(call("order_by"))));
+        gb.setRule("query", alt(seq("(", call("select_stmt"), ")"), call("query_spec")));
+        gb.setRule("query_spec", seq(
+            "select", optional(alt("distinct", "all")), call("select_list"),
+            "from", call("table_list"),
+            optional("where", call("expr")),
+            optional("group", "by", call("expr_list")),
+            optional("having", call("expr"))));
+        gb.setRule("select_list", seq(call("select_item"), zeroOrMore(",", call("select_item"))));
+        gb.setRule("select_item", alt(
+            "*",
+            seq(call("qname"), ".", "*"),
+            seq(call("expr"), optional(optional("as"), call("ident")))));
+        gb.setRule("table_list", seq(call("table_ref"), zeroOrMore(",", call("table_ref"))));
+        gb.setRule("table_ref", seq(call("table_primary"), zeroOrMore(call("join"))));
+        gb.setRule("table_primary", alt(
+            seq(call("qname"), optional(optional("as"), call("ident"))),
+            seq("(", call("select_stmt"), ")", optional(optional("as"), call("ident")))));
+        gb.setRule("join", seq(
+            optional("natural"),
+            optional(alt(
+                seq("inner", optional("outer")),
+                "cross",
+                "union",
+                seq(alt("left", "right", "full"), optional("outer")))),
+            "join", call("table_primary"),
+            optional(alt(seq("on", call("expr")), seq("using", "(", call("ident_list"), ")")))));
+        gb.setRule("order_by", seq("order", "by", call("sort_item"), zeroOrMore(",", call("sort_item"))));
+        gb.setRule("sort_item", seq(call("expr"), optional(alt("asc", "desc"))));
+        gb.setRule("expr_list", seq(call("expr"), zeroOrMore(",", call("expr"))));
+        gb.setRule("ident_list", seq(call("ident"), zeroOrMore(",", call("ident"))));
+        gb.setRule("expr", seq(call("term"), zeroOrMore(call("binop"), call("term"))));
+        gb.setRule("binop", alt("=", "<>", "<", ">", "<=", ">=", "+", "-", "*", "/", "||", "and", "or", "like", "in"));
+        if (ambiguous) {
+            gb.setRule("term", alt(
+                seq("(", call("expr_list"), ")"),
+                seq("(", call("select_stmt"), ")"),
+                seq(call("ident"), "(", optional(alt("*", call("expr_list"))), ")"),
+                call("qname"), call("column_ref"), call("number"), call("string")));
+            gb.setRule("column_ref", seq(call("ident"), zeroOrMore(".", call("ident"))));
+        } else {
+            gb.setRule("term", alt(
+                seq("(", call("expr_list"), ")"),
+                seq("(", call("select_stmt"), ")"),
+                seq(call("ident"), "(", optional(alt("*", call("expr_list"))), ")"),
+                call("qname"), call("number"), call("string")));
+        }
+        gb.setRule("qname", seq(call("ident"), zeroOrMore(".", call("ident"))));
+        gb.setCaseSensitiveTerms(true);
+        // Keywords are not identifiers, otherwise a join keyword could be taken for a table alias
+        gb.setRule("ident", regex("(?!(?i:" + KEYWORDS + ")\\b)[A-Za-z_][A-Za-z0-9_]*"));
+        gb.setRule("number", regex("[0-9]+"));
+        gb.setRule("string", regex("'[^']*'"));
+        gb.setStartRuleName("stmt");
+        return gb.buildGrammarInfo();
+    }
+}
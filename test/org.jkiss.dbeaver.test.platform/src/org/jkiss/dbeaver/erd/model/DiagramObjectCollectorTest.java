@@ -0,0 +1,82 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.model;
+
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityGraphLoader;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class DiagramObjectCollectorTest {
+
+    @Test
+    public void shouldLoadOnlyContainersWithManyEntities() throws Exception {
+        DBSObjectContainer bigSchema = mockContainer("BIG");
+        DBSObjectContainer smallSchema = mockContainer("SMALL");
+        List<DBSEntity> tables = new ArrayList<>();
+        List<DBSEntity> bigTables = mockEntities(bigSchema, DiagramObjectCollector.MIN_BULK_LOAD_ENTITIES);
+        tables.addAll(bigTables);
+        tables.addAll(mockEntities(smallSchema, DiagramObjectCollector.MIN_BULK_LOAD_ENTITIES - 1));
+
+        DBRProgressMonitor monitor = Mockito.mock(DBRProgressMonitor.class);
+        DiagramObjectCollector.loadEntityGraphs(monitor, tables);
+
+        Mockito.verify((DBSEntityGraphLoader) bigSchema).loadEntityGraph(monitor, bigTables);
+        // A few tables (e.g. dropped on diagram) must not trigger loading of the whole schema
+        Mockito.verify((DBSEntityGraphLoader) smallSchema, Mockito.never())
+            .loadEntityGraph(ArgumentMatchers.any(), ArgumentMatchers.<Collection<? extends DBSEntity>>any());
+        Mockito.verify(smallSchema, Mockito.never()).cacheStructure(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    public void shouldCacheStructureWithoutLoader() throws Exception {
+        DBSObjectContainer schema = Mockito.mock(DBSObjectContainer.class);
+        Mockito.when(schema.getName()).thenReturn("PLAIN");
+
+        DBRProgressMonitor monitor = Mockito.mock(DBRProgressMonitor.class);
+        DiagramObjectCollector.loadEntityGraphs(monitor, mockEntities(schema, 1));
+        Mockito.verify(schema, Mockito.never()).cacheStructure(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+
+        DiagramObjectCollector.loadEntityGraphs(monitor, mockEntities(schema, DiagramObjectCollector.MIN_BULK_LOAD_ENTITIES));
+        Mockito.verify(schema).cacheStructure(monitor, DBSObjectContainer.STRUCT_ATTRIBUTES | DBSObjectContainer.STRUCT_ASSOCIATIONS);
+    }
+
+    private static DBSObjectContainer mockContainer(String name) {
+        DBSObjectContainer container = Mockito.mock(
+            DBSObjectContainer.class,
+            Mockito.withSettings().extraInterfaces(DBSEntityGraphLoader.class));
+        Mockito.when(container.getName()).thenReturn(name);
+        return container;
+    }
+
+    private static List<DBSEntity> mockEntities(DBSObjectContainer container, int count) {
+        List<DBSEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DBSEntity entity = Mockito.mock(DBSEntity.class);
+            Mockito.when(entity.getParentObject()).thenReturn(container);
+            entities.add(entity);
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.model.layout;
+
+import org.jkiss.dbeaver.erd.model.ERDAssociation;
+import org.jkiss.dbeaver.erd.model.ERDElement;
+import org.jkiss.dbeaver.erd.model.ERDNote;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class ERDLayoutEngineTest {
+
+    private static final ERDLayoutEngine.SizeProvider SIZE_PROVIDER = new ERDLayoutEngine.SizeProvider() {
+        @Override
+        public int getWidth(ERDElement<?> element) {
+            return 100 + element.getName().length() * 7;
+        }
+
+        @Override
+        public int getHeight(ERDElement<?> element) {
+            return 40 + element.getName().length() * 11;
+        }
+    };
+
+    @Test
+    public void shouldPlaceReferencedElementsToTheRight() {
+        List<ERDNote> elements = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            elements.add(new ERDNote("note" + i));
+        }
+        new ERDAssociation(elements.get(0), elements.get(1), false);
+        new ERDAssociation(elements.get(1), elements.get(2), false);
+        // Cycle
+        new ERDAssociation(elements.get(2), elements.get(0), false);
+
+        Map<ERDElement<?>, ERDLayoutEngine.NodeBounds> bounds = new ERDLayoutEngine(ERDLayoutEngine.Algorithm.LAYERED).layout(elements, SIZE_PROVIDER);
+        Assert.assertEquals(4, bounds.size());
+        Assert.assertTrue(bounds.get(elements.get(0)).x < bounds.get(elements.get(1)).x);
+        Assert.assertTrue(bounds.get(elements.get(1)).x < bounds.get(elements.get(2)).x);
+        assertNoOverlaps(bounds);
+    }
+
+    @Test
+    public void shouldLayoutLargeDiagramWithoutOverlaps() {
+        List<ERDNote> elements = generateDiagram(1000);
+        for (ERDLayoutEngine.Algorithm algorithm : ERDLayoutEngine.Algorithm.values()) {
+            Map<ERDElement<?>, ERDLayoutEngine.NodeBounds> bounds = new ERDLayoutEngine(algorithm).layout(elements, SIZE_PROVIDER);
+            Assert.assertEquals(elements.size(), bounds.size());
+            assertNoOverlaps(bounds);
+        }
+    }
+
+    private static List<ERDNote> generateDiagram(int size) {
+        Random random = new Random(1);
+        List<ERDNote> elements = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ERDNote note = new ERDNote("t" + random.nextInt(100000));
+            elements.add(note);
+            // Schema-like graph: a few references to the previously created tables and some isolated tables
+            int references = i == 0 || random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(3);
+            for (int r = 0; r < references; r++) {
+                new ERDAssociation(note, elements.get(random.nextInt(i)), false);
+            }
+        }
+        return elements;
+    }
+
+    private static void assertNoOverlaps(Map<ERDElement<?>, ERDLayoutEngine.NodeBounds> boundsMap) {
+        List<ERDLayoutEngine.NodeBounds> bounds = new ArrayList<>(boundsMap.values());
+        for (int i = 0; i < bounds.size(); i++) {
+            ERDLayoutEngine.NodeBounds first = bounds.get(i);
+            for (int k = i + 1; k < bounds.size(); k++) {
+                ERDLayoutEngine.NodeBounds second = bounds.get(k);
+                boolean overlaps = first.x < second.x + second.width && second.x < first.x + first.width &&
+                    first.y < second.y + second.height && second.y < first.y + first.height;
+                Assert.assertFalse("Overlapping elements " + first + " and " + second, overlaps);
+            }
+        }
+    }
+}
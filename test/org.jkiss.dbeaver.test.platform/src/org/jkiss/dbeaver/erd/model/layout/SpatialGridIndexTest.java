@@ -0,0 +1,118 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.model.layout;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class SpatialGridIndexTest {
+
+    private static final int CELL_SIZE = 128;
+
+    @Test
+    public void shouldFindAddedItems() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(CELL_SIZE);
+        index.add(10, 10, 50, 50, "small");
+        // Reversed bounds are normalized
+        index.add(1000, 300, 200, 100, "wide");
+
+        Assert.assertEquals(Set.of("small"), Set.copyOf(index.find(0, 0, 20, 20)));
+        Assert.assertEquals(Set.of("wide"), Set.copyOf(index.find(500, 200, 510, 210)));
+        Assert.assertTrue(index.find(2000, 2000, 3000, 3000).isEmpty());
+        // Item spanning many cells is reported once
+        Collection<String> all = index.find(0, 0, 1000, 1000);
+        Assert.assertEquals(2, all.size());
+        Assert.assertEquals(Set.of("small", "wide"), Set.copyOf(all));
+    }
+
+    @Test
+    public void shouldRemoveItems() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(CELL_SIZE);
+        index.add(0, 0, 300, 10, "first");
+        index.add(0, 0, 300, 10, "second");
+        index.remove(0, 0, 300, 10, "first");
+
+        Assert.assertEquals(List.of("second"), List.copyOf(index.find(0, 0, 300, 10)));
+        index.remove(0, 0, 300, 10, "second");
+        Assert.assertTrue(index.find(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE).isEmpty());
+        // Removing of absent item is ignored
+        index.remove(0, 0, 300, 10, "second");
+    }
+
+    @Test
+    public void shouldSupportNegativeAndUnboundedQueries() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(CELL_SIZE);
+        index.add(-500, -500, -400, -400, "negative");
+        index.add(-1, -1, 1, 1, "origin");
+        index.add(5000, 5000, 5001, 5001, "far");
+
+        // -1 and 0 are in different cells
+        Assert.assertEquals(Set.of("negative"), Set.copyOf(index.find(-450, -450, -450, -450)));
+        Assert.assertEquals(Set.of("origin"), Set.copyOf(index.find(-1, -1, -1, -1)));
+        Assert.assertEquals(Set.of("origin"), Set.copyOf(index.find(0, 0, 0, 0)));
+        // Strip along axis, as router uses for trial lines
+        Assert.assertEquals(
+            Set.of("negative", "origin", "far"),
+            Set.copyOf(index.find(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE)));
+        Assert.assertEquals(Set.of("negative"), Set.copyOf(index.find(Integer.MIN_VALUE, -450, Integer.MAX_VALUE, -450)));
+        Assert.assertEquals(Set.of("origin", "far"), Set.copyOf(index.find(0, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Synthetic router workload: many obstacles and strip queries along trial lines.
+     * Index candidates must contain every obstacle a linear scan finds.
+     */
+    @Test
+    public void shouldMatchLinearScanOnLargeDiagram() {
+        Random random = new Random(47);
+        SpatialGridIndex<int[]> index = new SpatialGridIndex<>(CELL_SIZE);
+        List<int[]> obstacles = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int x = random.nextInt(20000) - 10000;
+            int y = random.nextInt(20000) - 10000;
+            int[] bounds = {x, y, x + 50 + random.nextInt(250), y + 30 + random.nextInt(300)};
+            obstacles.add(bounds);
+            index.add(bounds[0], bounds[1], bounds[2], bounds[3], bounds);
+        }
+        for (int i = 0; i < 500; i++) {
+            int[] removed = obstacles.remove(random.nextInt(obstacles.size()));
+            index.remove(removed[0], removed[1], removed[2], removed[3], removed);
+        }
+        long candidates = 0;
+        for (int i = 0; i < 2000; i++) {
+            boolean vertical = random.nextBoolean();
+            int coordinate = random.nextInt(20000) - 10000;
+            int[] query = vertical ?
+                new int[]{coordinate, Integer.MIN_VALUE, coordinate, Integer.MAX_VALUE} :
+                new int[]{Integer.MIN_VALUE, coordinate, Integer.MAX_VALUE, coordinate};
+            Collection<int[]> found = index.find(query[0], query[1], query[2], query[3]);
+            candidates += found.size();
+            Set<int[]> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int[] obstacle : obstacles) {
+                if (obstacle[0] <= query[2] && obstacle[2] >= query[0] && obstacle[1] <= query[3] && obstacle[3] >= query[1]) {
+                    expected.add(obstacle);
+                }
+            }
+            Assert.assertTrue(found.containsAll(expected));
+            Assert.assertFalse(found.stream().anyMatch(o -> !obstacles.contains(o)));
+        }
+        // Strips visit a small part of the diagram
+        Assert.assertTrue(candidates < 2000L * obstacles.size() / 10);
+    }
+}
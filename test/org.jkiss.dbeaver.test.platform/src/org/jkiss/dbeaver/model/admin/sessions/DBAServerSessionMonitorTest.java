@@ -0,0 +1,132 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+public class DBAServerSessionMonitorTest {
+
+    @Test
+    public void shouldReportSessionChanges() {
+        DBAServerSessionMonitor<TestSession> monitor = new DBAServerSessionMonitor<>(new TestSessionManager());
+
+        DBAServerSessionDelta<TestSession> delta = monitor.update(
+            Arrays.asList(new TestSession(1, "idle"), new TestSession(2, "active")), 1000);
+        Assert.assertFalse(delta.isFull());
+        Assert.assertEquals(2, delta.getAdded().size());
+
+        TestSession session1 = delta.getSessions().get(0);
+        TestSession session2 = delta.getSessions().get(1);
+        delta = monitor.update(
+            Arrays.asList(new TestSession(1, "idle"), new TestSession(2, "idle"), new TestSession(3, "active")), 2000);
+        Assert.assertEquals(1, delta.getAdded().size());
+        Assert.assertEquals(3, delta.getAdded().get(0).key);
+        Assert.assertEquals(1, delta.getChanged().size());
+        Assert.assertEquals("idle", delta.getChanged().get(session2).state);
+        Assert.assertTrue(delta.getRemoved().isEmpty());
+        // Unchanged session keeps its instance
+        Assert.assertSame(session1, delta.getSessions().get(0));
+
+        delta = monitor.update(Collections.singletonList(new TestSession(3, "active")), 3000);
+        Assert.assertEquals(2, delta.getRemoved().size());
+        Assert.assertTrue(delta.getAdded().isEmpty());
+        Assert.assertTrue(delta.getChanged().isEmpty());
+        Assert.assertNull(monitor.getSessionHistory(session1));
+
+        delta = monitor.update(Arrays.asList(new TestSession(3, "active"), new TestSession(3, "idle")), 4000);
+        Assert.assertTrue(delta.isFull());
+    }
+
+    @Test
+    public void shouldCollectSessionHistory() {
+        DBAServerSessionMonitor<TestSession> monitor = new DBAServerSessionMonitor<>(new TestSessionManager(), 3);
+        TestSession session = new TestSession(1, "active");
+        for (int i = 1; i <= 5; i++) {
+            session.cpu = i * 10;
+            monitor.update(Collections.singletonList(session), i * 1000L);
+        }
+        DBAServerSessionHistory history = monitor.getSessionHistory(session);
+        Assert.assertNotNull(history);
+        Assert.assertEquals(3, history.getSampleCount());
+        Assert.assertEquals(3000, history.getSampleTime(0));
+        Assert.assertEquals(5000, history.getSampleTime(2));
+        Assert.assertArrayEquals(new double[] {30, 40, 50}, history.getMetricValues(0), 0.0);
+    }
+
+    private static class TestSession extends AbstractServerSession {
+        private final long key;
+        private final String state;
+        private double cpu;
+
+        TestSession(long key, String state) {
+            this.key = key;
+            this.state = state;
+        }
+
+        @Override
+        public String getActiveQuery() {
+            return null;
+        }
+    }
+
+    private static class TestSessionManager implements DBAServerSessionManager<TestSession>, DBAServerSessionTracker<TestSession> {
+
+        @Override
+        public DBPDataSource getDataSource() {
+            return null;
+        }
+
+        @Override
+        public Collection<TestSession> getSessions(DBCSession session, Map<String, Object> options) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void alterSession(DBCSession session, TestSession sessionType, Map<String, Object> options) {
+        }
+
+        @Override
+        public long getSessionKey(@NotNull TestSession session) {
+            return session.key;
+        }
+
+        @Override
+        public boolean isSessionChanged(@NotNull TestSession previous, @NotNull TestSession current) {
+            return !previous.state.equals(current.state);
+        }
+
+        @NotNull
+        @Override
+        public String[] getSessionMetricNames() {
+            return new String[] {"CPU"};
+        }
+
+        @Override
+        public void collectSessionMetrics(@NotNull TestSession session, @NotNull double[] values) {
+            values[0] = session.cpu;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.completion;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class DAISchemaContextIndexTest {
+
+    @Test
+    public void shouldRankRelevantTablesFirst() {
+        DAISchemaContextIndex index = new DAISchemaContextIndex();
+        index.putObject("customer", "customer", "# customer(id,name,email);\n");
+        index.putObject("orderItems", "orderItems", "# orderItems(id,order_id,product_id,quantity);\n");
+        index.putObject("product", "product", "# product(id,title,price);\n");
+
+        List<String> descriptions = index.getDescriptions("total quantity of ordered products", 1000);
+        Assert.assertEquals(3, descriptions.size());
+        Assert.assertEquals("# orderItems(id,order_id,product_id,quantity);\n", descriptions.get(0));
+        Assert.assertEquals("# customer(id,name,email);\n", descriptions.get(2));
+
+        // Only descriptions which fit into the prompt
+        descriptions = index.getDescriptions("total quantity of ordered products", 50);
+        Assert.assertEquals(1, descriptions.size());
+
+        index.removeObject("orderItems");
+        Assert.assertFalse(index.containsObject("orderItems"));
+        Assert.assertEquals("# product(id,title,price);\n", index.getDescriptions("products", 1000).get(0));
+    }
+
+    @Test
+    public void shouldSplitIdentifiers() {
+        Assert.assertEquals(
+            Arrays.asList("order", "item", "customer", "id"),
+            DAISchemaContextIndex.tokenize("the orderItems of CUSTOMER_ID"));
+    }
+}
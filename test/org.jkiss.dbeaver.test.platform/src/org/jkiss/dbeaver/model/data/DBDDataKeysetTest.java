@@ -0,0 +1,105 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data;
+
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.impl.sql.StandardSQLDialectQueryGenerator;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+
+public class DBDDataKeysetTest {
+
+    @Test
+    public void shouldGenerateSeekCondition() {
+        DBSEntityAttribute id = makeAttribute("id", 1, DBPDataKind.NUMERIC, true);
+        DBSEntityAttribute title = makeAttribute("title", 2, DBPDataKind.STRING, true);
+
+        DBDDataFilter filter = new DBDDataFilter();
+        DBDAttributeConstraint titleOrder = new DBDAttributeConstraint(title, 2);
+        titleOrder.setOrderPosition(1);
+        titleOrder.setOrderDescending(true);
+        filter.addConstraints(Collections.singletonList(titleOrder));
+
+        List<DBDAttributeConstraint> keysetOrder = DBDDataKeyset.makeKeysetOrder(filter, Collections.singletonList(id));
+        Assert.assertNotNull(keysetOrder);
+        Assert.assertEquals(2, keysetOrder.size());
+        Assert.assertEquals("title", keysetOrder.get(0).getAttributeName());
+        Assert.assertTrue(keysetOrder.get(0).isOrderDescending());
+        Assert.assertEquals("id", keysetOrder.get(1).getAttributeName());
+        Assert.assertFalse(keysetOrder.get(1).isOrderDescending());
+
+        keysetOrder.get(0).setValue("abc");
+        keysetOrder.get(1).setValue(10);
+        filter.setKeyset(new DBDDataKeyset(keysetOrder, true));
+
+        DBPDataSource dataSource = makeDataSource();
+        StringBuilder query = new StringBuilder();
+        StandardSQLDialectQueryGenerator.INSTANCE.appendQueryConditions(dataSource, query, "x", filter);
+        StandardSQLDialectQueryGenerator.INSTANCE.appendQueryOrder(dataSource, query, "x", filter);
+        Assert.assertEquals(
+            "\nWHERE (x.\"title\" < 'abc' OR (x.\"title\" = 'abc' AND (x.\"id\" > 10)))\nORDER BY x.\"title\" DESC,x.\"id\"",
+            query.toString());
+    }
+
+    @Test
+    public void shouldRejectNullableOrdering() {
+        DBSEntityAttribute id = makeAttribute("id", 1, DBPDataKind.NUMERIC, true);
+        DBSEntityAttribute note = makeAttribute("note", 2, DBPDataKind.STRING, false);
+
+        DBDDataFilter filter = new DBDDataFilter();
+        Assert.assertEquals(1, DBDDataKeyset.makeKeysetOrder(filter, Collections.singletonList(id)).size());
+        Assert.assertNull(DBDDataKeyset.makeKeysetOrder(filter, Collections.emptyList()));
+
+        DBDAttributeConstraint noteOrder = new DBDAttributeConstraint(note, 2);
+        noteOrder.setOrderPosition(1);
+        filter.addConstraints(Collections.singletonList(noteOrder));
+        Assert.assertNull(DBDDataKeyset.makeKeysetOrder(filter, Collections.singletonList(id)));
+
+        filter = new DBDDataFilter();
+        filter.setOrder("lower(note)");
+        Assert.assertNull(DBDDataKeyset.makeKeysetOrder(filter, Collections.singletonList(id)));
+    }
+
+    private static DBSEntityAttribute makeAttribute(String name, int position, DBPDataKind dataKind, boolean required) {
+        DBSEntityAttribute attribute = Mockito.mock(DBSEntityAttribute.class);
+        Mockito.when(attribute.getName()).thenReturn(name);
+        Mockito.when(attribute.getOrdinalPosition()).thenReturn(position);
+        Mockito.when(attribute.getDataKind()).thenReturn(dataKind);
+        Mockito.when(attribute.isRequired()).thenReturn(required);
+        return attribute;
+    }
+
+    private static DBPDataSource makeDataSource() {
+        DBDValueHandler valueHandler = Mockito.mock(DBDValueHandler.class);
+        Mockito.when(valueHandler.getValueDisplayString(Mockito.any(), Mockito.any(), Mockito.any(DBDDisplayFormat.class)))
+            .thenAnswer(invocation -> String.valueOf(invocation.getArgument(1, Object.class)));
+        DBPDataSource dataSource = Mockito.mock(
+            DBPDataSource.class,
+            Mockito.withSettings().extraInterfaces(DBDValueHandlerProvider.class));
+        Mockito.when(dataSource.getSQLDialect()).thenReturn(BasicSQLDialect.INSTANCE);
+        Mockito.when(((DBDValueHandlerProvider) dataSource).getValueHandler(Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenReturn(valueHandler);
+        return dataSource;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class AggregateSketchTest {
+
+    private static final int VALUE_COUNT = 200000;
+
+    @Test
+    public void shouldComputeExactMedianForSmallSelection() {
+        FunctionMedian median = new FunctionMedian();
+        for (int value : new int[]{5, 1, 4, 2}) {
+            median.accumulate(value, false);
+        }
+        Assert.assertEquals(3.0, median.getResult(4));
+        Assert.assertFalse(median.isApproximate());
+    }
+
+    @Test
+    public void shouldEstimateQuantilesForBigSelection() {
+        FunctionMedian median = new FunctionMedian();
+        FunctionPercentile95 percentile = new FunctionPercentile95();
+        Random random = new Random(1);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            int value = random.nextInt(VALUE_COUNT);
+            median.accumulate(value, false);
+            percentile.accumulate(value, false);
+        }
+        Assert.assertTrue(median.isApproximate());
+        Assert.assertEquals(VALUE_COUNT * 0.5, ((Number) median.getResult(VALUE_COUNT)).doubleValue(), VALUE_COUNT * 0.02);
+        Assert.assertEquals(VALUE_COUNT * 0.95, ((Number) percentile.getResult(VALUE_COUNT)).doubleValue(), VALUE_COUNT * 0.02);
+    }
+
+    @Test
+    public void shouldEstimateDistinctCount() {
+        FunctionCountDistinct countDistinct = new FunctionCountDistinct();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            countDistinct.accumulate("value" + (i % 100000), false);
+        }
+        Assert.assertTrue(countDistinct.isApproximate());
+        Assert.assertEquals(100000, ((Number) countDistinct.getResult(VALUE_COUNT)).doubleValue(), 100000 * 0.03);
+    }
+
+    @Test
+    public void shouldFindHeavyHitterAsMode() {
+        FunctionMode mode = new FunctionMode();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            mode.accumulate(i % 5 == 0 ? "frequent" : "value" + i, false);
+        }
+        Assert.assertTrue(mode.isApproximate());
+        Assert.assertEquals("frequent", mode.getResult(VALUE_COUNT));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+public class JDBCMetaDataCacheTest {
+
+    @Test
+    public void shouldServeTableFromBulkSnapshot() throws SQLException {
+        JDBCMetaDataCache cache = new JDBCMetaDataCache(60000);
+        JDBCResultSetSnapshot snapshot = new JDBCResultSetSnapshot(makeColumnsResultSet());
+        cache.putSnapshot(snapshot, JDBCMetaDataCache.GET_COLUMNS, "cat", "sch", "%", "%");
+
+        JDBCResultSetSnapshot tableSnapshot = cache.getSnapshot(JDBCMetaDataCache.GET_COLUMNS, "cat", "sch", "MY\\_TABLE", "%");
+        Assert.assertNotNull(tableSnapshot);
+        Assert.assertEquals(2, tableSnapshot.getRowCount());
+        try (ResultSet rs = tableSnapshot.openResultSet()) {
+            Assert.assertTrue(rs.next());
+            Assert.assertEquals("ID", rs.getString("column_name"));
+            Assert.assertEquals(1, rs.getInt(3));
+            Assert.assertTrue(rs.next());
+            Assert.assertEquals("NAME", rs.getString(2));
+            Assert.assertEquals(0, rs.getInt("ORDINAL"));
+            Assert.assertTrue(rs.wasNull());
+            Assert.assertFalse(rs.next());
+        }
+        Assert.assertNull(cache.getSnapshot(JDBCMetaDataCache.GET_COLUMNS, "cat", "other", "MY_TABLE", "%"));
+        Assert.assertNull(cache.getSnapshot(JDBCMetaDataCache.GET_PRIMARY_KEYS, "cat", "sch", "MY_TABLE"));
+
+        cache.invalidate("cat", "sch", "OTHER_TABLE");
+        Assert.assertNull(cache.getSnapshot(JDBCMetaDataCache.GET_COLUMNS, "cat", "sch", "MY_TABLE", "%"));
+    }
+
+    @Test
+    public void shouldExpireSnapshots() throws SQLException {
+        JDBCMetaDataCache cache = new JDBCMetaDataCache(-1);
+        cache.putSnapshot(new JDBCResultSetSnapshot(makeColumnsResultSet()), JDBCMetaDataCache.GET_PRIMARY_KEYS, "cat", "sch", "MY_TABLE");
+        Assert.assertNull(cache.getSnapshot(JDBCMetaDataCache.GET_PRIMARY_KEYS, "cat", "sch", "MY_TABLE"));
+    }
+
+    private static ResultSet makeColumnsResultSet() throws SQLException {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(3);
+        String[] names = {"TABLE_NAME", "COLUMN_NAME", "ORDINAL"};
+        for (int i = 0; i < names.length; i++) {
+            Mockito.when(metaData.getColumnLabel(i + 1)).thenReturn(names[i]);
+            Mockito.when(metaData.getColumnName(i + 1)).thenReturn(names[i]);
+        }
+        Object[][] rows = {
+            {"MY_TABLE", "ID", 1},
+            {"MY_TABLE", "NAME", null},
+            {"OTHER_TABLE", "ID", 1},
+        };
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+        int[] position = {-1};
+        Mockito.when(resultSet.next()).thenAnswer(invocation -> ++position[0] < rows.length);
+        Mockito.when(resultSet.getObject(Mockito.anyInt())).thenAnswer(
+            invocation -> rows[position[0]][(Integer) invocation.getArgument(0) - 1]);
+        return resultSet;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.qm.stats;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class QMStatisticsTest {
+
+    @Test
+    public void shouldCalculatePercentiles() {
+        QMHistogram histogram = new QMHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordValue(i);
+        }
+        Assert.assertEquals(100, histogram.getTotalCount());
+        Assert.assertEquals(1, histogram.getMinValue());
+        Assert.assertEquals(100, histogram.getMaxValue());
+        Assert.assertEquals(50, histogram.getValueAtPercentile(50));
+        Assert.assertEquals(99, histogram.getValueAtPercentile(99));
+
+        // Large values are bucketed with ~1.5% precision
+        histogram.reset();
+        histogram.recordValue(1_000_000);
+        long value = histogram.getValueAtPercentile(50);
+        Assert.assertTrue(value >= 1_000_000 && value <= 1_016_000);
+    }
+
+    @Test
+    public void shouldAggregateByFingerprint() {
+        QMStatistics statistics = new QMStatistics();
+        statistics.recordExecute("ds1", "DS 1", "select * from t where id = 1", 10, -1, false);
+        statistics.recordExecute("ds1", "DS 1", "SELECT * FROM t WHERE id = 2", 30, -1, false);
+        statistics.recordFetch("ds1", "DS 1", "SELECT * FROM t WHERE id = 2", 5, 20);
+        statistics.recordExecute("ds1", "DS 1", "delete from t", 7, 3, true);
+        statistics.recordExecute("ds2", "DS 2", "select 1", 1, -1, false);
+
+        List<QMQueryStatistics> queries = statistics.getQueryStatistics("ds1");
+        Assert.assertEquals(2, queries.size());
+        QMQueryStatistics select = queries.stream()
+            .filter(q -> q.getQueryText().startsWith("SELECT")).findFirst().orElseThrow();
+        Assert.assertEquals(2, select.getExecuteTime().getTotalCount());
+        Assert.assertEquals(30, select.getExecuteTime().getMaxValue());
+        Assert.assertEquals(20, select.getRows().getMaxValue());
+
+        QMQueryStatistics total = statistics.getDataSourceStatistics("ds1");
+        Assert.assertNotNull(total);
+        Assert.assertEquals(3, total.getExecuteTime().getTotalCount());
+        Assert.assertEquals(1, total.getErrorCount());
+        Assert.assertEquals(3, statistics.getQueryStatistics(null).size());
+    }
+
+    @Test
+    public void shouldKeepRecentSlowQueriesFirst() {
+        QMStatistics statistics = new QMStatistics();
+        statistics.setSlowQueryThreshold(100);
+        Assert.assertFalse(statistics.isSlowQuery(99));
+        Assert.assertTrue(statistics.isSlowQuery(100));
+        for (int i = 0; i < 300; i++) {
+            statistics.addSlowQuery(new QMSlowQuery(
+                i, "ds1", "DS 1", null, "fp", "select " + i, Collections.emptyMap(), 200, 10, 1, null));
+        }
+        List<QMSlowQuery> slowQueries = statistics.getSlowQueries();
+        Assert.assertEquals(200, slowQueries.size());
+        Assert.assertEquals(299, slowQueries.get(0).getTime());
+        Assert.assertEquals(210, slowQueries.get(0).getDuration());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.generator;
+
+import org.jkiss.dbeaver.model.DBPScriptObject;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SQLDDLExporterTest {
+
+    private static final int OBJECT_COUNT = 1000;
+
+    @Test
+    public void shouldWriteObjectsInOriginalOrder() throws Exception {
+        List<DBPScriptObject> objects = makeObjects();
+        StringBuilder expected = new StringBuilder();
+        for (DBPScriptObject object : objects) {
+            expected.append(object).append(";\n");
+        }
+        Assert.assertEquals(expected.toString(), exportScript(objects, 1));
+        Assert.assertEquals(expected.toString(), exportScript(objects, 4));
+    }
+
+    @Test
+    public void shouldReadDefinitionsOneByOneSerially() throws Exception {
+        AtomicInteger activeReads = new AtomicInteger();
+        AtomicInteger maxActiveReads = new AtomicInteger();
+        List<DBPScriptObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            int id = i;
+            // Lambdas of different call sites have different classes, so objects are split into several batches
+            DBPScriptObject object = i % 2 == 0 ?
+                (monitor, options) -> readDefinition("A" + id, activeReads, maxActiveReads) :
+                (monitor, options) -> readDefinition("B" + id, activeReads, maxActiveReads);
+            objects.add(object);
+        }
+        new SQLDDLExporter(Collections.emptyMap(), 4).loadDefinitions(Mockito.mock(DBRProgressMonitor.class), objects);
+        Assert.assertEquals(1, maxActiveReads.get());
+    }
+
+    @Test
+    public void shouldLoadAllDefinitions() throws Exception {
+        List<DBPScriptObject> objects = makeObjects();
+        SQLDDLExporter exporter = new SQLDDLExporter(Collections.emptyMap(), 4);
+        Map<DBPScriptObject, String> definitions = exporter.loadDefinitions(Mockito.mock(DBRProgressMonitor.class), objects);
+        Assert.assertEquals(objects.size(), definitions.size());
+        for (DBPScriptObject object : objects) {
+            Assert.assertEquals(object.toString(), definitions.get(object));
+        }
+    }
+
+    private static String exportScript(List<DBPScriptObject> objects, int threads) throws Exception {
+        SQLDDLExporter exporter = new SQLDDLExporter(Collections.emptyMap(), threads);
+        StringBuilder sql = new StringBuilder();
+        exporter.exportScript(
+            Mockito.mock(DBRProgressMonitor.class),
+            objects,
+            (monitor, script, object, definition) -> script.append(definition).append(";\n"),
+            sql);
+        return sql.toString();
+    }
+
+    private static String readDefinition(String definition, AtomicInteger activeReads, AtomicInteger maxActiveReads) {
+        maxActiveReads.accumulateAndGet(activeReads.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeReads.decrementAndGet();
+        }
+        return definition;
+    }
+
+    private static List<DBPScriptObject> makeObjects() {
+        List<DBPScriptObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            objects.add(i % 3 == 0 ? new TestView(i) : new TestTable(i));
+        }
+        return objects;
+    }
+
+    private static class TestTable implements DBPScriptObject {
+        private final int id;
+
+        TestTable(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getObjectDefinitionText(DBRProgressMonitor monitor, Map<String, Object> options) {
+            return toString();
+        }
+
+        @Override
+        public String toString() {
+            return "CREATE TABLE T" + id;
+        }
+    }
+
+    private static class TestView implements DBPScriptObject {
+        private final int id;
+
+        TestView(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getObjectDefinitionText(DBRProgressMonitor monitor, Map<String, Object> options) {
+            return toString();
+        }
+
+        @Override
+        public String toString() {
+            return "CREATE VIEW V" + id;
+        }
+    }
+}
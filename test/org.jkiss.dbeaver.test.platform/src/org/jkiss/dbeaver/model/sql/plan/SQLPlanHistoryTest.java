@@ -0,0 +1,181 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.sql.SQLQueryFingerprint;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SQLPlanHistoryTest {
+
+    private static final String QUERY = "select * from orders where id = 10";
+
+    @Test
+    public void shouldNormalizeQuery() {
+        Assert.assertEquals(
+            "select * from orders where id = ? and name in (?) and \"Code\" = ?",
+            SQLQueryFingerprint.normalize("SELECT *\n  FROM orders -- comment\nWHERE id = 42 AND name IN ('a', 'b''c', :p) AND \"Code\" = $1;"));
+        Assert.assertEquals(
+            SQLQueryFingerprint.getFingerprint("select 1 from t where a = 'x' /* c */"),
+            SQLQueryFingerprint.getFingerprint("SELECT 2 FROM T WHERE A = 'y'"));
+        Assert.assertNotEquals(
+            SQLQueryFingerprint.getFingerprint("select a from t"),
+            SQLQueryFingerprint.getFingerprint("select b from t"));
+        Assert.assertEquals("select a::int from t", SQLQueryFingerprint.normalize("select a::int from t"));
+    }
+
+    @Test
+    public void shouldNormalizeBackslashInStrings() {
+        // Backslash is a regular character in standard strings
+        Assert.assertEquals(
+            "select * from files where path = ? and id = ?",
+            SQLQueryFingerprint.normalize("select * from files where path = 'C:\\' and id = 1"));
+        Assert.assertEquals(
+            "select * from files where path = ? and id = ?",
+            SQLQueryFingerprint.normalize("select * from files where path = 'it\\'s' and id = 1", true));
+        // E'...' strings always use backslash escapes
+        Assert.assertEquals(
+            "select ? from t",
+            SQLQueryFingerprint.normalize("select E'it\\'s' from t"));
+    }
+
+    @Test
+    public void shouldNotKeepQueryLiterals() {
+        DBCPlanNode planNode = Mockito.mock(DBCPlanNode.class);
+        Mockito.when(planNode.getNodeType()).thenReturn("Seq Scan");
+        SQLPlanSnapshot plan = SQLPlanSnapshot.create(
+            BasicSQLDialect.INSTANCE,
+            "SELECT * FROM users WHERE email = 'john@example.com'",
+            SQLPlanSnapshot.Source.EXPLAIN,
+            -1,
+            List.of(planNode));
+        Assert.assertEquals("select * from users where email = ?", plan.getNormalizedQuery());
+        Assert.assertEquals(SQLQueryFingerprint.getFingerprint("select * from users where email = 'x'"), plan.getFingerprint());
+    }
+
+    @Test
+    public void shouldDetectShapeRegression() {
+        SQLPlanSnapshot indexPlan = makePlan(10.0, node("Index Scan", "orders_pk", 10.0));
+        SQLPlanSnapshot seqPlan = makePlan(10.0, node("Seq Scan", "orders", 10.0));
+        SQLPlanDiff diff = new SQLPlanDiff(indexPlan, seqPlan, 0.5);
+        Assert.assertTrue(diff.isShapeChanged());
+        Assert.assertFalse(diff.isCostRegression());
+        Assert.assertTrue(diff.isRegression());
+
+        List<SQLPlanDiff.Change> changes = diff.getChanges();
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals("Limit", changes.get(0).getPath());
+
+        SQLPlanSnapshot otherIndexPlan = makePlan(5.0, node("Index Scan", "orders_idx", 5.0));
+        diff = new SQLPlanDiff(indexPlan, otherIndexPlan, 0.5);
+        Assert.assertEquals(1, diff.getChanges().size());
+        Assert.assertEquals(SQLPlanDiff.ChangeKind.CHANGED, diff.getChanges().get(0).getKind());
+        // Cheaper plan is not a regression
+        Assert.assertFalse(diff.isRegression());
+    }
+
+    @Test
+    public void shouldDetectCostRegression() {
+        SQLPlanSnapshot plan = makePlan(10.0, node("Seq Scan", "orders", 10.0));
+        Assert.assertFalse(new SQLPlanDiff(plan, makePlan(14.0, node("Seq Scan", "orders", 14.0)), 0.5).isRegression());
+        SQLPlanDiff diff = new SQLPlanDiff(plan, makePlan(16.0, node("Seq Scan", "orders", 16.0)), 0.5);
+        Assert.assertFalse(diff.isShapeChanged());
+        Assert.assertTrue(diff.isCostRegression());
+        Assert.assertEquals(1.6, diff.getCostRatio(), 0.0001);
+    }
+
+    @Test
+    public void shouldKeepPlansHistory() throws Exception {
+        Path folder = Files.createTempDirectory("plan-history");
+        SQLPlanHistory history = new SQLPlanHistory(folder, 3, 10);
+        SQLPlanSnapshot plan = makePlan(10.0, node("Seq Scan", "orders", 10.0));
+
+        Assert.assertNull(history.addPlan("ds", plan, 0.5));
+        // The same plan replaces the previous one
+        Assert.assertNotNull(history.addPlan("ds", makePlan(10.0, node("Seq Scan", "orders", 10.0)), 0.5));
+        Assert.assertEquals(1, history.getPlans("ds", plan.getFingerprint()).size());
+
+        for (int i = 0; i < 5; i++) {
+            SQLPlanDiff diff = history.addPlan("ds", makePlan(20.0 + i, node("Seq Scan", "orders", 20.0 + i)), 0.5);
+            Assert.assertNotNull(diff);
+            Assert.assertEquals(i == 0, diff.isRegression());
+        }
+        List<SQLPlanSnapshot> plans = new SQLPlanHistory(folder, 3, 10).getPlans("ds", plan.getFingerprint());
+        Assert.assertEquals(3, plans.size());
+        Assert.assertEquals(24.0, plans.get(2).getTotalCost(), 0.0001);
+        Assert.assertEquals("Seq Scan", plans.get(2).getNodes().get(0).getNested().get(0).getType());
+        Assert.assertTrue(history.getPlans("other", plan.getFingerprint()).isEmpty());
+
+        history.clearHistory("ds");
+        Assert.assertTrue(history.getPlans("ds", plan.getFingerprint()).isEmpty());
+    }
+
+    @Test
+    public void shouldLimitQueriesCount() throws Exception {
+        Path folder = Files.createTempDirectory("plan-history");
+        SQLPlanHistory history = new SQLPlanHistory(folder, 3, 2);
+        SQLPlanSnapshot plan1 = makePlan("select a from t", 10.0, node("Seq Scan", "t", 10.0));
+        SQLPlanSnapshot plan2 = makePlan("select b from t", 10.0, node("Seq Scan", "t", 10.0));
+        SQLPlanSnapshot plan3 = makePlan("select c from t", 10.0, node("Seq Scan", "t", 10.0));
+        history.addPlan("ds1", plan1, 0.5);
+        history.addPlan("ds2", plan2, 0.5);
+        // Make the first query the least recently explained one
+        List<Path> historyFiles;
+        try (Stream<Path> files = Files.walk(folder)) {
+            historyFiles = files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : historyFiles) {
+            boolean firstQuery = file.getFileName().toString().startsWith(plan1.getFingerprint());
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - (firstQuery ? 20000 : 10000)));
+        }
+
+        history.addPlan("ds1", plan3, 0.5);
+        Assert.assertTrue(history.getPlans("ds1", plan1.getFingerprint()).isEmpty());
+        Assert.assertEquals(1, history.getPlans("ds2", plan2.getFingerprint()).size());
+        Assert.assertEquals(1, history.getPlans("ds1", plan3.getFingerprint()).size());
+    }
+
+    private static SQLPlanSnapshot makePlan(double cost, SQLPlanSnapshot.Node scan) {
+        return makePlan(QUERY, cost, scan);
+    }
+
+    private static SQLPlanSnapshot makePlan(String query, double cost, SQLPlanSnapshot.Node scan) {
+        SQLPlanSnapshot.Node root = new SQLPlanSnapshot.Node("Limit", null, cost, 1.0, Collections.singletonList(scan));
+        return new SQLPlanSnapshot(
+            SQLQueryFingerprint.normalize(query),
+            System.currentTimeMillis(),
+            SQLPlanSnapshot.Source.EXPLAIN,
+            -1,
+            Collections.singletonList(root));
+    }
+
+    private static SQLPlanSnapshot.Node node(String type, String name, double cost) {
+        return new SQLPlanSnapshot.Node(type, name, cost, 100.0, Collections.emptyList());
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.jkiss.dbeaver.model.data.DBDLabelValuePair;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class DBVDictionaryCacheTest {
+
+    @Test
+    public void shouldCacheLoadedAndAbsentValues() {
+        DBSEntityAttribute keyColumn = Mockito.mock(DBSEntityAttribute.class);
+        Mockito.when(keyColumn.getName()).thenReturn("ID");
+        DBVDictionaryCache cache = new DBVDictionaryCache(100, 60000);
+
+        cache.putValues(keyColumn, Arrays.asList(1L, 2L), Collections.singletonList(new DBDLabelValuePair("One", 1L)));
+
+        // Integer FK values match Long dictionary keys
+        Map<Object, DBDLabelValuePair> values = cache.getValues(keyColumn, Arrays.asList(1, 2, 3));
+        Assert.assertEquals(2, values.size());
+        Assert.assertEquals("One", values.get(1).getLabel());
+        Assert.assertTrue(values.containsKey(2));
+        Assert.assertNull(values.get(2));
+        Assert.assertFalse(values.containsKey(3));
+    }
+
+    @Test
+    public void shouldEvictAndExpireValues() {
+        DBSEntityAttribute keyColumn = Mockito.mock(DBSEntityAttribute.class);
+        Mockito.when(keyColumn.getName()).thenReturn("ID");
+        DBVDictionaryCache cache = new DBVDictionaryCache(2, 60000);
+        List<Object> enumerationKey = Collections.singletonList("ID");
+        cache.putEnumeration(keyColumn, enumerationKey, Arrays.asList(
+            new DBDLabelValuePair("One", 1), new DBDLabelValuePair("Two", 2), new DBDLabelValuePair("Three", 3)));
+
+        Assert.assertEquals(3, cache.getEnumeration(enumerationKey).size());
+        Map<Object, DBDLabelValuePair> values = cache.getValues(keyColumn, Arrays.asList(1, 2, 3));
+        Assert.assertEquals(Arrays.asList(2, 3), List.copyOf(values.keySet()));
+
+        DBVDictionaryCache expiredCache = new DBVDictionaryCache(100, -1);
+        expiredCache.putEnumeration(keyColumn, enumerationKey, Collections.singletonList(new DBDLabelValuePair("One", 1)));
+        Assert.assertNull(expiredCache.getEnumeration(enumerationKey));
+        Assert.assertTrue(expiredCache.getValues(keyColumn, Collections.singletonList(1)).isEmpty());
+    }
+
+    @Test
+    public void shouldBeBoundToDescriptionColumns() {
+        DBVDictionaryCache cache = new DBVDictionaryCache(100, 60000, "NAME");
+        Assert.assertTrue(cache.isValidFor("NAME"));
+        Assert.assertFalse(cache.isValidFor("NAME,CODE"));
+        Assert.assertFalse(cache.isValidFor(null));
+        Assert.assertTrue(new DBVDictionaryCache(100, 60000).isValidFor(null));
+    }
+}
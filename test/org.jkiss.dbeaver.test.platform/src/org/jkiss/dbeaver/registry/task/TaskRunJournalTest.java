@@ -0,0 +1,130 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TaskRunJournalTest {
+
+    private static final Gson gson = new GsonBuilder()
+        .setLenient()
+        .setDateFormat(GeneralUtils.DEFAULT_TIMESTAMP_PATTERN)
+        .create();
+
+    private Path statsFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        statsFolder = Files.createTempDirectory("task-runs");
+    }
+
+    @Test
+    public void shouldAppendRuns() throws IOException {
+        TaskRunJournal journal = new TaskRunJournal(statsFolder, gson, 10);
+        journal.writeRun(makeRun("r1", "202401011200", 0));
+        journal.writeRun(makeRun("r2", "202401011300", 0));
+        journal.writeRun(makeRun("r1", "202401011200", 500));
+
+        Assert.assertEquals(3, readJournalLines().size());
+        Assert.assertEquals(List.of("r1", "r2"), getRunIds(journal.getRuns()));
+        Assert.assertEquals(500, journal.getRuns().get(0).getRunDuration());
+
+        // Journal is shared by several processes
+        TaskRunJournal otherJournal = new TaskRunJournal(statsFolder, gson, 10);
+        Assert.assertEquals(List.of("r1", "r2"), getRunIds(otherJournal.getRuns()));
+        otherJournal.writeRun(makeRun("r3", "202401011400", 0));
+        Assert.assertEquals(List.of("r1", "r2", "r3"), getRunIds(journal.getRuns()));
+    }
+
+    @Test
+    public void shouldCompactJournal() throws IOException {
+        TaskRunJournal journal = new TaskRunJournal(statsFolder, gson, 3);
+        for (int i = 1; i <= 7; i++) {
+            journal.writeRun(makeRun("r" + i, "20240101120" + i, 0));
+        }
+        // Journal grew twice over the limit and was rewritten with the last runs
+        Assert.assertEquals(3, readJournalLines().size());
+        Assert.assertEquals(List.of("r5", "r6", "r7"), getRunIds(journal.getRuns()));
+
+        // Run appended by another process is kept by compaction
+        TaskRunJournal otherJournal = new TaskRunJournal(statsFolder, gson, 3);
+        otherJournal.writeRun(makeRun("r8", "202401011208", 0));
+        journal.removeRun("r6");
+        Assert.assertEquals(2, readJournalLines().size());
+        Assert.assertEquals(List.of("r7", "r8"), getRunIds(journal.getRuns()));
+        Assert.assertEquals(List.of("r7", "r8"), getRunIds(otherJournal.getRuns()));
+    }
+
+    @Test
+    public void shouldMigrateLegacyStatistics() throws IOException {
+        Path metaFile = statsFolder.resolve(TaskImpl.META_FILE_NAME);
+        Files.writeString(metaFile, gson.toJson(new RunStatistics(List.of(
+            makeRun("r1", "202401011200", 100),
+            makeRun("r2", "202401011300", 200)))));
+
+        TaskRunJournal journal = new TaskRunJournal(statsFolder, gson, 10);
+        Assert.assertEquals(List.of("r1", "r2"), getRunIds(journal.getRuns()));
+        Assert.assertEquals(200, journal.getRuns().get(1).getRunDuration());
+        Assert.assertFalse(Files.exists(metaFile));
+        Assert.assertEquals(2, readJournalLines().size());
+    }
+
+    @Test
+    public void shouldReturnRunsHistory() throws Exception {
+        TaskRunJournal journal = new TaskRunJournal(statsFolder, gson, 10);
+        Assert.assertNull(journal.getLastRun());
+        journal.writeRun(makeRun("r1", "202401011200", 0));
+        journal.writeRun(makeRun("r2", "202401021200", 0));
+        journal.writeRun(makeRun("r3", "202401031200", 0));
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat(GeneralUtils.DEFAULT_TIMESTAMP_PATTERN);
+        Assert.assertEquals(List.of("r2", "r3"), getRunIds(journal.getRuns(dateFormat.parse("202401021200"))));
+        Assert.assertEquals(List.of("r1", "r2", "r3"), getRunIds(journal.getRuns(null)));
+        Assert.assertEquals("r3", journal.getLastRun().getId());
+
+        journal.clear();
+        Assert.assertTrue(journal.getRuns().isEmpty());
+        Assert.assertNull(journal.getLastRun());
+        Assert.assertFalse(Files.exists(statsFolder.resolve(TaskRunJournal.JOURNAL_FILE_NAME)));
+    }
+
+    private static TaskRunImpl makeRun(String id, String startTime, long duration) {
+        return gson.fromJson(
+            "{\"id\":\"" + id + "\",\"startTime\":\"" + startTime + "\",\"duration\":" + duration + "}",
+            TaskRunImpl.class);
+    }
+
+    private static List<String> getRunIds(List<TaskRunImpl> runs) {
+        return runs.stream().map(TaskRunImpl::getId).collect(Collectors.toList());
+    }
+
+    private List<String> readJournalLines() throws IOException {
+        return Files.readAllLines(statsFolder.resolve(TaskRunJournal.JOURNAL_FILE_NAME));
+    }
+}